@@ -0,0 +1,75 @@
+package com.fitnesscenter.benchmark;
+
+import com.fitnesscenter.model.CheckIn;
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.model.MembershipPlan;
+import com.fitnesscenter.service.AccessDecision;
+import com.fitnesscenter.service.AccessIndex;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+// Door decision from the packed AccessIndex against the same decision read off the
+// Member -> MembershipPlan object graph (what a cached-entity lookup would cost).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccessDecisionBenchmark {
+    @Param({"10000", "100000", "1000000"})
+    public int members;
+
+    private AccessIndex accessIndex;
+    private Map<String, Member> membersById;
+    private String[] probes;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MembershipPlan[] plans = BenchmarkData.plans();
+        Member[] entities = BenchmarkData.members(members, plans);
+        accessIndex = new AccessIndex();
+        for (MembershipPlan plan : plans) {
+            accessIndex.putPlan(plan.getId(), plan.getStatus(), plan.getGymAccess(), plan.getPoolAccess());
+        }
+        membersById = new HashMap<>(members * 2);
+        for (Member member : entities) {
+            MembershipPlan plan = member.getMembershipPlan();
+            accessIndex.putMember(member.getId(), member.getMemberId(), plan != null ? plan.getId() : null, member.getStatus());
+            membersById.put(member.getMemberId(), member);
+        }
+        accessIndex.markReady();
+        probes = BenchmarkData.probes(members);
+    }
+
+    @Benchmark
+    public AccessDecision accessIndex() {
+        return accessIndex.decide(nextProbe(), CheckIn.Facility.GYM);
+    }
+
+    @Benchmark
+    public AccessDecision entityGraph() {
+        Member member = membersById.get(nextProbe());
+        if (member == null) {
+            return AccessDecision.UNKNOWN_MEMBER;
+        }
+        if (member.getStatus() != Member.MemberStatus.ACTIVE) {
+            return AccessDecision.MEMBER_NOT_ACTIVE;
+        }
+        MembershipPlan plan = member.getMembershipPlan();
+        if (plan == null) {
+            return AccessDecision.NO_PLAN;
+        }
+        if (plan.getStatus() != MembershipPlan.PlanStatus.ACTIVE) {
+            return AccessDecision.PLAN_NOT_ACTIVE;
+        }
+        return Boolean.TRUE.equals(plan.getGymAccess()) ? AccessDecision.ALLOWED : AccessDecision.FACILITY_NOT_INCLUDED;
+    }
+
+    private String nextProbe() {
+        return probes[cursor++ & (BenchmarkData.PROBES - 1)];
+    }
+}
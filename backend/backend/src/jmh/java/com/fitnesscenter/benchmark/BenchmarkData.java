@@ -0,0 +1,110 @@
+package com.fitnesscenter.benchmark;
+
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.model.MembershipPlan;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+// Shared fixtures. Everything is derived from a fixed seed so runs on different releases
+// measure the same data.
+final class BenchmarkData {
+    static final long SEED = 42L;
+    static final int PROBES = 1 << 12;
+
+    private BenchmarkData() {}
+
+    static String memberId(long n) {
+        return String.format("M%07d", n);
+    }
+
+    static String email(long n) {
+        return "member" + n + "@example.com";
+    }
+
+    // Basic (gym), Premium (gym + pool), Aqua (pool) and an inactive legacy plan
+    static MembershipPlan[] plans() {
+        return new MembershipPlan[] {
+                plan(1L, "Basic", MembershipPlan.PlanStatus.ACTIVE, true, false),
+                plan(2L, "Premium", MembershipPlan.PlanStatus.ACTIVE, true, true),
+                plan(3L, "Aqua", MembershipPlan.PlanStatus.ACTIVE, false, true),
+                plan(4L, "Legacy", MembershipPlan.PlanStatus.INACTIVE, true, true)
+        };
+    }
+
+    static Member[] members(int count, MembershipPlan[] plans) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        Member.MemberStatus[] statuses = Member.MemberStatus.values();
+        Member[] members = new Member[count];
+        for (int i = 0; i < count; i++) {
+            Member member = new Member();
+            member.setId((long) i + 1);
+            member.setMemberId(memberId(i + 1));
+            member.setEmail(email(i + 1));
+            // Roughly nine in ten members are active
+            member.setStatus(random.nextInt(10) == 0 ? statuses[random.nextInt(statuses.length)] : Member.MemberStatus.ACTIVE);
+            member.setMembershipPlan(random.nextInt(20) == 0 ? null : plans[random.nextInt(plans.length)]);
+            member.setDateOfBirth(LocalDate.of(1950 + random.nextInt(55), 1 + random.nextInt(12), 1 + random.nextInt(28)));
+            member.setHeight(150.0 + random.nextInt(50));
+            member.setWeight(random.nextInt(25) == 0 ? null : 50.0 + random.nextInt(70));
+            members[i] = member;
+        }
+        return members;
+    }
+
+    // Member IDs to look up, with about one in twenty unknown
+    static String[] probes(int count) {
+        SplittableRandom random = new SplittableRandom(SEED + 1);
+        String[] probes = new String[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            probes[i] = random.nextInt(20) == 0 ? memberId(count + 1 + random.nextInt(count)) : memberId(1 + random.nextInt(count));
+        }
+        return probes;
+    }
+
+    // In-memory H2 with the tables and indexes Hibernate generates for the columns these benchmarks touch.
+    static SingleConnectionDataSource database(String name, int members) {
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "", true);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("DROP ALL OBJECTS");
+        jdbc.execute("CREATE TABLE membership_plans (id BIGINT PRIMARY KEY, plan_name VARCHAR(100), status VARCHAR(20), "
+                + "gym_access BOOLEAN, pool_access BOOLEAN)");
+        jdbc.execute("CREATE TABLE members (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                + "member_id VARCHAR(20) UNIQUE, email VARCHAR(255) UNIQUE, first_name VARCHAR(50), "
+                + "last_name VARCHAR(50), status VARCHAR(20), membership_plan_id BIGINT)");
+        jdbc.execute("CREATE TABLE check_ins (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                + "member_id BIGINT NOT NULL, facility VARCHAR(10), check_in_time TIMESTAMP, "
+                + "check_out_time TIMESTAMP, device_id VARCHAR(255), created_at TIMESTAMP)");
+        jdbc.execute("CREATE INDEX idx_check_ins_member_time ON check_ins (member_id, check_in_time)");
+        for (MembershipPlan plan : plans()) {
+            jdbc.update("INSERT INTO membership_plans VALUES (?, ?, ?, ?, ?)", plan.getId(), plan.getPlanName(),
+                    plan.getStatus().name(), plan.getGymAccess(), plan.getPoolAccess());
+        }
+        jdbc.update("INSERT INTO members (member_id, email, first_name, last_name, status, membership_plan_id) "
+                + "SELECT 'M' || LPAD(CAST(x AS VARCHAR), 7, '0'), 'member' || x || '@example.com', 'First', "
+                + "'Last' || x, 'ACTIVE', MOD(x, 4) + 1 FROM SYSTEM_RANGE(1, ?)", members);
+        return dataSource;
+    }
+
+    static void shutdown(DataSource dataSource) {
+        new JdbcTemplate(dataSource).execute("SHUTDOWN");
+        if (dataSource instanceof SingleConnectionDataSource single) {
+            single.destroy();
+        }
+    }
+
+    private static MembershipPlan plan(Long id, String name, MembershipPlan.PlanStatus status, boolean gym, boolean pool) {
+        MembershipPlan plan = new MembershipPlan();
+        plan.setId(id);
+        plan.setPlanName(name);
+        plan.setPrice(BigDecimal.TEN);
+        plan.setStatus(status);
+        plan.setGymAccess(gym);
+        plan.setPoolAccess(pool);
+        return plan;
+    }
+}
@@ -0,0 +1,71 @@
+package com.fitnesscenter.benchmark;
+
+import com.fitnesscenter.event.CheckInEvent;
+import com.fitnesscenter.model.CheckIn;
+import com.fitnesscenter.repository.CheckInBatchWriter;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+// Check-in write throughput through CheckInBatchWriter against embedded H2.
+// The rows counter reports inserted check-ins per second next to batches per second.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CheckInInsertBenchmark {
+    private static final int MEMBERS = 10_000;
+
+    @Param({"1", "100", "500"})
+    public int batchSize;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private CheckInBatchWriter batchWriter;
+    private List<CheckInEvent> batch;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Rows {
+        public long rows;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = BenchmarkData.database("checkins", MEMBERS);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        batchWriter = new CheckInBatchWriter(jdbcTemplate);
+        SplittableRandom random = new SplittableRandom(BenchmarkData.SEED);
+        LocalDateTime now = LocalDateTime.now();
+        batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            batch.add(new CheckInEvent(BenchmarkData.memberId(1 + random.nextInt(MEMBERS)),
+                    CheckIn.Facility.GYM, now, "turnstile-1"));
+        }
+    }
+
+    // Keeps the table from growing across iterations so later iterations are comparable
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE TABLE check_ins");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkData.shutdown(dataSource);
+    }
+
+    @Benchmark
+    public int insertBatch(Rows rows) {
+        int written = batchWriter.insertBatch(batch).size();
+        rows.rows += written;
+        return written;
+    }
+}
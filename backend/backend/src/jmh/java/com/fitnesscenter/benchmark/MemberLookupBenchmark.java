@@ -0,0 +1,59 @@
+package com.fitnesscenter.benchmark;
+
+import com.fitnesscenter.repository.AccessSnapshotRepository;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+// Single-member lookups against embedded H2 through the unique indexes on member_id and email.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemberLookupBenchmark {
+    @Param({"10000", "100000", "1000000"})
+    public int members;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private AccessSnapshotRepository snapshotRepository;
+    private String[] memberIds;
+    private String[] emails;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = BenchmarkData.database("lookup", members);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        snapshotRepository = new AccessSnapshotRepository(jdbcTemplate, dataSource);
+        memberIds = BenchmarkData.probes(members);
+        emails = new String[memberIds.length];
+        for (int i = 0; i < memberIds.length; i++) {
+            emails[i] = BenchmarkData.email(Long.parseLong(memberIds[i].substring(1)));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkData.shutdown(dataSource);
+    }
+
+    @Benchmark
+    public Optional<AccessSnapshotRepository.AccessRow> byMemberId() {
+        return snapshotRepository.findByMemberId(memberIds[nextIndex()]);
+    }
+
+    @Benchmark
+    public List<Long> byEmail() {
+        return jdbcTemplate.queryForList("SELECT id FROM members WHERE email = ?", Long.class, emails[nextIndex()]);
+    }
+
+    private int nextIndex() {
+        return cursor++ & (BenchmarkData.PROBES - 1);
+    }
+}
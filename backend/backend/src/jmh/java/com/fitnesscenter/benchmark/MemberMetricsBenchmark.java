@@ -0,0 +1,70 @@
+package com.fitnesscenter.benchmark;
+
+import com.fitnesscenter.model.Member;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+// One pass of getBMI()/getAge() over every member, as a report or dashboard recompute would do.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MemberMetricsBenchmark {
+    @Param({"10000", "100000", "1000000"})
+    public int members;
+
+    private Member[] entities;
+    private double[] heights;
+    private double[] weights;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        entities = BenchmarkData.members(members, BenchmarkData.plans());
+        heights = new double[members];
+        weights = new double[members];
+        for (int i = 0; i < members; i++) {
+            heights[i] = entities[i].getHeight();
+            weights[i] = entities[i].getWeight() != null ? entities[i].getWeight() : 0.0;
+        }
+    }
+
+    @Benchmark
+    public double averageBmi() {
+        double sum = 0;
+        int counted = 0;
+        for (Member member : entities) {
+            Double bmi = member.getBMI();
+            if (bmi != null) {
+                sum += bmi;
+                counted++;
+            }
+        }
+        return counted == 0 ? 0 : sum / counted;
+    }
+
+    // Same result from primitive columns, the lower bound for a columnar layout
+    @Benchmark
+    public double averageBmiPrimitiveColumns() {
+        double sum = 0;
+        int counted = 0;
+        for (int i = 0; i < heights.length; i++) {
+            if (weights[i] > 0 && heights[i] > 0) {
+                double meters = heights[i] / 100.0;
+                sum += weights[i] / (meters * meters);
+                counted++;
+            }
+        }
+        return counted == 0 ? 0 : sum / counted;
+    }
+
+    @Benchmark
+    public double averageAge() {
+        long sum = 0;
+        for (Member member : entities) {
+            sum += member.getAge();
+        }
+        return (double) sum / entities.length;
+    }
+}
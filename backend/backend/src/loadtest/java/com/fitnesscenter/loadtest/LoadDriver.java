@@ -0,0 +1,244 @@
+package com.fitnesscenter.loadtest;
+
+import com.fitnesscenter.service.SyntheticDataGenerator;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+// Open-model load against a running instance seeded by SyntheticDataGenerator. Requests are sent
+// on a Poisson schedule regardless of how fast the server answers, and latency is measured from
+// the time a request was due rather than when it went out, so a stalled server shows up in the
+// tail instead of quietly slowing the driver down. A request that finds max-in-flight requests
+// still outstanding is not sent and is recorded as timed out at the histogram ceiling, so
+// saturation counts against the percentiles rather than vanishing from them. Every minute starts with a ten-second burst
+// at three times the base rate, like the turnstiles at opening time.
+public final class LoadDriver {
+    private static final long SEED = 42L;
+    private static final long MAX_LATENCY_MICROS = TimeUnit.SECONDS.toMicros(60);
+    private static final long BURST_PERIOD_NANOS = TimeUnit.SECONDS.toNanos(60);
+    private static final long BURST_LENGTH_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final double BURST_FACTOR = 3.0;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    private static final String[] PERCENTILE_KEYS = {"p50Ms", "p90Ms", "p99Ms", "p999Ms"};
+
+    private enum Operation {
+        CHECK_IN(70), SEARCH(20), BOOKING(10);
+
+        final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    private record Settings(String baseUrl, double rate, int durationSeconds, int warmupSeconds, int members,
+                            long firstClass, long lastClass, int maxInFlight, Path result) {}
+
+    private final Settings settings;
+    private final HttpClient client;
+    private final Semaphore inFlight;
+    private final Map<Operation, Histogram> latencies = new HashMap<>();
+    private final Map<Operation, Map<String, LongAdder>> outcomes = new HashMap<>();
+    private final Map<Operation, LongAdder> dropped = new HashMap<>();
+
+    private LoadDriver(Settings settings) {
+        this.settings = settings;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors()))
+                .build();
+        this.inFlight = new Semaphore(settings.maxInFlight());
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new ConcurrentHistogram(MAX_LATENCY_MICROS, 3));
+            outcomes.put(operation, new ConcurrentHashMap<>());
+            dropped.put(operation, new LongAdder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            options.put(arg.substring(2, equals), arg.substring(equals + 1));
+        }
+        String[] classes = options.getOrDefault("classes", "1-2000").split("-");
+        Settings settings = new Settings(
+                options.getOrDefault("base-url", "http://localhost:8080"),
+                Double.parseDouble(options.getOrDefault("rate", "200")),
+                Integer.parseInt(options.getOrDefault("duration", "120")),
+                Integer.parseInt(options.getOrDefault("warmup", "30")),
+                Integer.parseInt(options.getOrDefault("members", "1000000")),
+                Long.parseLong(classes[0]),
+                Long.parseLong(classes[classes.length - 1]),
+                Integer.parseInt(options.getOrDefault("max-in-flight", "2000")),
+                Path.of(options.getOrDefault("result", "target/loadtest-result.json")));
+        new LoadDriver(settings).run();
+        System.exit(0);
+    }
+
+    private void run() throws IOException, InterruptedException {
+        SplittableRandom random = new SplittableRandom(SEED);
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(settings.warmupSeconds());
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(settings.durationSeconds());
+        System.out.printf("Sending %.0f req/s (bursts of %.0f) to %s for %d s after %d s of warmup%n",
+                settings.rate(), settings.rate() * BURST_FACTOR, settings.baseUrl(), settings.durationSeconds(),
+                settings.warmupSeconds());
+
+        long intended = start;
+        while (intended < end) {
+            double rate = (intended - start) % BURST_PERIOD_NANOS < BURST_LENGTH_NANOS
+                    ? settings.rate() * BURST_FACTOR
+                    : settings.rate();
+            intended += (long) (-Math.log(1 - random.nextDouble()) / rate * 1_000_000_000L);
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            send(pick(random), random, intended, intended >= measureFrom);
+        }
+        // Let the last requests finish before reading the histograms
+        inFlight.acquire(settings.maxInFlight());
+        report(TimeUnit.NANOSECONDS.toMillis(end - measureFrom) / 1000.0);
+    }
+
+    // Warmup requests load the server but are left out of the numbers
+    private void send(Operation operation, SplittableRandom random, long intended, boolean counted) {
+        if (!inFlight.tryAcquire()) {
+            if (counted) {
+                latencies.get(operation).recordValue(MAX_LATENCY_MICROS);
+                dropped.get(operation).increment();
+            }
+            return;
+        }
+        client.sendAsync(request(operation, random), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    try {
+                        if (counted) {
+                            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intended);
+                            latencies.get(operation).recordValue(Math.min(micros, MAX_LATENCY_MICROS));
+                            String outcome = error != null ? error.getClass().getSimpleName()
+                                    : String.valueOf(response.statusCode());
+                            outcomes.get(operation).computeIfAbsent(outcome, key -> new LongAdder()).increment();
+                        }
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+    }
+
+    private HttpRequest request(Operation operation, SplittableRandom random) {
+        String memberId = SyntheticDataGenerator.memberId(1 + random.nextInt(settings.members()));
+        return switch (operation) {
+            case CHECK_IN -> post("/api/check-ins", "{\"memberId\":\"" + memberId + "\",\"facility\":\""
+                    + (random.nextInt(4) == 0 ? "POOL" : "GYM") + "\",\"deviceId\":\"turnstile-"
+                    + (1 + random.nextInt(8)) + "\"}");
+            case SEARCH -> {
+                List<String> pool = random.nextBoolean()
+                        ? SyntheticDataGenerator.LAST_NAMES
+                        : SyntheticDataGenerator.SPECIALIZATIONS;
+                String query = pool.get(random.nextInt(pool.size()));
+                yield HttpRequest.newBuilder(uri("/api/search?q=" + URLEncoder.encode(query, StandardCharsets.UTF_8)))
+                        .timeout(Duration.ofSeconds(30))
+                        .GET()
+                        .build();
+            }
+            case BOOKING -> {
+                long classId = settings.firstClass()
+                        + random.nextLong(settings.lastClass() - settings.firstClass() + 1);
+                yield post("/api/classes/" + classId + "/bookings", "{\"memberId\":\"" + memberId + "\"}");
+            }
+        };
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(uri(path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create(settings.baseUrl() + path);
+    }
+
+    private static Operation pick(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        for (Operation operation : Operation.values()) {
+            roll -= operation.weight;
+            if (roll < 0) {
+                return operation;
+            }
+        }
+        return Operation.CHECK_IN;
+    }
+
+    // Latencies are reported in milliseconds and requests include dropped ones; 4xx answers such as full classes are part of the
+    // workload and are counted, not treated as failures
+    private void report(double seconds) throws IOException {
+        PrintStream out = System.out;
+        out.printf("%-9s %9s %8s %8s %8s %8s %8s %8s %8s  %s%n",
+                "operation", "requests", "req/s", "p50", "p90", "p99", "p99.9", "max", "dropped", "status");
+        List<String> json = new ArrayList<>();
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = latencies.get(operation);
+            Map<String, Long> statuses = new TreeMap<>();
+            outcomes.get(operation).forEach((status, count) -> statuses.put(status, count.sum()));
+            long count = histogram.getTotalCount();
+            long droppedCount = dropped.get(operation).sum();
+            // Throughput is what the server answered
+            double throughput = (count - droppedCount) / seconds;
+            out.printf("%-9s %9d %8.1f", operation, count, throughput);
+            StringBuilder entry = new StringBuilder("  \"" + operation + "\": {\"requests\": " + count
+                    + ", \"throughput\": " + String.format(Locale.ROOT, "%.1f", throughput) + ", \"dropped\": "
+                    + droppedCount);
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                double millis = histogram.getValueAtPercentile(PERCENTILES[i]) / 1000.0;
+                out.printf(" %8.1f", millis);
+                entry.append(", \"").append(PERCENTILE_KEYS[i]).append("\": ")
+                        .append(String.format(Locale.ROOT, "%.3f", millis));
+            }
+            out.printf(" %8.1f %8d  %s%n", histogram.getMaxValue() / 1000.0, droppedCount, statuses);
+            entry.append(", \"maxMs\": ").append(String.format(Locale.ROOT, "%.3f", histogram.getMaxValue() / 1000.0))
+                    .append(", \"status\": {");
+            List<String> statusEntries = new ArrayList<>();
+            statuses.forEach((status, n) -> statusEntries.add("\"" + status + "\": " + n));
+            entry.append(String.join(", ", statusEntries)).append("}}");
+            json.add(entry.toString());
+        }
+        Path result = settings.result();
+        if (result.getParent() != null) {
+            Files.createDirectories(result.getParent());
+        }
+        Files.writeString(result, "{\n  \"rate\": " + settings.rate() + ",\n  \"durationSeconds\": "
+                + settings.durationSeconds() + ",\n" + String.join(",\n", json) + "\n}\n");
+        out.println("Results written to " + result);
+    }
+}
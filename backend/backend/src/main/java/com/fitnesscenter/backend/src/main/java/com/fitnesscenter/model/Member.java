@@ -1,16 +1,35 @@
 package com.fitnesscenter.model;
 
+import com.fitnesscenter.listener.AccessIndexEntityListener;
+import com.fitnesscenter.listener.MemberDashboardEntityListener;
+import com.fitnesscenter.listener.MemberAnalyticsEntityListener;
+import com.fitnesscenter.listener.MembershipExpiryEntityListener;
+import com.fitnesscenter.listener.SearchIndexEntityListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 @Entity
-@Table(name = "members")
+@EntityListeners({AccessIndexEntityListener.class, SearchIndexEntityListener.class, MembershipExpiryEntityListener.class,
+        MemberAnalyticsEntityListener.class, MemberDashboardEntityListener.class})
+@Table(name = "members", indexes = {
+    @Index(name = "idx_members_updated", columnList = "updated_at")
+})
 public class Member {
+    // Pooled-lo sequence: each value reserves a block of ids, so inserts can be batched and the
+    // bulk importer can allocate blocks from the same sequence (see MemberIdAllocator)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "members_id")
+    @GenericGenerator(name = "members_id", type = SequenceStyleGenerator.class, parameters = {
+            @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = "members_seq"),
+            @Parameter(name = SequenceStyleGenerator.INCREMENT_PARAM, value = "50"),
+            @Parameter(name = SequenceStyleGenerator.OPT_PARAM, value = "pooled-lo")
+    })
     private Long id;
     
     @NotBlank(message = "Member ID is required")
@@ -77,6 +96,10 @@ public class Member {
     @Column(name = "join_date")
     private LocalDate joinDate;
     
+    // Last day of paid membership; when null it is joinDate plus the plan duration
+    @Column(name = "expiry_date")
+    private LocalDate expiryDate;
+    
     @Enumerated(EnumType.STRING)
     private MemberStatus status;
     
@@ -200,6 +223,9 @@ public class Member {
     public LocalDate getJoinDate() { return joinDate; }
     public void setJoinDate(LocalDate joinDate) { this.joinDate = joinDate; }
     
+    public LocalDate getExpiryDate() { return expiryDate; }
+    public void setExpiryDate(LocalDate expiryDate) { this.expiryDate = expiryDate; }
+    
     public MemberStatus getStatus() { return status; }
     public void setStatus(MemberStatus status) { this.status = status; }
     
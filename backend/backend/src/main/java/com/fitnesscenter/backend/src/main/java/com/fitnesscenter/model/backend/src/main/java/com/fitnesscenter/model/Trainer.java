@@ -1,12 +1,17 @@
 package com.fitnesscenter.model;
 
+import com.fitnesscenter.listener.TrainerAvailabilityEntityListener;
+import com.fitnesscenter.listener.SearchIndexEntityListener;
+import com.fitnesscenter.listener.TrainerMatchEntityListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@EntityListeners({TrainerAvailabilityEntityListener.class, SearchIndexEntityListener.class, TrainerMatchEntityListener.class})
 @Table(name = "trainers")
 public class Trainer {
     @Id
@@ -71,7 +76,7 @@ public class Trainer {
     
     @NotNull(message = "Hourly rate is required")
     @DecimalMin(value = "0.0", inclusive = false, message = "Hourly rate must be greater than 0")
-    @Column(name = "hourly_rate", precision = 8, scale = 2)
+    @Column(name = "hourly_rate")
     private Double hourlyRate;
     
     @NotNull(message = "Hire date is required")
@@ -81,6 +86,7 @@ public class Trainer {
     @Enumerated(EnumType.STRING)
     private TrainerStatus status;
     
+    // Free-text schedule kept for display; availability queries use the structured windows below
     @Column(name = "availability_schedule")
     private String availabilitySchedule;
     
@@ -99,6 +105,9 @@ public class Trainer {
     @OneToMany(mappedBy = "trainer", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<FitnessClass> fitnessClasses;
     
+    @OneToMany(mappedBy = "trainer", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    private List<TrainerAvailability> availability = new ArrayList<>();
+    
     public enum Gender {
         MALE, FEMALE, OTHER
     }
@@ -220,6 +229,9 @@ public class Trainer {
     public List<FitnessClass> getFitnessClasses() { return fitnessClasses; }
     public void setFitnessClasses(List<FitnessClass> fitnessClasses) { this.fitnessClasses = fitnessClasses; }
     
+    public List<TrainerAvailability> getAvailability() { return availability; }
+    public void setAvailability(List<TrainerAvailability> availability) { this.availability = availability; }
+    
     public String getFullName() {
         return firstName + " " + lastName;
     }
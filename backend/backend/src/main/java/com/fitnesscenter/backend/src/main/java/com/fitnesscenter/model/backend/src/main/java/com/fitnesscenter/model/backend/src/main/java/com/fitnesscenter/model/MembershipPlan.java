@@ -1,14 +1,28 @@
 package com.fitnesscenter.model;
 
+import com.fitnesscenter.listener.AccessIndexEntityListener;
+import com.fitnesscenter.listener.MemberAnalyticsEntityListener;
+import com.fitnesscenter.listener.MemberDashboardEntityListener;
+import com.fitnesscenter.listener.MembershipExpiryEntityListener;
+import com.fitnesscenter.listener.PlanCacheEntityListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@EntityListeners({AccessIndexEntityListener.class, MembershipExpiryEntityListener.class, MemberAnalyticsEntityListener.class,
+        PlanCacheEntityListener.class, MemberDashboardEntityListener.class})
 @Table(name = "membership_plans")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = MembershipPlan.CACHE_REGION)
 public class MembershipPlan {
+    public static final String CACHE_REGION = "membership-plans";
+    public static final String ACTIVE_CATALOGUE_CACHE_REGION = "active-plan-catalogue";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -74,7 +88,8 @@ public class MembershipPlan {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
-    @OneToMany(mappedBy = "membershipPlan", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    // Deliberately not cached and not cascaded: merging or removing a plan must never walk its members
+    @OneToMany(mappedBy = "membershipPlan", fetch = FetchType.LAZY)
     private List<Member> members;
     
     public enum PlanType {
@@ -130,4 +145,62 @@ public class MembershipPlan {
     
     // Getters and Setters
     public Long getId() { return id; }
-    public void setId(Long id) { this.id =
+    public void setId(Long id) { this.id = id; }
+    
+    public String getPlanName() { return planName; }
+    public void setPlanName(String planName) { this.planName = planName; }
+    
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+    
+    public Integer getDurationMonths() { return durationMonths; }
+    public void setDurationMonths(Integer durationMonths) { this.durationMonths = durationMonths; }
+    
+    public BigDecimal getPrice() { return price; }
+    public void setPrice(BigDecimal price) { this.price = price; }
+    
+    public BigDecimal getSetupFee() { return setupFee; }
+    public void setSetupFee(BigDecimal setupFee) { this.setupFee = setupFee; }
+    
+    public PlanType getPlanType() { return planType; }
+    public void setPlanType(PlanType planType) { this.planType = planType; }
+    
+    public Boolean getGymAccess() { return gymAccess; }
+    public void setGymAccess(Boolean gymAccess) { this.gymAccess = gymAccess; }
+    
+    public Boolean getPoolAccess() { return poolAccess; }
+    public void setPoolAccess(Boolean poolAccess) { this.poolAccess = poolAccess; }
+    
+    public Boolean getGroupClassesIncluded() { return groupClassesIncluded; }
+    public void setGroupClassesIncluded(Boolean groupClassesIncluded) { this.groupClassesIncluded = groupClassesIncluded; }
+    
+    public Integer getPersonalTrainingSessions() { return personalTrainingSessions; }
+    public void setPersonalTrainingSessions(Integer personalTrainingSessions) { this.personalTrainingSessions = personalTrainingSessions; }
+    
+    public Integer getGuestPasses() { return guestPasses; }
+    public void setGuestPasses(Integer guestPasses) { this.guestPasses = guestPasses; }
+    
+    public Boolean getNutritionConsultation() { return nutritionConsultation; }
+    public void setNutritionConsultation(Boolean nutritionConsultation) { this.nutritionConsultation = nutritionConsultation; }
+    
+    public Boolean getLockerIncluded() { return lockerIncluded; }
+    public void setLockerIncluded(Boolean lockerIncluded) { this.lockerIncluded = lockerIncluded; }
+    
+    public Boolean getTowelService() { return towelService; }
+    public void setTowelService(Boolean towelService) { this.towelService = towelService; }
+    
+    public String getFeatures() { return features; }
+    public void setFeatures(String features) { this.features = features; }
+    
+    public PlanStatus getStatus() { return status; }
+    public void setStatus(PlanStatus status) { this.status = status; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+    
+    public List<Member> getMembers() { return members; }
+    public void setMembers(List<Member> members) { this.members = members; }
+}
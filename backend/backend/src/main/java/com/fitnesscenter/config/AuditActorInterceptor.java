@@ -0,0 +1,22 @@
+package com.fitnesscenter.config;
+
+import com.fitnesscenter.service.AuditActor;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+// Takes the acting user for the audit log from the X-Actor header set by the front end.
+public class AuditActorInterceptor implements HandlerInterceptor {
+    public static final String ACTOR_HEADER = "X-Actor";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        AuditActor.set(request.getHeader(ACTOR_HEADER));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        AuditActor.clear();
+    }
+}
@@ -0,0 +1,26 @@
+package com.fitnesscenter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "fitness.audit")
+public class AuditProperties {
+    // Entries the outbox may hold before writers are held back
+    private int outboxCapacity = 65_536;
+    private int batchSize = 500;
+    // How long the flusher waits before looking at an empty outbox again
+    private long pollIntervalMillis = 100;
+    // How long a writer waits for outbox space before writing its own entries to audit_log
+    private long offerTimeoutMillis = 20;
+
+    public int getOutboxCapacity() { return outboxCapacity; }
+    public void setOutboxCapacity(int outboxCapacity) { this.outboxCapacity = outboxCapacity; }
+
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+    public long getPollIntervalMillis() { return pollIntervalMillis; }
+    public void setPollIntervalMillis(long pollIntervalMillis) { this.pollIntervalMillis = pollIntervalMillis; }
+
+    public long getOfferTimeoutMillis() { return offerTimeoutMillis; }
+    public void setOfferTimeoutMillis(long offerTimeoutMillis) { this.offerTimeoutMillis = offerTimeoutMillis; }
+}
@@ -0,0 +1,26 @@
+package com.fitnesscenter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "fitness.billing")
+public class BillingRunProperties {
+    // Member id ranges per run; more partitions than workers keeps the workers busy to the end
+    private int partitions = 32;
+    private int workerThreads = 4;
+    // Members per transaction
+    private int chunkSize = 500;
+    // Gives the connection pool back to front-desk requests between chunks
+    private long pauseBetweenChunksMillis = 5;
+
+    public int getPartitions() { return partitions; }
+    public void setPartitions(int partitions) { this.partitions = partitions; }
+
+    public int getWorkerThreads() { return workerThreads; }
+    public void setWorkerThreads(int workerThreads) { this.workerThreads = workerThreads; }
+
+    public int getChunkSize() { return chunkSize; }
+    public void setChunkSize(int chunkSize) { this.chunkSize = chunkSize; }
+
+    public long getPauseBetweenChunksMillis() { return pauseBetweenChunksMillis; }
+    public void setPauseBetweenChunksMillis(long pauseBetweenChunksMillis) { this.pauseBetweenChunksMillis = pauseBetweenChunksMillis; }
+}
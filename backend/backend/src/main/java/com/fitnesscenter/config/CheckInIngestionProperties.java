@@ -0,0 +1,19 @@
+package com.fitnesscenter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "fitness.check-in.ingestion")
+public class CheckInIngestionProperties {
+    private int queueCapacity = 65_536;
+    private int batchSize = 500;
+    private long lingerMillis = 20;
+
+    public int getQueueCapacity() { return queueCapacity; }
+    public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+    public long getLingerMillis() { return lingerMillis; }
+    public void setLingerMillis(long lingerMillis) { this.lingerMillis = lingerMillis; }
+}
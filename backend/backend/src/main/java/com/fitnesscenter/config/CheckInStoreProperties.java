@@ -0,0 +1,21 @@
+package com.fitnesscenter.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "fitness.check-in.store")
+public class CheckInStoreProperties {
+    private String directory = "data/check-in-store";
+    // 4M records of 16 bytes: 64 MB per segment file
+    private int segmentCapacity = 4 * 1024 * 1024;
+    private Duration forceInterval = Duration.ofSeconds(1);
+
+    public String getDirectory() { return directory; }
+    public void setDirectory(String directory) { this.directory = directory; }
+
+    public int getSegmentCapacity() { return segmentCapacity; }
+    public void setSegmentCapacity(int segmentCapacity) { this.segmentCapacity = segmentCapacity; }
+
+    public Duration getForceInterval() { return forceInterval; }
+    public void setForceInterval(Duration forceInterval) { this.forceInterval = forceInterval; }
+}
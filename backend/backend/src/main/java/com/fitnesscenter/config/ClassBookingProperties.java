@@ -0,0 +1,25 @@
+package com.fitnesscenter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "fitness.booking")
+public class ClassBookingProperties {
+    private int queueCapacity = 16_384;
+    private int batchSize = 500;
+    private long lingerMillis = 5;
+    // When false a booking is acknowledged as soon as its seat is reserved in memory;
+    // reservations still waiting for the writer are lost if the process dies.
+    private boolean awaitPersistence = true;
+
+    public int getQueueCapacity() { return queueCapacity; }
+    public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+    public long getLingerMillis() { return lingerMillis; }
+    public void setLingerMillis(long lingerMillis) { this.lingerMillis = lingerMillis; }
+
+    public boolean isAwaitPersistence() { return awaitPersistence; }
+    public void setAwaitPersistence(boolean awaitPersistence) { this.awaitPersistence = awaitPersistence; }
+}
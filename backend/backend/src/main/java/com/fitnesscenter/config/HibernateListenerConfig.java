@@ -0,0 +1,43 @@
+package com.fitnesscenter.config;
+
+import com.fitnesscenter.listener.AuditEventListener;
+import com.fitnesscenter.listener.DeletionCounterEventListener;
+import com.fitnesscenter.listener.RevenueRollupEventListener;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class HibernateListenerConfig {
+    private final EntityManagerFactory entityManagerFactory;
+    private final RevenueRollupEventListener revenueRollupEventListener;
+    private final AuditEventListener auditEventListener;
+    private final DeletionCounterEventListener deletionCounterEventListener;
+
+    public HibernateListenerConfig(EntityManagerFactory entityManagerFactory,
+                                   RevenueRollupEventListener revenueRollupEventListener,
+                                   AuditEventListener auditEventListener,
+                                   DeletionCounterEventListener deletionCounterEventListener) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.revenueRollupEventListener = revenueRollupEventListener;
+        this.auditEventListener = auditEventListener;
+        this.deletionCounterEventListener = deletionCounterEventListener;
+    }
+
+    @PostConstruct
+    void registerListeners() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, revenueRollupEventListener);
+        registry.appendListeners(EventType.POST_UPDATE, revenueRollupEventListener);
+        registry.appendListeners(EventType.POST_DELETE, revenueRollupEventListener);
+        registry.appendListeners(EventType.POST_INSERT, auditEventListener);
+        registry.appendListeners(EventType.POST_UPDATE, auditEventListener);
+        registry.appendListeners(EventType.POST_DELETE, auditEventListener);
+        registry.appendListeners(EventType.POST_DELETE, deletionCounterEventListener);
+    }
+}
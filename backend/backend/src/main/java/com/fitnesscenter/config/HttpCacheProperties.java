@@ -0,0 +1,12 @@
+package com.fitnesscenter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "fitness.http-cache")
+public class HttpCacheProperties {
+    // How long clients may reuse the active plan list without revalidating; 0 always revalidates
+    private long planMaxAgeSeconds = 300;
+
+    public long getPlanMaxAgeSeconds() { return planMaxAgeSeconds; }
+    public void setPlanMaxAgeSeconds(long planMaxAgeSeconds) { this.planMaxAgeSeconds = planMaxAgeSeconds; }
+}
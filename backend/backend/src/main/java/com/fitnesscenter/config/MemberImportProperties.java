@@ -0,0 +1,15 @@
+package com.fitnesscenter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "fitness.member-import")
+public class MemberImportProperties {
+    private int batchSize = 1_000;
+    private int maxReportedErrors = 1_000;
+
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+    public int getMaxReportedErrors() { return maxReportedErrors; }
+    public void setMaxReportedErrors(int maxReportedErrors) { this.maxReportedErrors = maxReportedErrors; }
+}
@@ -0,0 +1,15 @@
+package com.fitnesscenter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "fitness.membership.expiry")
+public class MembershipExpiryProperties {
+    private int batchSize = 200;
+    private long pauseBetweenBatchesMillis = 50;
+
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+    public long getPauseBetweenBatchesMillis() { return pauseBetweenBatchesMillis; }
+    public void setPauseBetweenBatchesMillis(long pauseBetweenBatchesMillis) { this.pauseBetweenBatchesMillis = pauseBetweenBatchesMillis; }
+}
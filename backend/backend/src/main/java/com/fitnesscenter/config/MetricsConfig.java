@@ -0,0 +1,57 @@
+package com.fitnesscenter.config;
+
+import com.fitnesscenter.metrics.SqlStatementsInterceptor;
+import com.fitnesscenter.service.AuditService;
+import com.fitnesscenter.service.ClassBookingService;
+import com.fitnesscenter.service.CheckInIngestionService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// Connection pool, JPA repository and Hibernate meters come from Spring Boot's auto-configuration;
+// this adds the saturation gauges for our own in-memory write queues and per-request SQL counts.
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+    private final MeterRegistry meterRegistry;
+
+    public MetricsConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new SqlStatementsInterceptor(meterRegistry));
+    }
+
+    @Bean
+    public MeterBinder writeQueueMetrics(CheckInIngestionService ingestionService, ClassBookingService bookingService,
+                                         AuditService auditService) {
+        return registry -> {
+            Gauge.builder("fitness.queue.depth", ingestionService, service -> service.getStats().queueDepth())
+                    .description("Writes waiting for the flusher")
+                    .tag("queue", "check-in")
+                    .register(registry);
+            Gauge.builder("fitness.queue.capacity", ingestionService, service -> service.getStats().queueCapacity())
+                    .tag("queue", "check-in")
+                    .register(registry);
+            Gauge.builder("fitness.queue.depth", bookingService, ClassBookingService::getQueueDepth)
+                    .description("Writes waiting for the flusher")
+                    .tag("queue", "class-booking")
+                    .register(registry);
+            Gauge.builder("fitness.queue.capacity", bookingService, ClassBookingService::getQueueCapacity)
+                    .tag("queue", "class-booking")
+                    .register(registry);
+            Gauge.builder("fitness.queue.depth", auditService, AuditService::getOutboxDepth)
+                    .description("Writes waiting for the flusher")
+                    .tag("queue", "audit")
+                    .register(registry);
+            Gauge.builder("fitness.queue.capacity", auditService, AuditService::getOutboxCapacity)
+                    .tag("queue", "audit")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,12 @@
+package com.fitnesscenter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "fitness.metrics")
+public class MetricsProperties {
+    // Latency on the hottest paths is timed for one call in this many; counts stay exact
+    private int hotPathSampleRate = 16;
+
+    public int getHotPathSampleRate() { return hotPathSampleRate; }
+    public void setHotPathSampleRate(int hotPathSampleRate) { this.hotPathSampleRate = hotPathSampleRate; }
+}
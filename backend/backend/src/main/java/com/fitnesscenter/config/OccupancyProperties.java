@@ -0,0 +1,20 @@
+package com.fitnesscenter.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "fitness.occupancy")
+public class OccupancyProperties {
+    private Duration coalesceInterval = Duration.ofMillis(500);
+    private Duration maxVisitDuration = Duration.ofHours(4);
+    private Duration streamTimeout = Duration.ofMinutes(30);
+
+    public Duration getCoalesceInterval() { return coalesceInterval; }
+    public void setCoalesceInterval(Duration coalesceInterval) { this.coalesceInterval = coalesceInterval; }
+
+    public Duration getMaxVisitDuration() { return maxVisitDuration; }
+    public void setMaxVisitDuration(Duration maxVisitDuration) { this.maxVisitDuration = maxVisitDuration; }
+
+    public Duration getStreamTimeout() { return streamTimeout; }
+    public void setStreamTimeout(Duration streamTimeout) { this.streamTimeout = streamTimeout; }
+}
@@ -0,0 +1,67 @@
+package com.fitnesscenter.config;
+
+import com.fitnesscenter.model.MembershipPlan;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.configuration.MutableConfiguration;
+import javax.cache.expiry.CreatedExpiryPolicy;
+import javax.cache.expiry.Duration;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// In-process second-level cache for plan reference data. Every region Hibernate asks for is
+// created here with statistics on, so a new cached entity or query fails at startup instead of
+// quietly getting an unmonitored default cache.
+@Configuration
+public class PlanCacheConfig {
+    // Hibernate's fixed name for the per-table last-update timestamps behind the query cache
+    static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+    static final String DEFAULT_QUERY_REGION = "default-query-results-region";
+    private static final List<String> REGIONS = List.of(MembershipPlan.CACHE_REGION,
+            MembershipPlan.ACTIVE_CATALOGUE_CACHE_REGION, UPDATE_TIMESTAMPS_REGION, DEFAULT_QUERY_REGION);
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+        for (String region : REGIONS) {
+            MutableConfiguration<Object, Object> configuration = new MutableConfiguration<>()
+                    .setStatisticsEnabled(true)
+                    .setManagementEnabled(true);
+            // Timestamps must outlive every cached query result, so only result regions expire
+            if (!region.equals(UPDATE_TIMESTAMPS_REGION)) {
+                configuration.setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(new Duration(TimeUnit.HOURS, 12)));
+            }
+            if (cacheManager.getCache(region) == null) {
+                cacheManager.createCache(region, configuration);
+            }
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    // cache.gets{result=hit|miss}, cache.puts, cache.removals and cache.evictions per region,
+    // next to the hibernate.second.level.cache.* meters from Hibernate's own statistics
+    @Bean
+    public MeterBinder hibernateCacheMetrics(CacheManager hibernateCacheManager) {
+        return registry -> REGIONS.forEach(region ->
+                JCacheMetrics.monitor(registry, hibernateCacheManager.getCache(region), List.of()));
+    }
+}
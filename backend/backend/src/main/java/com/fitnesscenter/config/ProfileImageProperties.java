@@ -0,0 +1,36 @@
+package com.fitnesscenter.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "fitness.profile-images")
+public class ProfileImageProperties {
+    private String directory = "data/profile-images";
+    // Edge of the square thumbnail shown on the front-desk screen
+    private int thumbnailSize = 160;
+    private int maxUploadBytes = 10 * 1024 * 1024;
+    // Checked before decoding; a small compressed file can expand to gigabytes of pixels
+    private long maxPixels = 40_000_000;
+    // Heap budget for the hottest thumbnails, which are around 10 KB each
+    private long thumbnailCacheBytes = 64 * 1024 * 1024;
+    // Image URLs are content-addressed, so their bytes never change
+    private Duration cacheMaxAge = Duration.ofDays(365);
+
+    public String getDirectory() { return directory; }
+    public void setDirectory(String directory) { this.directory = directory; }
+
+    public int getThumbnailSize() { return thumbnailSize; }
+    public void setThumbnailSize(int thumbnailSize) { this.thumbnailSize = thumbnailSize; }
+
+    public int getMaxUploadBytes() { return maxUploadBytes; }
+    public void setMaxUploadBytes(int maxUploadBytes) { this.maxUploadBytes = maxUploadBytes; }
+
+    public long getMaxPixels() { return maxPixels; }
+    public void setMaxPixels(long maxPixels) { this.maxPixels = maxPixels; }
+
+    public long getThumbnailCacheBytes() { return thumbnailCacheBytes; }
+    public void setThumbnailCacheBytes(long thumbnailCacheBytes) { this.thumbnailCacheBytes = thumbnailCacheBytes; }
+
+    public Duration getCacheMaxAge() { return cacheMaxAge; }
+    public void setCacheMaxAge(Duration cacheMaxAge) { this.cacheMaxAge = cacheMaxAge; }
+}
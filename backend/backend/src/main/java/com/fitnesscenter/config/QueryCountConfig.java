@@ -0,0 +1,15 @@
+package com.fitnesscenter.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class QueryCountConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountCustomizer(QueryCountGuard queryCountGuard) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, queryCountGuard.statementInspector());
+    }
+}
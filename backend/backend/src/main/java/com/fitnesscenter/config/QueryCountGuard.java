@@ -0,0 +1,61 @@
+package com.fitnesscenter.config;
+
+import com.fitnesscenter.exception.QueryBudgetExceededException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+// Counts the SQL statements Hibernate prepares on the current thread. Hibernate's own Statistics
+// are global to the session factory, so concurrent requests would be charged for each other's queries.
+@Component
+public class QueryCountGuard {
+    private static final Logger log = LoggerFactory.getLogger(QueryCountGuard.class);
+    private static final ThreadLocal<long[]> STATEMENTS = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final QueryGuardProperties properties;
+    private final AtomicLong violations = new AtomicLong();
+
+    public QueryCountGuard(QueryGuardProperties properties) {
+        this.properties = properties;
+    }
+
+    StatementInspector statementInspector() {
+        return sql -> {
+            STATEMENTS.get()[0]++;
+            return sql;
+        };
+    }
+
+    // Statements prepared on this thread so far; callers take the difference of two readings.
+    public static long currentThreadStatements() {
+        return STATEMENTS.get()[0];
+    }
+
+    // Runs a read path and checks it stayed within its statement budget.
+    public <T> T withBudget(String readPath, int maxStatements, Supplier<T> query) {
+        if (!properties.isEnabled()) {
+            return query.get();
+        }
+        long[] counter = STATEMENTS.get();
+        long before = counter[0];
+        T result = query.get();
+        long executed = counter[0] - before;
+        if (executed > maxStatements) {
+            violations.incrementAndGet();
+            String message = "Read path '" + readPath + "' ran " + executed
+                    + " SQL statements, budget is " + maxStatements;
+            if (properties.isFailOnExceed()) {
+                throw new QueryBudgetExceededException(message);
+            }
+            log.warn(message);
+        }
+        return result;
+    }
+
+    public long getViolations() {
+        return violations.get();
+    }
+}
@@ -0,0 +1,16 @@
+package com.fitnesscenter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "fitness.query-guard")
+public class QueryGuardProperties {
+    private boolean enabled = true;
+    // Turn on in development and CI so a read path that regresses to N+1 fails instead of logging
+    private boolean failOnExceed = false;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public boolean isFailOnExceed() { return failOnExceed; }
+    public void setFailOnExceed(boolean failOnExceed) { this.failOnExceed = failOnExceed; }
+}
@@ -0,0 +1,11 @@
+package com.fitnesscenter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "fitness.revenue.rollup")
+public class RevenueRollupProperties {
+    private int rebuildParallelism = 4;
+
+    public int getRebuildParallelism() { return rebuildParallelism; }
+    public void setRebuildParallelism(int rebuildParallelism) { this.rebuildParallelism = rebuildParallelism; }
+}
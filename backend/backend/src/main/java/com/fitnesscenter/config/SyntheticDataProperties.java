@@ -0,0 +1,42 @@
+package com.fitnesscenter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+// Scale of the dataset generated under the synthetic-data profile
+@ConfigurationProperties(prefix = "fitness.synthetic-data")
+public class SyntheticDataProperties {
+    private int members = 1_000_000;
+    private int trainers = 2_000;
+    private long checkIns = 200_000_000;
+    // Upcoming classes over the next two weeks, for booking load
+    private int fitnessClasses = 2_000;
+    // How far back join dates, and with them the check-in history, reach
+    private int historyDays = 730;
+    private long seed = 42L;
+    private int batchSize = 5_000;
+    private int writerThreads = 4;
+
+    public int getMembers() { return members; }
+    public void setMembers(int members) { this.members = members; }
+
+    public int getTrainers() { return trainers; }
+    public void setTrainers(int trainers) { this.trainers = trainers; }
+
+    public long getCheckIns() { return checkIns; }
+    public void setCheckIns(long checkIns) { this.checkIns = checkIns; }
+
+    public int getFitnessClasses() { return fitnessClasses; }
+    public void setFitnessClasses(int fitnessClasses) { this.fitnessClasses = fitnessClasses; }
+
+    public int getHistoryDays() { return historyDays; }
+    public void setHistoryDays(int historyDays) { this.historyDays = historyDays; }
+
+    public long getSeed() { return seed; }
+    public void setSeed(long seed) { this.seed = seed; }
+
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+    public int getWriterThreads() { return writerThreads; }
+    public void setWriterThreads(int writerThreads) { this.writerThreads = writerThreads; }
+}
@@ -0,0 +1,20 @@
+package com.fitnesscenter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "fitness.recommendation")
+public class TrainerRecommendationProperties {
+    // Suggestions kept per member by the nightly run
+    private int precomputedPerMember = 5;
+    private int batchSize = 1_000;
+    private int parallelism = 4;
+
+    public int getPrecomputedPerMember() { return precomputedPerMember; }
+    public void setPrecomputedPerMember(int precomputedPerMember) { this.precomputedPerMember = precomputedPerMember; }
+
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+    public int getParallelism() { return parallelism; }
+    public void setParallelism(int parallelism) { this.parallelism = parallelism; }
+}
@@ -0,0 +1,26 @@
+package com.fitnesscenter.controller;
+
+import com.fitnesscenter.dto.AccessDecisionResponse;
+import com.fitnesscenter.model.CheckIn;
+import com.fitnesscenter.service.AccessDecisionService;
+import com.fitnesscenter.service.ProfileImageService;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/access")
+public class AccessController {
+    private final AccessDecisionService accessDecisionService;
+    private final ProfileImageService imageService;
+
+    public AccessController(AccessDecisionService accessDecisionService, ProfileImageService imageService) {
+        this.accessDecisionService = accessDecisionService;
+        this.imageService = imageService;
+    }
+
+    @GetMapping("/{memberId}")
+    public AccessDecisionResponse checkAccess(@PathVariable String memberId,
+                                              @RequestParam(defaultValue = "GYM") CheckIn.Facility facility) {
+        return AccessDecisionResponse.of(memberId, facility, accessDecisionService.decide(memberId, facility),
+                imageService.memberThumbnailUrl(memberId));
+    }
+}
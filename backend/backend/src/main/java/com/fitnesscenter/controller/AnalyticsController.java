@@ -0,0 +1,25 @@
+package com.fitnesscenter.controller;
+
+import com.fitnesscenter.dto.CohortDistributionResponse;
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.service.MemberAnalyticsService;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/analytics")
+public class AnalyticsController {
+    private final MemberAnalyticsService analyticsService;
+
+    public AnalyticsController(MemberAnalyticsService analyticsService) {
+        this.analyticsService = analyticsService;
+    }
+
+    @GetMapping("/members/distribution")
+    public CohortDistributionResponse getDistribution(
+            @RequestParam MemberAnalyticsService.Dimension dimension,
+            @RequestParam(required = false) Member.MemberStatus status,
+            @RequestParam(required = false) String city,
+            @RequestParam(defaultValue = "NONE") MemberAnalyticsService.Slice sliceBy) {
+        return analyticsService.distribution(dimension, status, city, sliceBy);
+    }
+}
@@ -0,0 +1,48 @@
+package com.fitnesscenter.controller;
+
+import com.fitnesscenter.dto.AttendanceHeatmapResponse;
+import com.fitnesscenter.dto.ChurnRiskResponse;
+import com.fitnesscenter.dto.MemberVisitFrequencyResponse;
+import com.fitnesscenter.model.CheckIn;
+import com.fitnesscenter.service.AttendanceHistoryService;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/attendance")
+public class AttendanceController {
+    private static final int MAX_CHURN_RESULTS = 1_000;
+
+    private final AttendanceHistoryService historyService;
+
+    public AttendanceController(AttendanceHistoryService historyService) {
+        this.historyService = historyService;
+    }
+
+    @GetMapping("/heatmap")
+    public AttendanceHeatmapResponse getHeatmap(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) CheckIn.Facility facility) {
+        return historyService.heatmap(from, to, facility);
+    }
+
+    @GetMapping("/members/{memberId}")
+    public MemberVisitFrequencyResponse getMemberFrequency(
+            @PathVariable String memberId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return historyService.memberFrequency(memberId, from, to);
+    }
+
+    @GetMapping("/churn-risk")
+    public List<ChurnRiskResponse> getChurnRisk(
+            @RequestParam(defaultValue = "4") int recentWeeks,
+            @RequestParam(defaultValue = "8") int baselineWeeks,
+            @RequestParam(defaultValue = "8") int minBaselineVisits,
+            @RequestParam(defaultValue = "100") int limit) {
+        return historyService.churnRisk(recentWeeks, baselineWeeks, minBaselineVisits, Math.min(limit, MAX_CHURN_RESULTS));
+    }
+}
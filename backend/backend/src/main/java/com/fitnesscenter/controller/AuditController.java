@@ -0,0 +1,37 @@
+package com.fitnesscenter.controller;
+
+import com.fitnesscenter.dto.AuditEntryResponse;
+import com.fitnesscenter.dto.AuditLogStats;
+import com.fitnesscenter.model.AuditLogEntry;
+import com.fitnesscenter.service.AuditService;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/audit")
+public class AuditController {
+    private static final int MAX_RESULTS = 5_000;
+
+    private final AuditService auditService;
+
+    public AuditController(AuditService auditService) {
+        this.auditService = auditService;
+    }
+
+    @GetMapping
+    public List<AuditEntryResponse> getEntries(
+            @RequestParam AuditLogEntry.EntityType entityType,
+            @RequestParam(required = false) Long entityId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "500") int limit) {
+        return auditService.find(entityType, entityId, from, to, Math.min(limit, MAX_RESULTS));
+    }
+
+    @GetMapping("/stats")
+    public AuditLogStats getStats() {
+        return auditService.getStats();
+    }
+}
@@ -0,0 +1,28 @@
+package com.fitnesscenter.controller;
+
+import com.fitnesscenter.dto.BillingRunStatus;
+import com.fitnesscenter.service.RenewalBillingService;
+import java.time.YearMonth;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/billing/runs")
+public class BillingController {
+    private final RenewalBillingService billingService;
+
+    public BillingController(RenewalBillingService billingService) {
+        this.billingService = billingService;
+    }
+
+    // Starts the run, or resumes it from its checkpoints; poll the GET for progress
+    @PostMapping("/{period}")
+    public ResponseEntity<BillingRunStatus> startRun(@PathVariable YearMonth period) {
+        return ResponseEntity.accepted().body(billingService.start(period));
+    }
+
+    @GetMapping("/{period}")
+    public BillingRunStatus getRun(@PathVariable YearMonth period) {
+        return billingService.status(period);
+    }
+}
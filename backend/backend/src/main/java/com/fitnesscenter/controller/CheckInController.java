@@ -0,0 +1,70 @@
+package com.fitnesscenter.controller;
+
+import com.fitnesscenter.dto.AccessDecisionResponse;
+import com.fitnesscenter.dto.CheckInIngestionStats;
+import com.fitnesscenter.dto.CheckInRequest;
+import com.fitnesscenter.dto.CheckOutRequest;
+import com.fitnesscenter.metrics.FitnessMetrics;
+import com.fitnesscenter.model.CheckIn;
+import com.fitnesscenter.service.AccessDecision;
+import com.fitnesscenter.service.AccessDecisionService;
+import com.fitnesscenter.service.CheckInIngestionService;
+import com.fitnesscenter.service.ProfileImageService;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/check-ins")
+public class CheckInController {
+    private final CheckInIngestionService ingestionService;
+    private final AccessDecisionService accessDecisionService;
+    private final ProfileImageService imageService;
+    private final FitnessMetrics metrics;
+
+    public CheckInController(CheckInIngestionService ingestionService, AccessDecisionService accessDecisionService,
+                             ProfileImageService imageService, FitnessMetrics metrics) {
+        this.ingestionService = ingestionService;
+        this.accessDecisionService = accessDecisionService;
+        this.imageService = imageService;
+        this.metrics = metrics;
+    }
+
+    @PostMapping
+    public ResponseEntity<AccessDecisionResponse> checkIn(@Valid @RequestBody CheckInRequest request) {
+        Timer.Sample sample = metrics.startHotPathSample();
+        CheckIn.Facility facility = request.facilityOrDefault();
+        AccessDecision decision = accessDecisionService.decide(request.memberId(), facility);
+        AccessDecisionResponse response = AccessDecisionResponse.of(request.memberId(), facility, decision,
+                imageService.memberThumbnailUrl(request.memberId()));
+        boolean accepted = decision.isAllowed() && ingestionService.submit(request);
+        metrics.checkInDecided(sample, decision);
+        if (!decision.isAllowed()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+        }
+        if (!accepted) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .build();
+        }
+        return ResponseEntity.accepted().body(response);
+    }
+
+    @PostMapping("/check-out")
+    public ResponseEntity<Void> checkOut(@Valid @RequestBody CheckOutRequest request) {
+        if (!ingestionService.submit(request)) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .build();
+        }
+        return ResponseEntity.accepted().build();
+    }
+
+    @GetMapping("/ingestion/stats")
+    public CheckInIngestionStats getIngestionStats() {
+        return ingestionService.getStats();
+    }
+}
@@ -0,0 +1,22 @@
+package com.fitnesscenter.controller;
+
+import com.fitnesscenter.repository.ResourceVersionRepository.Version;
+import java.util.function.Supplier;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+// Answers If-None-Match / If-Modified-Since from the version alone, so an unchanged resource is
+// neither loaded nor serialized. checkNotModified also sets ETag and Last-Modified on the response.
+final class ConditionalGet {
+    private ConditionalGet() {}
+
+    static <T> ResponseEntity<T> respond(WebRequest request, Version version, CacheControl cacheControl,
+                                         Supplier<T> body) {
+        if (request.checkNotModified(version.etag(), version.lastModifiedMillis())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok().cacheControl(cacheControl).body(body.get());
+    }
+}
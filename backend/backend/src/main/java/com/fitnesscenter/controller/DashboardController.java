@@ -0,0 +1,32 @@
+package com.fitnesscenter.controller;
+
+import com.fitnesscenter.dto.DashboardConsistencyReport;
+import com.fitnesscenter.dto.MemberDashboardResponse;
+import com.fitnesscenter.service.MemberDashboardService;
+import java.util.Map;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+    private final MemberDashboardService dashboardService;
+
+    public DashboardController(MemberDashboardService dashboardService) {
+        this.dashboardService = dashboardService;
+    }
+
+    @GetMapping("/{memberId}")
+    public MemberDashboardResponse getDashboard(@PathVariable String memberId) {
+        return dashboardService.getDashboard(memberId);
+    }
+
+    @PostMapping("/rebuild")
+    public Map<String, Integer> rebuild() {
+        return Map.of("members", dashboardService.rebuild());
+    }
+
+    @PostMapping("/verify")
+    public DashboardConsistencyReport verify(@RequestParam(defaultValue = "false") boolean repair) {
+        return dashboardService.verify(repair);
+    }
+}
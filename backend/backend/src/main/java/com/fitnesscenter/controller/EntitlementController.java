@@ -0,0 +1,41 @@
+package com.fitnesscenter.controller;
+
+import com.fitnesscenter.dto.EntitlementBalanceResponse;
+import com.fitnesscenter.dto.EntitlementConsumeRequest;
+import com.fitnesscenter.dto.EntitlementConsumptionResponse;
+import com.fitnesscenter.service.EntitlementLedgerService;
+import jakarta.validation.Valid;
+import java.util.List;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/entitlements")
+public class EntitlementController {
+    private final EntitlementLedgerService ledgerService;
+
+    public EntitlementController(EntitlementLedgerService ledgerService) {
+        this.ledgerService = ledgerService;
+    }
+
+    @GetMapping("/{memberId}")
+    public List<EntitlementBalanceResponse> getBalances(@PathVariable String memberId) {
+        return ledgerService.getBalances(memberId);
+    }
+
+    // Clients send a fresh Idempotency-Key per use and the same key when retrying it
+    @PostMapping("/{memberId}/consumptions")
+    public ResponseEntity<EntitlementConsumptionResponse> consume(@PathVariable String memberId,
+                                                                  @RequestHeader("Idempotency-Key") String idempotencyKey,
+                                                                  @Valid @RequestBody EntitlementConsumeRequest request) {
+        EntitlementConsumptionResponse consumption = ledgerService.consume(memberId, idempotencyKey, request.type(),
+                request.quantity() != null ? request.quantity() : 1, request.reference());
+        return ResponseEntity.status(consumption.replayed() ? HttpStatus.OK : HttpStatus.CREATED).body(consumption);
+    }
+
+    @DeleteMapping("/{memberId}/consumptions/{idempotencyKey}")
+    public EntitlementConsumptionResponse release(@PathVariable String memberId, @PathVariable String idempotencyKey) {
+        return ledgerService.release(memberId, idempotencyKey);
+    }
+}
@@ -0,0 +1,50 @@
+package com.fitnesscenter.controller;
+
+import com.fitnesscenter.service.MemberExportService;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/exports")
+public class ExportController {
+    private static final int MAX_PAGE_SIZE = 10_000;
+
+    private final MemberExportService exportService;
+
+    public ExportController(MemberExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    @GetMapping("/members")
+    public ResponseEntity<StreamingResponseBody> exportMembers(
+            @RequestParam(defaultValue = "CSV") MemberExportService.Format format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(defaultValue = "" + MemberExportService.DEFAULT_PAGE_SIZE) int pageSize) {
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        String fileName = "members." + format.name().toLowerCase(Locale.ROOT) + (gzip ? ".gz" : "");
+        MediaType contentType = gzip ? MediaType.parseMediaType("application/gzip")
+                : format == MemberExportService.Format.CSV ? MediaType.parseMediaType("text/csv;charset=UTF-8")
+                : MediaType.parseMediaType("application/x-ndjson");
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, 64 * 1024);
+                exportService.export(format, pageSize, compressed);
+                compressed.finish();
+            } else {
+                exportService.export(format, pageSize, out);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,91 @@
+package com.fitnesscenter.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+// Writes a file, or one byte range of it, without reading it into the heap. Tomcat's NIO
+// connector takes the file over and sends it with sendfile after the handler returns; elsewhere
+// FileChannel.transferTo copies it into the response in chunks. A request for several ranges
+// gets the whole file, which RFC 9110 allows.
+final class FileRegionResponse {
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private FileRegionResponse() {}
+
+    static void write(HttpServletRequest request, HttpServletResponse response, Path path, MediaType contentType,
+                      String etag) throws IOException {
+        long length = Files.size(path);
+        long start = 0;
+        long end = length - 1;
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        List<HttpRange> ranges = ifRange == null || ifRange.equals(etag) ? ranges(request) : List.of();
+        if (ranges.size() == 1) {
+            try {
+                start = ranges.get(0).getRangeStart(length);
+                end = ranges.get(0).getRangeEnd(length);
+            } catch (IllegalArgumentException e) {
+                notSatisfiable(response, length);
+                return;
+            }
+            // HttpRange leaves a first position past the end (bytes=999999-) and a zero-length
+            // suffix (bytes=-0) to the caller; both would otherwise give a negative Content-Length
+            if (start >= length || start > end) {
+                notSatisfiable(response, length);
+                return;
+            }
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+        response.setContentType(contentType.toString());
+        response.setContentLengthLong(end - start + 1);
+        if (HttpMethod.HEAD.matches(request.getMethod()) || length == 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            // Exclusive, unlike the Content-Range end
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position <= end) {
+                position += file.transferTo(position, end + 1 - position, out);
+            }
+        }
+    }
+
+    private static void notSatisfiable(HttpServletResponse response, long length) {
+        response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+        response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+    }
+
+    // A malformed Range header is ignored rather than rejected
+    private static List<HttpRange> ranges(HttpServletRequest request) {
+        try {
+            return HttpRange.parseRanges(request.getHeader(HttpHeaders.RANGE));
+        } catch (IllegalArgumentException e) {
+            return List.of();
+        }
+    }
+}
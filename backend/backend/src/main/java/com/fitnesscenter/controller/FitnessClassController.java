@@ -0,0 +1,59 @@
+package com.fitnesscenter.controller;
+
+import com.fitnesscenter.dto.BookingRequest;
+import com.fitnesscenter.dto.BookingResponse;
+import com.fitnesscenter.dto.ClassAvailabilityResponse;
+import com.fitnesscenter.dto.FitnessClassRequest;
+import com.fitnesscenter.dto.FitnessClassResponse;
+import com.fitnesscenter.service.ClassBookingService;
+import com.fitnesscenter.service.FitnessClassService;
+import jakarta.validation.Valid;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/classes")
+public class FitnessClassController {
+    private final FitnessClassService fitnessClassService;
+    private final ClassBookingService bookingService;
+
+    public FitnessClassController(FitnessClassService fitnessClassService, ClassBookingService bookingService) {
+        this.fitnessClassService = fitnessClassService;
+        this.bookingService = bookingService;
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public FitnessClassResponse createClass(@Valid @RequestBody FitnessClassRequest request) {
+        return fitnessClassService.createClass(request);
+    }
+
+    @PatchMapping("/{id}/capacity")
+    public FitnessClassResponse updateCapacity(@PathVariable Long id, @RequestParam int capacity) {
+        return fitnessClassService.updateCapacity(id, capacity);
+    }
+
+    @PostMapping("/{id}/cancel")
+    public FitnessClassResponse cancelClass(@PathVariable Long id) {
+        return fitnessClassService.cancelClass(id);
+    }
+
+    @GetMapping("/{id}/availability")
+    public ClassAvailabilityResponse getAvailability(@PathVariable Long id) {
+        return bookingService.getAvailability(id);
+    }
+
+    @PostMapping("/{id}/bookings")
+    public CompletableFuture<ResponseEntity<BookingResponse>> book(@PathVariable Long id,
+                                                                   @Valid @RequestBody BookingRequest request) {
+        return bookingService.book(id, request.memberId())
+                .thenApply(booking -> ResponseEntity.status(HttpStatus.CREATED).body(booking));
+    }
+
+    @DeleteMapping("/{id}/bookings/{memberId}")
+    public CompletableFuture<ResponseEntity<Void>> cancelBooking(@PathVariable Long id, @PathVariable String memberId) {
+        return bookingService.cancel(id, memberId).thenApply(v -> ResponseEntity.noContent().build());
+    }
+}
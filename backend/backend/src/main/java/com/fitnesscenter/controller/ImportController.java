@@ -0,0 +1,44 @@
+package com.fitnesscenter.controller;
+
+import com.fitnesscenter.dto.MemberImportResult;
+import com.fitnesscenter.service.MemberImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/imports")
+public class ImportController {
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final MemberImportService importService;
+
+    public ImportController(MemberImportService importService) {
+        this.importService = importService;
+    }
+
+    // The body is read straight from the request stream; it is never buffered or bound
+    @PostMapping("/members")
+    public MemberImportResult importMembers(@RequestParam(required = false) MemberImportService.Format format,
+                                            HttpServletRequest request) throws IOException {
+        InputStream body = request.getInputStream();
+        if ("gzip".equalsIgnoreCase(request.getHeader(HttpHeaders.CONTENT_ENCODING))) {
+            body = new GZIPInputStream(body, 64 * 1024);
+        }
+        return importService.importMembers(format != null ? format : formatOf(request.getContentType()), body);
+    }
+
+    private static MemberImportService.Format formatOf(String contentType) {
+        if (contentType != null) {
+            MediaType type = MediaType.parseMediaType(contentType);
+            if (NDJSON.isCompatibleWith(type) || MediaType.APPLICATION_JSON.isCompatibleWith(type)) {
+                return MemberImportService.Format.NDJSON;
+            }
+        }
+        return MemberImportService.Format.CSV;
+    }
+}
@@ -0,0 +1,44 @@
+package com.fitnesscenter.controller;
+
+import com.fitnesscenter.dto.MemberDetailResponse;
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.projection.MemberListView;
+import com.fitnesscenter.service.MemberService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController
+@RequestMapping("/api/members")
+@Validated
+public class MemberController {
+    // Personal data: shared caches must not keep it, and clients revalidate on every use
+    private static final CacheControl MEMBER_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private final MemberService memberService;
+
+    public MemberController(MemberService memberService) {
+        this.memberService = memberService;
+    }
+
+    @GetMapping
+    public ResponseEntity<Page<MemberListView>> listMembers(
+            @RequestParam(required = false) Member.MemberStatus status,
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(200) int size,
+            WebRequest request) {
+        return ConditionalGet.respond(request, memberService.getListVersion(), MEMBER_CACHE_CONTROL,
+                () -> memberService.listMembers(status, page, size));
+    }
+
+    @GetMapping("/{memberId}")
+    public ResponseEntity<MemberDetailResponse> getMember(@PathVariable String memberId, WebRequest request) {
+        return ConditionalGet.respond(request, memberService.getMemberVersion(memberId), MEMBER_CACHE_CONTROL,
+                () -> memberService.getMember(memberId));
+    }
+}
@@ -0,0 +1,27 @@
+package com.fitnesscenter.controller;
+
+import com.fitnesscenter.service.MembershipExpiryService;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/memberships/expiry")
+public class MembershipExpiryController {
+    private final MembershipExpiryService expiryService;
+
+    public MembershipExpiryController(MembershipExpiryService expiryService) {
+        this.expiryService = expiryService;
+    }
+
+    @GetMapping("/upcoming")
+    public Map<LocalDate, Integer> upcoming(@RequestParam(defaultValue = "30") int days) {
+        return expiryService.upcoming(days);
+    }
+
+    @PostMapping("/run")
+    public CompletableFuture<Map<String, Integer>> run() {
+        return expiryService.requestExpiry().thenApply(expired -> Map.of("expired", expired));
+    }
+}
@@ -0,0 +1,45 @@
+package com.fitnesscenter.controller;
+
+import com.fitnesscenter.config.HttpCacheProperties;
+import com.fitnesscenter.dto.PlanResponse;
+import com.fitnesscenter.projection.PlanCatalogueView;
+import com.fitnesscenter.service.MembershipPlanService;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController
+@RequestMapping("/api/plans")
+public class MembershipPlanController {
+    private final MembershipPlanService planService;
+    private final CacheControl activePlansCacheControl;
+
+    public MembershipPlanController(MembershipPlanService planService, HttpCacheProperties cacheProperties) {
+        this.planService = planService;
+        this.activePlansCacheControl = CacheControl.maxAge(Duration.ofSeconds(cacheProperties.getPlanMaxAgeSeconds()))
+                .cachePublic();
+    }
+
+    // Carries live member counts, so clients revalidate on every use
+    @GetMapping
+    public ResponseEntity<List<PlanCatalogueView>> getCatalogue(WebRequest request) {
+        return ConditionalGet.respond(request, planService.getCatalogueVersion(), CacheControl.noCache(),
+                planService::getCatalogue);
+    }
+
+    @GetMapping("/active")
+    public ResponseEntity<List<PlanResponse>> getActivePlans(WebRequest request) {
+        return ConditionalGet.respond(request, planService.getPlansVersion(), activePlansCacheControl,
+                planService::getActivePlans);
+    }
+
+    // For plans changed outside the application; without planId every cached plan is dropped
+    @PostMapping("/cache/evict")
+    public ResponseEntity<Void> evictCache(@RequestParam(required = false) Long planId) {
+        planService.evictCache(planId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,27 @@
+package com.fitnesscenter.controller;
+
+import com.fitnesscenter.dto.OccupancySnapshot;
+import com.fitnesscenter.service.OccupancyService;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/occupancy")
+public class OccupancyController {
+    private final OccupancyService occupancyService;
+
+    public OccupancyController(OccupancyService occupancyService) {
+        this.occupancyService = occupancyService;
+    }
+
+    @GetMapping
+    public OccupancySnapshot getOccupancy() {
+        return occupancyService.getSnapshot();
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOccupancy() {
+        return occupancyService.subscribe();
+    }
+}
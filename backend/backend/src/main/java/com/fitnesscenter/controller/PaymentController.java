@@ -0,0 +1,34 @@
+package com.fitnesscenter.controller;
+
+import com.fitnesscenter.dto.PaymentRequest;
+import com.fitnesscenter.dto.PaymentResponse;
+import com.fitnesscenter.metrics.FitnessMetrics;
+import com.fitnesscenter.model.MembershipPayment;
+import com.fitnesscenter.service.PaymentService;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/payments")
+public class PaymentController {
+    private final PaymentService paymentService;
+    private final FitnessMetrics metrics;
+
+    public PaymentController(PaymentService paymentService, FitnessMetrics metrics) {
+        this.paymentService = paymentService;
+        this.metrics = metrics;
+    }
+
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public PaymentResponse recordPayment(@Valid @RequestBody PaymentRequest request) {
+        // Timed here rather than in the service so the commit, and the rollup update it triggers, is included
+        return metrics.timePaymentRecord(() -> paymentService.recordPayment(request));
+    }
+
+    @PatchMapping("/{id}/status")
+    public PaymentResponse updateStatus(@PathVariable Long id, @RequestParam MembershipPayment.PaymentStatus status) {
+        return metrics.timePaymentStatusUpdate(() -> paymentService.updateStatus(id, status));
+    }
+}
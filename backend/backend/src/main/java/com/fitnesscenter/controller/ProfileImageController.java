@@ -0,0 +1,75 @@
+package com.fitnesscenter.controller;
+
+import com.fitnesscenter.config.ProfileImageProperties;
+import com.fitnesscenter.dto.ProfileImageResponse;
+import com.fitnesscenter.service.ProfileImageService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.file.Path;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+// Uploads take the raw image as the request body (image/jpeg or image/png). Image URLs are
+// content-addressed, so the hash is the ETag and clients may cache them for as long as they like.
+@RestController
+@RequestMapping("/api/images")
+public class ProfileImageController {
+    private static final String HASH = "{hash:[0-9a-f]+}";
+
+    private final ProfileImageService imageService;
+    private final CacheControl cacheControl;
+
+    public ProfileImageController(ProfileImageService imageService, ProfileImageProperties properties) {
+        this.imageService = imageService;
+        this.cacheControl = CacheControl.maxAge(properties.getCacheMaxAge()).cachePublic().immutable();
+    }
+
+    @PutMapping("/members/{memberId}")
+    public ProfileImageResponse uploadMemberPhoto(@PathVariable String memberId, HttpServletRequest request)
+            throws IOException {
+        return imageService.uploadMemberPhoto(memberId, request.getInputStream());
+    }
+
+    @PutMapping("/trainers/{trainerId}")
+    public ProfileImageResponse uploadTrainerPhoto(@PathVariable String trainerId, HttpServletRequest request)
+            throws IOException {
+        return imageService.uploadTrainerPhoto(trainerId, request.getInputStream());
+    }
+
+    @GetMapping("/" + HASH + ".{extension:jpg|png}")
+    public void getImage(@PathVariable String hash, @PathVariable String extension, ServletWebRequest request,
+                         HttpServletResponse response) throws IOException {
+        Path path = imageService.original(hash, extension);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        if (request.checkNotModified(etag(hash))) {
+            return;
+        }
+        FileRegionResponse.write(request.getRequest(), response, path,
+                "png".equals(extension) ? MediaType.IMAGE_PNG : MediaType.IMAGE_JPEG, etag(hash));
+    }
+
+    // Served from memory; returning a Resource lets Spring answer range requests as well
+    @GetMapping("/" + HASH + "/thumbnail")
+    public ResponseEntity<Resource> getThumbnail(@PathVariable String hash, WebRequest request) throws IOException {
+        if (request.checkNotModified(etag(hash))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .contentType(MediaType.IMAGE_JPEG)
+                .body(new ByteArrayResource(imageService.thumbnail(hash)));
+    }
+
+    private static String etag(String hash) {
+        return "\"" + hash + "\"";
+    }
+}
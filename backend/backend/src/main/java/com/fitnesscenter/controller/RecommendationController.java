@@ -0,0 +1,63 @@
+package com.fitnesscenter.controller;
+
+import com.fitnesscenter.dto.RecommendationRunResult;
+import com.fitnesscenter.dto.TrainerRecommendationResponse;
+import com.fitnesscenter.service.TrainerRecommendationService;
+import com.fitnesscenter.service.TrainerRecommendationService.AvailabilityFilter;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/recommendations")
+public class RecommendationController {
+    private final TrainerRecommendationService recommendationService;
+
+    public RecommendationController(TrainerRecommendationService recommendationService) {
+        this.recommendationService = recommendationService;
+    }
+
+    @GetMapping("/trainers")
+    public List<TrainerRecommendationResponse> recommend(
+            @RequestParam(required = false) String goals,
+            @RequestParam(required = false) String healthConditions,
+            @RequestParam(defaultValue = "5") int limit,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime start,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime end,
+            @RequestParam(required = false) Double maxHourlyRate) {
+        return recommendationService.recommend(goals, healthConditions, limit, availability(date, start, end),
+                maxHourlyRate);
+    }
+
+    @GetMapping("/members/{memberId}")
+    public List<TrainerRecommendationResponse> recommendForMember(
+            @PathVariable String memberId,
+            @RequestParam(defaultValue = "5") int limit,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime start,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime end,
+            @RequestParam(required = false) Double maxHourlyRate) {
+        return recommendationService.recommendForMember(memberId, limit, availability(date, start, end), maxHourlyRate);
+    }
+
+    @PostMapping("/precompute")
+    public RecommendationRunResult precompute() {
+        return recommendationService.precomputeAll();
+    }
+
+    private static AvailabilityFilter availability(LocalDate date, LocalTime start, LocalTime end) {
+        if (date == null && start == null && end == null) {
+            return null;
+        }
+        if (date == null || start == null || end == null) {
+            throw new IllegalArgumentException("date, start and end must be given together");
+        }
+        if (!end.equals(LocalTime.MIDNIGHT) && !end.isAfter(start)) {
+            throw new IllegalArgumentException("End time must be after start time");
+        }
+        return new AvailabilityFilter(date, start, end);
+    }
+}
@@ -0,0 +1,28 @@
+package com.fitnesscenter.controller;
+
+import com.fitnesscenter.dto.RevenueRebuildResult;
+import com.fitnesscenter.dto.RevenueRollupRow;
+import com.fitnesscenter.service.RevenueRollupService;
+import java.time.YearMonth;
+import java.util.List;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/revenue")
+public class RevenueController {
+    private final RevenueRollupService rollupService;
+
+    public RevenueController(RevenueRollupService rollupService) {
+        this.rollupService = rollupService;
+    }
+
+    @GetMapping("/rollups")
+    public List<RevenueRollupRow> getRollups(@RequestParam YearMonth from, @RequestParam YearMonth to) {
+        return rollupService.findRollups(from, to);
+    }
+
+    @PostMapping("/rollups/rebuild")
+    public RevenueRebuildResult rebuild(@RequestParam YearMonth from, @RequestParam YearMonth to) {
+        return rollupService.rebuild(from, to);
+    }
+}
@@ -0,0 +1,32 @@
+package com.fitnesscenter.controller;
+
+import com.fitnesscenter.dto.SearchResult;
+import com.fitnesscenter.service.SearchIndex.DocumentType;
+import com.fitnesscenter.service.SearchService;
+import java.util.List;
+import java.util.Map;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+    private final SearchService searchService;
+
+    public SearchController(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    @GetMapping
+    public List<SearchResult> search(@RequestParam("q") String query,
+                                     @RequestParam(required = false) DocumentType type,
+                                     @RequestParam(defaultValue = "10") int limit) {
+        return searchService.search(query, type, limit).stream()
+                .map(SearchResult::from)
+                .toList();
+    }
+
+    @PostMapping("/rebuild")
+    public Map<String, Integer> rebuild() {
+        return Map.of("documents", searchService.rebuild());
+    }
+}
@@ -0,0 +1,59 @@
+package com.fitnesscenter.controller;
+
+import com.fitnesscenter.dto.AvailabilityWindowRequest;
+import com.fitnesscenter.dto.AvailableTrainerResponse;
+import com.fitnesscenter.model.Trainer;
+import com.fitnesscenter.projection.TrainerRosterView;
+import com.fitnesscenter.service.TrainerAvailabilityService;
+import com.fitnesscenter.service.TrainerService;
+import jakarta.validation.Valid;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController
+@RequestMapping("/api/trainers")
+@Validated
+public class TrainerController {
+    private final TrainerService trainerService;
+    private final TrainerAvailabilityService availabilityService;
+
+    public TrainerController(TrainerService trainerService, TrainerAvailabilityService availabilityService) {
+        this.trainerService = trainerService;
+        this.availabilityService = availabilityService;
+    }
+
+    @GetMapping("/roster")
+    public ResponseEntity<List<TrainerRosterView>> getRoster(
+            @RequestParam(required = false) Trainer.TrainerStatus status, WebRequest request) {
+        return ConditionalGet.respond(request, trainerService.getRosterVersion(), CacheControl.noCache(),
+                () -> trainerService.getRoster(status));
+    }
+
+    @GetMapping("/available")
+    public List<AvailableTrainerResponse> findAvailable(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime end,
+            @RequestParam(required = false) String specialization) {
+        if (!end.equals(LocalTime.MIDNIGHT) && !end.isAfter(start)) {
+            throw new IllegalArgumentException("End time must be after start time");
+        }
+        return availabilityService.findAvailable(date, start, end, specialization).stream()
+                .map(AvailableTrainerResponse::from)
+                .toList();
+    }
+
+    @PutMapping("/{id}/availability")
+    public ResponseEntity<Void> replaceAvailability(@PathVariable Long id,
+                                                    @RequestBody List<@Valid AvailabilityWindowRequest> windows) {
+        trainerService.replaceAvailability(id, windows);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,14 @@
+package com.fitnesscenter.dto;
+
+import com.fitnesscenter.model.CheckIn;
+import com.fitnesscenter.service.AccessDecision;
+
+// photoUrl is the member's thumbnail for the front-desk screen, null when there is none
+public record AccessDecisionResponse(String memberId, CheckIn.Facility facility, boolean allowed, AccessDecision decision,
+                                     String photoUrl) {
+
+    public static AccessDecisionResponse of(String memberId, CheckIn.Facility facility, AccessDecision decision,
+                                            String photoUrl) {
+        return new AccessDecisionResponse(memberId, facility, decision.isAllowed(), decision, photoUrl);
+    }
+}
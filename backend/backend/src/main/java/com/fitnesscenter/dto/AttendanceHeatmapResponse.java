@@ -0,0 +1,9 @@
+package com.fitnesscenter.dto;
+
+import com.fitnesscenter.model.CheckIn;
+import java.time.LocalDateTime;
+
+// counts[day][hour]: day 0 is Monday, hour 0 is midnight to 1am local time
+public record AttendanceHeatmapResponse(LocalDateTime from, LocalDateTime to, CheckIn.Facility facility,
+                                        long visits, long[][] counts, double elapsedMillis) {
+}
@@ -0,0 +1,15 @@
+package com.fitnesscenter.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.fitnesscenter.model.AuditLogEntry;
+import java.time.LocalDateTime;
+
+public record AuditEntryResponse(
+        long id,
+        AuditLogEntry.EntityType entityType,
+        long entityId,
+        AuditLogEntry.Action action,
+        @JsonRawValue String changes,
+        String actor,
+        LocalDateTime changedAt) {
+}
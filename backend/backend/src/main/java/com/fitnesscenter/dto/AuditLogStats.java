@@ -0,0 +1,13 @@
+package com.fitnesscenter.dto;
+
+public record AuditLogStats(
+        long outboxDepth,
+        int outboxCapacity,
+        long recorded,
+        long directWrites,
+        long writtenRows,
+        long failedFlushes,
+        long flushes,
+        int lastBatchSize,
+        double maxFlushMillis) {
+}
@@ -0,0 +1,16 @@
+package com.fitnesscenter.dto;
+
+import jakarta.validation.constraints.*;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+public record AvailabilityWindowRequest(
+        @NotNull(message = "Day of week is required") DayOfWeek dayOfWeek,
+        @NotNull(message = "Start time is required") LocalTime startTime,
+        @NotNull(message = "End time is required") LocalTime endTime) {
+
+    @AssertTrue(message = "End time must be after start time")
+    public boolean isValidRange() {
+        return startTime == null || endTime == null || endTime.equals(LocalTime.MIDNIGHT) || endTime.isAfter(startTime);
+    }
+}
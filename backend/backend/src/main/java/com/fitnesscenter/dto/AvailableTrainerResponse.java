@@ -0,0 +1,10 @@
+package com.fitnesscenter.dto;
+
+import com.fitnesscenter.service.TrainerAvailabilityIndex.TrainerEntry;
+
+public record AvailableTrainerResponse(Long id, String trainerId, String fullName, String specialization) {
+
+    public static AvailableTrainerResponse from(TrainerEntry entry) {
+        return new AvailableTrainerResponse(entry.id(), entry.trainerId(), entry.fullName(), entry.specialization());
+    }
+}
@@ -0,0 +1,19 @@
+package com.fitnesscenter.dto;
+
+import com.fitnesscenter.model.BillingRunPartition.PartitionStatus;
+import com.fitnesscenter.repository.BillingRunRepository.PartitionRow;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record BillingPartitionProgress(int partition, long firstMemberId, long lastMemberId, long resumeAfter,
+                                       int percentComplete, int billed, int skipped, BigDecimal amountTotal,
+                                       PartitionStatus status, String error, LocalDateTime updatedAt) {
+
+    // Share of the id range behind the checkpoint; ids are close to dense, so it tracks members
+    public static BillingPartitionProgress from(PartitionRow row) {
+        long size = row.lastMemberId() - row.firstMemberId() + 1;
+        int percent = (int) (100 * (row.resumeAfter() - row.firstMemberId() + 1) / size);
+        return new BillingPartitionProgress(row.index(), row.firstMemberId(), row.lastMemberId(), row.resumeAfter(),
+                percent, row.billed(), row.skipped(), row.amountTotal(), row.status(), row.error(), row.updatedAt());
+    }
+}
@@ -0,0 +1,10 @@
+package com.fitnesscenter.dto;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+
+public record BillingRunStatus(YearMonth period, boolean running, int partitions, int completedPartitions,
+                               int failedPartitions, long billed, long skipped, BigDecimal amountTotal,
+                               List<BillingPartitionProgress> partitionProgress) {
+}
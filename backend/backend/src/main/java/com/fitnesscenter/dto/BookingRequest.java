@@ -0,0 +1,6 @@
+package com.fitnesscenter.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record BookingRequest(@NotBlank(message = "Member ID is required") String memberId) {
+}
@@ -0,0 +1,8 @@
+package com.fitnesscenter.dto;
+
+import com.fitnesscenter.model.ClassBooking;
+import java.time.LocalDateTime;
+
+public record BookingResponse(String reservationId, Long classId, String memberId, ClassBooking.BookingStatus status,
+                              Integer waitlistPosition, int seatsRemaining, LocalDateTime bookedAt) {
+}
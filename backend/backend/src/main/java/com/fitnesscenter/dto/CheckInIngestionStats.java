@@ -0,0 +1,16 @@
+package com.fitnesscenter.dto;
+
+public record CheckInIngestionStats(
+        int queueDepth,
+        int queueCapacity,
+        long accepted,
+        long rejected,
+        long flushedRows,
+        long unmatchedRows,
+        long failedRows,
+        long flushes,
+        int lastBatchSize,
+        double lastFlushMillis,
+        double avgFlushMillis,
+        double maxFlushMillis) {
+}
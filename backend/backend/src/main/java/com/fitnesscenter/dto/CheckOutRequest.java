@@ -0,0 +1,16 @@
+package com.fitnesscenter.dto;
+
+import com.fitnesscenter.model.CheckIn;
+import jakarta.validation.constraints.*;
+import java.time.LocalDateTime;
+
+public record CheckOutRequest(
+        @NotBlank(message = "Member ID is required") String memberId,
+        CheckIn.Facility facility,
+        @PastOrPresent(message = "Check-out time cannot be in the future") LocalDateTime checkOutTime,
+        @Size(max = 100, message = "Device ID must be at most 100 characters") String deviceId) {
+
+    public CheckIn.Facility facilityOrDefault() {
+        return facility != null ? facility : CheckIn.Facility.GYM;
+    }
+}
@@ -0,0 +1,7 @@
+package com.fitnesscenter.dto;
+
+import java.time.LocalDateTime;
+
+public record ChurnRiskResponse(String memberId, double baselineVisitsPerWeek, double recentVisitsPerWeek,
+                                LocalDateTime lastVisit) {
+}
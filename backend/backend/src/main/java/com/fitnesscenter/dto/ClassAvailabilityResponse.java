@@ -0,0 +1,5 @@
+package com.fitnesscenter.dto;
+
+public record ClassAvailabilityResponse(Long classId, int capacity, int confirmed, int seatsRemaining,
+                                        int waitlisted, boolean bookable) {
+}
@@ -0,0 +1,9 @@
+package com.fitnesscenter.dto;
+
+import java.util.List;
+import java.util.Map;
+
+// slices maps each slice label to counts in the order of buckets
+public record CohortDistributionResponse(String dimension, String sliceBy, long members, List<String> buckets,
+                                         Map<String, long[]> slices) {
+}
@@ -0,0 +1,14 @@
+package com.fitnesscenter.dto;
+
+import java.util.List;
+
+// missing: in the database but not the store; stale: different in the store; orphaned: in the store only
+public record DashboardConsistencyReport(
+        int checked,
+        int missing,
+        int stale,
+        int orphaned,
+        List<String> sampleMemberIds,
+        boolean repaired,
+        long elapsedMillis) {
+}
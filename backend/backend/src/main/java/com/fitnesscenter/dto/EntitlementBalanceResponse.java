@@ -0,0 +1,8 @@
+package com.fitnesscenter.dto;
+
+import com.fitnesscenter.model.EntitlementBalance;
+import java.time.LocalDate;
+
+public record EntitlementBalanceResponse(EntitlementBalance.EntitlementType type, LocalDate periodStart,
+                                         LocalDate periodEnd, int quota, int used, int remaining) {
+}
@@ -0,0 +1,10 @@
+package com.fitnesscenter.dto;
+
+import com.fitnesscenter.model.EntitlementBalance;
+import jakarta.validation.constraints.*;
+
+public record EntitlementConsumeRequest(
+        @NotNull(message = "Entitlement type is required") EntitlementBalance.EntitlementType type,
+        @Min(value = 1, message = "Quantity must be at least 1") Integer quantity,
+        @Size(max = 255, message = "Reference must be at most 255 characters") String reference) {
+}
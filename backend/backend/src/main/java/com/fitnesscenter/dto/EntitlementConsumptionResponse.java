@@ -0,0 +1,20 @@
+package com.fitnesscenter.dto;
+
+import com.fitnesscenter.model.EntitlementBalance;
+import com.fitnesscenter.repository.EntitlementLedgerRepository.ConsumptionRow;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// replayed is true when the idempotency key had already been processed and nothing was consumed now
+public record EntitlementConsumptionResponse(String idempotencyKey, String memberId,
+                                             EntitlementBalance.EntitlementType type, int quantity,
+                                             LocalDate periodStart, LocalDate periodEnd, int remainingAfter,
+                                             String reference, LocalDateTime consumedAt, LocalDateTime releasedAt,
+                                             boolean replayed) {
+
+    public static EntitlementConsumptionResponse from(ConsumptionRow row, boolean replayed) {
+        return new EntitlementConsumptionResponse(row.idempotencyKey(), row.memberId(), row.type(), row.quantity(),
+                row.periodStart(), row.periodEnd(), row.remainingAfter(), row.reference(), row.consumedAt(),
+                row.releasedAt(), replayed);
+    }
+}
@@ -0,0 +1,14 @@
+package com.fitnesscenter.dto;
+
+import jakarta.validation.constraints.*;
+import java.time.LocalDateTime;
+
+public record FitnessClassRequest(
+        @NotBlank(message = "Class name is required") @Size(min = 2, max = 100, message = "Class name must be between 2 and 100 characters") String className,
+        @Size(max = 1000, message = "Description must be at most 1000 characters") String description,
+        String trainerId,
+        @NotNull(message = "Start time is required") @Future(message = "Start time must be in the future") LocalDateTime startTime,
+        @NotNull(message = "Duration is required") @Min(value = 15, message = "Duration must be at least 15 minutes") Integer durationMinutes,
+        @NotNull(message = "Capacity is required") @Min(value = 1, message = "Capacity must be at least 1") Integer capacity,
+        String room) {
+}
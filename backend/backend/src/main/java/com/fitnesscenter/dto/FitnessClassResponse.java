@@ -0,0 +1,21 @@
+package com.fitnesscenter.dto;
+
+import com.fitnesscenter.model.FitnessClass;
+import java.time.LocalDateTime;
+
+public record FitnessClassResponse(Long id, String className, String trainerId, LocalDateTime startTime,
+                                   Integer durationMinutes, Integer capacity, String room,
+                                   FitnessClass.ClassStatus status) {
+
+    public static FitnessClassResponse from(FitnessClass fitnessClass) {
+        return new FitnessClassResponse(
+                fitnessClass.getId(),
+                fitnessClass.getClassName(),
+                fitnessClass.getTrainer() != null ? fitnessClass.getTrainer().getTrainerId() : null,
+                fitnessClass.getStartTime(),
+                fitnessClass.getDurationMinutes(),
+                fitnessClass.getCapacity(),
+                fitnessClass.getRoom(),
+                fitnessClass.getStatus());
+    }
+}
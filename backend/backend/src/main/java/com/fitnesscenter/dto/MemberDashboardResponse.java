@@ -0,0 +1,25 @@
+package com.fitnesscenter.dto;
+
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.model.MembershipPlan;
+import com.fitnesscenter.service.MemberDashboardStore.UpcomingSession;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record MemberDashboardResponse(
+        String memberId,
+        String fullName,
+        Member.MemberStatus status,
+        Long planId,
+        String planName,
+        MembershipPlan.PlanType planType,
+        LocalDate expiryDate,
+        Long daysUntilExpiry,
+        LocalDateTime lastCheckInAt,
+        int visitsThisMonth,
+        Integer personalTrainingIncluded,
+        Integer personalTrainingRemaining,
+        LocalDateTime lastPaymentAt,
+        List<UpcomingSession> upcomingSessions) {
+}
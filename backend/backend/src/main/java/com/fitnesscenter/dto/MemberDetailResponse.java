@@ -0,0 +1,28 @@
+package com.fitnesscenter.dto;
+
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.model.MembershipPlan;
+import java.time.LocalDate;
+
+public record MemberDetailResponse(Long id, String memberId, String firstName, String lastName, String email,
+                                   String phoneNumber, String city, Member.MemberStatus status, LocalDate joinDate,
+                                   LocalDate expiryDate, Long planId, String planName, MembershipPlan.PlanType planType) {
+
+    public static MemberDetailResponse from(Member member) {
+        MembershipPlan plan = member.getMembershipPlan();
+        return new MemberDetailResponse(
+                member.getId(),
+                member.getMemberId(),
+                member.getFirstName(),
+                member.getLastName(),
+                member.getEmail(),
+                member.getPhoneNumber(),
+                member.getCity(),
+                member.getStatus(),
+                member.getJoinDate(),
+                member.getExpiryDate(),
+                plan != null ? plan.getId() : null,
+                plan != null ? plan.getPlanName() : null,
+                plan != null ? plan.getPlanType() : null);
+    }
+}
@@ -0,0 +1,4 @@
+package com.fitnesscenter.dto;
+
+public record MemberImportError(long row, String memberId, String message) {
+}
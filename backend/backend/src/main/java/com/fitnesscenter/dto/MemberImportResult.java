@@ -0,0 +1,7 @@
+package com.fitnesscenter.dto;
+
+import java.util.List;
+
+public record MemberImportResult(long totalRows, long imported, long failed, List<MemberImportError> errors,
+                                 boolean errorsTruncated, double elapsedMillis) {
+}
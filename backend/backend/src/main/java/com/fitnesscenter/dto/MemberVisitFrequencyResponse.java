@@ -0,0 +1,9 @@
+package com.fitnesscenter.dto;
+
+import com.fitnesscenter.model.CheckIn;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public record MemberVisitFrequencyResponse(String memberId, long visits, Map<CheckIn.Facility, Long> visitsByFacility,
+                                           double visitsPerWeek, LocalDateTime firstVisit, LocalDateTime lastVisit) {
+}
@@ -0,0 +1,8 @@
+package com.fitnesscenter.dto;
+
+import com.fitnesscenter.model.CheckIn;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public record OccupancySnapshot(Map<CheckIn.Facility, Long> occupancy, long version, LocalDateTime asOf) {
+}
@@ -0,0 +1,17 @@
+package com.fitnesscenter.dto;
+
+import com.fitnesscenter.model.MembershipPayment;
+import jakarta.validation.constraints.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record PaymentRequest(
+        @NotBlank(message = "Member ID is required") String memberId,
+        @NotNull(message = "Amount is required") @DecimalMin(value = "0.0", message = "Amount cannot be negative") BigDecimal amount,
+        @DecimalMin(value = "0.0", message = "Setup fee cannot be negative") BigDecimal setupFee,
+        @NotNull(message = "Payment method is required") MembershipPayment.PaymentMethod paymentMethod,
+        MembershipPayment.PaymentStatus status,
+        LocalDate periodStart,
+        LocalDate periodEnd,
+        @Size(max = 100, message = "Transaction ID must be at most 100 characters") String transactionId) {
+}
@@ -0,0 +1,24 @@
+package com.fitnesscenter.dto;
+
+import com.fitnesscenter.model.MembershipPayment;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record PaymentResponse(Long id, String memberId, Long planId, BigDecimal amount, BigDecimal setupFee,
+                              MembershipPayment.PaymentStatus status, LocalDateTime paymentDate,
+                              LocalDate periodStart, LocalDate periodEnd) {
+
+    public static PaymentResponse from(MembershipPayment payment) {
+        return new PaymentResponse(
+                payment.getId(),
+                payment.getMember().getMemberId(),
+                payment.getMembershipPlan() != null ? payment.getMembershipPlan().getId() : null,
+                payment.getAmount(),
+                payment.getSetupFee(),
+                payment.getStatus(),
+                payment.getPaymentDate(),
+                payment.getPeriodStart(),
+                payment.getPeriodEnd());
+    }
+}
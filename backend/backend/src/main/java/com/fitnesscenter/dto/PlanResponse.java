@@ -0,0 +1,27 @@
+package com.fitnesscenter.dto;
+
+import com.fitnesscenter.model.MembershipPlan;
+import java.math.BigDecimal;
+
+public record PlanResponse(Long id, String planName, String description, MembershipPlan.PlanType planType,
+                           BigDecimal price, BigDecimal setupFee, Integer durationMonths, Boolean gymAccess,
+                           Boolean poolAccess, Boolean groupClassesIncluded, Integer personalTrainingSessions,
+                           Integer guestPasses, String features) {
+
+    public static PlanResponse from(MembershipPlan plan) {
+        return new PlanResponse(
+                plan.getId(),
+                plan.getPlanName(),
+                plan.getDescription(),
+                plan.getPlanType(),
+                plan.getPrice(),
+                plan.getSetupFee(),
+                plan.getDurationMonths(),
+                plan.getGymAccess(),
+                plan.getPoolAccess(),
+                plan.getGroupClassesIncluded(),
+                plan.getPersonalTrainingSessions(),
+                plan.getGuestPasses(),
+                plan.getFeatures());
+    }
+}
@@ -0,0 +1,4 @@
+package com.fitnesscenter.dto;
+
+public record ProfileImageResponse(String imageUrl, String thumbnailUrl, long sizeBytes) {
+}
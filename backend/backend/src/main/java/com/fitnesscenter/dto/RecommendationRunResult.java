@@ -0,0 +1,4 @@
+package com.fitnesscenter.dto;
+
+public record RecommendationRunResult(long members, long recommendations, int staleRowsRemoved, long elapsedMillis) {
+}
@@ -0,0 +1,7 @@
+package com.fitnesscenter.dto;
+
+import java.time.YearMonth;
+import java.util.Map;
+
+public record RevenueRebuildResult(YearMonth from, YearMonth to, Map<YearMonth, Integer> bucketsPerMonth, long elapsedMillis) {
+}
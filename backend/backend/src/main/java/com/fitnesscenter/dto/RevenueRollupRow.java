@@ -0,0 +1,21 @@
+package com.fitnesscenter.dto;
+
+import com.fitnesscenter.model.MembershipPayment;
+import com.fitnesscenter.model.MembershipPlan;
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+public record RevenueRollupRow(
+        YearMonth month,
+        Long planId,
+        String planName,
+        MembershipPlan.PlanType planType,
+        MembershipPayment.PaymentStatus status,
+        long paymentCount,
+        BigDecimal amountTotal,
+        BigDecimal setupFeeTotal) {
+
+    public BigDecimal getRevenue() {
+        return amountTotal.add(setupFeeTotal);
+    }
+}
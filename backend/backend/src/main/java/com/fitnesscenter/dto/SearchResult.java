@@ -0,0 +1,14 @@
+package com.fitnesscenter.dto;
+
+import com.fitnesscenter.service.SearchIndex.DocumentType;
+import com.fitnesscenter.service.SearchIndex.Hit;
+
+public record SearchResult(DocumentType type, Long id, String code, String fullName, String email,
+                           String phoneNumber, String status, int score) {
+
+    public static SearchResult from(Hit hit) {
+        return new SearchResult(hit.document().type(), hit.document().id(), hit.document().code(),
+                hit.document().fullName(), hit.document().email(), hit.document().phoneNumber(),
+                hit.document().status(), hit.score());
+    }
+}
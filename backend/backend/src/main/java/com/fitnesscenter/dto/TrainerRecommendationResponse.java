@@ -0,0 +1,13 @@
+package com.fitnesscenter.dto;
+
+import com.fitnesscenter.service.TrainerMatchIndex.Match;
+
+public record TrainerRecommendationResponse(Long id, String trainerId, String fullName, String specialization,
+                                            Integer yearsExperience, Double hourlyRate, double score) {
+
+    public static TrainerRecommendationResponse from(Match match) {
+        return new TrainerRecommendationResponse(match.trainer().id(), match.trainer().trainerId(),
+                match.trainer().fullName(), match.trainer().specialization(), match.trainer().yearsExperience(),
+                match.trainer().hourlyRate(), match.score());
+    }
+}
@@ -0,0 +1,11 @@
+package com.fitnesscenter.event;
+
+import com.fitnesscenter.model.CheckIn;
+
+public sealed interface AttendanceEvent permits CheckInEvent, CheckOutEvent {
+    String memberId();
+
+    CheckIn.Facility facility();
+
+    String deviceId();
+}
@@ -0,0 +1,9 @@
+package com.fitnesscenter.event;
+
+import java.util.List;
+
+// Published by the check-in flusher after a batch is written. Holds only the swipes that changed
+// a row, in arrival order: check-ins for unknown members, check-outs without an open visit and
+// runs that failed to write are left out.
+public record AttendancePersistedEvent(List<AttendanceEvent> events) {
+}
@@ -0,0 +1,8 @@
+package com.fitnesscenter.event;
+
+import com.fitnesscenter.model.CheckIn;
+import java.time.LocalDateTime;
+
+public record CheckInEvent(String memberId, CheckIn.Facility facility, LocalDateTime checkInTime, String deviceId)
+        implements AttendanceEvent {
+}
@@ -0,0 +1,7 @@
+package com.fitnesscenter.event;
+
+import com.fitnesscenter.model.EntitlementBalance;
+
+// Published after a ledger change commits; the ledger is written through JDBC only.
+public record EntitlementsChangedEvent(Long memberId, EntitlementBalance.EntitlementType type) {
+}
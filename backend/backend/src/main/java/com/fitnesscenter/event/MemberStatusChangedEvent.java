@@ -0,0 +1,9 @@
+package com.fitnesscenter.event;
+
+import com.fitnesscenter.model.Member;
+import java.util.List;
+
+// Published after bulk JDBC status updates, which bypass the entity listeners.
+public record MemberStatusChangedEvent(List<Long> memberIds, Member.MemberStatus previousStatus,
+                                       Member.MemberStatus status) {
+}
@@ -0,0 +1,9 @@
+package com.fitnesscenter.event;
+
+import com.fitnesscenter.model.Member;
+import java.util.List;
+
+// Published after each committed import batch. The bulk insert bypasses entity listeners,
+// so in-memory views update from these detached members instead.
+public record MembersImportedEvent(List<Member> members) {
+}
@@ -0,0 +1,9 @@
+package com.fitnesscenter.exception;
+
+// The request is valid but clashes with the current state, e.g. a run already in progress or a
+// class that is not open for booking; answered with 409
+public class ConflictException extends RuntimeException {
+    public ConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,48 @@
+package com.fitnesscenter.listener;
+
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.model.MembershipPlan;
+import com.fitnesscenter.service.AccessIndex;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AccessIndexEntityListener {
+    private final AccessIndex accessIndex;
+
+    public AccessIndexEntityListener(AccessIndex accessIndex) {
+        this.accessIndex = accessIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Object entity) {
+        if (entity instanceof Member member) {
+            Long id = member.getId();
+            String memberId = member.getMemberId();
+            // getId() on a lazy proxy does not initialize the plan
+            Long planId = member.getMembershipPlan() != null ? member.getMembershipPlan().getId() : null;
+            Member.MemberStatus status = member.getStatus();
+            TransactionCallbacks.afterCommit(() -> accessIndex.putMember(id, memberId, planId, status));
+        } else if (entity instanceof MembershipPlan plan) {
+            Long id = plan.getId();
+            MembershipPlan.PlanStatus status = plan.getStatus();
+            Boolean gymAccess = plan.getGymAccess();
+            Boolean poolAccess = plan.getPoolAccess();
+            TransactionCallbacks.afterCommit(() -> accessIndex.putPlan(id, status, gymAccess, poolAccess));
+        }
+    }
+
+    @PostRemove
+    public void onRemoved(Object entity) {
+        if (entity instanceof Member member) {
+            Long id = member.getId();
+            TransactionCallbacks.afterCommit(() -> accessIndex.removeMember(id));
+        } else if (entity instanceof MembershipPlan plan) {
+            Long id = plan.getId();
+            TransactionCallbacks.afterCommit(() -> accessIndex.removePlan(id));
+        }
+    }
+}
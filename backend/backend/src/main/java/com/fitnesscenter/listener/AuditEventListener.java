@@ -0,0 +1,136 @@
+package com.fitnesscenter.listener;
+
+import com.fitnesscenter.model.AuditLogEntry;
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.model.MembershipPlan;
+import com.fitnesscenter.model.Trainer;
+import com.fitnesscenter.service.AuditService;
+import com.fitnesscenter.service.AuditService.Change;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.type.Type;
+import org.springframework.stereotype.Component;
+
+// Hibernate (not JPA) listener because the diff needs the previous state, which JPA callbacks
+// do not expose. Registered in HibernateListenerConfig; AuditService holds the entries until commit.
+@Component
+public class AuditEventListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+    // Maintained by the entities themselves on every write
+    private static final Set<String> IGNORED_PROPERTIES = Set.of("createdAt", "updatedAt");
+
+    private final AuditService auditService;
+
+    public AuditEventListener(AuditService auditService) {
+        this.auditService = auditService;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        AuditLogEntry.EntityType type = entityType(event.getEntity());
+        if (type != null) {
+            record(type, event.getId(), AuditLogEntry.Action.CREATE,
+                    diff(event.getPersister(), null, event.getState(), null));
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        AuditLogEntry.EntityType type = entityType(event.getEntity());
+        if (type == null) {
+            return;
+        }
+        Map<String, Change> changes = diff(event.getPersister(), event.getOldState(), event.getState(),
+                event.getDirtyProperties());
+        // Touching only the timestamps is not a change worth keeping
+        if (!changes.isEmpty()) {
+            record(type, event.getId(), AuditLogEntry.Action.UPDATE, changes);
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        AuditLogEntry.EntityType type = entityType(event.getEntity());
+        if (type != null) {
+            record(type, event.getId(), AuditLogEntry.Action.DELETE,
+                    diff(event.getPersister(), event.getDeletedState(), null, null));
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void record(AuditLogEntry.EntityType type, Object id, AuditLogEntry.Action action,
+                        Map<String, Change> changes) {
+        auditService.record(type, ((Number) id).longValue(), action, changes);
+    }
+
+    private static AuditLogEntry.EntityType entityType(Object entity) {
+        if (entity instanceof Member) {
+            return AuditLogEntry.EntityType.MEMBER;
+        }
+        if (entity instanceof Trainer) {
+            return AuditLogEntry.EntityType.TRAINER;
+        }
+        if (entity instanceof MembershipPlan) {
+            return AuditLogEntry.EntityType.MEMBERSHIP_PLAN;
+        }
+        return null;
+    }
+
+    // Either state may be null (insert, delete, or an update of a detached entity without a snapshot);
+    // then every non-null value on the other side is recorded.
+    private static Map<String, Change> diff(EntityPersister persister, Object[] oldState, Object[] state,
+                                            int[] dirtyProperties) {
+        String[] names = persister.getPropertyNames();
+        Type[] types = persister.getPropertyTypes();
+        Map<String, Change> changes = new LinkedHashMap<>();
+        if (dirtyProperties != null && oldState != null && state != null) {
+            for (int i : dirtyProperties) {
+                addChange(changes, names[i], types[i], oldState[i], state[i]);
+            }
+            return changes;
+        }
+        for (int i = 0; i < names.length; i++) {
+            addChange(changes, names[i], types[i], oldState != null ? oldState[i] : null,
+                    state != null ? state[i] : null);
+        }
+        return changes;
+    }
+
+    private static void addChange(Map<String, Change> changes, String name, Type type, Object before, Object after) {
+        if (type.isCollectionType() || IGNORED_PROPERTIES.contains(name)) {
+            return;
+        }
+        Object from = type.isEntityType() ? referenceId(before) : before;
+        Object to = type.isEntityType() ? referenceId(after) : after;
+        if (!Objects.equals(from, to)) {
+            changes.put(name, new Change(from, to));
+        }
+    }
+
+    // Associations are recorded by id; reading it from a proxy does not initialize it
+    private static Object referenceId(Object reference) {
+        if (reference instanceof HibernateProxy proxy) {
+            return proxy.getHibernateLazyInitializer().getInternalIdentifier();
+        }
+        if (reference instanceof MembershipPlan plan) {
+            return plan.getId();
+        }
+        if (reference instanceof Member member) {
+            return member.getId();
+        }
+        return reference;
+    }
+}
@@ -0,0 +1,30 @@
+package com.fitnesscenter.listener;
+
+import com.fitnesscenter.model.FitnessClass;
+import com.fitnesscenter.service.ClassBookingService;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ClassBookingEntityListener {
+    // Resolved lazily: the service reads through JDBC, which is initialized after the entity manager
+    private final ObjectProvider<ClassBookingService> bookingService;
+
+    public ClassBookingEntityListener(ObjectProvider<ClassBookingService> bookingService) {
+        this.bookingService = bookingService;
+    }
+
+    @PostUpdate
+    public void onUpdated(FitnessClass fitnessClass) {
+        Long id = fitnessClass.getId();
+        TransactionCallbacks.afterCommit(() -> bookingService.getObject().refreshClass(id));
+    }
+
+    @PostRemove
+    public void onRemoved(FitnessClass fitnessClass) {
+        Long id = fitnessClass.getId();
+        TransactionCallbacks.afterCommit(() -> bookingService.getObject().evictClass(id));
+    }
+}
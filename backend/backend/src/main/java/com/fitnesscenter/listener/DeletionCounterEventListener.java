@@ -0,0 +1,29 @@
+package com.fitnesscenter.listener;
+
+import com.fitnesscenter.repository.ResourceVersionRepository;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+// Counts entity deletes per table for the conditional GET fingerprints. Runs during the flush,
+// so the counter commits or rolls back with the delete. Registered in HibernateListenerConfig.
+@Component
+public class DeletionCounterEventListener implements PostDeleteEventListener {
+    private final ResourceVersionRepository versionRepository;
+
+    public DeletionCounterEventListener(ResourceVersionRepository versionRepository) {
+        this.versionRepository = versionRepository;
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        // Joined subclasses delete from several tables; the fingerprints read the one holding the id
+        versionRepository.recordDeletion(event.getPersister().getIdentifierTableDetails().getTableName());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+}
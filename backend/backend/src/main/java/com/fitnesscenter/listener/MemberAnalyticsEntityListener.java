@@ -0,0 +1,38 @@
+package com.fitnesscenter.listener;
+
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.model.MembershipPlan;
+import com.fitnesscenter.service.MemberAnalyticsService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MemberAnalyticsEntityListener {
+    private final ObjectProvider<MemberAnalyticsService> analyticsService;
+
+    public MemberAnalyticsEntityListener(ObjectProvider<MemberAnalyticsService> analyticsService) {
+        this.analyticsService = analyticsService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Object entity) {
+        if (entity instanceof Member member) {
+            Long id = member.getId();
+            TransactionCallbacks.afterCommit(() -> analyticsService.getObject().onMemberSaved(id));
+        } else if (entity instanceof MembershipPlan) {
+            TransactionCallbacks.afterCommit(() -> analyticsService.getObject().onPlanSaved());
+        }
+    }
+
+    @PostRemove
+    public void onRemoved(Object entity) {
+        if (entity instanceof Member member) {
+            Long id = member.getId();
+            TransactionCallbacks.afterCommit(() -> analyticsService.getObject().onMemberRemoved(id));
+        }
+    }
+}
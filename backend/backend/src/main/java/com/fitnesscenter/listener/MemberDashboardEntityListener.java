@@ -0,0 +1,60 @@
+package com.fitnesscenter.listener;
+
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.model.MembershipPayment;
+import com.fitnesscenter.model.MembershipPlan;
+import com.fitnesscenter.model.WorkoutSession;
+import com.fitnesscenter.service.MemberDashboardService;
+import com.fitnesscenter.service.MemberDashboardStore.PlanInfo;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+// Payments and sessions only reference the member; reading the id of a lazy proxy does not load it
+@Component
+public class MemberDashboardEntityListener {
+    private final ObjectProvider<MemberDashboardService> dashboardService;
+
+    public MemberDashboardEntityListener(ObjectProvider<MemberDashboardService> dashboardService) {
+        this.dashboardService = dashboardService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Object entity) {
+        if (entity instanceof MembershipPlan plan) {
+            PlanInfo info = new PlanInfo(plan.getId(), plan.getPlanName(), plan.getPlanType(),
+                    plan.getDurationMonths(), plan.getPersonalTrainingSessions());
+            TransactionCallbacks.afterCommit(() -> dashboardService.getObject().onPlanSaved(info));
+        } else {
+            refresh(entity);
+        }
+    }
+
+    @PostRemove
+    public void onRemoved(Object entity) {
+        if (entity instanceof Member member) {
+            Long id = member.getId();
+            TransactionCallbacks.afterCommit(() -> dashboardService.getObject().onMemberRemoved(id));
+        } else {
+            refresh(entity);
+        }
+    }
+
+    private void refresh(Object entity) {
+        Member member = null;
+        if (entity instanceof Member saved) {
+            member = saved;
+        } else if (entity instanceof MembershipPayment payment) {
+            member = payment.getMember();
+        } else if (entity instanceof WorkoutSession session) {
+            member = session.getMember();
+        }
+        if (member != null) {
+            Long id = member.getId();
+            TransactionCallbacks.afterCommit(() -> dashboardService.getObject().requestRefresh(id));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.fitnesscenter.listener;
+
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.model.MembershipPlan;
+import com.fitnesscenter.service.MembershipExpiryService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import java.time.LocalDate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MembershipExpiryEntityListener {
+    private final ObjectProvider<MembershipExpiryService> expiryService;
+
+    public MembershipExpiryEntityListener(ObjectProvider<MembershipExpiryService> expiryService) {
+        this.expiryService = expiryService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Object entity) {
+        if (entity instanceof Member member) {
+            Long id = member.getId();
+            Member.MemberStatus status = member.getStatus();
+            LocalDate joinDate = member.getJoinDate();
+            LocalDate expiryDate = member.getExpiryDate();
+            Long planId = member.getMembershipPlan() != null ? member.getMembershipPlan().getId() : null;
+            TransactionCallbacks.afterCommit(() ->
+                    expiryService.getObject().onMemberSaved(id, status, joinDate, expiryDate, planId));
+        } else if (entity instanceof MembershipPlan plan) {
+            Long id = plan.getId();
+            Integer durationMonths = plan.getDurationMonths();
+            TransactionCallbacks.afterCommit(() -> expiryService.getObject().onPlanSaved(id, durationMonths));
+        }
+    }
+
+    @PostRemove
+    public void onRemoved(Object entity) {
+        if (entity instanceof Member member) {
+            Long id = member.getId();
+            TransactionCallbacks.afterCommit(() -> expiryService.getObject().onMemberRemoved(id));
+        }
+    }
+}
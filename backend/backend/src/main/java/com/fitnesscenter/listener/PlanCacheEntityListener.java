@@ -0,0 +1,28 @@
+package com.fitnesscenter.listener;
+
+import com.fitnesscenter.model.MembershipPlan;
+import com.fitnesscenter.service.MembershipPlanService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+// A plan that is created, changes status or is removed moves in or out of the active catalogue
+@Component
+public class PlanCacheEntityListener {
+    private final ObjectProvider<MembershipPlanService> planService;
+
+    public PlanCacheEntityListener(ObjectProvider<MembershipPlanService> planService) {
+        this.planService = planService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChanged(Object entity) {
+        if (entity instanceof MembershipPlan) {
+            TransactionCallbacks.afterCommit(() -> planService.getObject().evictActiveCatalogue());
+        }
+    }
+}
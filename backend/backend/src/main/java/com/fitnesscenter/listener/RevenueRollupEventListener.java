@@ -0,0 +1,87 @@
+package com.fitnesscenter.listener;
+
+import com.fitnesscenter.model.MembershipPayment;
+import com.fitnesscenter.model.MembershipPlan;
+import com.fitnesscenter.repository.RevenueRollupRepository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+// Hibernate (not JPA) listener because updates need the previous state to move a payment
+// out of its old bucket. Registered in HibernateListenerConfig.
+@Component
+public class RevenueRollupEventListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+    private final RevenueRollupRepository rollupRepository;
+
+    public RevenueRollupEventListener(RevenueRollupRepository rollupRepository) {
+        this.rollupRepository = rollupRepository;
+    }
+
+    private record Bucket(Long planId, YearMonth month, MembershipPayment.PaymentStatus status,
+                          BigDecimal amount, BigDecimal setupFee) {}
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof MembershipPayment) {
+            apply(bucket(event.getPersister(), event.getState()), 1);
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof MembershipPayment && event.getOldState() != null) {
+            Bucket before = bucket(event.getPersister(), event.getOldState());
+            Bucket after = bucket(event.getPersister(), event.getState());
+            if (!before.equals(after)) {
+                apply(before, -1);
+                apply(after, 1);
+            }
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof MembershipPayment) {
+            apply(bucket(event.getPersister(), event.getDeletedState()), -1);
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void apply(Bucket bucket, int sign) {
+        if (bucket == null) {
+            return;
+        }
+        BigDecimal signum = BigDecimal.valueOf(sign);
+        rollupRepository.applyDelta(bucket.planId(), bucket.month(), bucket.status(), sign,
+                bucket.amount().multiply(signum), bucket.setupFee().multiply(signum));
+    }
+
+    private static Bucket bucket(EntityPersister persister, Object[] state) {
+        List<String> names = Arrays.asList(persister.getPropertyNames());
+        LocalDateTime paymentDate = (LocalDateTime) state[names.indexOf("paymentDate")];
+        MembershipPayment.PaymentStatus status = (MembershipPayment.PaymentStatus) state[names.indexOf("status")];
+        BigDecimal amount = (BigDecimal) state[names.indexOf("amount")];
+        if (paymentDate == null || status == null || amount == null) {
+            return null;
+        }
+        BigDecimal setupFee = (BigDecimal) state[names.indexOf("setupFee")];
+        // getId() on an uninitialized proxy does not hit the database
+        MembershipPlan plan = (MembershipPlan) state[names.indexOf("membershipPlan")];
+        return new Bucket(plan != null ? plan.getId() : null, YearMonth.from(paymentDate), status,
+                amount, setupFee != null ? setupFee : BigDecimal.ZERO);
+    }
+}
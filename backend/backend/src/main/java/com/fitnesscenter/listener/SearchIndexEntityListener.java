@@ -0,0 +1,45 @@
+package com.fitnesscenter.listener;
+
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.model.Trainer;
+import com.fitnesscenter.service.SearchIndex;
+import com.fitnesscenter.service.SearchService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SearchIndexEntityListener {
+    private final SearchIndex searchIndex;
+
+    public SearchIndexEntityListener(SearchIndex searchIndex) {
+        this.searchIndex = searchIndex;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Object entity) {
+        SearchIndex.SearchDocument document = null;
+        if (entity instanceof Member member) {
+            document = SearchService.document(member);
+        } else if (entity instanceof Trainer trainer) {
+            document = SearchService.document(trainer);
+        }
+        if (document != null) {
+            SearchIndex.SearchDocument indexed = document;
+            TransactionCallbacks.afterCommit(() -> searchIndex.put(indexed));
+        }
+    }
+
+    @PostRemove
+    public void onRemoved(Object entity) {
+        if (entity instanceof Member member) {
+            Long id = member.getId();
+            TransactionCallbacks.afterCommit(() -> searchIndex.remove(SearchIndex.DocumentType.MEMBER, id));
+        } else if (entity instanceof Trainer trainer) {
+            Long id = trainer.getId();
+            TransactionCallbacks.afterCommit(() -> searchIndex.remove(SearchIndex.DocumentType.TRAINER, id));
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.fitnesscenter.listener;
+
+import com.fitnesscenter.model.Trainer;
+import com.fitnesscenter.model.TrainerAvailability;
+import com.fitnesscenter.model.WorkoutSession;
+import com.fitnesscenter.service.TrainerAvailabilityService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TrainerAvailabilityEntityListener {
+    // Resolved lazily: the service reads through JDBC, which is initialized after the entity manager
+    private final ObjectProvider<TrainerAvailabilityService> availabilityService;
+
+    public TrainerAvailabilityEntityListener(ObjectProvider<TrainerAvailabilityService> availabilityService) {
+        this.availabilityService = availabilityService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChanged(Object entity) {
+        Long trainerId = trainerId(entity);
+        if (trainerId != null) {
+            TransactionCallbacks.afterCommit(() -> availabilityService.getObject().refreshTrainer(trainerId));
+        }
+    }
+
+    private static Long trainerId(Object entity) {
+        if (entity instanceof Trainer trainer) {
+            return trainer.getId();
+        }
+        Trainer trainer = null;
+        if (entity instanceof TrainerAvailability availability) {
+            trainer = availability.getTrainer();
+        } else if (entity instanceof WorkoutSession session) {
+            trainer = session.getTrainer();
+        }
+        return trainer != null ? trainer.getId() : null;
+    }
+}
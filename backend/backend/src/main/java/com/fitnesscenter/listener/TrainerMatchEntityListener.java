@@ -0,0 +1,27 @@
+package com.fitnesscenter.listener;
+
+import com.fitnesscenter.model.Trainer;
+import com.fitnesscenter.service.TrainerRecommendationService;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TrainerMatchEntityListener {
+    // Resolved lazily: the service reads through JDBC, which is initialized after the entity manager
+    private final ObjectProvider<TrainerRecommendationService> recommendationService;
+
+    public TrainerMatchEntityListener(ObjectProvider<TrainerRecommendationService> recommendationService) {
+        this.recommendationService = recommendationService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChanged(Trainer trainer) {
+        Long id = trainer.getId();
+        TransactionCallbacks.afterCommit(() -> recommendationService.getObject().refreshTrainer(id));
+    }
+}
@@ -0,0 +1,23 @@
+package com.fitnesscenter.listener;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+final class TransactionCallbacks {
+    private TransactionCallbacks() {}
+
+    // Runs the action once the surrounding transaction commits, or right away outside one,
+    // so in-memory views never see changes that are later rolled back.
+    static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
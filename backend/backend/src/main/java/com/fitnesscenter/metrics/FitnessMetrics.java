@@ -0,0 +1,80 @@
+package com.fitnesscenter.metrics;
+
+import com.fitnesscenter.config.MetricsProperties;
+import com.fitnesscenter.service.AccessDecision;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+// Application timers. Meters are registered once up front so the request path only touches
+// fields, never the registry's meter lookup.
+@Component
+public class FitnessMetrics {
+    private final MeterRegistry registry;
+    private final int sampleRate;
+    private final Timer checkInAllowed;
+    private final Timer checkInDenied;
+    private final Map<AccessDecision, Counter> checkInDecisions = new EnumMap<>(AccessDecision.class);
+    private final Timer memberLookup;
+    private final Timer planRead;
+    private final Timer paymentRecord;
+    private final Timer paymentStatusUpdate;
+
+    public FitnessMetrics(MeterRegistry registry, MetricsProperties properties) {
+        this.registry = registry;
+        this.sampleRate = Math.max(1, properties.getHotPathSampleRate());
+        this.checkInAllowed = timer("fitness.check-in", "Sampled check-in handling time", "outcome", "allowed");
+        this.checkInDenied = timer("fitness.check-in", "Sampled check-in handling time", "outcome", "denied");
+        for (AccessDecision decision : AccessDecision.values()) {
+            checkInDecisions.put(decision, Counter.builder("fitness.check-in.decisions")
+                    .description("Check-in access decisions")
+                    .tag("decision", decision.name())
+                    .register(registry));
+        }
+        this.memberLookup = timer("fitness.member.lookup", "Member detail reads", "source", "database");
+        this.planRead = timer("fitness.plan.read", "Plan catalogue reads", "view", "catalogue");
+        this.paymentRecord = timer("fitness.payment.write", "Payment writes", "operation", "record");
+        this.paymentStatusUpdate = timer("fitness.payment.write", "Payment writes", "operation", "status");
+    }
+
+    // Returns null for calls outside the sample so the caller skips the clock reads as well.
+    public Timer.Sample startHotPathSample() {
+        return ThreadLocalRandom.current().nextInt(sampleRate) == 0 ? Timer.start(registry) : null;
+    }
+
+    public void checkInDecided(Timer.Sample sample, AccessDecision decision) {
+        checkInDecisions.get(decision).increment();
+        if (sample != null) {
+            sample.stop(decision.isAllowed() ? checkInAllowed : checkInDenied);
+        }
+    }
+
+    public <T> T timeMemberLookup(Supplier<T> lookup) {
+        return memberLookup.record(lookup);
+    }
+
+    public <T> T timePlanRead(Supplier<T> read) {
+        return planRead.record(read);
+    }
+
+    public <T> T timePaymentRecord(Supplier<T> write) {
+        return paymentRecord.record(write);
+    }
+
+    public <T> T timePaymentStatusUpdate(Supplier<T> write) {
+        return paymentStatusUpdate.record(write);
+    }
+
+    private Timer timer(String name, String description, String tagKey, String tagValue) {
+        return Timer.builder(name)
+                .description(description)
+                .tag(tagKey, tagValue)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
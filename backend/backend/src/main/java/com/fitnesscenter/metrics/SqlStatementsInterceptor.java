@@ -0,0 +1,54 @@
+package com.fitnesscenter.metrics;
+
+import com.fitnesscenter.config.QueryCountGuard;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+// Records how many SQL statements Hibernate prepared while serving each request, per URI pattern.
+// Async requests finish on another thread, so only requests served on one thread are recorded.
+public class SqlStatementsInterceptor implements HandlerInterceptor {
+    private static final String START_ATTRIBUTE = SqlStatementsInterceptor.class.getName() + ".start";
+
+    private final MeterRegistry registry;
+    // One summary per method and URI pattern, registered on first use and then only recorded into
+    private final Map<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public SqlStatementsInterceptor(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.REQUEST) {
+            request.setAttribute(START_ATTRIBUTE, QueryCountGuard.currentThreadStatements());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getDispatcherType() != DispatcherType.REQUEST
+                || !(request.getAttribute(START_ATTRIBUTE) instanceof Long start)) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        summary(request.getMethod(), pattern != null ? pattern.toString() : "UNKNOWN")
+                .record(QueryCountGuard.currentThreadStatements() - start);
+    }
+
+    private DistributionSummary summary(String method, String uri) {
+        return summaries.computeIfAbsent(method + ' ' + uri, key -> DistributionSummary
+                .builder("fitness.http.sql.statements")
+                .description("SQL statements prepared per request")
+                .tag("uri", uri)
+                .tag("method", method)
+                .register(registry));
+    }
+}
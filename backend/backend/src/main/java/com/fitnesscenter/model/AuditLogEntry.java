@@ -0,0 +1,58 @@
+package com.fitnesscenter.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import org.hibernate.annotations.Immutable;
+
+// Append-only change history. Rows are moved here from audit_outbox in JDBC batches by AuditService
+// and never updated.
+@Entity
+@Immutable
+@Table(name = "audit_log", indexes = {
+    @Index(name = "idx_audit_log_entity_time", columnList = "entity_type, entity_id, changed_at"),
+    @Index(name = "idx_audit_log_time", columnList = "changed_at")
+})
+public class AuditLogEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 32)
+    private EntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Action action;
+
+    // JSON object of changed fields: {"field": {"from": old, "to": new}}
+    @Column(length = 8000)
+    private String changes;
+
+    @Column(length = 100)
+    private String actor;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    public enum EntityType {
+        MEMBER, TRAINER, MEMBERSHIP_PLAN
+    }
+
+    public enum Action {
+        CREATE, UPDATE, DELETE
+    }
+
+    public AuditLogEntry() {}
+
+    public Long getId() { return id; }
+    public EntityType getEntityType() { return entityType; }
+    public Long getEntityId() { return entityId; }
+    public Action getAction() { return action; }
+    public String getChanges() { return changes; }
+    public String getActor() { return actor; }
+    public LocalDateTime getChangedAt() { return changedAt; }
+}
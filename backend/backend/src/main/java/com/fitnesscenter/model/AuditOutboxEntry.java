@@ -0,0 +1,46 @@
+package com.fitnesscenter.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import org.hibernate.annotations.Immutable;
+
+// Audit entries waiting to be moved to audit_log. AuditService writes each one in the transaction
+// of the change it describes, so an entry exists exactly when its change was committed.
+@Entity
+@Immutable
+@Table(name = "audit_outbox")
+public class AuditOutboxEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 32)
+    private AuditLogEntry.EntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private AuditLogEntry.Action action;
+
+    @Column(length = 8000)
+    private String changes;
+
+    @Column(length = 100)
+    private String actor;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    public AuditOutboxEntry() {}
+
+    public Long getId() { return id; }
+    public AuditLogEntry.EntityType getEntityType() { return entityType; }
+    public Long getEntityId() { return entityId; }
+    public AuditLogEntry.Action getAction() { return action; }
+    public String getChanges() { return changes; }
+    public String getActor() { return actor; }
+    public LocalDateTime getChangedAt() { return changedAt; }
+}
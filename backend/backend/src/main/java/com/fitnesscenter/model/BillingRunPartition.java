@@ -0,0 +1,98 @@
+package com.fitnesscenter.model;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Checkpoint of one member id range in a renewal billing run. resumeAfter moves in the same
+// transaction as the payments of each chunk, so a restarted run continues exactly where the
+// last committed chunk ended. Only written through BillingRunRepository.
+@Entity
+@Table(name = "billing_run_partitions", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_billing_run_partitions", columnNames = {"billing_period", "partition_index"})
+})
+public class BillingRunPartition {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "billing_period", nullable = false, length = 7)
+    private String billingPeriod;
+
+    @Column(name = "partition_index", nullable = false)
+    private Integer partitionIndex;
+
+    // Inclusive member id range
+    @Column(name = "first_member_id", nullable = false)
+    private Long firstMemberId;
+
+    @Column(name = "last_member_id", nullable = false)
+    private Long lastMemberId;
+
+    // Last member id whose chunk has been committed
+    @Column(name = "resume_after", nullable = false)
+    private Long resumeAfter;
+
+    @Column(nullable = false)
+    private Integer billed;
+
+    @Column(nullable = false)
+    private Integer skipped;
+
+    @Column(name = "amount_total", precision = 14, scale = 2, nullable = false)
+    private BigDecimal amountTotal;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PartitionStatus status;
+
+    @Column(length = 1000)
+    private String error;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public enum PartitionStatus {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+
+    // Constructors
+    public BillingRunPartition() {}
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getBillingPeriod() { return billingPeriod; }
+    public void setBillingPeriod(String billingPeriod) { this.billingPeriod = billingPeriod; }
+
+    public Integer getPartitionIndex() { return partitionIndex; }
+    public void setPartitionIndex(Integer partitionIndex) { this.partitionIndex = partitionIndex; }
+
+    public Long getFirstMemberId() { return firstMemberId; }
+    public void setFirstMemberId(Long firstMemberId) { this.firstMemberId = firstMemberId; }
+
+    public Long getLastMemberId() { return lastMemberId; }
+    public void setLastMemberId(Long lastMemberId) { this.lastMemberId = lastMemberId; }
+
+    public Long getResumeAfter() { return resumeAfter; }
+    public void setResumeAfter(Long resumeAfter) { this.resumeAfter = resumeAfter; }
+
+    public Integer getBilled() { return billed; }
+    public void setBilled(Integer billed) { this.billed = billed; }
+
+    public Integer getSkipped() { return skipped; }
+    public void setSkipped(Integer skipped) { this.skipped = skipped; }
+
+    public BigDecimal getAmountTotal() { return amountTotal; }
+    public void setAmountTotal(BigDecimal amountTotal) { this.amountTotal = amountTotal; }
+
+    public PartitionStatus getStatus() { return status; }
+    public void setStatus(PartitionStatus status) { this.status = status; }
+
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
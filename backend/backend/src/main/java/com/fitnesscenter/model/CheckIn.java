@@ -0,0 +1,84 @@
+package com.fitnesscenter.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "check_ins", indexes = {
+    @Index(name = "idx_check_ins_member_time", columnList = "member_id, check_in_time"),
+    @Index(name = "idx_check_ins_time", columnList = "check_in_time")
+})
+public class CheckIn {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull(message = "Member is required")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id")
+    private Member member;
+
+    @NotNull(message = "Facility is required")
+    @Enumerated(EnumType.STRING)
+    private Facility facility;
+
+    @NotNull(message = "Check-in time is required")
+    @Column(name = "check_in_time")
+    private LocalDateTime checkInTime;
+
+    @Column(name = "check_out_time")
+    private LocalDateTime checkOutTime;
+
+    @Column(name = "device_id")
+    private String deviceId;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    public enum Facility {
+        GYM, POOL
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (checkInTime == null) {
+            checkInTime = createdAt;
+        }
+        if (facility == null) {
+            facility = Facility.GYM;
+        }
+    }
+
+    // Constructors
+    public CheckIn() {}
+
+    public CheckIn(Member member, Facility facility, LocalDateTime checkInTime) {
+        this.member = member;
+        this.facility = facility;
+        this.checkInTime = checkInTime;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Member getMember() { return member; }
+    public void setMember(Member member) { this.member = member; }
+
+    public Facility getFacility() { return facility; }
+    public void setFacility(Facility facility) { this.facility = facility; }
+
+    public LocalDateTime getCheckInTime() { return checkInTime; }
+    public void setCheckInTime(LocalDateTime checkInTime) { this.checkInTime = checkInTime; }
+
+    public LocalDateTime getCheckOutTime() { return checkOutTime; }
+    public void setCheckOutTime(LocalDateTime checkOutTime) { this.checkOutTime = checkOutTime; }
+
+    public String getDeviceId() { return deviceId; }
+    public void setDeviceId(String deviceId) { this.deviceId = deviceId; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
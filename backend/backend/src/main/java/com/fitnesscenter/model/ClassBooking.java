@@ -0,0 +1,74 @@
+package com.fitnesscenter.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "class_bookings", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_class_bookings_class_member", columnNames = {"fitness_class_id", "member_id"}),
+    @UniqueConstraint(name = "uk_class_bookings_reservation", columnNames = {"reservation_id"})
+})
+public class ClassBooking {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull(message = "Class is required")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "fitness_class_id")
+    private FitnessClass fitnessClass;
+
+    @NotNull(message = "Member is required")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id")
+    private Member member;
+
+    @NotBlank(message = "Reservation ID is required")
+    @Column(name = "reservation_id")
+    private String reservationId;
+
+    @Enumerated(EnumType.STRING)
+    private BookingStatus status;
+
+    @Column(name = "waitlist_position")
+    private Integer waitlistPosition;
+
+    @Column(name = "booked_at")
+    private LocalDateTime bookedAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public enum BookingStatus {
+        CONFIRMED, WAITLISTED, CANCELLED
+    }
+
+    // Constructors
+    public ClassBooking() {}
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public FitnessClass getFitnessClass() { return fitnessClass; }
+    public void setFitnessClass(FitnessClass fitnessClass) { this.fitnessClass = fitnessClass; }
+
+    public Member getMember() { return member; }
+    public void setMember(Member member) { this.member = member; }
+
+    public String getReservationId() { return reservationId; }
+    public void setReservationId(String reservationId) { this.reservationId = reservationId; }
+
+    public BookingStatus getStatus() { return status; }
+    public void setStatus(BookingStatus status) { this.status = status; }
+
+    public Integer getWaitlistPosition() { return waitlistPosition; }
+    public void setWaitlistPosition(Integer waitlistPosition) { this.waitlistPosition = waitlistPosition; }
+
+    public LocalDateTime getBookedAt() { return bookedAt; }
+    public void setBookedAt(LocalDateTime bookedAt) { this.bookedAt = bookedAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -0,0 +1,27 @@
+package com.fitnesscenter.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Rows deleted per table, bumped in the deleting transaction. The fingerprints in
+// ResourceVersionRepository read MAX(id) and MAX(updated_at) instead of counting large tables,
+// and those do not move when a row goes away; this counter does.
+@Entity
+@Table(name = "deletion_counters")
+public class DeletionCounter {
+    @Id
+    @Column(name = "table_name", length = 64)
+    private String tableName;
+
+    @Column(nullable = false)
+    private Long deletions;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public DeletionCounter() {}
+
+    public String getTableName() { return tableName; }
+    public Long getDeletions() { return deletions; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
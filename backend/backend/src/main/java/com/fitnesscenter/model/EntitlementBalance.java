@@ -0,0 +1,72 @@
+package com.fitnesscenter.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Quota and usage of one plan entitlement per member and membership period. Usage is only ever
+// changed by conditional JDBC updates in EntitlementLedgerRepository, never through JPA.
+@Entity
+@Table(name = "entitlement_balances", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_entitlement_balances_period",
+            columnNames = {"member_id", "entitlement_type", "period_start"})
+})
+public class EntitlementBalance {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entitlement_type", nullable = false)
+    private EntitlementType entitlementType;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "period_end", nullable = false)
+    private LocalDate periodEnd;
+
+    @Column(nullable = false)
+    private Integer quota;
+
+    @Column(nullable = false)
+    private Integer used;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public enum EntitlementType {
+        PERSONAL_TRAINING, GUEST_PASS
+    }
+
+    // Constructors
+    public EntitlementBalance() {}
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getMemberId() { return memberId; }
+    public void setMemberId(Long memberId) { this.memberId = memberId; }
+
+    public EntitlementType getEntitlementType() { return entitlementType; }
+    public void setEntitlementType(EntitlementType entitlementType) { this.entitlementType = entitlementType; }
+
+    public LocalDate getPeriodStart() { return periodStart; }
+    public void setPeriodStart(LocalDate periodStart) { this.periodStart = periodStart; }
+
+    public LocalDate getPeriodEnd() { return periodEnd; }
+    public void setPeriodEnd(LocalDate periodEnd) { this.periodEnd = periodEnd; }
+
+    public Integer getQuota() { return quota; }
+    public void setQuota(Integer quota) { this.quota = quota; }
+
+    public Integer getUsed() { return used; }
+    public void setUsed(Integer used) { this.used = used; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
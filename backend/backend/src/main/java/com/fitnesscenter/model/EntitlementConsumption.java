@@ -0,0 +1,88 @@
+package com.fitnesscenter.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// One accepted use of an entitlement, keyed by the client's idempotency key so a retried request
+// is answered from this row instead of being counted twice. Released uses are kept for history.
+@Entity
+@Table(name = "entitlement_consumptions", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_entitlement_consumptions_key", columnNames = {"idempotency_key"})
+}, indexes = {
+    @Index(name = "idx_entitlement_consumptions_member", columnList = "member_id, consumed_at")
+})
+public class EntitlementConsumption {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "idempotency_key", nullable = false, length = 100)
+    private String idempotencyKey;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entitlement_type", nullable = false)
+    private EntitlementBalance.EntitlementType entitlementType;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "period_end", nullable = false)
+    private LocalDate periodEnd;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Column(name = "remaining_after", nullable = false)
+    private Integer remainingAfter;
+
+    private String reference;
+
+    @Column(name = "consumed_at", nullable = false)
+    private LocalDateTime consumedAt;
+
+    @Column(name = "released_at")
+    private LocalDateTime releasedAt;
+
+    // Constructors
+    public EntitlementConsumption() {}
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getIdempotencyKey() { return idempotencyKey; }
+    public void setIdempotencyKey(String idempotencyKey) { this.idempotencyKey = idempotencyKey; }
+
+    public Long getMemberId() { return memberId; }
+    public void setMemberId(Long memberId) { this.memberId = memberId; }
+
+    public EntitlementBalance.EntitlementType getEntitlementType() { return entitlementType; }
+    public void setEntitlementType(EntitlementBalance.EntitlementType entitlementType) {
+        this.entitlementType = entitlementType;
+    }
+
+    public LocalDate getPeriodStart() { return periodStart; }
+    public void setPeriodStart(LocalDate periodStart) { this.periodStart = periodStart; }
+
+    public LocalDate getPeriodEnd() { return periodEnd; }
+    public void setPeriodEnd(LocalDate periodEnd) { this.periodEnd = periodEnd; }
+
+    public Integer getQuantity() { return quantity; }
+    public void setQuantity(Integer quantity) { this.quantity = quantity; }
+
+    public Integer getRemainingAfter() { return remainingAfter; }
+    public void setRemainingAfter(Integer remainingAfter) { this.remainingAfter = remainingAfter; }
+
+    public String getReference() { return reference; }
+    public void setReference(String reference) { this.reference = reference; }
+
+    public LocalDateTime getConsumedAt() { return consumedAt; }
+    public void setConsumedAt(LocalDateTime consumedAt) { this.consumedAt = consumedAt; }
+
+    public LocalDateTime getReleasedAt() { return releasedAt; }
+    public void setReleasedAt(LocalDateTime releasedAt) { this.releasedAt = releasedAt; }
+}
@@ -0,0 +1,123 @@
+package com.fitnesscenter.model;
+
+import com.fitnesscenter.listener.ClassBookingEntityListener;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Entity
+@EntityListeners(ClassBookingEntityListener.class)
+@Table(name = "fitness_classes", indexes = {
+    @Index(name = "idx_fitness_classes_start", columnList = "start_time")
+})
+public class FitnessClass {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotBlank(message = "Class name is required")
+    @Size(min = 2, max = 100, message = "Class name must be between 2 and 100 characters")
+    @Column(name = "class_name")
+    private String className;
+
+    @Column(length = 1000)
+    private String description;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "trainer_id")
+    private Trainer trainer;
+
+    @NotNull(message = "Start time is required")
+    @Column(name = "start_time")
+    private LocalDateTime startTime;
+
+    @NotNull(message = "Duration is required")
+    @Min(value = 15, message = "Duration must be at least 15 minutes")
+    @Column(name = "duration_minutes")
+    private Integer durationMinutes;
+
+    @NotNull(message = "Capacity is required")
+    @Min(value = 1, message = "Capacity must be at least 1")
+    private Integer capacity;
+
+    private String room;
+
+    @Enumerated(EnumType.STRING)
+    private ClassStatus status;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @OneToMany(mappedBy = "fitnessClass", fetch = FetchType.LAZY)
+    private List<ClassBooking> bookings;
+
+    public enum ClassStatus {
+        SCHEDULED, CANCELLED, COMPLETED
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+        if (status == null) {
+            status = ClassStatus.SCHEDULED;
+        }
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    // Constructors
+    public FitnessClass() {}
+
+    public FitnessClass(String className, Trainer trainer, LocalDateTime startTime, Integer durationMinutes, Integer capacity) {
+        this.className = className;
+        this.trainer = trainer;
+        this.startTime = startTime;
+        this.durationMinutes = durationMinutes;
+        this.capacity = capacity;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getClassName() { return className; }
+    public void setClassName(String className) { this.className = className; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+
+    public Trainer getTrainer() { return trainer; }
+    public void setTrainer(Trainer trainer) { this.trainer = trainer; }
+
+    public LocalDateTime getStartTime() { return startTime; }
+    public void setStartTime(LocalDateTime startTime) { this.startTime = startTime; }
+
+    public Integer getDurationMinutes() { return durationMinutes; }
+    public void setDurationMinutes(Integer durationMinutes) { this.durationMinutes = durationMinutes; }
+
+    public Integer getCapacity() { return capacity; }
+    public void setCapacity(Integer capacity) { this.capacity = capacity; }
+
+    public String getRoom() { return room; }
+    public void setRoom(String room) { this.room = room; }
+
+    public ClassStatus getStatus() { return status; }
+    public void setStatus(ClassStatus status) { this.status = status; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public List<ClassBooking> getBookings() { return bookings; }
+    public void setBookings(List<ClassBooking> bookings) { this.bookings = bookings; }
+}
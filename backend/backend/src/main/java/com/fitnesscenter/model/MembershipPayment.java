@@ -0,0 +1,159 @@
+package com.fitnesscenter.model;
+
+import com.fitnesscenter.listener.MemberDashboardEntityListener;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@EntityListeners(MemberDashboardEntityListener.class)
+@Table(name = "membership_payments", indexes = {
+    @Index(name = "idx_membership_payments_member", columnList = "member_id"),
+    @Index(name = "idx_membership_payments_date", columnList = "payment_date")
+}, uniqueConstraints = {
+    // At most one renewal per member and billing run; payments recorded by hand leave it null
+    @UniqueConstraint(name = "uk_membership_payments_billing", columnNames = {"member_id", "billing_period"})
+})
+public class MembershipPayment {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull(message = "Member is required")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id")
+    private Member member;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "membership_plan_id")
+    private MembershipPlan membershipPlan;
+
+    @NotNull(message = "Amount is required")
+    @DecimalMin(value = "0.0", message = "Amount cannot be negative")
+    @Column(precision = 10, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "setup_fee", precision = 8, scale = 2)
+    private BigDecimal setupFee;
+
+    @NotNull(message = "Payment date is required")
+    @Column(name = "payment_date")
+    private LocalDateTime paymentDate;
+
+    @Column(name = "period_start")
+    private LocalDate periodStart;
+
+    @Column(name = "period_end")
+    private LocalDate periodEnd;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "payment_method")
+    private PaymentMethod paymentMethod;
+
+    @Enumerated(EnumType.STRING)
+    private PaymentStatus status;
+
+    @Column(name = "transaction_id")
+    private String transactionId;
+
+    @Column(length = 1000)
+    private String notes;
+
+    // yyyy-MM of the renewal billing run that created the payment
+    @Column(name = "billing_period", length = 7)
+    private String billingPeriod;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public enum PaymentMethod {
+        CASH, CREDIT_CARD, DEBIT_CARD, BANK_TRANSFER, ONLINE
+    }
+
+    public enum PaymentStatus {
+        PENDING, COMPLETED, FAILED, REFUNDED
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+        if (status == null) {
+            status = PaymentStatus.PENDING;
+        }
+        if (paymentDate == null) {
+            paymentDate = createdAt;
+        }
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    // Constructors
+    public MembershipPayment() {}
+
+    public MembershipPayment(Member member, MembershipPlan membershipPlan, BigDecimal amount, PaymentMethod paymentMethod) {
+        this.member = member;
+        this.membershipPlan = membershipPlan;
+        this.amount = amount;
+        this.paymentMethod = paymentMethod;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Member getMember() { return member; }
+    public void setMember(Member member) { this.member = member; }
+
+    public MembershipPlan getMembershipPlan() { return membershipPlan; }
+    public void setMembershipPlan(MembershipPlan membershipPlan) { this.membershipPlan = membershipPlan; }
+
+    public BigDecimal getAmount() { return amount; }
+    public void setAmount(BigDecimal amount) { this.amount = amount; }
+
+    public BigDecimal getSetupFee() { return setupFee; }
+    public void setSetupFee(BigDecimal setupFee) { this.setupFee = setupFee; }
+
+    public LocalDateTime getPaymentDate() { return paymentDate; }
+    public void setPaymentDate(LocalDateTime paymentDate) { this.paymentDate = paymentDate; }
+
+    public LocalDate getPeriodStart() { return periodStart; }
+    public void setPeriodStart(LocalDate periodStart) { this.periodStart = periodStart; }
+
+    public LocalDate getPeriodEnd() { return periodEnd; }
+    public void setPeriodEnd(LocalDate periodEnd) { this.periodEnd = periodEnd; }
+
+    public PaymentMethod getPaymentMethod() { return paymentMethod; }
+    public void setPaymentMethod(PaymentMethod paymentMethod) { this.paymentMethod = paymentMethod; }
+
+    public PaymentStatus getStatus() { return status; }
+    public void setStatus(PaymentStatus status) { this.status = status; }
+
+    public String getTransactionId() { return transactionId; }
+    public void setTransactionId(String transactionId) { this.transactionId = transactionId; }
+
+    public String getNotes() { return notes; }
+    public void setNotes(String notes) { this.notes = notes; }
+
+    public String getBillingPeriod() { return billingPeriod; }
+    public void setBillingPeriod(String billingPeriod) { this.billingPeriod = billingPeriod; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    // Total charged, including the one-off setup fee when present
+    public BigDecimal getTotalAmount() {
+        return setupFee != null ? amount.add(setupFee) : amount;
+    }
+}
@@ -0,0 +1,68 @@
+package com.fitnesscenter.model;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Pre-aggregated payment totals per plan, month and payment status. Rows are maintained with
+// delta updates in the payment's own transaction; membershipPlanId 0 collects payments without a plan.
+@Entity
+@Table(name = "revenue_rollups", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_revenue_rollups_bucket", columnNames = {"membership_plan_id", "period_month", "status"})
+})
+public class RevenueRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "membership_plan_id", nullable = false)
+    private Long membershipPlanId;
+
+    @Column(name = "period_month", nullable = false)
+    private LocalDate periodMonth;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MembershipPayment.PaymentStatus status;
+
+    @Column(name = "payment_count", nullable = false)
+    private Long paymentCount;
+
+    @Column(name = "amount_total", precision = 14, scale = 2, nullable = false)
+    private BigDecimal amountTotal;
+
+    @Column(name = "setup_fee_total", precision = 14, scale = 2, nullable = false)
+    private BigDecimal setupFeeTotal;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public RevenueRollup() {}
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getMembershipPlanId() { return membershipPlanId; }
+    public void setMembershipPlanId(Long membershipPlanId) { this.membershipPlanId = membershipPlanId; }
+
+    public LocalDate getPeriodMonth() { return periodMonth; }
+    public void setPeriodMonth(LocalDate periodMonth) { this.periodMonth = periodMonth; }
+
+    public MembershipPayment.PaymentStatus getStatus() { return status; }
+    public void setStatus(MembershipPayment.PaymentStatus status) { this.status = status; }
+
+    public Long getPaymentCount() { return paymentCount; }
+    public void setPaymentCount(Long paymentCount) { this.paymentCount = paymentCount; }
+
+    public BigDecimal getAmountTotal() { return amountTotal; }
+    public void setAmountTotal(BigDecimal amountTotal) { this.amountTotal = amountTotal; }
+
+    public BigDecimal getSetupFeeTotal() { return setupFeeTotal; }
+    public void setSetupFeeTotal(BigDecimal setupFeeTotal) { this.setupFeeTotal = setupFeeTotal; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -0,0 +1,62 @@
+package com.fitnesscenter.model;
+
+import com.fitnesscenter.listener.TrainerAvailabilityEntityListener;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+@Entity
+@EntityListeners(TrainerAvailabilityEntityListener.class)
+@Table(name = "trainer_availability", indexes = {
+    @Index(name = "idx_trainer_availability_trainer", columnList = "trainer_id")
+})
+public class TrainerAvailability {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull(message = "Trainer is required")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "trainer_id")
+    private Trainer trainer;
+
+    @NotNull(message = "Day of week is required")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "day_of_week")
+    private DayOfWeek dayOfWeek;
+
+    @NotNull(message = "Start time is required")
+    @Column(name = "start_time")
+    private LocalTime startTime;
+
+    @NotNull(message = "End time is required")
+    @Column(name = "end_time")
+    private LocalTime endTime;
+
+    // Constructors
+    public TrainerAvailability() {}
+
+    public TrainerAvailability(Trainer trainer, DayOfWeek dayOfWeek, LocalTime startTime, LocalTime endTime) {
+        this.trainer = trainer;
+        this.dayOfWeek = dayOfWeek;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Trainer getTrainer() { return trainer; }
+    public void setTrainer(Trainer trainer) { this.trainer = trainer; }
+
+    public DayOfWeek getDayOfWeek() { return dayOfWeek; }
+    public void setDayOfWeek(DayOfWeek dayOfWeek) { this.dayOfWeek = dayOfWeek; }
+
+    public LocalTime getStartTime() { return startTime; }
+    public void setStartTime(LocalTime startTime) { this.startTime = startTime; }
+
+    public LocalTime getEndTime() { return endTime; }
+    public void setEndTime(LocalTime endTime) { this.endTime = endTime; }
+}
@@ -0,0 +1,44 @@
+package com.fitnesscenter.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import org.hibernate.annotations.Immutable;
+
+// Precomputed trainer suggestions per member, ranked from 1. Replaced per member by the nightly
+// run in TrainerRecommendationService through JDBC batches and never updated through JPA.
+@Entity
+@Immutable
+@Table(name = "member_trainer_recommendations", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_member_trainer_recommendations_rank", columnNames = {"member_id", "rank_position"})
+}, indexes = {
+    @Index(name = "idx_member_trainer_recommendations_computed", columnList = "computed_at")
+})
+public class TrainerRecommendation {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "rank_position", nullable = false)
+    private Integer rankPosition;
+
+    @Column(name = "trainer_id", nullable = false)
+    private Long trainerId;
+
+    @Column(nullable = false)
+    private Double score;
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+
+    public TrainerRecommendation() {}
+
+    public Long getId() { return id; }
+    public Long getMemberId() { return memberId; }
+    public Integer getRankPosition() { return rankPosition; }
+    public Long getTrainerId() { return trainerId; }
+    public Double getScore() { return score; }
+    public LocalDateTime getComputedAt() { return computedAt; }
+}
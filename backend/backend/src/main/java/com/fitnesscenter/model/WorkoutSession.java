@@ -0,0 +1,118 @@
+package com.fitnesscenter.model;
+
+import com.fitnesscenter.listener.MemberDashboardEntityListener;
+import com.fitnesscenter.listener.TrainerAvailabilityEntityListener;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import java.time.LocalDateTime;
+
+@Entity
+@EntityListeners({TrainerAvailabilityEntityListener.class, MemberDashboardEntityListener.class})
+@Table(name = "workout_sessions", indexes = {
+    @Index(name = "idx_workout_sessions_trainer_time", columnList = "trainer_id, scheduled_at"),
+    @Index(name = "idx_workout_sessions_member_time", columnList = "member_id, scheduled_at"),
+    @Index(name = "idx_workout_sessions_updated", columnList = "updated_at")
+})
+public class WorkoutSession {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull(message = "Member is required")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id")
+    private Member member;
+
+    @NotNull(message = "Trainer is required")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "trainer_id")
+    private Trainer trainer;
+
+    @NotNull(message = "Scheduled time is required")
+    @Column(name = "scheduled_at")
+    private LocalDateTime scheduledAt;
+
+    @NotNull(message = "Duration is required")
+    @Min(value = 15, message = "Duration must be at least 15 minutes")
+    @Max(value = 240, message = "Duration must be at most 240 minutes")
+    @Column(name = "duration_minutes")
+    private Integer durationMinutes;
+
+    @Column(name = "session_type")
+    private String sessionType;
+
+    @Column(length = 1000)
+    private String notes;
+
+    @Enumerated(EnumType.STRING)
+    private SessionStatus status;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public enum SessionStatus {
+        SCHEDULED, COMPLETED, CANCELLED, NO_SHOW
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+        if (status == null) {
+            status = SessionStatus.SCHEDULED;
+        }
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    // Constructors
+    public WorkoutSession() {}
+
+    public WorkoutSession(Member member, Trainer trainer, LocalDateTime scheduledAt, Integer durationMinutes) {
+        this.member = member;
+        this.trainer = trainer;
+        this.scheduledAt = scheduledAt;
+        this.durationMinutes = durationMinutes;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Member getMember() { return member; }
+    public void setMember(Member member) { this.member = member; }
+
+    public Trainer getTrainer() { return trainer; }
+    public void setTrainer(Trainer trainer) { this.trainer = trainer; }
+
+    public LocalDateTime getScheduledAt() { return scheduledAt; }
+    public void setScheduledAt(LocalDateTime scheduledAt) { this.scheduledAt = scheduledAt; }
+
+    public Integer getDurationMinutes() { return durationMinutes; }
+    public void setDurationMinutes(Integer durationMinutes) { this.durationMinutes = durationMinutes; }
+
+    public String getSessionType() { return sessionType; }
+    public void setSessionType(String sessionType) { this.sessionType = sessionType; }
+
+    public String getNotes() { return notes; }
+    public void setNotes(String notes) { this.notes = notes; }
+
+    public SessionStatus getStatus() { return status; }
+    public void setStatus(SessionStatus status) { this.status = status; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public LocalDateTime getEndsAt() {
+        return scheduledAt.plusMinutes(durationMinutes);
+    }
+}
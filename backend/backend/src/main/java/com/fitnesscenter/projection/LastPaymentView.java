@@ -0,0 +1,12 @@
+package com.fitnesscenter.projection;
+
+import com.fitnesscenter.model.MembershipPayment;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public interface LastPaymentView {
+    Long getMemberId();
+    BigDecimal getAmount();
+    LocalDateTime getPaymentDate();
+    MembershipPayment.PaymentStatus getStatus();
+}
@@ -0,0 +1,19 @@
+package com.fitnesscenter.projection;
+
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.model.MembershipPlan;
+import java.time.LocalDate;
+
+public interface MemberExportView {
+    Long getId();
+    String getMemberId();
+    String getFirstName();
+    String getLastName();
+    String getEmail();
+    String getPhoneNumber();
+    String getCity();
+    Member.MemberStatus getStatus();
+    LocalDate getJoinDate();
+    String getPlanName();
+    MembershipPlan.PlanType getPlanType();
+}
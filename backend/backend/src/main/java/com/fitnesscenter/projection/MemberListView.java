@@ -0,0 +1,17 @@
+package com.fitnesscenter.projection;
+
+import com.fitnesscenter.model.Member;
+import java.time.LocalDate;
+
+public interface MemberListView {
+    Long getId();
+    String getMemberId();
+    String getFirstName();
+    String getLastName();
+    String getEmail();
+    Member.MemberStatus getStatus();
+    LocalDate getJoinDate();
+    LocalDate getExpiryDate();
+    Long getPlanId();
+    String getPlanName();
+}
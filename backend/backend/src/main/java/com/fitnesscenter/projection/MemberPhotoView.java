@@ -0,0 +1,6 @@
+package com.fitnesscenter.projection;
+
+public interface MemberPhotoView {
+    String getMemberId();
+    String getProfileImageUrl();
+}
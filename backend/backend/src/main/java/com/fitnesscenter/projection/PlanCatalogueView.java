@@ -0,0 +1,18 @@
+package com.fitnesscenter.projection;
+
+import com.fitnesscenter.model.MembershipPlan;
+import java.math.BigDecimal;
+
+public interface PlanCatalogueView {
+    Long getId();
+    String getPlanName();
+    MembershipPlan.PlanType getPlanType();
+    BigDecimal getPrice();
+    Integer getDurationMonths();
+    MembershipPlan.PlanStatus getStatus();
+    Boolean getGymAccess();
+    Boolean getPoolAccess();
+    Boolean getGroupClassesIncluded();
+    Long getMemberCount();
+    Long getActiveMemberCount();
+}
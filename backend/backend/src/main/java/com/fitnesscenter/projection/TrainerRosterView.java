@@ -0,0 +1,16 @@
+package com.fitnesscenter.projection;
+
+import com.fitnesscenter.model.Trainer;
+
+public interface TrainerRosterView {
+    Long getId();
+    String getTrainerId();
+    String getFirstName();
+    String getLastName();
+    String getSpecialization();
+    Integer getYearsExperience();
+    Double getHourlyRate();
+    Trainer.TrainerStatus getStatus();
+    Long getSessionCount();
+    Long getUpcomingClassCount();
+}
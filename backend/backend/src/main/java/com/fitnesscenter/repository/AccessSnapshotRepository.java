@@ -0,0 +1,85 @@
+package com.fitnesscenter.repository;
+
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.model.MembershipPlan;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Optional;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class AccessSnapshotRepository {
+    private static final int STREAM_FETCH_SIZE = 5_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public AccessSnapshotRepository(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(STREAM_FETCH_SIZE);
+    }
+
+    public record PlanAccessRow(Long id, MembershipPlan.PlanStatus status, Boolean gymAccess, Boolean poolAccess) {}
+
+    public record MemberAccessRow(Long id, String memberId, Member.MemberStatus status, Long planId) {}
+
+    public record AccessRow(MemberAccessRow member, PlanAccessRow plan) {}
+
+    public interface MemberAccessRowHandler {
+        void handle(MemberAccessRow row);
+    }
+
+    public List<PlanAccessRow> findAllPlans() {
+        return jdbcTemplate.query(
+                "SELECT id, status, gym_access, pool_access FROM membership_plans",
+                (rs, rowNum) -> new PlanAccessRow(
+                        rs.getLong("id"),
+                        planStatus(rs.getString("status")),
+                        (Boolean) rs.getObject("gym_access"),
+                        (Boolean) rs.getObject("pool_access")));
+    }
+
+    public void streamMembers(MemberAccessRowHandler handler) {
+        streamingJdbcTemplate.query(
+                "SELECT id, member_id, status, membership_plan_id FROM members",
+                rs -> {
+                    handler.handle(memberRow(rs));
+                });
+    }
+
+    public Optional<AccessRow> findByMemberId(String memberId) {
+        List<AccessRow> rows = jdbcTemplate.query(
+                "SELECT m.id, m.member_id, m.status, m.membership_plan_id, "
+                + "p.status AS plan_status, p.gym_access, p.pool_access "
+                + "FROM members m LEFT JOIN membership_plans p ON p.id = m.membership_plan_id "
+                + "WHERE m.member_id = ?",
+                (rs, rowNum) -> {
+                    MemberAccessRow member = memberRow(rs);
+                    PlanAccessRow plan = member.planId() == null ? null : new PlanAccessRow(
+                            member.planId(),
+                            planStatus(rs.getString("plan_status")),
+                            (Boolean) rs.getObject("gym_access"),
+                            (Boolean) rs.getObject("pool_access"));
+                    return new AccessRow(member, plan);
+                },
+                memberId);
+        return rows.stream().findFirst();
+    }
+
+    private static MemberAccessRow memberRow(ResultSet rs) throws SQLException {
+        String status = rs.getString("status");
+        return new MemberAccessRow(
+                rs.getLong("id"),
+                rs.getString("member_id"),
+                status != null ? Member.MemberStatus.valueOf(status) : null,
+                rs.getObject("membership_plan_id", Long.class));
+    }
+
+    private static MembershipPlan.PlanStatus planStatus(String status) {
+        return status != null ? MembershipPlan.PlanStatus.valueOf(status) : null;
+    }
+}
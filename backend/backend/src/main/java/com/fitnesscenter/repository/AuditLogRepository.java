@@ -0,0 +1,122 @@
+package com.fitnesscenter.repository;
+
+import com.fitnesscenter.model.AuditLogEntry;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class AuditLogRepository {
+    private static final String INSERT_OUTBOX_SQL =
+            "INSERT INTO audit_outbox (entity_type, entity_id, action, changes, actor, changed_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_LOG_SQL =
+            "INSERT INTO audit_log (entity_type, entity_id, action, changes, actor, changed_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String MOVE_SQL =
+            "INSERT INTO audit_log (entity_type, entity_id, action, changes, actor, changed_at) "
+            + "SELECT entity_type, entity_id, action, changes, actor, changed_at FROM audit_outbox "
+            + "WHERE id IN (:ids) ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public AuditLogRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    public record AuditRecord(AuditLogEntry.EntityType entityType, long entityId, AuditLogEntry.Action action,
+                              String changes, String actor, LocalDateTime changedAt) {}
+
+    public record AuditRow(long id, AuditLogEntry.EntityType entityType, long entityId, AuditLogEntry.Action action,
+                           String changes, String actor, LocalDateTime changedAt) {}
+
+    // Both run on the caller's transaction, so the entries commit or roll back with the change itself
+    public void insertOutbox(List<AuditRecord> records) {
+        insert(INSERT_OUTBOX_SQL, records);
+    }
+
+    public void insertLog(List<AuditRecord> records) {
+        insert(INSERT_LOG_SQL, records);
+    }
+
+    private void insert(String sql, List<AuditRecord> records) {
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                AuditRecord record = records.get(i);
+                ps.setString(1, record.entityType().name());
+                ps.setLong(2, record.entityId());
+                ps.setString(3, record.action().name());
+                ps.setString(4, record.changes());
+                ps.setString(5, record.actor());
+                ps.setTimestamp(6, Timestamp.valueOf(record.changedAt()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return records.size();
+            }
+        });
+    }
+
+    // Oldest first, so entries reach audit_log in the order they were written
+    public List<Long> findOutboxIds(int limit) {
+        return jdbcTemplate.queryForList("SELECT id FROM audit_outbox ORDER BY id LIMIT ?", Long.class, limit);
+    }
+
+    // Copies the entries to audit_log and deletes them from the outbox; the caller runs this in one
+    // transaction, so an entry is only deleted once its copy is written
+    public int moveOutbox(List<Long> ids) {
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+        int moved = namedJdbcTemplate.update(MOVE_SQL, params);
+        namedJdbcTemplate.update("DELETE FROM audit_outbox WHERE id IN (:ids)", params);
+        return moved;
+    }
+
+    public long countOutbox() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM audit_outbox", Long.class);
+    }
+
+    // Oldest first within the window; entityId and both bounds are optional
+    public List<AuditRow> find(AuditLogEntry.EntityType entityType, Long entityId, LocalDateTime from,
+                               LocalDateTime to, int limit) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT id, entity_type, entity_id, action, changes, actor, changed_at FROM audit_log WHERE entity_type = ?");
+        List<Object> args = new ArrayList<>();
+        args.add(entityType.name());
+        if (entityId != null) {
+            sql.append(" AND entity_id = ?");
+            args.add(entityId);
+        }
+        if (from != null) {
+            sql.append(" AND changed_at >= ?");
+            args.add(Timestamp.valueOf(from));
+        }
+        if (to != null) {
+            sql.append(" AND changed_at < ?");
+            args.add(Timestamp.valueOf(to));
+        }
+        sql.append(" ORDER BY changed_at, id LIMIT ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(),
+                (rs, rowNum) -> new AuditRow(
+                        rs.getLong("id"),
+                        AuditLogEntry.EntityType.valueOf(rs.getString("entity_type")),
+                        rs.getLong("entity_id"),
+                        AuditLogEntry.Action.valueOf(rs.getString("action")),
+                        rs.getString("changes"),
+                        rs.getString("actor"),
+                        rs.getTimestamp("changed_at").toLocalDateTime()),
+                args.toArray());
+    }
+}
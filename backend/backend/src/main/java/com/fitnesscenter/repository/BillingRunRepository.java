@@ -0,0 +1,200 @@
+package com.fitnesscenter.repository;
+
+import com.fitnesscenter.model.BillingRunPartition.PartitionStatus;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// Reads and writes of the renewal billing run. Payments are inserted through JDBC batches like
+// the member importer, so callers keep the revenue rollup in step themselves.
+@Repository
+public class BillingRunRepository {
+    private static final String PARTITION_SQL = "SELECT partition_index, first_member_id, last_member_id, "
+            + "resume_after, billed, skipped, amount_total, status, error, updated_at FROM billing_run_partitions "
+            + "WHERE billing_period = ?";
+    private static final String INSERT_PARTITION_SQL =
+            "INSERT INTO billing_run_partitions (billing_period, partition_index, first_member_id, last_member_id, "
+            + "resume_after, billed, skipped, amount_total, status, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, 0, 0, 0, 'PENDING', ?)";
+    private static final String INSERT_PAYMENT_SQL =
+            "INSERT INTO membership_payments (member_id, membership_plan_id, amount, payment_date, "
+            + "period_start, period_end, status, notes, billing_period, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, 'PENDING', ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public BillingRunRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    public record PartitionRow(int index, long firstMemberId, long lastMemberId, long resumeAfter, int billed,
+                               int skipped, BigDecimal amountTotal, PartitionStatus status, String error,
+                               LocalDateTime updatedAt) {}
+
+    public record CandidateRow(long id, LocalDate joinDate, LocalDate expiryDate, Long planId, BigDecimal price,
+                               Integer durationMonths) {}
+
+    // Pending and completed payments only: a failed or refunded charge does not cover a period.
+    // billedInPeriod looks at every status.
+    public record InvoiceHistory(LocalDate invoicedThrough, boolean billedInPeriod) {}
+
+    public record RenewalRow(long memberId, long planId, BigDecimal amount, LocalDate periodStart,
+                             LocalDate periodEnd) {}
+
+    public Optional<long[]> findMemberIdRange() {
+        return Optional.ofNullable(jdbcTemplate.queryForObject("SELECT MIN(id), MAX(id) FROM members",
+                (rs, rowNum) -> rs.getObject(1) != null ? new long[] {rs.getLong(1), rs.getLong(2)} : null));
+    }
+
+    public List<PartitionRow> findPartitions(YearMonth period) {
+        return jdbcTemplate.query(PARTITION_SQL + " ORDER BY partition_index",
+                (rs, rowNum) -> partition(rs), period.toString());
+    }
+
+    public List<YearMonth> findUnfinishedPeriods() {
+        return jdbcTemplate.queryForList("SELECT DISTINCT billing_period FROM billing_run_partitions "
+                + "WHERE status <> 'COMPLETED' ORDER BY billing_period", String.class)
+                .stream().map(YearMonth::parse).toList();
+    }
+
+    // Each range is {first, last}, both inclusive
+    public void insertPartitions(YearMonth period, List<long[]> ranges) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_PARTITION_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                long[] range = ranges.get(i);
+                ps.setString(1, period.toString());
+                ps.setInt(2, i);
+                ps.setLong(3, range[0]);
+                ps.setLong(4, range[1]);
+                ps.setLong(5, range[0] - 1);
+                ps.setTimestamp(6, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return ranges.size();
+            }
+        });
+    }
+
+    // Partitions left running by a process that stopped, or failed on an earlier attempt
+    public int resetUnfinished(YearMonth period) {
+        return jdbcTemplate.update("UPDATE billing_run_partitions SET status = 'PENDING', error = NULL, updated_at = ? "
+                + "WHERE billing_period = ? AND status IN ('RUNNING', 'FAILED')",
+                Timestamp.valueOf(LocalDateTime.now()), period.toString());
+    }
+
+    public boolean claim(YearMonth period, int index) {
+        return setStatus(period, index, PartitionStatus.RUNNING, null, PartitionStatus.PENDING) > 0;
+    }
+
+    public void complete(YearMonth period, int index) {
+        setStatus(period, index, PartitionStatus.COMPLETED, null, PartitionStatus.RUNNING);
+    }
+
+    public void fail(YearMonth period, int index, String error) {
+        setStatus(period, index, PartitionStatus.FAILED, error, PartitionStatus.RUNNING);
+    }
+
+    // Active members after the given id, up to and including lastId, with their plan terms
+    public List<CandidateRow> findCandidates(long afterId, long lastId, int limit) {
+        return jdbcTemplate.query("SELECT m.id, m.join_date, m.expiry_date, m.membership_plan_id, p.price, "
+                + "p.duration_months FROM members m "
+                + "LEFT JOIN membership_plans p ON p.id = m.membership_plan_id "
+                + "WHERE m.id > ? AND m.id <= ? AND m.status = 'ACTIVE' ORDER BY m.id LIMIT ?", (rs, rowNum) -> {
+            Date joinDate = rs.getDate("join_date");
+            Date expiryDate = rs.getDate("expiry_date");
+            return new CandidateRow(
+                    rs.getLong("id"),
+                    joinDate != null ? joinDate.toLocalDate() : null,
+                    expiryDate != null ? expiryDate.toLocalDate() : null,
+                    rs.getObject("membership_plan_id", Long.class),
+                    rs.getBigDecimal("price"),
+                    rs.getObject("duration_months", Integer.class));
+        }, afterId, lastId, limit);
+    }
+
+    public Map<Long, InvoiceHistory> findInvoiceHistory(Collection<Long> memberIds, YearMonth period) {
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", memberIds)
+                .addValue("period", period.toString());
+        Map<Long, InvoiceHistory> history = new HashMap<>();
+        namedJdbcTemplate.query("SELECT member_id, "
+                + "MAX(CASE WHEN status IN ('PENDING', 'COMPLETED') THEN period_end END) AS invoiced_through, "
+                + "MAX(CASE WHEN billing_period = :period THEN 1 ELSE 0 END) AS billed "
+                + "FROM membership_payments WHERE member_id IN (:ids) GROUP BY member_id", params, rs -> {
+            Date invoicedThrough = rs.getDate("invoiced_through");
+            history.put(rs.getLong("member_id"), new InvoiceHistory(
+                    invoicedThrough != null ? invoicedThrough.toLocalDate() : null,
+                    rs.getInt("billed") > 0));
+        });
+        return history;
+    }
+
+    // Dated to the first of the billing month, so a run resumed days later books into the same month
+    public void insertRenewals(YearMonth period, List<RenewalRow> renewals) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp paymentDate = Timestamp.valueOf(period.atDay(1).atStartOfDay());
+        String notes = "Renewal billing " + period;
+        jdbcTemplate.batchUpdate(INSERT_PAYMENT_SQL, renewals, renewals.size(), (ps, renewal) -> {
+            ps.setLong(1, renewal.memberId());
+            ps.setLong(2, renewal.planId());
+            ps.setBigDecimal(3, renewal.amount());
+            ps.setTimestamp(4, paymentDate);
+            ps.setDate(5, Date.valueOf(renewal.periodStart()));
+            ps.setDate(6, Date.valueOf(renewal.periodEnd()));
+            ps.setString(7, notes);
+            ps.setString(8, period.toString());
+            ps.setTimestamp(9, now);
+            ps.setTimestamp(10, now);
+        });
+    }
+
+    // Runs on the chunk's transaction, so the checkpoint never gets ahead of the payments
+    public void advance(YearMonth period, int index, long resumeAfter, int billed, int skipped, BigDecimal amount) {
+        jdbcTemplate.update("UPDATE billing_run_partitions SET resume_after = ?, billed = billed + ?, "
+                + "skipped = skipped + ?, amount_total = amount_total + ?, updated_at = ? "
+                + "WHERE billing_period = ? AND partition_index = ?",
+                resumeAfter, billed, skipped, amount, Timestamp.valueOf(LocalDateTime.now()), period.toString(), index);
+    }
+
+    private int setStatus(YearMonth period, int index, PartitionStatus status, String error, PartitionStatus from) {
+        return jdbcTemplate.update("UPDATE billing_run_partitions SET status = ?, error = ?, updated_at = ? "
+                + "WHERE billing_period = ? AND partition_index = ? AND status = ?",
+                status.name(), error, Timestamp.valueOf(LocalDateTime.now()), period.toString(), index, from.name());
+    }
+
+    private static PartitionRow partition(ResultSet rs) throws SQLException {
+        Timestamp updatedAt = rs.getTimestamp("updated_at");
+        return new PartitionRow(
+                rs.getInt("partition_index"),
+                rs.getLong("first_member_id"),
+                rs.getLong("last_member_id"),
+                rs.getLong("resume_after"),
+                rs.getInt("billed"),
+                rs.getInt("skipped"),
+                rs.getBigDecimal("amount_total"),
+                PartitionStatus.valueOf(rs.getString("status")),
+                rs.getString("error"),
+                updatedAt != null ? updatedAt.toLocalDateTime() : null);
+    }
+}
@@ -0,0 +1,83 @@
+package com.fitnesscenter.repository;
+
+import com.fitnesscenter.event.CheckInEvent;
+import com.fitnesscenter.event.CheckOutEvent;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// Writes check-ins with plain JDBC batches: the IDENTITY key on check_ins stops Hibernate
+// from batching inserts, and resolving the member inside the INSERT saves a lookup per swipe.
+@Repository
+public class CheckInBatchWriter {
+    private static final String INSERT_SQL =
+            "INSERT INTO check_ins (member_id, facility, check_in_time, device_id, created_at) "
+            + "SELECT m.id, ?, ?, ?, ? FROM members m WHERE m.member_id = ?";
+
+    private static final String CHECK_OUT_SQL =
+            "UPDATE check_ins SET check_out_time = ? WHERE id = ("
+            + "SELECT MAX(c.id) FROM check_ins c JOIN members m ON m.id = c.member_id "
+            + "WHERE m.member_id = ? AND c.facility = ? AND c.check_out_time IS NULL)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CheckInBatchWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Returns the events that were written; events for unknown member IDs insert nothing.
+    public List<CheckInEvent> insertBatch(List<CheckInEvent> events) {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        return written(events, jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                CheckInEvent event = events.get(i);
+                ps.setString(1, event.facility().name());
+                ps.setTimestamp(2, Timestamp.valueOf(event.checkInTime()));
+                ps.setString(3, event.deviceId());
+                ps.setTimestamp(4, createdAt);
+                ps.setString(5, event.memberId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return events.size();
+            }
+        }));
+    }
+
+    // Closes the member's latest open visit at the facility; returns the events that closed one.
+    public List<CheckOutEvent> checkOutBatch(List<CheckOutEvent> events) {
+        return written(events, jdbcTemplate.batchUpdate(CHECK_OUT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                CheckOutEvent event = events.get(i);
+                ps.setTimestamp(1, Timestamp.valueOf(event.checkOutTime()));
+                ps.setString(2, event.memberId());
+                ps.setString(3, event.facility().name());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return events.size();
+            }
+        }));
+    }
+
+    private static <T> List<T> written(List<T> events, int[] counts) {
+        List<T> written = new ArrayList<>(events.size());
+        for (int i = 0; i < counts.length; i++) {
+            // Some drivers report SUCCESS_NO_INFO (-2) for batched statements
+            if (counts[i] != 0) {
+                written.add(events.get(i));
+            }
+        }
+        return written;
+    }
+}
@@ -0,0 +1,44 @@
+package com.fitnesscenter.repository;
+
+import com.fitnesscenter.model.CheckIn;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class CheckInHistoryRepository {
+    private static final int STREAM_FETCH_SIZE = 10_000;
+
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public CheckInHistoryRepository(DataSource dataSource) {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(STREAM_FETCH_SIZE);
+    }
+
+    public interface VisitHandler {
+        // checkOutTime is null for a visit that was still open at the cutoff
+        void handle(String memberId, CheckIn.Facility facility, LocalDateTime checkInTime, LocalDateTime checkOutTime);
+    }
+
+    // Visits written before the cutoff; check-outs recorded after it are left to the live feed.
+    public void streamVisitsCreatedBefore(LocalDateTime cutoff, VisitHandler handler) {
+        Timestamp before = Timestamp.valueOf(cutoff);
+        streamingJdbcTemplate.query(
+                "SELECT m.member_id, c.facility, c.check_in_time, "
+                + "CASE WHEN c.check_out_time < ? THEN c.check_out_time END AS check_out_time "
+                + "FROM check_ins c JOIN members m ON m.id = c.member_id "
+                + "WHERE c.created_at < ? ORDER BY c.check_in_time",
+                rs -> {
+                    Timestamp checkOut = rs.getTimestamp("check_out_time");
+                    handler.handle(
+                            rs.getString("member_id"),
+                            CheckIn.Facility.valueOf(rs.getString("facility")),
+                            rs.getTimestamp("check_in_time").toLocalDateTime(),
+                            checkOut != null ? checkOut.toLocalDateTime() : null);
+                },
+                before, before);
+    }
+}
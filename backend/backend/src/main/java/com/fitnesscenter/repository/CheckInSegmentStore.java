@@ -0,0 +1,281 @@
+package com.fitnesscenter.repository;
+
+import com.fitnesscenter.config.CheckInStoreProperties;
+import com.fitnesscenter.model.CheckIn;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Repository;
+
+// Append-only attendance log outside the database. Records are fixed-width and live in
+// memory-mapped segment files, so scans read them in place without copying or allocating:
+//
+//   record  = epochSecond:long | memberKey:int | facility:byte | kind:byte | reserved:short
+//   segment = header (magic, version, capacity, count, minEpoch, maxEpoch) + capacity records
+//
+// Timestamps are local wall-clock seconds, which keeps hour-of-week bucketing a plain division.
+// Member codes are replaced by dense int keys from an append-only dictionary file.
+@Repository
+public class CheckInSegmentStore {
+    private static final Logger log = LoggerFactory.getLogger(CheckInSegmentStore.class);
+    public static final byte CHECK_IN = 0;
+    public static final byte CHECK_OUT = 1;
+
+    private static final int MAGIC = 0x43484b31;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 64;
+    private static final int RECORD_BYTES = 16;
+    private static final int COUNT_OFFSET = 12;
+    private static final int MIN_EPOCH_OFFSET = 16;
+    private static final int MAX_EPOCH_OFFSET = 24;
+    private static final String DICTIONARY_FILE = "members.dict";
+    private static final String BACKFILL_MARKER = "backfill.complete";
+    private static final CheckIn.Facility[] FACILITIES = CheckIn.Facility.values();
+
+    public interface RecordVisitor {
+        void visit(int memberKey, long epochSecond, CheckIn.Facility facility, byte kind);
+    }
+
+    private final Path directory;
+    private final int segmentCapacity;
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+    private final Map<String, Integer> memberKeys = new ConcurrentHashMap<>();
+    private final List<String> memberIds = new ArrayList<>();
+    private final FileChannel dictionary;
+    private final LocalDateTime openedAt = LocalDateTime.now();
+    private final boolean backfilled;
+
+    public CheckInSegmentStore(CheckInStoreProperties properties) throws IOException {
+        this.directory = Path.of(properties.getDirectory());
+        this.segmentCapacity = properties.getSegmentCapacity();
+        Files.createDirectories(directory);
+        // A backfill that never finished leaves a partial history; start over rather than guess
+        this.backfilled = Files.exists(directory.resolve(BACKFILL_MARKER));
+        if (!backfilled) {
+            clear();
+        }
+        loadDictionary();
+        this.dictionary = FileChannel.open(directory.resolve(DICTIONARY_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        openSegments();
+        log.info("Check-in store opened with {} records in {} segments", size(), segments.size());
+    }
+
+    public boolean isBackfilled() {
+        return backfilled;
+    }
+
+    // Rows created before this instant belong to the backfill; later ones arrive as live appends
+    public LocalDateTime getOpenedAt() {
+        return openedAt;
+    }
+
+    public void markBackfilled() throws IOException {
+        force();
+        Files.writeString(directory.resolve(BACKFILL_MARKER), openedAt.toString());
+    }
+
+    public synchronized void append(String memberId, LocalDateTime time, CheckIn.Facility facility, byte kind) {
+        int memberKey = memberKey(memberId);
+        Segment segment = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+        if (segment == null || segment.count == segment.capacity) {
+            segment = createSegment(segments.size());
+        }
+        segment.append(time.toEpochSecond(ZoneOffset.UTC), memberKey, (byte) facility.ordinal(), kind);
+    }
+
+    // Visits records with from <= time < to; either bound may be null
+    public void scan(LocalDateTime from, LocalDateTime to, RecordVisitor visitor) {
+        scan(from, to, -1, visitor);
+    }
+
+    public void scanMember(String memberId, LocalDateTime from, LocalDateTime to, RecordVisitor visitor) {
+        Integer memberKey = memberKeys.get(memberId);
+        if (memberKey != null) {
+            scan(from, to, memberKey, visitor);
+        }
+    }
+
+    public int memberKeyCount() {
+        synchronized (memberIds) {
+            return memberIds.size();
+        }
+    }
+
+    public String memberIdOf(int memberKey) {
+        synchronized (memberIds) {
+            return memberIds.get(memberKey);
+        }
+    }
+
+    public long size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.count;
+        }
+        return size;
+    }
+
+    public void force() {
+        segments.forEach(segment -> segment.buffer.force());
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        force();
+        dictionary.close();
+    }
+
+    private void scan(LocalDateTime from, LocalDateTime to, int memberKey, RecordVisitor visitor) {
+        long fromEpoch = from != null ? from.toEpochSecond(ZoneOffset.UTC) : Long.MIN_VALUE;
+        long toEpoch = to != null ? to.toEpochSecond(ZoneOffset.UTC) : Long.MAX_VALUE;
+        for (Segment segment : segments) {
+            // Read count before the bounds; the writer publishes records by bumping count last
+            int count = segment.count;
+            if (count == 0 || segment.maxEpoch < fromEpoch || segment.minEpoch >= toEpoch) {
+                continue;
+            }
+            MappedByteBuffer buffer = segment.buffer;
+            for (int i = 0, offset = HEADER_BYTES; i < count; i++, offset += RECORD_BYTES) {
+                long epochSecond = buffer.getLong(offset);
+                if (epochSecond < fromEpoch || epochSecond >= toEpoch) {
+                    continue;
+                }
+                int key = buffer.getInt(offset + 8);
+                if (memberKey < 0 || key == memberKey) {
+                    visitor.visit(key, epochSecond, FACILITIES[buffer.get(offset + 12)], buffer.get(offset + 13));
+                }
+            }
+        }
+    }
+
+    private int memberKey(String memberId) {
+        Integer existing = memberKeys.get(memberId);
+        if (existing != null) {
+            return existing;
+        }
+        synchronized (memberIds) {
+            int key = memberIds.size();
+            try {
+                // The dictionary entry reaches the file before any record that refers to it
+                ByteBuffer line = StandardCharsets.UTF_8.encode(memberId + "\n");
+                while (line.hasRemaining()) {
+                    dictionary.write(line);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            memberIds.add(memberId);
+            memberKeys.put(memberId, key);
+            return key;
+        }
+    }
+
+    private void loadDictionary() throws IOException {
+        Path file = directory.resolve(DICTIONARY_FILE);
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (Stream<String> lines = Files.lines(file, StandardCharsets.UTF_8)) {
+            lines.forEach(memberId -> {
+                memberKeys.put(memberId, memberIds.size());
+                memberIds.add(memberId);
+            });
+        }
+    }
+
+    private void openSegments() throws IOException {
+        for (int number = 0; Files.exists(segmentPath(number)); number++) {
+            try (FileChannel channel = FileChannel.open(segmentPath(number), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+                if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                    throw new IOException("Not a check-in segment: " + segmentPath(number));
+                }
+                segments.add(new Segment(buffer, buffer.getInt(8), buffer.getInt(COUNT_OFFSET),
+                        buffer.getLong(MIN_EPOCH_OFFSET), buffer.getLong(MAX_EPOCH_OFFSET)));
+            }
+        }
+    }
+
+    private Segment createSegment(int number) {
+        try (FileChannel channel = FileChannel.open(segmentPath(number),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    HEADER_BYTES + (long) segmentCapacity * RECORD_BYTES);
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            buffer.putInt(8, segmentCapacity);
+            buffer.putLong(MIN_EPOCH_OFFSET, Long.MAX_VALUE);
+            buffer.putLong(MAX_EPOCH_OFFSET, Long.MIN_VALUE);
+            Segment segment = new Segment(buffer, segmentCapacity, 0, Long.MAX_VALUE, Long.MIN_VALUE);
+            segments.add(segment);
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void clear() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private Path segmentPath(int number) {
+        return directory.resolve(String.format("segment-%06d.dat", number));
+    }
+
+    private static final class Segment {
+        private final MappedByteBuffer buffer;
+        private final int capacity;
+        private volatile int count;
+        private volatile long minEpoch;
+        private volatile long maxEpoch;
+
+        Segment(MappedByteBuffer buffer, int capacity, int count, long minEpoch, long maxEpoch) {
+            this.buffer = buffer;
+            this.capacity = capacity;
+            this.count = count;
+            this.minEpoch = minEpoch;
+            this.maxEpoch = maxEpoch;
+        }
+
+        // Called under the store lock. Bounds widen before count so a reader never skips a visible record.
+        void append(long epochSecond, int memberKey, byte facility, byte kind) {
+            int offset = HEADER_BYTES + count * RECORD_BYTES;
+            buffer.putLong(offset, epochSecond);
+            buffer.putInt(offset + 8, memberKey);
+            buffer.put(offset + 12, facility);
+            buffer.put(offset + 13, kind);
+            if (epochSecond < minEpoch) {
+                minEpoch = epochSecond;
+                buffer.putLong(MIN_EPOCH_OFFSET, epochSecond);
+            }
+            if (epochSecond > maxEpoch) {
+                maxEpoch = epochSecond;
+                buffer.putLong(MAX_EPOCH_OFFSET, epochSecond);
+            }
+            buffer.putInt(COUNT_OFFSET, count + 1);
+            count = count + 1;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.fitnesscenter.repository;
+
+import com.fitnesscenter.model.ClassBooking;
+import com.fitnesscenter.model.FitnessClass;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// Booking rows are written by the booking engine's flusher only. Writes are keyed so that
+// replaying them is harmless: a booking upserts on (class, member) and a status change
+// targets one reservation ID, so a cancel that lands after a rebooking is a no-op.
+@Repository
+public class ClassBookingRepository {
+    private static final String UPDATE_BOOKING_SQL =
+            "UPDATE class_bookings SET reservation_id = ?, status = ?, waitlist_position = ?, booked_at = ?, updated_at = ? "
+            + "WHERE fitness_class_id = ? AND member_id = (SELECT m.id FROM members m WHERE m.member_id = ?)";
+    private static final String INSERT_BOOKING_SQL =
+            "INSERT INTO class_bookings (fitness_class_id, member_id, reservation_id, status, waitlist_position, "
+            + "booked_at, updated_at) SELECT ?, m.id, ?, ?, ?, ?, ? FROM members m WHERE m.member_id = ?";
+    private static final String UPDATE_STATUS_SQL =
+            "UPDATE class_bookings SET status = ?, updated_at = ? WHERE reservation_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ClassBookingRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public record ClassRow(Long id, int capacity, FitnessClass.ClassStatus status, LocalDateTime startTime) {}
+
+    public record BookingRow(Long classId, String memberId, String reservationId, ClassBooking.BookingStatus status,
+                             Integer waitlistPosition, LocalDateTime bookedAt) {}
+
+    public Optional<ClassRow> findClass(Long classId) {
+        return jdbcTemplate.query(
+                "SELECT id, capacity, status, start_time FROM fitness_classes WHERE id = ?",
+                (rs, rowNum) -> new ClassRow(
+                        rs.getLong("id"),
+                        rs.getInt("capacity"),
+                        rs.getString("status") != null ? FitnessClass.ClassStatus.valueOf(rs.getString("status")) : null,
+                        rs.getTimestamp("start_time").toLocalDateTime()),
+                classId).stream().findFirst();
+    }
+
+    // Confirmed bookings first, then the waitlist in the order it was handed out.
+    public List<BookingRow> findActiveBookings(Long classId) {
+        return jdbcTemplate.query(
+                "SELECT b.fitness_class_id, m.member_id, b.reservation_id, b.status, b.waitlist_position, b.booked_at "
+                + "FROM class_bookings b JOIN members m ON m.id = b.member_id "
+                + "WHERE b.fitness_class_id = ? AND b.status <> 'CANCELLED' "
+                + "ORDER BY CASE WHEN b.status = 'CONFIRMED' THEN 0 ELSE 1 END, b.waitlist_position, b.id",
+                (rs, rowNum) -> new BookingRow(
+                        rs.getLong("fitness_class_id"),
+                        rs.getString("member_id"),
+                        rs.getString("reservation_id"),
+                        ClassBooking.BookingStatus.valueOf(rs.getString("status")),
+                        (Integer) rs.getObject("waitlist_position"),
+                        rs.getTimestamp("booked_at").toLocalDateTime()),
+                classId);
+    }
+
+    // Returns, per row, whether it was written; rows for unknown member IDs write nothing.
+    public boolean[] upsertBatch(List<BookingRow> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_BOOKING_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                BookingRow row = rows.get(i);
+                ps.setString(1, row.reservationId());
+                ps.setString(2, row.status().name());
+                setPosition(ps, 3, row.waitlistPosition());
+                ps.setTimestamp(4, Timestamp.valueOf(row.bookedAt()));
+                ps.setTimestamp(5, now);
+                ps.setLong(6, row.classId());
+                ps.setString(7, row.memberId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+        boolean[] written = new boolean[rows.size()];
+        List<Integer> missing = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                missing.add(i);
+            } else {
+                written[i] = true;
+            }
+        }
+        if (missing.isEmpty()) {
+            return written;
+        }
+        int[] inserted = jdbcTemplate.batchUpdate(INSERT_BOOKING_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                BookingRow row = rows.get(missing.get(i));
+                ps.setLong(1, row.classId());
+                ps.setString(2, row.reservationId());
+                ps.setString(3, row.status().name());
+                setPosition(ps, 4, row.waitlistPosition());
+                ps.setTimestamp(5, Timestamp.valueOf(row.bookedAt()));
+                ps.setTimestamp(6, now);
+                ps.setString(7, row.memberId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return missing.size();
+            }
+        });
+        for (int i = 0; i < inserted.length; i++) {
+            // Some drivers report SUCCESS_NO_INFO (-2) for batched statements
+            written[missing.get(i)] = inserted[i] != 0;
+        }
+        return written;
+    }
+
+    public void updateStatusBatch(List<BookingRow> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPDATE_STATUS_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                BookingRow row = rows.get(i);
+                ps.setString(1, row.status().name());
+                ps.setTimestamp(2, now);
+                ps.setString(3, row.reservationId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+
+    private static void setPosition(PreparedStatement ps, int index, Integer position) throws SQLException {
+        if (position != null) {
+            ps.setInt(index, position);
+        } else {
+            ps.setNull(index, Types.INTEGER);
+        }
+    }
+}
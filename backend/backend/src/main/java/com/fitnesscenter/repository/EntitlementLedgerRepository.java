@@ -0,0 +1,169 @@
+package com.fitnesscenter.repository;
+
+import com.fitnesscenter.model.EntitlementBalance.EntitlementType;
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.service.EntitlementPeriod;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// Every write runs on the caller's transaction. Usage only moves through the guarded updates
+// below, so concurrent consumers from several devices serialize on the balance row and the
+// database rejects the one that would go over the quota.
+@Repository
+public class EntitlementLedgerRepository {
+    private static final String CONSUME_SQL =
+            "UPDATE entitlement_balances SET used = used + ?, updated_at = ? "
+            + "WHERE member_id = ? AND entitlement_type = ? AND period_start = ? AND used + ? <= quota";
+    private static final String RESTORE_SQL =
+            "UPDATE entitlement_balances SET used = used - ?, updated_at = ? "
+            + "WHERE member_id = ? AND entitlement_type = ? AND period_start = ? AND used >= ?";
+    private static final String MERGE_BALANCE_SQL =
+            "MERGE INTO entitlement_balances b USING (VALUES (CAST(? AS BIGINT), CAST(? AS VARCHAR(30)), "
+            + "CAST(? AS DATE), CAST(? AS DATE), CAST(? AS INTEGER), CAST(? AS TIMESTAMP))) "
+            + "AS d (member_id, entitlement_type, period_start, period_end, quota, updated_at) "
+            + "ON b.member_id = d.member_id AND b.entitlement_type = d.entitlement_type "
+            + "AND b.period_start = d.period_start "
+            + "WHEN MATCHED THEN UPDATE SET quota = d.quota, updated_at = d.updated_at "
+            + "WHEN NOT MATCHED THEN INSERT (member_id, entitlement_type, period_start, period_end, quota, used, "
+            + "updated_at) VALUES (d.member_id, d.entitlement_type, d.period_start, d.period_end, d.quota, 0, "
+            + "d.updated_at)";
+    private static final String ON_CONFLICT_BALANCE_SQL =
+            "INSERT INTO entitlement_balances (member_id, entitlement_type, period_start, period_end, quota, used, "
+            + "updated_at) VALUES (?, ?, ?, ?, ?, 0, ?) "
+            + "ON CONFLICT (member_id, entitlement_type, period_start) DO UPDATE SET "
+            + "quota = EXCLUDED.quota, updated_at = EXCLUDED.updated_at";
+    private static final String CONSUMPTION_SQL =
+            "SELECT c.idempotency_key, m.member_id AS member_code, c.member_id, c.entitlement_type, c.period_start, "
+            + "c.period_end, c.quantity, c.remaining_after, c.reference, c.consumed_at, c.released_at "
+            + "FROM entitlement_consumptions c JOIN members m ON m.id = c.member_id ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UpsertTemplate upsertTemplate;
+
+    public EntitlementLedgerRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.upsertTemplate = new UpsertTemplate(jdbcTemplate);
+    }
+
+    public record MemberEntitlements(Long id, String memberId, Member.MemberStatus status, LocalDate joinDate,
+                                     LocalDate expiryDate, Integer durationMonths, Integer personalTrainingSessions,
+                                     Integer guestPasses) {
+
+        public Integer quota(EntitlementType type) {
+            return switch (type) {
+                case PERSONAL_TRAINING -> personalTrainingSessions;
+                case GUEST_PASS -> guestPasses;
+            };
+        }
+    }
+
+    public record BalanceRow(EntitlementType type, LocalDate periodStart, LocalDate periodEnd, int quota, int used) {}
+
+    public record ConsumptionRow(String idempotencyKey, String memberId, Long memberKey, EntitlementType type,
+                                 LocalDate periodStart, LocalDate periodEnd, int quantity, int remainingAfter,
+                                 String reference, LocalDateTime consumedAt, LocalDateTime releasedAt) {}
+
+    public Optional<MemberEntitlements> findMember(String memberId) {
+        return jdbcTemplate.query(
+                "SELECT m.id, m.member_id, m.status, m.join_date, m.expiry_date, p.duration_months, "
+                + "p.personal_training_sessions, p.guest_passes FROM members m "
+                + "LEFT JOIN membership_plans p ON p.id = m.membership_plan_id WHERE m.member_id = ?",
+                (rs, rowNum) -> {
+                    String status = rs.getString("status");
+                    Date joinDate = rs.getDate("join_date");
+                    Date expiryDate = rs.getDate("expiry_date");
+                    return new MemberEntitlements(
+                            rs.getLong("id"),
+                            rs.getString("member_id"),
+                            status != null ? Member.MemberStatus.valueOf(status) : null,
+                            joinDate != null ? joinDate.toLocalDate() : null,
+                            expiryDate != null ? expiryDate.toLocalDate() : null,
+                            rs.getObject("duration_months", Integer.class),
+                            rs.getObject("personal_training_sessions", Integer.class),
+                            rs.getObject("guest_passes", Integer.class));
+                },
+                memberId).stream().findFirst();
+    }
+
+    public Optional<BalanceRow> findBalance(Long memberId, EntitlementType type, LocalDate periodStart) {
+        return jdbcTemplate.query(
+                "SELECT entitlement_type, period_start, period_end, quota, used FROM entitlement_balances "
+                + "WHERE member_id = ? AND entitlement_type = ? AND period_start = ?",
+                (rs, rowNum) -> new BalanceRow(
+                        EntitlementType.valueOf(rs.getString("entitlement_type")),
+                        rs.getDate("period_start").toLocalDate(),
+                        rs.getDate("period_end").toLocalDate(),
+                        rs.getInt("quota"),
+                        rs.getInt("used")),
+                memberId, type.name(), Date.valueOf(periodStart)).stream().findFirst();
+    }
+
+    // Creates the period's balance on first use; a quota changed by a plan edit applies from now on.
+    public void ensureBalance(Long memberId, EntitlementType type, EntitlementPeriod period, int quota) {
+        upsertTemplate.upsert(MERGE_BALANCE_SQL, ON_CONFLICT_BALANCE_SQL, memberId, type.name(),
+                Date.valueOf(period.start()), Date.valueOf(period.end()), quota, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    // False when the quantity would take usage past the quota
+    public boolean consume(Long memberId, EntitlementType type, LocalDate periodStart, int quantity) {
+        return jdbcTemplate.update(CONSUME_SQL, quantity, Timestamp.valueOf(LocalDateTime.now()), memberId,
+                type.name(), Date.valueOf(periodStart), quantity) > 0;
+    }
+
+    public boolean restore(Long memberId, EntitlementType type, LocalDate periodStart, int quantity) {
+        return jdbcTemplate.update(RESTORE_SQL, quantity, Timestamp.valueOf(LocalDateTime.now()), memberId,
+                type.name(), Date.valueOf(periodStart), quantity) > 0;
+    }
+
+    // Throws DuplicateKeyException when the key was used before; a concurrent insert of the same
+    // key waits for the first transaction and then fails the same way.
+    public void insertConsumption(ConsumptionRow row) {
+        jdbcTemplate.update(
+                "INSERT INTO entitlement_consumptions (idempotency_key, member_id, entitlement_type, period_start, "
+                + "period_end, quantity, remaining_after, reference, consumed_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                row.idempotencyKey(), row.memberKey(), row.type().name(), Date.valueOf(row.periodStart()),
+                Date.valueOf(row.periodEnd()), row.quantity(), row.remainingAfter(), row.reference(),
+                Timestamp.valueOf(row.consumedAt()));
+    }
+
+    // Returns false when the member's consumption was already released
+    public boolean markReleased(Long memberId, String idempotencyKey, LocalDateTime releasedAt) {
+        return jdbcTemplate.update("UPDATE entitlement_consumptions SET released_at = ? "
+                + "WHERE idempotency_key = ? AND member_id = ? AND released_at IS NULL",
+                Timestamp.valueOf(releasedAt), idempotencyKey, memberId) > 0;
+    }
+
+    public Optional<ConsumptionRow> findConsumption(String idempotencyKey) {
+        return jdbcTemplate.query(CONSUMPTION_SQL + "WHERE c.idempotency_key = ?",
+                (rs, rowNum) -> consumption(rs), idempotencyKey).stream().findFirst();
+    }
+
+    // Empty when the key belongs to another member's consumption
+    public Optional<ConsumptionRow> findConsumption(String memberId, String idempotencyKey) {
+        return jdbcTemplate.query(CONSUMPTION_SQL + "WHERE c.idempotency_key = ? AND m.member_id = ?",
+                (rs, rowNum) -> consumption(rs), idempotencyKey, memberId).stream().findFirst();
+    }
+
+    private static ConsumptionRow consumption(ResultSet rs) throws SQLException {
+        Timestamp releasedAt = rs.getTimestamp("released_at");
+        return new ConsumptionRow(
+                rs.getString("idempotency_key"),
+                rs.getString("member_code"),
+                rs.getLong("member_id"),
+                EntitlementType.valueOf(rs.getString("entitlement_type")),
+                rs.getDate("period_start").toLocalDate(),
+                rs.getDate("period_end").toLocalDate(),
+                rs.getInt("quantity"),
+                rs.getInt("remaining_after"),
+                rs.getString("reference"),
+                rs.getTimestamp("consumed_at").toLocalDateTime(),
+                releasedAt != null ? releasedAt.toLocalDateTime() : null);
+    }
+}
@@ -0,0 +1,9 @@
+package com.fitnesscenter.repository;
+
+import com.fitnesscenter.model.FitnessClass;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FitnessClassRepository extends JpaRepository<FitnessClass, Long> {
+}
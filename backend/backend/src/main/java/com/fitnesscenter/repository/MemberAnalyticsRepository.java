@@ -0,0 +1,80 @@
+package com.fitnesscenter.repository;
+
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.model.MembershipPlan;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// Reads only the columns the cohort snapshot keeps, straight off the result set.
+@Repository
+public class MemberAnalyticsRepository {
+    private static final int STREAM_FETCH_SIZE = 5_000;
+    private static final int ID_BATCH_SIZE = 1_000;
+    private static final String SELECT = "SELECT m.id, m.height, m.weight, m.date_of_birth, m.gender, m.status, m.city, "
+            + "p.plan_type FROM members m LEFT JOIN membership_plans p ON p.id = m.membership_plan_id";
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public MemberAnalyticsRepository(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(STREAM_FETCH_SIZE);
+    }
+
+    // Unknown values: NaN heights and weights, 0 birth year, null enums and city
+    public record CohortRow(long id, double height, double weight, int birthYear, Member.Gender gender,
+                            Member.MemberStatus status, String city, MembershipPlan.PlanType planType) {}
+
+    public interface CohortRowHandler {
+        void handle(CohortRow row);
+    }
+
+    public void streamAll(CohortRowHandler handler) {
+        streamingJdbcTemplate.query(SELECT, rs -> {
+            handler.handle(row(rs));
+        });
+    }
+
+    public void findByIds(Collection<Long> ids, CohortRowHandler handler) {
+        List<Long> all = List.copyOf(ids);
+        for (int from = 0; from < all.size(); from += ID_BATCH_SIZE) {
+            List<Long> batch = all.subList(from, Math.min(from + ID_BATCH_SIZE, all.size()));
+            namedJdbcTemplate.query(SELECT + " WHERE m.id IN (:ids)", Map.of("ids", batch), rs -> {
+                handler.handle(row(rs));
+            });
+        }
+    }
+
+    private static CohortRow row(ResultSet rs) throws SQLException {
+        double height = rs.getDouble("height");
+        if (rs.wasNull()) {
+            height = Double.NaN;
+        }
+        double weight = rs.getDouble("weight");
+        if (rs.wasNull()) {
+            weight = Double.NaN;
+        }
+        Date dateOfBirth = rs.getDate("date_of_birth");
+        String gender = rs.getString("gender");
+        String status = rs.getString("status");
+        String planType = rs.getString("plan_type");
+        return new CohortRow(
+                rs.getLong("id"),
+                height,
+                weight,
+                dateOfBirth != null ? dateOfBirth.toLocalDate().getYear() : 0,
+                gender != null ? Member.Gender.valueOf(gender) : null,
+                status != null ? Member.MemberStatus.valueOf(status) : null,
+                rs.getString("city"),
+                planType != null ? MembershipPlan.PlanType.valueOf(planType) : null);
+    }
+}
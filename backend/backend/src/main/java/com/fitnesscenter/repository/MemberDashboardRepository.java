@@ -0,0 +1,159 @@
+package com.fitnesscenter.repository;
+
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.model.MembershipPlan;
+import com.fitnesscenter.service.MemberDashboardStore.PlanInfo;
+import com.fitnesscenter.service.MemberDashboardStore.UpcomingSession;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// One grouped query per source table for the dashboard read model. Every method takes either a
+// batch of member ids or null for all members, so a refresh and a full rebuild share the SQL.
+@Repository
+public class MemberDashboardRepository {
+    private static final int STREAM_FETCH_SIZE = 5_000;
+    private static final String MEMBER_SQL = "SELECT id, member_id, first_name, last_name, status, membership_plan_id, "
+            + "join_date, expiry_date FROM members";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public MemberDashboardRepository(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(STREAM_FETCH_SIZE);
+    }
+
+    public record MemberRow(Long id, String memberId, String fullName, Member.MemberStatus status, Long planId,
+                            LocalDate joinDate, LocalDate expiryDate) {}
+
+    public record AttendanceRow(LocalDateTime lastCheckInAt, int visitsSince) {}
+
+    public List<PlanInfo> findPlans() {
+        return jdbcTemplate.query("SELECT id, plan_name, plan_type, duration_months, personal_training_sessions "
+                + "FROM membership_plans", (rs, rowNum) -> {
+            String planType = rs.getString("plan_type");
+            return new PlanInfo(
+                    rs.getLong("id"),
+                    rs.getString("plan_name"),
+                    planType != null ? MembershipPlan.PlanType.valueOf(planType) : null,
+                    rs.getObject("duration_months", Integer.class),
+                    rs.getObject("personal_training_sessions", Integer.class));
+        });
+    }
+
+    public Optional<Long> findIdByMemberId(String memberId) {
+        return jdbcTemplate.queryForList("SELECT id FROM members WHERE member_id = ?", Long.class, memberId)
+                .stream().findFirst();
+    }
+
+    public void streamMembers(Consumer<MemberRow> sink) {
+        streamingJdbcTemplate.query(MEMBER_SQL, rs -> {
+            sink.accept(member(rs));
+        });
+    }
+
+    public List<MemberRow> findMembers(Collection<Long> ids) {
+        return namedJdbcTemplate.query(MEMBER_SQL + " WHERE id IN (:ids)", Map.of("ids", ids),
+                (rs, rowNum) -> member(rs));
+    }
+
+    public Map<Long, AttendanceRow> findAttendance(Collection<Long> ids, LocalDateTime countFrom) {
+        MapSqlParameterSource params = new MapSqlParameterSource("from", Timestamp.valueOf(countFrom));
+        Map<Long, AttendanceRow> attendance = new HashMap<>();
+        namedJdbcTemplate.query("SELECT member_id, MAX(check_in_time) AS last_check_in, "
+                + "SUM(CASE WHEN check_in_time >= :from THEN 1 ELSE 0 END) AS visits FROM check_ins "
+                + "WHERE check_in_time IS NOT NULL" + memberFilter(ids, params, "member_id") + " GROUP BY member_id",
+                params, rs -> {
+            attendance.put(rs.getLong("member_id"), new AttendanceRow(
+                    rs.getTimestamp("last_check_in").toLocalDateTime(), rs.getInt("visits")));
+        });
+        return attendance;
+    }
+
+    public Map<Long, LocalDateTime> findLastPayments(Collection<Long> ids) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        Map<Long, LocalDateTime> payments = new HashMap<>();
+        namedJdbcTemplate.query("SELECT member_id, MAX(payment_date) AS last_payment FROM membership_payments "
+                + "WHERE status = 'COMPLETED'" + memberFilter(ids, params, "member_id") + " GROUP BY member_id",
+                params, rs -> {
+            payments.put(rs.getLong("member_id"), rs.getTimestamp("last_payment").toLocalDateTime());
+        });
+        return payments;
+    }
+
+    // Scheduled sessions from the given time on, earliest first, at most perMember each
+    public Map<Long, List<UpcomingSession>> findUpcomingSessions(Collection<Long> ids, LocalDateTime from,
+                                                                 int perMember) {
+        MapSqlParameterSource params = new MapSqlParameterSource("from", Timestamp.valueOf(from));
+        Map<Long, List<UpcomingSession>> sessions = new HashMap<>();
+        namedJdbcTemplate.query("SELECT s.id, s.member_id, s.scheduled_at, s.duration_minutes, s.session_type, "
+                + "t.first_name, t.last_name FROM workout_sessions s LEFT JOIN trainers t ON t.id = s.trainer_id "
+                + "WHERE s.status = 'SCHEDULED' AND s.scheduled_at >= :from"
+                + memberFilter(ids, params, "s.member_id") + " ORDER BY s.member_id, s.scheduled_at", params, rs -> {
+            List<UpcomingSession> list = sessions.computeIfAbsent(rs.getLong("member_id"), id -> new ArrayList<>());
+            if (list.size() < perMember) {
+                String firstName = rs.getString("first_name");
+                list.add(new UpcomingSession(
+                        rs.getLong("id"),
+                        rs.getTimestamp("scheduled_at").toLocalDateTime(),
+                        rs.getObject("duration_minutes", Integer.class),
+                        rs.getString("session_type"),
+                        firstName != null ? firstName + " " + rs.getString("last_name") : null));
+            }
+        });
+        return sessions;
+    }
+
+    // Personal training used in the ledger period that contains the given day
+    public Map<Long, Integer> findPersonalTrainingUsed(Collection<Long> ids, LocalDate day) {
+        MapSqlParameterSource params = new MapSqlParameterSource("day", Date.valueOf(day));
+        Map<Long, Integer> used = new HashMap<>();
+        namedJdbcTemplate.query("SELECT member_id, used FROM entitlement_balances "
+                + "WHERE entitlement_type = 'PERSONAL_TRAINING' AND period_start <= :day AND period_end >= :day"
+                + memberFilter(ids, params, "member_id"), params, rs -> {
+            used.put(rs.getLong("member_id"), rs.getInt("used"));
+        });
+        return used;
+    }
+
+    private static String memberFilter(Collection<Long> ids, MapSqlParameterSource params, String column) {
+        if (ids == null) {
+            return "";
+        }
+        params.addValue("ids", ids);
+        return " AND " + column + " IN (:ids)";
+    }
+
+    private static MemberRow member(ResultSet rs) throws SQLException {
+        String status = rs.getString("status");
+        Date joinDate = rs.getDate("join_date");
+        Date expiryDate = rs.getDate("expiry_date");
+        return new MemberRow(
+                rs.getLong("id"),
+                rs.getString("member_id"),
+                rs.getString("first_name") + " " + rs.getString("last_name"),
+                status != null ? Member.MemberStatus.valueOf(status) : null,
+                rs.getObject("membership_plan_id", Long.class),
+                joinDate != null ? joinDate.toLocalDate() : null,
+                expiryDate != null ? expiryDate.toLocalDate() : null);
+    }
+}
@@ -0,0 +1,40 @@
+package com.fitnesscenter.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// Hands out member ids for JDBC inserts from the same sequence Hibernate uses for Member.
+// Both sides follow the pooled-lo contract: a sequence value v reserves ids [v, v + BLOCK_SIZE).
+@Repository
+public class MemberIdAllocator {
+    public static final String SEQUENCE = "members_seq";
+    // Must match the increment on Member's id generator
+    public static final int BLOCK_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String nextValueSql;
+
+    public MemberIdAllocator(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.nextValueSql = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect()
+                .getSequenceSupport()
+                .getSequenceNextValString(SEQUENCE);
+    }
+
+    // One sequence round trip per block; ids are unique but not necessarily contiguous across blocks.
+    public long[] allocate(int count) {
+        long[] ids = new long[count];
+        int filled = 0;
+        while (filled < count) {
+            long blockStart = jdbcTemplate.queryForObject(nextValueSql, Long.class);
+            for (int i = 0; i < BLOCK_SIZE && filled < count; i++) {
+                ids[filled++] = blockStart + i;
+            }
+        }
+        return ids;
+    }
+}
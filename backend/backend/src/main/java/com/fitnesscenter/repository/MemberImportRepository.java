@@ -0,0 +1,101 @@
+package com.fitnesscenter.repository;
+
+import com.fitnesscenter.model.Member;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// Plain JDBC batches for the bulk importer. Rows arrive with their id already allocated,
+// so nothing needs to be read back after the insert.
+@Repository
+public class MemberImportRepository {
+    private static final String INSERT_SQL =
+            "INSERT INTO members (id, member_id, first_name, last_name, email, phone_number, date_of_birth, address, "
+            + "city, state, postal_code, gender, height, weight, fitness_goals, health_conditions, "
+            + "emergency_contact_name, emergency_contact_phone, join_date, expiry_date, status, membership_plan_id, "
+            + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public MemberImportRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    public Set<String> findExistingMemberIds(Collection<String> memberIds) {
+        return new HashSet<>(namedJdbcTemplate.queryForList(
+                "SELECT member_id FROM members WHERE member_id IN (:ids)",
+                Map.of("ids", memberIds), String.class));
+    }
+
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        return new HashSet<>(namedJdbcTemplate.queryForList(
+                "SELECT email FROM members WHERE email IN (:emails)",
+                Map.of("emails", emails), String.class));
+    }
+
+    public void insertBatch(List<Member> members) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                bind(ps, members.get(i), now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return members.size();
+            }
+        });
+    }
+
+    public void insert(Member member) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, member, now));
+    }
+
+    private static void bind(PreparedStatement ps, Member member, Timestamp now) throws SQLException {
+        ps.setLong(1, member.getId());
+        ps.setString(2, member.getMemberId());
+        ps.setString(3, member.getFirstName());
+        ps.setString(4, member.getLastName());
+        ps.setString(5, member.getEmail());
+        ps.setString(6, member.getPhoneNumber());
+        ps.setDate(7, date(member.getDateOfBirth()));
+        ps.setString(8, member.getAddress());
+        ps.setString(9, member.getCity());
+        ps.setString(10, member.getState());
+        ps.setString(11, member.getPostalCode());
+        ps.setString(12, member.getGender() != null ? member.getGender().name() : null);
+        ps.setObject(13, member.getHeight(), Types.DOUBLE);
+        ps.setObject(14, member.getWeight(), Types.DOUBLE);
+        ps.setString(15, member.getFitnessGoals());
+        ps.setString(16, member.getHealthConditions());
+        ps.setString(17, member.getEmergencyContactName());
+        ps.setString(18, member.getEmergencyContactPhone());
+        ps.setDate(19, date(member.getJoinDate()));
+        ps.setDate(20, date(member.getExpiryDate()));
+        ps.setString(21, member.getStatus().name());
+        ps.setObject(22, member.getMembershipPlan() != null ? member.getMembershipPlan().getId() : null, Types.BIGINT);
+        ps.setTimestamp(23, now);
+        ps.setTimestamp(24, now);
+    }
+
+    private static Date date(LocalDate date) {
+        return date != null ? Date.valueOf(date) : null;
+    }
+}
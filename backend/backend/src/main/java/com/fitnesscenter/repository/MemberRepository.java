@@ -0,0 +1,46 @@
+package com.fitnesscenter.repository;
+
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.projection.MemberExportView;
+import com.fitnesscenter.projection.MemberListView;
+import com.fitnesscenter.projection.MemberPhotoView;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MemberRepository extends JpaRepository<Member, Long> {
+    Optional<Member> findByMemberId(String memberId);
+
+    Optional<Member> findByEmail(String email);
+
+    // Member detail screen: the plan is fetched in the same select instead of on first access
+    @EntityGraph(attributePaths = "membershipPlan")
+    Optional<Member> findWithPlanByMemberId(String memberId);
+
+    // Member list screen: the plan columns come from the join, so a page costs the select plus its count
+    @Query(value = "select m.id as id, m.memberId as memberId, m.firstName as firstName, m.lastName as lastName, "
+            + "m.email as email, m.status as status, m.joinDate as joinDate, m.expiryDate as expiryDate, "
+            + "p.id as planId, p.planName as planName "
+            + "from Member m left join m.membershipPlan p "
+            + "where (:status is null or m.status = :status) order by m.lastName, m.firstName, m.id",
+            countQuery = "select count(m) from Member m where (:status is null or m.status = :status)")
+    Page<MemberListView> findListPage(@Param("status") Member.MemberStatus status, Pageable pageable);
+
+    // Keyset page: callers pass the last id they saw and PageRequest.of(0, size)
+    @Query("select m.id as id, m.memberId as memberId, m.firstName as firstName, m.lastName as lastName, "
+            + "m.email as email, m.phoneNumber as phoneNumber, m.city as city, m.status as status, "
+            + "m.joinDate as joinDate, p.planName as planName, p.planType as planType "
+            + "from Member m left join m.membershipPlan p where m.id > :afterId order by m.id")
+    List<MemberExportView> findExportPage(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select m.memberId as memberId, m.profileImageUrl as profileImageUrl from Member m "
+            + "where m.profileImageUrl like :prefix")
+    List<MemberPhotoView> findPhotosByUrlPrefix(@Param("prefix") String prefix);
+}
@@ -0,0 +1,97 @@
+package com.fitnesscenter.repository;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class MembershipExpiryRepository {
+    private static final int STREAM_FETCH_SIZE = 5_000;
+    // A pending or completed payment covers its period even before expiry_date is moved to it
+    private static final String PAID_THROUGH_SQL = "(SELECT MAX(p.period_end) FROM membership_payments p "
+            + "WHERE p.member_id = m.id AND p.status IN ('PENDING', 'COMPLETED'))";
+    private static final String ACTIVE_MEMBER_SQL = "SELECT m.id, m.join_date, m.expiry_date, m.membership_plan_id, "
+            + PAID_THROUGH_SQL + " AS paid_through FROM members m WHERE m.status = 'ACTIVE'";
+    private static final String EXPIRE_SQL =
+            "UPDATE members m SET status = 'EXPIRED', updated_at = ? "
+            + "WHERE m.id = ? AND m.status = 'ACTIVE' AND (m.expiry_date IS NULL OR m.expiry_date < ?) "
+            + "AND NOT EXISTS (SELECT 1 FROM membership_payments p WHERE p.member_id = m.id "
+            + "AND p.status IN ('PENDING', 'COMPLETED') AND p.period_end >= ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public MembershipExpiryRepository(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(STREAM_FETCH_SIZE);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    public interface ActiveMemberHandler {
+        void handle(Long id, LocalDate joinDate, LocalDate expiryDate, LocalDate paidThrough, Long planId);
+    }
+
+    public Map<Long, Integer> findPlanDurations() {
+        Map<Long, Integer> durations = new HashMap<>();
+        jdbcTemplate.query("SELECT id, duration_months FROM membership_plans", rs -> {
+            durations.put(rs.getLong("id"), rs.getInt("duration_months"));
+        });
+        return durations;
+    }
+
+    public void streamActiveMembers(ActiveMemberHandler handler) {
+        streamingJdbcTemplate.query(ACTIVE_MEMBER_SQL, (RowCallbackHandler) rs -> handle(rs, handler));
+    }
+
+    public void findActiveMembers(List<Long> memberIds, ActiveMemberHandler handler) {
+        namedJdbcTemplate.query(ACTIVE_MEMBER_SQL + " AND m.id IN (:ids)", new MapSqlParameterSource("ids", memberIds),
+                (RowCallbackHandler) rs -> handle(rs, handler));
+    }
+
+    // Flips the given members to EXPIRED unless they were renewed or changed meanwhile;
+    // returns the ids that were actually updated.
+    public List<Long> expire(List<Long> memberIds, LocalDate today) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Date cutoff = Date.valueOf(today);
+        int[][] counts = jdbcTemplate.batchUpdate(EXPIRE_SQL, memberIds, memberIds.size(), (ps, id) -> {
+            ps.setTimestamp(1, now);
+            ps.setLong(2, id);
+            ps.setDate(3, cutoff);
+            ps.setDate(4, cutoff);
+        });
+        List<Long> expired = new ArrayList<>();
+        for (int i = 0; i < memberIds.size(); i++) {
+            if (counts[0][i] != 0) {
+                expired.add(memberIds.get(i));
+            }
+        }
+        return expired;
+    }
+
+    private static void handle(ResultSet rs, ActiveMemberHandler handler) throws SQLException {
+        Date joinDate = rs.getDate("join_date");
+        Date expiryDate = rs.getDate("expiry_date");
+        Date paidThrough = rs.getDate("paid_through");
+        handler.handle(
+                rs.getLong("id"),
+                joinDate != null ? joinDate.toLocalDate() : null,
+                expiryDate != null ? expiryDate.toLocalDate() : null,
+                paidThrough != null ? paidThrough.toLocalDate() : null,
+                rs.getObject("membership_plan_id", Long.class));
+    }
+}
@@ -0,0 +1,19 @@
+package com.fitnesscenter.repository;
+
+import com.fitnesscenter.model.MembershipPayment;
+import com.fitnesscenter.projection.LastPaymentView;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MembershipPaymentRepository extends JpaRepository<MembershipPayment, Long> {
+
+    @Query("select p.member.id as memberId, p.amount as amount, p.paymentDate as paymentDate, p.status as status "
+            + "from MembershipPayment p where p.id in ("
+            + "select max(p2.id) from MembershipPayment p2 where p2.member.id in :memberIds group by p2.member.id)")
+    List<LastPaymentView> findLastPayments(@Param("memberIds") Collection<Long> memberIds);
+}
@@ -0,0 +1,35 @@
+package com.fitnesscenter.repository;
+
+import com.fitnesscenter.model.MembershipPlan;
+import com.fitnesscenter.projection.PlanCatalogueView;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MembershipPlanRepository extends JpaRepository<MembershipPlan, Long> {
+
+    // Counts members in the database instead of initializing MembershipPlan.members for each plan
+    @Query("select p.id as id, p.planName as planName, p.planType as planType, p.price as price, "
+            + "p.durationMonths as durationMonths, p.status as status, p.gymAccess as gymAccess, "
+            + "p.poolAccess as poolAccess, p.groupClassesIncluded as groupClassesIncluded, "
+            + "count(m.id) as memberCount, "
+            + "sum(case when m.status = ACTIVE then 1 else 0 end) "
+            + "as activeMemberCount "
+            + "from MembershipPlan p left join p.members m "
+            + "group by p.id, p.planName, p.planType, p.price, p.durationMonths, p.status, p.gymAccess, "
+            + "p.poolAccess, p.groupClassesIncluded "
+            + "order by p.price, p.id")
+    List<PlanCatalogueView> findCatalogue();
+
+    // Served from the query cache; Hibernate drops the cached ids whenever membership_plans changes
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = MembershipPlan.ACTIVE_CATALOGUE_CACHE_REGION)
+    })
+    List<MembershipPlan> findByStatusOrderByPriceAscIdAsc(MembershipPlan.PlanStatus status);
+}
@@ -0,0 +1,35 @@
+package com.fitnesscenter.repository;
+
+import com.fitnesscenter.model.CheckIn;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class OccupancyRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    public OccupancyRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public interface OpenVisitHandler {
+        void handle(String memberId, CheckIn.Facility facility, LocalDateTime checkInTime);
+    }
+
+    // Visits that started after the cutoff and have not been checked out yet.
+    public void streamOpenVisits(LocalDateTime since, OpenVisitHandler handler) {
+        jdbcTemplate.query(
+                "SELECT m.member_id, c.facility, c.check_in_time FROM check_ins c "
+                + "JOIN members m ON m.id = c.member_id "
+                + "WHERE c.check_out_time IS NULL AND c.check_in_time >= ?",
+                rs -> {
+                    handler.handle(
+                            rs.getString("member_id"),
+                            CheckIn.Facility.valueOf(rs.getString("facility")),
+                            rs.getTimestamp("check_in_time").toLocalDateTime());
+                },
+                Timestamp.valueOf(since));
+    }
+}
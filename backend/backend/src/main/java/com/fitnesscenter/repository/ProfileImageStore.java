@@ -0,0 +1,53 @@
+package com.fitnesscenter.repository;
+
+import com.fitnesscenter.config.ProfileImageProperties;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import org.springframework.stereotype.Repository;
+
+// Content-addressed image files. A file is named after the SHA-256 of the uploaded bytes, so it
+// never changes once written and the same photo uploaded twice is stored once:
+//
+//   originals/ab/<hash>.jpg|png   as uploaded
+//   thumbnails/ab/<hash>.jpg      generated at upload time
+//
+// The two-character fan-out keeps directories small at a few million photos.
+@Repository
+public class ProfileImageStore {
+    private final Path originals;
+    private final Path thumbnails;
+
+    public ProfileImageStore(ProfileImageProperties properties) throws IOException {
+        Path directory = Path.of(properties.getDirectory());
+        this.originals = directory.resolve("originals");
+        this.thumbnails = directory.resolve("thumbnails");
+        Files.createDirectories(originals);
+        Files.createDirectories(thumbnails);
+    }
+
+    public Path original(String hash, String extension) {
+        return originals.resolve(hash.substring(0, 2)).resolve(hash + "." + extension);
+    }
+
+    public Path thumbnail(String hash) {
+        return thumbnails.resolve(hash.substring(0, 2)).resolve(hash + ".jpg");
+    }
+
+    // Written to a temporary file and renamed, so a reader never sees half an image. Two uploads
+    // of the same photo write identical bytes, so whichever rename lands last is fine.
+    public void write(Path target, byte[] bytes) throws IOException {
+        if (Files.exists(target)) {
+            return;
+        }
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), "upload", ".tmp");
+        try {
+            Files.write(temp, bytes);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
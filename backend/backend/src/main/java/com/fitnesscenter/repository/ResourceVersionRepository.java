@@ -0,0 +1,113 @@
+package com.fitnesscenter.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.stream.Collectors;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// Cheap fingerprints of what a read endpoint would return, for conditional GETs. Each source table
+// contributes its latest updated_at, which moves on every insert and update, and its highest id,
+// which also moves on an insert landing on the same timestamp; both are answered from an index.
+// Neither moves on a delete, so the deletion counters of the source tables are a source as well.
+@Repository
+public class ResourceVersionRepository {
+    private static final String PLAN_CATALOGUE_SQL = "SELECT " + table(1, "membership_plans") + ", "
+            + table(2, "members") + ", " + deletions(3, "membership_plans", "members");
+    private static final String PLANS_SQL = "SELECT " + table(1, "membership_plans") + ", "
+            + deletions(2, "membership_plans");
+    private static final String MEMBER_LIST_SQL = "SELECT " + table(1, "members") + ", "
+            + table(2, "membership_plans") + ", " + deletions(3, "members", "membership_plans");
+    private static final String TRAINER_ROSTER_SQL = "SELECT " + table(1, "trainers") + ", "
+            + table(2, "workout_sessions") + ", "
+            + "(SELECT MAX(updated_at) FROM fitness_classes) AS modified_3, "
+            + "(SELECT COUNT(*) FROM fitness_classes WHERE status = 'SCHEDULED' AND start_time >= ?) AS rows_3, "
+            + deletions(4, "trainers", "workout_sessions", "fitness_classes");
+    private static final String MERGE_DELETION_SQL =
+            "MERGE INTO deletion_counters c USING (VALUES (CAST(? AS VARCHAR(64)), CAST(? AS TIMESTAMP))) "
+            + "AS d (table_name, updated_at) ON c.table_name = d.table_name "
+            + "WHEN MATCHED THEN UPDATE SET deletions = c.deletions + 1, updated_at = d.updated_at "
+            + "WHEN NOT MATCHED THEN INSERT (table_name, deletions, updated_at) VALUES (d.table_name, 1, d.updated_at)";
+    private static final String ON_CONFLICT_DELETION_SQL =
+            "INSERT INTO deletion_counters (table_name, deletions, updated_at) VALUES (?, 1, ?) "
+            + "ON CONFLICT (table_name) DO UPDATE SET deletions = deletion_counters.deletions + 1, "
+            + "updated_at = EXCLUDED.updated_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UpsertTemplate upsertTemplate;
+
+    public ResourceVersionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.upsertTemplate = new UpsertTemplate(jdbcTemplate);
+    }
+
+    public record Version(String etag, long lastModifiedMillis) {}
+
+    // Plans and, for the member counts, every member
+    public Version findPlanCatalogueVersion() {
+        return version(PLAN_CATALOGUE_SQL).orElseThrow();
+    }
+
+    public Version findPlansVersion() {
+        return version(PLANS_SQL).orElseThrow();
+    }
+
+    // Any member change invalidates every list page; a per-page fingerprint would cost the page query
+    public Version findMemberListVersion() {
+        return version(MEMBER_LIST_SQL).orElseThrow();
+    }
+
+    // Empty when the member does not exist; the ids take the place of row counts
+    public Optional<Version> findMemberVersion(String memberId) {
+        return version("SELECT m.id AS rows_1, m.updated_at AS modified_1, p.id AS rows_2, p.updated_at AS modified_2 "
+                + "FROM members m LEFT JOIN membership_plans p ON p.id = m.membership_plan_id WHERE m.member_id = ?",
+                memberId);
+    }
+
+    // Session counts follow workout_sessions; upcoming class counts drop as classes start, so the
+    // number of classes still ahead is part of the fingerprint. That count reads the start_time index.
+    public Version findTrainerRosterVersion(LocalDateTime now) {
+        return version(TRAINER_ROSTER_SQL, Timestamp.valueOf(now)).orElseThrow();
+    }
+
+    // Runs on the deleting transaction
+    public void recordDeletion(String table) {
+        upsertTemplate.upsert(MERGE_DELETION_SQL, ON_CONFLICT_DELETION_SQL, table,
+                Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    private static String table(int source, String table) {
+        return "(SELECT MAX(updated_at) FROM " + table + ") AS modified_" + source + ", "
+                + "(SELECT MAX(id) FROM " + table + ") AS rows_" + source;
+    }
+
+    private static String deletions(int source, String... tables) {
+        String names = Arrays.stream(tables).map(table -> "'" + table + "'").collect(Collectors.joining(", "));
+        return "(SELECT MAX(updated_at) FROM deletion_counters WHERE table_name IN (" + names + ")) AS modified_"
+                + source + ", (SELECT COALESCE(SUM(deletions), 0) FROM deletion_counters WHERE table_name IN ("
+                + names + ")) AS rows_" + source;
+    }
+
+    private Optional<Version> version(String sql, Object... args) {
+        return jdbcTemplate.query(sql, (rs, rowNum) -> version(rs), args).stream().findFirst();
+    }
+
+    // Weak validator: the JSON is regenerated on every full response, so only its meaning is stable
+    private static Version version(ResultSet rs) throws SQLException {
+        int sources = rs.getMetaData().getColumnCount() / 2;
+        StringJoiner tag = new StringJoiner("-", "W/\"", "\"");
+        long lastModified = 0;
+        for (int i = 1; i <= sources; i++) {
+            Timestamp modified = rs.getTimestamp("modified_" + i);
+            long millis = modified != null ? modified.getTime() : 0;
+            tag.add(Long.toHexString(millis) + "." + Long.toHexString(rs.getLong("rows_" + i)));
+            lastModified = Math.max(lastModified, millis);
+        }
+        return new Version(tag.toString(), lastModified);
+    }
+}
@@ -0,0 +1,95 @@
+package com.fitnesscenter.repository;
+
+import com.fitnesscenter.dto.RevenueRollupRow;
+import com.fitnesscenter.model.MembershipPayment;
+import com.fitnesscenter.model.MembershipPlan;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class RevenueRollupRepository {
+    public static final long NO_PLAN = 0L;
+
+    private static final String MERGE_SQL =
+            "MERGE INTO revenue_rollups r USING (VALUES (CAST(? AS BIGINT), CAST(? AS DATE), CAST(? AS VARCHAR(20)), "
+            + "CAST(? AS BIGINT), CAST(? AS DECIMAL(14, 2)), CAST(? AS DECIMAL(14, 2)), CAST(? AS TIMESTAMP))) "
+            + "AS d (membership_plan_id, period_month, status, payment_count, amount_total, setup_fee_total, updated_at) "
+            + "ON r.membership_plan_id = d.membership_plan_id AND r.period_month = d.period_month AND r.status = d.status "
+            + "WHEN MATCHED THEN UPDATE SET payment_count = r.payment_count + d.payment_count, "
+            + "amount_total = r.amount_total + d.amount_total, setup_fee_total = r.setup_fee_total + d.setup_fee_total, "
+            + "updated_at = d.updated_at "
+            + "WHEN NOT MATCHED THEN INSERT (membership_plan_id, period_month, status, payment_count, amount_total, "
+            + "setup_fee_total, updated_at) VALUES (d.membership_plan_id, d.period_month, d.status, d.payment_count, "
+            + "d.amount_total, d.setup_fee_total, d.updated_at)";
+    private static final String ON_CONFLICT_SQL =
+            "INSERT INTO revenue_rollups (membership_plan_id, period_month, status, payment_count, amount_total, "
+            + "setup_fee_total, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?) "
+            + "ON CONFLICT (membership_plan_id, period_month, status) DO UPDATE SET "
+            + "payment_count = revenue_rollups.payment_count + EXCLUDED.payment_count, "
+            + "amount_total = revenue_rollups.amount_total + EXCLUDED.amount_total, "
+            + "setup_fee_total = revenue_rollups.setup_fee_total + EXCLUDED.setup_fee_total, "
+            + "updated_at = EXCLUDED.updated_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UpsertTemplate upsertTemplate;
+
+    public RevenueRollupRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.upsertTemplate = new UpsertTemplate(jdbcTemplate);
+    }
+
+    // Runs on the caller's transaction, so the bucket moves together with the payment row. One
+    // statement creates or bumps the bucket, so concurrent writers never see a failed insert.
+    public void applyDelta(Long planId, YearMonth month, MembershipPayment.PaymentStatus status,
+                           long countDelta, BigDecimal amountDelta, BigDecimal setupFeeDelta) {
+        upsertTemplate.upsert(MERGE_SQL, ON_CONFLICT_SQL, planId != null ? planId : NO_PLAN,
+                Date.valueOf(month.atDay(1)), status.name(), countDelta, amountDelta, setupFeeDelta,
+                Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    public int replaceMonth(YearMonth month) {
+        LocalDate start = month.atDay(1);
+        jdbcTemplate.update("DELETE FROM revenue_rollups WHERE period_month = ?", Date.valueOf(start));
+        return jdbcTemplate.update(
+                "INSERT INTO revenue_rollups (membership_plan_id, period_month, status, payment_count, amount_total, "
+                + "setup_fee_total, updated_at) "
+                + "SELECT COALESCE(membership_plan_id, " + NO_PLAN + "), ?, status, COUNT(*), SUM(amount), "
+                + "SUM(COALESCE(setup_fee, 0)), ? FROM membership_payments "
+                + "WHERE payment_date >= ? AND payment_date < ? AND status IS NOT NULL "
+                + "GROUP BY COALESCE(membership_plan_id, " + NO_PLAN + "), status",
+                Date.valueOf(start),
+                Timestamp.valueOf(LocalDateTime.now()),
+                Timestamp.valueOf(start.atStartOfDay()),
+                Timestamp.valueOf(start.plusMonths(1).atStartOfDay()));
+    }
+
+    public List<RevenueRollupRow> findRange(YearMonth from, YearMonth to) {
+        return jdbcTemplate.query(
+                "SELECT r.membership_plan_id, r.period_month, r.status, r.payment_count, r.amount_total, "
+                + "r.setup_fee_total, p.plan_name, p.plan_type FROM revenue_rollups r "
+                + "LEFT JOIN membership_plans p ON p.id = r.membership_plan_id "
+                + "WHERE r.period_month >= ? AND r.period_month <= ? AND r.payment_count <> 0 "
+                + "ORDER BY r.period_month, r.membership_plan_id, r.status",
+                (rs, rowNum) -> {
+                    String planType = rs.getString("plan_type");
+                    long planId = rs.getLong("membership_plan_id");
+                    return new RevenueRollupRow(
+                            YearMonth.from(rs.getDate("period_month").toLocalDate()),
+                            planId == NO_PLAN ? null : planId,
+                            rs.getString("plan_name"),
+                            planType != null ? MembershipPlan.PlanType.valueOf(planType) : null,
+                            MembershipPayment.PaymentStatus.valueOf(rs.getString("status")),
+                            rs.getLong("payment_count"),
+                            rs.getBigDecimal("amount_total"),
+                            rs.getBigDecimal("setup_fee_total"));
+                },
+                Date.valueOf(from.atDay(1)), Date.valueOf(to.atDay(1)));
+    }
+}
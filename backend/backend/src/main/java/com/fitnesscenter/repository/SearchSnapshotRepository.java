@@ -0,0 +1,40 @@
+package com.fitnesscenter.repository;
+
+import com.fitnesscenter.service.SearchIndex.DocumentType;
+import com.fitnesscenter.service.SearchIndex.SearchDocument;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class SearchSnapshotRepository {
+    private static final int STREAM_FETCH_SIZE = 5_000;
+
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public SearchSnapshotRepository(DataSource dataSource) {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(STREAM_FETCH_SIZE);
+    }
+
+    public void streamAll(Consumer<SearchDocument> sink) {
+        stream(DocumentType.MEMBER, "SELECT id, member_id AS code, first_name, last_name, email, phone_number, status "
+                + "FROM members", sink);
+        stream(DocumentType.TRAINER, "SELECT id, trainer_id AS code, first_name, last_name, email, phone_number, status "
+                + "FROM trainers", sink);
+    }
+
+    private void stream(DocumentType type, String sql, Consumer<SearchDocument> sink) {
+        streamingJdbcTemplate.query(sql, rs -> {
+            sink.accept(new SearchDocument(
+                    type,
+                    rs.getLong("id"),
+                    rs.getString("code"),
+                    rs.getString("first_name") + " " + rs.getString("last_name"),
+                    rs.getString("email"),
+                    rs.getString("phone_number"),
+                    rs.getString("status")));
+        });
+    }
+}
@@ -0,0 +1,139 @@
+package com.fitnesscenter.repository;
+
+import com.fitnesscenter.model.CheckIn;
+import com.fitnesscenter.model.FitnessClass;
+import com.fitnesscenter.model.Trainer;
+import com.fitnesscenter.model.TrainerAvailability;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+// Bulk inserts for the synthetic-data generator. Like the member importer it bypasses JPA, so
+// entity listeners do not fire; the in-memory views are built from these rows at startup.
+@Repository
+public class SyntheticDataRepository {
+    private static final String INSERT_TRAINER_SQL =
+            "INSERT INTO trainers (trainer_id, first_name, last_name, email, phone_number, date_of_birth, address, "
+            + "city, state, postal_code, gender, certification, years_experience, specialization, bio, hourly_rate, "
+            + "hire_date, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_AVAILABILITY_SQL =
+            "INSERT INTO trainer_availability (trainer_id, day_of_week, start_time, end_time) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_CLASS_SQL =
+            "INSERT INTO fitness_classes (class_name, description, trainer_id, start_time, duration_minutes, capacity, "
+            + "room, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_CHECK_IN_SQL =
+            "INSERT INTO check_ins (member_id, facility, check_in_time, check_out_time, device_id, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SyntheticDataRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public record CheckInRow(long memberId, CheckIn.Facility facility, LocalDateTime checkInTime,
+                             LocalDateTime checkOutTime, String deviceId) {}
+
+    public boolean hasMembersOrTrainers() {
+        return jdbcTemplate.queryForObject("SELECT (SELECT COUNT(*) FROM members) + (SELECT COUNT(*) FROM trainers)",
+                Long.class) > 0;
+    }
+
+    public void insertTrainers(List<Trainer> trainers) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        batch(INSERT_TRAINER_SQL, trainers, (ps, trainer) -> {
+            ps.setString(1, trainer.getTrainerId());
+            ps.setString(2, trainer.getFirstName());
+            ps.setString(3, trainer.getLastName());
+            ps.setString(4, trainer.getEmail());
+            ps.setString(5, trainer.getPhoneNumber());
+            ps.setDate(6, Date.valueOf(trainer.getDateOfBirth()));
+            ps.setString(7, trainer.getAddress());
+            ps.setString(8, trainer.getCity());
+            ps.setString(9, trainer.getState());
+            ps.setString(10, trainer.getPostalCode());
+            ps.setString(11, trainer.getGender().name());
+            ps.setString(12, trainer.getCertification());
+            ps.setInt(13, trainer.getYearsExperience());
+            ps.setString(14, trainer.getSpecialization());
+            ps.setString(15, trainer.getBio());
+            ps.setDouble(16, trainer.getHourlyRate());
+            ps.setDate(17, Date.valueOf(trainer.getHireDate()));
+            ps.setString(18, trainer.getStatus().name());
+            ps.setTimestamp(19, now);
+            ps.setTimestamp(20, now);
+        });
+    }
+
+    // Ordered as inserted; only meaningful on the empty database the generator starts from
+    public List<Long> findTrainerIds() {
+        return jdbcTemplate.queryForList("SELECT id FROM trainers ORDER BY id", Long.class);
+    }
+
+    public void insertAvailability(List<TrainerAvailability> windows) {
+        batch(INSERT_AVAILABILITY_SQL, windows, (ps, window) -> {
+            ps.setLong(1, window.getTrainer().getId());
+            ps.setString(2, window.getDayOfWeek().name());
+            ps.setTime(3, Time.valueOf(window.getStartTime()));
+            ps.setTime(4, Time.valueOf(window.getEndTime()));
+        });
+    }
+
+    public void insertClasses(List<FitnessClass> classes) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        batch(INSERT_CLASS_SQL, classes, (ps, fitnessClass) -> {
+            ps.setString(1, fitnessClass.getClassName());
+            ps.setString(2, fitnessClass.getDescription());
+            ps.setLong(3, fitnessClass.getTrainer().getId());
+            ps.setTimestamp(4, Timestamp.valueOf(fitnessClass.getStartTime()));
+            ps.setInt(5, fitnessClass.getDurationMinutes());
+            ps.setInt(6, fitnessClass.getCapacity());
+            ps.setString(7, fitnessClass.getRoom());
+            ps.setString(8, fitnessClass.getStatus().name());
+            ps.setTimestamp(9, now);
+            ps.setTimestamp(10, now);
+        });
+    }
+
+    public long[] findClassIdRange() {
+        return jdbcTemplate.queryForObject("SELECT MIN(id), MAX(id) FROM fitness_classes",
+                (rs, rowNum) -> new long[] {rs.getLong(1), rs.getLong(2)});
+    }
+
+    public void insertCheckIns(List<CheckInRow> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        batch(INSERT_CHECK_IN_SQL, rows, (ps, row) -> {
+            ps.setLong(1, row.memberId());
+            ps.setString(2, row.facility().name());
+            ps.setTimestamp(3, Timestamp.valueOf(row.checkInTime()));
+            ps.setTimestamp(4, Timestamp.valueOf(row.checkOutTime()));
+            ps.setString(5, row.deviceId());
+            ps.setTimestamp(6, now);
+        });
+    }
+
+    private interface RowBinder<T> {
+        void bind(PreparedStatement ps, T row) throws SQLException;
+    }
+
+    private <T> void batch(String sql, List<T> rows, RowBinder<T> binder) {
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                binder.bind(ps, rows.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+}
@@ -0,0 +1,75 @@
+package com.fitnesscenter.repository;
+
+import com.fitnesscenter.model.Trainer;
+import com.fitnesscenter.service.TrainerAvailabilityIndex.Booking;
+import com.fitnesscenter.service.TrainerAvailabilityIndex.TrainerEntry;
+import com.fitnesscenter.service.TrainerAvailabilityIndex.Window;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class TrainerAvailabilitySnapshotRepository {
+    private static final String TRAINER_SQL =
+            "SELECT id, trainer_id, first_name, last_name, specialization, status FROM trainers";
+    private static final String WINDOW_SQL =
+            "SELECT trainer_id, day_of_week, start_time, end_time FROM trainer_availability";
+    private static final String BOOKING_SQL =
+            "SELECT trainer_id, scheduled_at, duration_minutes FROM workout_sessions "
+            + "WHERE status = 'SCHEDULED' AND scheduled_at >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TrainerAvailabilitySnapshotRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public record TrainerSnapshot(TrainerEntry entry, boolean active, List<Window> windows, List<Booking> bookings) {}
+
+    public List<TrainerSnapshot> findAll(LocalDateTime bookedFrom) {
+        return load(TRAINER_SQL, WINDOW_SQL, BOOKING_SQL, new Object[0], Timestamp.valueOf(bookedFrom));
+    }
+
+    public List<TrainerSnapshot> findByTrainer(Long trainerId, LocalDateTime bookedFrom) {
+        return load(TRAINER_SQL + " WHERE id = ?",
+                WINDOW_SQL + " WHERE trainer_id = ?",
+                BOOKING_SQL + " AND trainer_id = ?",
+                new Object[] {trainerId},
+                Timestamp.valueOf(bookedFrom), trainerId);
+    }
+
+    // Three flat queries instead of walking Trainer.availability/workoutSessions per trainer.
+    private List<TrainerSnapshot> load(String trainerSql, String windowSql, String bookingSql,
+                                       Object[] trainerArgs, Object... bookingArgs) {
+        Map<Long, List<Window>> windows = new HashMap<>();
+        jdbcTemplate.query(windowSql, rs -> {
+            windows.computeIfAbsent(rs.getLong("trainer_id"), id -> new ArrayList<>()).add(new Window(
+                    DayOfWeek.valueOf(rs.getString("day_of_week")),
+                    rs.getTime("start_time").toLocalTime(),
+                    rs.getTime("end_time").toLocalTime()));
+        }, trainerArgs);
+        Map<Long, List<Booking>> bookings = new HashMap<>();
+        jdbcTemplate.query(bookingSql, rs -> {
+            LocalDateTime start = rs.getTimestamp("scheduled_at").toLocalDateTime();
+            bookings.computeIfAbsent(rs.getLong("trainer_id"), id -> new ArrayList<>())
+                    .add(new Booking(start, start.plusMinutes(rs.getInt("duration_minutes"))));
+        }, bookingArgs);
+        return jdbcTemplate.query(trainerSql, (rs, rowNum) -> {
+            Long id = rs.getLong("id");
+            TrainerEntry entry = new TrainerEntry(
+                    id,
+                    rs.getString("trainer_id"),
+                    rs.getString("first_name") + " " + rs.getString("last_name"),
+                    rs.getString("specialization"));
+            boolean active = Trainer.TrainerStatus.ACTIVE.name().equals(rs.getString("status"));
+            return new TrainerSnapshot(entry, active,
+                    windows.getOrDefault(id, List.of()), bookings.getOrDefault(id, List.of()));
+        }, trainerArgs);
+    }
+}
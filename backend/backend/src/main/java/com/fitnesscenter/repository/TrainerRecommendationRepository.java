@@ -0,0 +1,137 @@
+package com.fitnesscenter.repository;
+
+import com.fitnesscenter.dto.TrainerRecommendationResponse;
+import com.fitnesscenter.model.Trainer;
+import com.fitnesscenter.service.TrainerMatchIndex.TrainerProfile;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import javax.sql.DataSource;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class TrainerRecommendationRepository {
+    private static final int STREAM_FETCH_SIZE = 5_000;
+    private static final String TRAINER_SQL = "SELECT id, trainer_id, first_name, last_name, specialization, "
+            + "certification, bio, years_experience, hourly_rate, status FROM trainers";
+    private static final String INSERT_SQL = "INSERT INTO member_trainer_recommendations "
+            + "(member_id, rank_position, trainer_id, score, computed_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public TrainerRecommendationRepository(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(STREAM_FETCH_SIZE);
+    }
+
+    public record MemberProfile(long id, String fitnessGoals, String healthConditions) {}
+
+    public record StoredRecommendation(long memberId, int rank, long trainerId, double score) {}
+
+    public List<TrainerProfile> findTrainers() {
+        return jdbcTemplate.query(TRAINER_SQL, (rs, rowNum) -> trainer(rs));
+    }
+
+    public Optional<TrainerProfile> findTrainer(Long id) {
+        return jdbcTemplate.query(TRAINER_SQL + " WHERE id = ?", (rs, rowNum) -> trainer(rs), id).stream().findFirst();
+    }
+
+    public Optional<MemberProfile> findMember(String memberId) {
+        return jdbcTemplate.query("SELECT id, fitness_goals, health_conditions FROM members WHERE member_id = ?",
+                (rs, rowNum) -> member(rs), memberId).stream().findFirst();
+    }
+
+    // Only active members who wrote something to match on
+    public void streamActiveMembers(Consumer<MemberProfile> sink) {
+        streamingJdbcTemplate.query("SELECT id, fitness_goals, health_conditions FROM members WHERE status = 'ACTIVE' "
+                + "AND (fitness_goals IS NOT NULL OR health_conditions IS NOT NULL) ORDER BY id", rs -> {
+            sink.accept(member(rs));
+        });
+    }
+
+    // Runs on the caller's transaction so a member never shows a half-written list
+    public void replaceForMembers(List<Long> memberIds, List<StoredRecommendation> rows, LocalDateTime computedAt) {
+        namedJdbcTemplate.update("DELETE FROM member_trainer_recommendations WHERE member_id IN (:ids)",
+                Map.of("ids", memberIds));
+        Timestamp timestamp = Timestamp.valueOf(computedAt);
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                StoredRecommendation row = rows.get(i);
+                ps.setLong(1, row.memberId());
+                ps.setInt(2, row.rank());
+                ps.setLong(3, row.trainerId());
+                ps.setDouble(4, row.score());
+                ps.setTimestamp(5, timestamp);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+
+    // Members who left, or cleared their goals, since the previous run
+    public int deleteComputedBefore(LocalDateTime computedAt) {
+        return jdbcTemplate.update("DELETE FROM member_trainer_recommendations WHERE computed_at < ?",
+                Timestamp.valueOf(computedAt));
+    }
+
+    // Trainers who have left or gone inactive since the run are dropped rather than suggested
+    public List<TrainerRecommendationResponse> findForMember(long memberId, int limit) {
+        return jdbcTemplate.query(
+                "SELECT t.id, t.trainer_id, t.first_name, t.last_name, t.specialization, t.years_experience, "
+                + "t.hourly_rate, r.score FROM member_trainer_recommendations r JOIN trainers t ON t.id = r.trainer_id "
+                + "WHERE r.member_id = ? AND t.status = 'ACTIVE' ORDER BY r.rank_position LIMIT ?",
+                (rs, rowNum) -> new TrainerRecommendationResponse(
+                        rs.getLong("id"),
+                        rs.getString("trainer_id"),
+                        rs.getString("first_name") + " " + rs.getString("last_name"),
+                        rs.getString("specialization"),
+                        nullableInt(rs, "years_experience"),
+                        nullableDouble(rs, "hourly_rate"),
+                        rs.getDouble("score")),
+                memberId, limit);
+    }
+
+    private static TrainerProfile trainer(ResultSet rs) throws SQLException {
+        return new TrainerProfile(
+                rs.getLong("id"),
+                rs.getString("trainer_id"),
+                rs.getString("first_name") + " " + rs.getString("last_name"),
+                rs.getString("specialization"),
+                rs.getString("certification"),
+                rs.getString("bio"),
+                nullableInt(rs, "years_experience"),
+                nullableDouble(rs, "hourly_rate"),
+                Trainer.TrainerStatus.ACTIVE.name().equals(rs.getString("status")));
+    }
+
+    private static MemberProfile member(ResultSet rs) throws SQLException {
+        return new MemberProfile(rs.getLong("id"), rs.getString("fitness_goals"), rs.getString("health_conditions"));
+    }
+
+    private static Integer nullableInt(ResultSet rs, String column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static Double nullableDouble(ResultSet rs, String column) throws SQLException {
+        double value = rs.getDouble(column);
+        return rs.wasNull() ? null : value;
+    }
+}
@@ -0,0 +1,26 @@
+package com.fitnesscenter.repository;
+
+import com.fitnesscenter.model.Trainer;
+import com.fitnesscenter.projection.TrainerRosterView;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TrainerRepository extends JpaRepository<Trainer, Long> {
+    Optional<Trainer> findByTrainerId(String trainerId);
+
+    // Counts are correlated subqueries rather than joins so the two collections do not multiply
+    @Query("select t.id as id, t.trainerId as trainerId, t.firstName as firstName, t.lastName as lastName, "
+            + "t.specialization as specialization, t.yearsExperience as yearsExperience, "
+            + "t.hourlyRate as hourlyRate, t.status as status, "
+            + "(select count(s) from WorkoutSession s where s.trainer = t) as sessionCount, "
+            + "(select count(c) from FitnessClass c where c.trainer = t and c.startTime >= :now "
+            + "and c.status = SCHEDULED) as upcomingClassCount "
+            + "from Trainer t where (:status is null or t.status = :status) order by t.lastName, t.firstName, t.id")
+    List<TrainerRosterView> findRoster(@Param("status") Trainer.TrainerStatus status, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,44 @@
+package com.fitnesscenter.repository;
+
+import java.sql.DatabaseMetaData;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+// Single-statement insert-or-update for counter rows keyed by a unique constraint, safe to run
+// inside the caller's transaction. PostgreSQL gets INSERT ... ON CONFLICT DO UPDATE, which never
+// raises on a concurrent insert of the same key and so never aborts the transaction. Other
+// databases get the standard MERGE. H2 can still fail a MERGE with a duplicate key when another
+// transaction inserted the row first, but it rolls back only that statement, and running it once
+// more finds the now committed row and updates it.
+class UpsertTemplate {
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean postgres;
+
+    UpsertTemplate(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.postgres = "PostgreSQL".equals(databaseProductName(jdbcTemplate));
+    }
+
+    // Both statements take the same parameters in the same order
+    int upsert(String mergeSql, String onConflictSql, Object... args) {
+        if (postgres) {
+            return jdbcTemplate.update(onConflictSql, args);
+        }
+        try {
+            return jdbcTemplate.update(mergeSql, args);
+        } catch (DuplicateKeyException e) {
+            return jdbcTemplate.update(mergeSql, args);
+        }
+    }
+
+    private static String databaseProductName(JdbcTemplate jdbcTemplate) {
+        try {
+            return JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+                    DatabaseMetaData::getDatabaseProductName);
+        } catch (MetaDataAccessException e) {
+            return null;
+        }
+    }
+}
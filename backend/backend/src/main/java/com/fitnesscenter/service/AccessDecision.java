@@ -0,0 +1,9 @@
+package com.fitnesscenter.service;
+
+public enum AccessDecision {
+    ALLOWED, UNKNOWN_MEMBER, MEMBER_NOT_ACTIVE, NO_PLAN, PLAN_NOT_ACTIVE, FACILITY_NOT_INCLUDED;
+
+    public boolean isAllowed() {
+        return this == ALLOWED;
+    }
+}
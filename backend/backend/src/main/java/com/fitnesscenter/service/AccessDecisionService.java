@@ -0,0 +1,65 @@
+package com.fitnesscenter.service;
+
+import com.fitnesscenter.event.MemberStatusChangedEvent;
+import com.fitnesscenter.event.MembersImportedEvent;
+import com.fitnesscenter.model.CheckIn;
+import com.fitnesscenter.repository.AccessSnapshotRepository;
+import com.fitnesscenter.repository.AccessSnapshotRepository.AccessRow;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+@Service
+public class AccessDecisionService {
+    private static final Logger log = LoggerFactory.getLogger(AccessDecisionService.class);
+
+    private final AccessIndex accessIndex;
+    private final AccessSnapshotRepository snapshotRepository;
+
+    public AccessDecisionService(AccessIndex accessIndex, AccessSnapshotRepository snapshotRepository) {
+        this.accessIndex = accessIndex;
+        this.snapshotRepository = snapshotRepository;
+    }
+
+    public AccessDecision decide(String memberId, CheckIn.Facility facility) {
+        AccessDecision decision = accessIndex.decide(memberId, facility);
+        return decision != null ? decision : decideFromDatabase(memberId, facility);
+    }
+
+    // Requests that arrive before the warm-up finishes are answered from the database.
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long start = System.nanoTime();
+        snapshotRepository.findAllPlans().forEach(plan ->
+                accessIndex.putPlan(plan.id(), plan.status(), plan.gymAccess(), plan.poolAccess()));
+        snapshotRepository.streamMembers(row ->
+                accessIndex.putMemberIfAbsent(row.id(), row.memberId(), row.planId(), row.status()));
+        accessIndex.markReady();
+        log.info("Access index warmed up with {} members in {} ms",
+                accessIndex.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @EventListener
+    public void onMemberStatusChanged(MemberStatusChangedEvent event) {
+        event.memberIds().forEach(id -> accessIndex.updateStatus(id, event.status()));
+    }
+
+    @EventListener
+    public void onMembersImported(MembersImportedEvent event) {
+        event.members().forEach(member -> accessIndex.putMember(member.getId(), member.getMemberId(),
+                member.getMembershipPlan() != null ? member.getMembershipPlan().getId() : null, member.getStatus()));
+    }
+
+    private AccessDecision decideFromDatabase(String memberId, CheckIn.Facility facility) {
+        Optional<AccessRow> row = snapshotRepository.findByMemberId(memberId);
+        if (row.isEmpty()) {
+            return AccessDecision.UNKNOWN_MEMBER;
+        }
+        AccessSnapshotRepository.PlanAccessRow plan = row.get().plan();
+        byte flags = plan == null ? 0 : AccessIndex.planFlags(plan.status(), plan.gymAccess(), plan.poolAccess());
+        return AccessIndex.evaluate(row.get().member().status(), plan != null, flags, facility);
+    }
+}
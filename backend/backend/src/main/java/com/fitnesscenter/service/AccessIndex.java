@@ -0,0 +1,149 @@
+package com.fitnesscenter.service;
+
+import com.fitnesscenter.model.CheckIn;
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.model.MembershipPlan;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+// Flat access lookup for the door controller. Each member is one packed long
+// (plan id in the high bits, status ordinal in the low byte) and plan flags live in a
+// copy-on-write byte array indexed by plan id, so a decision is two memory reads.
+@Component
+public class AccessIndex {
+    private static final int STATUS_BITS = 8;
+    private static final long STATUS_MASK = (1L << STATUS_BITS) - 1;
+    private static final Member.MemberStatus[] MEMBER_STATUSES = Member.MemberStatus.values();
+
+    static final byte PLAN_KNOWN = 1;
+    static final byte PLAN_ACTIVE = 1 << 1;
+    static final byte GYM_ACCESS = 1 << 2;
+    static final byte POOL_ACCESS = 1 << 3;
+
+    private final ConcurrentHashMap<String, Long> entriesByMemberId = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, String> memberIdsById = new ConcurrentHashMap<>();
+    private volatile byte[] planFlags = new byte[64];
+    private volatile boolean ready;
+
+    // Returns null when the index cannot answer yet and the caller should ask the database.
+    public AccessDecision decide(String memberId, CheckIn.Facility facility) {
+        if (!ready) {
+            return null;
+        }
+        Long entry = entriesByMemberId.get(memberId);
+        if (entry == null) {
+            return AccessDecision.UNKNOWN_MEMBER;
+        }
+        long packed = entry;
+        Member.MemberStatus status = MEMBER_STATUSES[(int) (packed & STATUS_MASK)];
+        long planId = packed >>> STATUS_BITS;
+        byte flags = planId == 0 ? 0 : planFlags(planId);
+        if (planId != 0 && (flags & PLAN_KNOWN) == 0) {
+            return null;
+        }
+        return evaluate(status, planId != 0, flags, facility);
+    }
+
+    static AccessDecision evaluate(Member.MemberStatus status, boolean hasPlan, byte flags, CheckIn.Facility facility) {
+        if (status != Member.MemberStatus.ACTIVE) {
+            return AccessDecision.MEMBER_NOT_ACTIVE;
+        }
+        if (!hasPlan) {
+            return AccessDecision.NO_PLAN;
+        }
+        if ((flags & PLAN_ACTIVE) == 0) {
+            return AccessDecision.PLAN_NOT_ACTIVE;
+        }
+        byte required = facility == CheckIn.Facility.POOL ? POOL_ACCESS : GYM_ACCESS;
+        return (flags & required) != 0 ? AccessDecision.ALLOWED : AccessDecision.FACILITY_NOT_INCLUDED;
+    }
+
+    static byte planFlags(MembershipPlan.PlanStatus status, Boolean gymAccess, Boolean poolAccess) {
+        byte flags = PLAN_KNOWN;
+        if (status == MembershipPlan.PlanStatus.ACTIVE) {
+            flags |= PLAN_ACTIVE;
+        }
+        if (Boolean.TRUE.equals(gymAccess)) {
+            flags |= GYM_ACCESS;
+        }
+        if (Boolean.TRUE.equals(poolAccess)) {
+            flags |= POOL_ACCESS;
+        }
+        return flags;
+    }
+
+    public void putMember(Long id, String memberId, Long planId, Member.MemberStatus status) {
+        String previous = memberIdsById.put(id, memberId);
+        if (previous != null && !previous.equals(memberId)) {
+            entriesByMemberId.remove(previous);
+        }
+        entriesByMemberId.put(memberId, pack(planId, status));
+    }
+
+    // Used by the warm-up scan so it never overwrites a fresher lifecycle update.
+    public void putMemberIfAbsent(Long id, String memberId, Long planId, Member.MemberStatus status) {
+        if (memberIdsById.putIfAbsent(id, memberId) == null) {
+            entriesByMemberId.putIfAbsent(memberId, pack(planId, status));
+        }
+    }
+
+    public void updateStatus(Long id, Member.MemberStatus status) {
+        String memberId = memberIdsById.get(id);
+        if (memberId != null) {
+            entriesByMemberId.computeIfPresent(memberId,
+                    (key, packed) -> (packed & ~STATUS_MASK) | status.ordinal());
+        }
+    }
+
+    public void removeMember(Long id) {
+        String memberId = memberIdsById.remove(id);
+        if (memberId != null) {
+            entriesByMemberId.remove(memberId);
+        }
+    }
+
+    public synchronized void putPlan(Long planId, MembershipPlan.PlanStatus status, Boolean gymAccess, Boolean poolAccess) {
+        byte[] current = planFlags;
+        int index = Math.toIntExact(planId);
+        byte[] next = Arrays.copyOf(current, index < current.length ? current.length : Math.max(index + 1, current.length * 2));
+        next[index] = planFlags(status, gymAccess, poolAccess);
+        planFlags = next;
+    }
+
+    public synchronized void removePlan(Long planId) {
+        byte[] current = planFlags;
+        if (planId < current.length) {
+            byte[] next = current.clone();
+            next[planId.intValue()] = 0;
+            planFlags = next;
+        }
+    }
+
+    public boolean containsMember(String memberId) {
+        return entriesByMemberId.containsKey(memberId);
+    }
+
+    public void markReady() {
+        ready = true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return entriesByMemberId.size();
+    }
+
+    private byte planFlags(long planId) {
+        byte[] flags = planFlags;
+        return planId < flags.length ? flags[(int) planId] : 0;
+    }
+
+    private static long pack(Long planId, Member.MemberStatus status) {
+        long plan = planId != null ? planId : 0L;
+        int ordinal = (status != null ? status : Member.MemberStatus.ACTIVE).ordinal();
+        return (plan << STATUS_BITS) | ordinal;
+    }
+}
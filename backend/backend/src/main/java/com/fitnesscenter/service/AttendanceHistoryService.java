@@ -0,0 +1,195 @@
+package com.fitnesscenter.service;
+
+import com.fitnesscenter.config.CheckInStoreProperties;
+import com.fitnesscenter.dto.AttendanceHeatmapResponse;
+import com.fitnesscenter.dto.ChurnRiskResponse;
+import com.fitnesscenter.dto.MemberVisitFrequencyResponse;
+import com.fitnesscenter.event.AttendanceEvent;
+import com.fitnesscenter.event.AttendancePersistedEvent;
+import com.fitnesscenter.event.CheckInEvent;
+import com.fitnesscenter.event.CheckOutEvent;
+import com.fitnesscenter.model.CheckIn;
+import com.fitnesscenter.repository.CheckInHistoryRepository;
+import com.fitnesscenter.repository.CheckInSegmentStore;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+// Attendance analytics served from the check-in segment store instead of the check_ins table.
+// Check-ins and check-outs are appended on the flusher thread once their rows are written, so the
+// store holds what check_ins holds; history written before the store existed is backfilled once
+// from the table in the background.
+@Service
+public class AttendanceHistoryService {
+    private static final Logger log = LoggerFactory.getLogger(AttendanceHistoryService.class);
+    private static final long SECONDS_PER_DAY = 86_400;
+    private static final long SECONDS_PER_WEEK = 7 * SECONDS_PER_DAY;
+    // 1970-01-01 was a Thursday; shifting by 3 makes Monday day 0
+    private static final int EPOCH_DAY_OF_WEEK_SHIFT = 3;
+
+    private final CheckInSegmentStore store;
+    private final CheckInHistoryRepository historyRepository;
+    private final TaskScheduler taskScheduler;
+    private final CheckInStoreProperties properties;
+    private volatile boolean backfillRunning;
+
+    public AttendanceHistoryService(CheckInSegmentStore store, CheckInHistoryRepository historyRepository,
+                                    TaskScheduler taskScheduler, CheckInStoreProperties properties) {
+        this.store = store;
+        this.historyRepository = historyRepository;
+        this.taskScheduler = taskScheduler;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    void scheduleForce() {
+        taskScheduler.scheduleWithFixedDelay(store::force, properties.getForceInterval());
+    }
+
+    @EventListener
+    public void onAttendancePersisted(AttendancePersistedEvent event) {
+        for (AttendanceEvent attendance : event.events()) {
+            if (attendance instanceof CheckInEvent checkIn) {
+                store.append(checkIn.memberId(), checkIn.checkInTime(), checkIn.facility(),
+                        CheckInSegmentStore.CHECK_IN);
+            } else if (attendance instanceof CheckOutEvent checkOut) {
+                store.append(checkOut.memberId(), checkOut.checkOutTime(), checkOut.facility(),
+                        CheckInSegmentStore.CHECK_OUT);
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (store.isBackfilled()) {
+            return;
+        }
+        backfillRunning = true;
+        Thread thread = new Thread(this::runBackfill, "check-in-store-backfill");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public boolean isBackfillRunning() {
+        return backfillRunning;
+    }
+
+    public AttendanceHeatmapResponse heatmap(LocalDateTime from, LocalDateTime to, CheckIn.Facility facility) {
+        long start = System.nanoTime();
+        long[][] counts = new long[7][24];
+        long[] visits = new long[1];
+        store.scan(from, to, (memberKey, epochSecond, recordFacility, kind) -> {
+            if (kind == CheckInSegmentStore.CHECK_IN && (facility == null || recordFacility == facility)) {
+                long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+                int day = Math.floorMod(epochDay + EPOCH_DAY_OF_WEEK_SHIFT, 7);
+                int hour = (int) (Math.floorMod(epochSecond, SECONDS_PER_DAY) / 3_600);
+                counts[day][hour]++;
+                visits[0]++;
+            }
+        });
+        return new AttendanceHeatmapResponse(from, to, facility, visits[0], counts,
+                (System.nanoTime() - start) / 1_000_000.0);
+    }
+
+    public MemberVisitFrequencyResponse memberFrequency(String memberId, LocalDateTime from, LocalDateTime to) {
+        Map<CheckIn.Facility, Long> byFacility = new EnumMap<>(CheckIn.Facility.class);
+        long[] range = {Long.MAX_VALUE, Long.MIN_VALUE};
+        store.scanMember(memberId, from, to, (memberKey, epochSecond, facility, kind) -> {
+            if (kind == CheckInSegmentStore.CHECK_IN) {
+                byFacility.merge(facility, 1L, Long::sum);
+                range[0] = Math.min(range[0], epochSecond);
+                range[1] = Math.max(range[1], epochSecond);
+            }
+        });
+        long visits = byFacility.values().stream().mapToLong(Long::longValue).sum();
+        if (visits == 0) {
+            return new MemberVisitFrequencyResponse(memberId, 0, byFacility, 0.0, null, null);
+        }
+        long windowStart = from != null ? from.toEpochSecond(ZoneOffset.UTC) : range[0];
+        long windowEnd = to != null ? to.toEpochSecond(ZoneOffset.UTC) : LocalDateTime.now().toEpochSecond(ZoneOffset.UTC);
+        double weeks = Math.max(1.0, (windowEnd - windowStart) / (double) SECONDS_PER_WEEK);
+        return new MemberVisitFrequencyResponse(memberId, visits, byFacility, visits / weeks,
+                toLocalDateTime(range[0]), toLocalDateTime(range[1]));
+    }
+
+    // Members whose visit rate over the recent window fell to at most half of the preceding baseline.
+    // One pass over the store, counting into arrays indexed by member key.
+    public List<ChurnRiskResponse> churnRisk(int recentWeeks, int baselineWeeks, int minBaselineVisits, int limit) {
+        if (recentWeeks < 1 || baselineWeeks < 1) {
+            throw new IllegalArgumentException("Windows must be at least one week");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        long recentStart = now.minusWeeks(recentWeeks).toEpochSecond(ZoneOffset.UTC);
+        LocalDateTime baselineStart = now.minusWeeks(recentWeeks + baselineWeeks);
+        int members = store.memberKeyCount();
+        int[] baseline = new int[members];
+        int[] recent = new int[members];
+        long[] lastVisit = new long[members];
+        store.scan(baselineStart, now, (memberKey, epochSecond, facility, kind) -> {
+            if (kind != CheckInSegmentStore.CHECK_IN || memberKey >= members) {
+                return;
+            }
+            if (epochSecond >= recentStart) {
+                recent[memberKey]++;
+            } else {
+                baseline[memberKey]++;
+            }
+            lastVisit[memberKey] = Math.max(lastVisit[memberKey], epochSecond);
+        });
+
+        List<ChurnRiskResponse> atRisk = new ArrayList<>();
+        for (int key = 0; key < members; key++) {
+            double baselineRate = baseline[key] / (double) baselineWeeks;
+            double recentRate = recent[key] / (double) recentWeeks;
+            if (baseline[key] >= minBaselineVisits && recentRate <= baselineRate / 2) {
+                atRisk.add(new ChurnRiskResponse(store.memberIdOf(key), baselineRate, recentRate,
+                        toLocalDateTime(lastVisit[key])));
+            }
+        }
+        atRisk.sort(Comparator.comparingDouble((ChurnRiskResponse risk) ->
+                risk.recentVisitsPerWeek() / risk.baselineVisitsPerWeek())
+                .thenComparing(ChurnRiskResponse::baselineVisitsPerWeek, Comparator.reverseOrder()));
+        return atRisk.size() > limit ? atRisk.subList(0, limit) : atRisk;
+    }
+
+    private void runBackfill() {
+        long start = System.nanoTime();
+        AtomicLong records = new AtomicLong();
+        try {
+            historyRepository.streamVisitsCreatedBefore(store.getOpenedAt(), (memberId, facility, checkIn, checkOut) -> {
+                store.append(memberId, checkIn, facility, CheckInSegmentStore.CHECK_IN);
+                records.incrementAndGet();
+                if (checkOut != null) {
+                    store.append(memberId, checkOut, facility, CheckInSegmentStore.CHECK_OUT);
+                    records.incrementAndGet();
+                }
+            });
+            store.markBackfilled();
+            log.info("Check-in store backfilled with {} records in {} ms",
+                    records.get(), Duration.ofNanos(System.nanoTime() - start).toMillis());
+        } catch (IOException | RuntimeException e) {
+            // Without the marker the next start clears the store and backfills again
+            log.error("Check-in store backfill failed after {} records", records.get(), e);
+        } finally {
+            backfillRunning = false;
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochSecond) {
+        return epochSecond > 0 ? LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC) : null;
+    }
+}
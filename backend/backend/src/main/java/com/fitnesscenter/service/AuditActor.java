@@ -0,0 +1,45 @@
+package com.fitnesscenter.service;
+
+import java.util.concurrent.Callable;
+
+// Who is making the current change, as recorded in the audit log. Bound per request by
+// AuditActorInterceptor and carried over explicitly to worker threads.
+public final class AuditActor {
+    public static final String SYSTEM = "system";
+    private static final int MAX_LENGTH = 100;
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private AuditActor() {}
+
+    public static String current() {
+        String actor = CURRENT.get();
+        return actor != null ? actor : SYSTEM;
+    }
+
+    public static void set(String actor) {
+        if (actor == null || actor.isBlank()) {
+            CURRENT.remove();
+        } else {
+            String trimmed = actor.strip();
+            CURRENT.set(trimmed.length() > MAX_LENGTH ? trimmed.substring(0, MAX_LENGTH) : trimmed);
+        }
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static <T> T callAs(String actor, Callable<T> action) throws Exception {
+        String previous = CURRENT.get();
+        set(actor);
+        try {
+            return action.call();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
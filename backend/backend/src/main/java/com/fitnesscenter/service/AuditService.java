@@ -0,0 +1,271 @@
+package com.fitnesscenter.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fitnesscenter.config.AuditProperties;
+import com.fitnesscenter.dto.AuditEntryResponse;
+import com.fitnesscenter.dto.AuditLogStats;
+import com.fitnesscenter.model.AuditLogEntry;
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.repository.AuditLogRepository;
+import com.fitnesscenter.repository.AuditLogRepository.AuditRecord;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Change history for members, trainers and plans. Entries are written to the audit_outbox table
+// on the transaction of the change they describe, so they commit or roll back together with it.
+// A single flusher moves them to audit_log in batches, deleting each batch from the outbox in the
+// same transaction as its copy; a failed move or a crash leaves the entries for the next attempt.
+// The outbox is bounded: once the flusher falls that far behind, writers wait briefly for it and
+// then write their entries straight to audit_log, which slows them down instead of growing the
+// outbox without limit. Queries order by changed_at, so such entries still read in order.
+@Service
+public class AuditService implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(AuditService.class);
+    private static final int MAX_CHANGES_LENGTH = 8000;
+
+    private final AuditLogRepository auditLogRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int outboxCapacity;
+    private final int batchSize;
+    private final long pollIntervalMillis;
+    private final long offerTimeoutNanos;
+    // Estimate kept by the writers and corrected by the flusher after every move, so the bound is
+    // checked without counting the table on each write
+    private final AtomicLong outboxDepth = new AtomicLong();
+    private final Object drained = new Object();
+
+    private final AtomicLong recorded = new AtomicLong();
+    private final AtomicLong directWrites = new AtomicLong();
+    private final AtomicLong writtenRows = new AtomicLong();
+    private final AtomicLong failedFlushes = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+    private volatile int lastBatchSize;
+    private volatile long maxFlushNanos;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public AuditService(AuditLogRepository auditLogRepository, ObjectMapper objectMapper,
+                        PlatformTransactionManager transactionManager, AuditProperties properties) {
+        this.auditLogRepository = auditLogRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.outboxCapacity = properties.getOutboxCapacity();
+        this.batchSize = properties.getBatchSize();
+        this.pollIntervalMillis = properties.getPollIntervalMillis();
+        this.offerTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(properties.getOfferTimeoutMillis());
+    }
+
+    public record Change(Object from, Object to) {}
+
+    // Values must already be plain (strings, numbers, dates, enums); associations as their ids.
+    // Call it inside the transaction making the change.
+    public void record(AuditLogEntry.EntityType entityType, long entityId, AuditLogEntry.Action action,
+                       Map<String, Change> changes) {
+        write(List.of(new AuditRecord(entityType, entityId, action, toJson(changes), AuditActor.current(),
+                LocalDateTime.now())));
+    }
+
+    // Bulk JDBC paths bypass Hibernate, so they record their changes themselves in the same transaction
+    public void recordStatusChange(Collection<Long> memberIds, Member.MemberStatus from, Member.MemberStatus to) {
+        String changes = toJson(Map.of("status", new Change(from, to)));
+        String actor = AuditActor.current();
+        LocalDateTime now = LocalDateTime.now();
+        List<AuditRecord> records = new ArrayList<>(memberIds.size());
+        for (Long id : memberIds) {
+            records.add(new AuditRecord(AuditLogEntry.EntityType.MEMBER, id, AuditLogEntry.Action.UPDATE, changes,
+                    actor, now));
+        }
+        write(records);
+    }
+
+    public void recordImported(Collection<Member> members) {
+        String actor = AuditActor.current();
+        LocalDateTime now = LocalDateTime.now();
+        List<AuditRecord> records = new ArrayList<>(members.size());
+        for (Member member : members) {
+            Map<String, Change> changes = new LinkedHashMap<>();
+            changes.put("memberId", new Change(null, member.getMemberId()));
+            changes.put("email", new Change(null, member.getEmail()));
+            changes.put("status", new Change(null, member.getStatus()));
+            changes.put("membershipPlan", new Change(null,
+                    member.getMembershipPlan() != null ? member.getMembershipPlan().getId() : null));
+            changes.put("joinDate", new Change(null, member.getJoinDate()));
+            changes.put("expiryDate", new Change(null, member.getExpiryDate()));
+            records.add(new AuditRecord(AuditLogEntry.EntityType.MEMBER, member.getId(), AuditLogEntry.Action.CREATE,
+                    toJson(changes), actor, now));
+        }
+        write(records);
+    }
+
+    public List<AuditEntryResponse> find(AuditLogEntry.EntityType entityType, Long entityId,
+                                         LocalDateTime from, LocalDateTime to, int limit) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        return auditLogRepository.find(entityType, entityId, from, to, limit).stream()
+                .map(row -> new AuditEntryResponse(row.id(), row.entityType(), row.entityId(), row.action(),
+                        row.changes(), row.actor(), row.changedAt()))
+                .toList();
+    }
+
+    public AuditLogStats getStats() {
+        return new AuditLogStats(
+                getOutboxDepth(),
+                outboxCapacity,
+                recorded.get(),
+                directWrites.get(),
+                writtenRows.get(),
+                failedFlushes.get(),
+                flushes.get(),
+                lastBatchSize,
+                maxFlushNanos / 1_000_000.0);
+    }
+
+    public long getOutboxDepth() {
+        return outboxDepth.get();
+    }
+
+    public int getOutboxCapacity() {
+        return outboxCapacity;
+    }
+
+    private String toJson(Map<String, Change> changes) {
+        if (changes == null || changes.isEmpty()) {
+            return null;
+        }
+        try {
+            String json = objectMapper.writeValueAsString(changes);
+            // Free-text fields can be long; keep the row and mark the diff as cut rather than failing the write
+            return json.length() <= MAX_CHANGES_LENGTH ? json
+                    : objectMapper.writeValueAsString(Map.of("truncated", changes.keySet()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize audit changes", e);
+        }
+    }
+
+    private void write(List<AuditRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        recorded.addAndGet(records.size());
+        if (awaitOutboxSpace()) {
+            auditLogRepository.insertOutbox(records);
+            outboxDepth.addAndGet(records.size());
+        } else {
+            auditLogRepository.insertLog(records);
+            directWrites.addAndGet(records.size());
+        }
+    }
+
+    private boolean awaitOutboxSpace() {
+        if (outboxDepth.get() < outboxCapacity) {
+            return true;
+        }
+        long deadline = System.nanoTime() + offerTimeoutNanos;
+        synchronized (drained) {
+            long remaining;
+            while (outboxDepth.get() >= outboxCapacity && (remaining = deadline - System.nanoTime()) > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(drained, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return outboxDepth.get() < outboxCapacity;
+    }
+
+    private void runFlushLoop() {
+        while (running) {
+            int moved;
+            try {
+                moved = flush();
+            } catch (DataAccessException | TransactionException e) {
+                failedFlushes.incrementAndGet();
+                log.error("Failed to move audit entries from the outbox; they stay there for the next attempt", e);
+                moved = 0;
+            }
+            // A full batch means more are waiting
+            if (moved < batchSize && !sleep()) {
+                return;
+            }
+        }
+    }
+
+    private int flush() {
+        long start = System.nanoTime();
+        Integer result = transactionTemplate.execute(status -> {
+            List<Long> ids = auditLogRepository.findOutboxIds(batchSize);
+            return ids.isEmpty() ? 0 : auditLogRepository.moveOutbox(ids);
+        });
+        int moved = result != null ? result : 0;
+        long elapsed = System.nanoTime() - start;
+        // A short batch drained the outbox apart from entries committed since it was read
+        outboxDepth.set(moved < batchSize ? 0 : auditLogRepository.countOutbox());
+        synchronized (drained) {
+            drained.notifyAll();
+        }
+        if (moved == 0) {
+            return 0;
+        }
+        writtenRows.addAndGet(moved);
+        flushes.incrementAndGet();
+        lastBatchSize = moved;
+        if (elapsed > maxFlushNanos) {
+            maxFlushNanos = elapsed;
+        }
+        return moved;
+    }
+
+    private boolean sleep() {
+        try {
+            Thread.sleep(pollIntervalMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // Entries still in the outbox at shutdown are moved after the next start
+    @Override
+    public void start() {
+        running = true;
+        flusher = new Thread(this::runFlushLoop, "audit-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,215 @@
+package com.fitnesscenter.service;
+
+import com.fitnesscenter.config.CheckInIngestionProperties;
+import com.fitnesscenter.dto.CheckInIngestionStats;
+import com.fitnesscenter.dto.CheckInRequest;
+import com.fitnesscenter.dto.CheckOutRequest;
+import com.fitnesscenter.event.AttendanceEvent;
+import com.fitnesscenter.event.AttendancePersistedEvent;
+import com.fitnesscenter.event.CheckInEvent;
+import com.fitnesscenter.event.CheckOutEvent;
+import com.fitnesscenter.repository.CheckInBatchWriter;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+@Service
+public class CheckInIngestionService implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(CheckInIngestionService.class);
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final CheckInBatchWriter batchWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BlockingQueue<AttendanceEvent> queue;
+    private final int batchSize;
+    private final long lingerNanos;
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong flushedRows = new AtomicLong();
+    private final AtomicLong unmatchedRows = new AtomicLong();
+    private final AtomicLong failedRows = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong totalFlushNanos = new AtomicLong();
+    private volatile long lastFlushNanos;
+    private volatile long maxFlushNanos;
+    private volatile int lastBatchSize;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public CheckInIngestionService(CheckInBatchWriter batchWriter, ApplicationEventPublisher eventPublisher,
+                                   CheckInIngestionProperties properties) {
+        this.batchWriter = batchWriter;
+        this.eventPublisher = eventPublisher;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.batchSize = properties.getBatchSize();
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(properties.getLingerMillis());
+    }
+
+    // Never blocks the turnstile: returns false when the queue is full so the caller can back off.
+    public boolean submit(CheckInRequest request) {
+        return enqueue(new CheckInEvent(
+                request.memberId(),
+                request.facilityOrDefault(),
+                request.checkInTime() != null ? request.checkInTime() : LocalDateTime.now(),
+                request.deviceId()));
+    }
+
+    public boolean submit(CheckOutRequest request) {
+        return enqueue(new CheckOutEvent(
+                request.memberId(),
+                request.facilityOrDefault(),
+                request.checkOutTime() != null ? request.checkOutTime() : LocalDateTime.now(),
+                request.deviceId()));
+    }
+
+    // Accepted events are published right away so live views do not wait for the flush; views that
+    // must agree with check_ins listen for the AttendancePersistedEvent published after the write.
+    private boolean enqueue(AttendanceEvent event) {
+        if (!queue.offer(event)) {
+            rejected.incrementAndGet();
+            return false;
+        }
+        accepted.incrementAndGet();
+        eventPublisher.publishEvent(event);
+        return true;
+    }
+
+    public CheckInIngestionStats getStats() {
+        long flushCount = flushes.get();
+        return new CheckInIngestionStats(
+                queue.size(),
+                queue.size() + queue.remainingCapacity(),
+                accepted.get(),
+                rejected.get(),
+                flushedRows.get(),
+                unmatchedRows.get(),
+                failedRows.get(),
+                flushCount,
+                lastBatchSize,
+                toMillis(lastFlushNanos),
+                flushCount == 0 ? 0.0 : toMillis(totalFlushNanos.get()) / flushCount,
+                toMillis(maxFlushNanos));
+    }
+
+    private void runFlushLoop() {
+        List<AttendanceEvent> batch = new ArrayList<>(batchSize);
+        // Keep draining after stop() until the queue is empty so accepted swipes are not lost
+        while (running || !queue.isEmpty()) {
+            try {
+                AttendanceEvent first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    AttendanceEvent next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                queue.drainTo(batch);
+                flush(batch);
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<AttendanceEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        // Write runs of the same event type in arrival order so a check-out never
+        // overtakes the check-in it closes
+        List<AttendanceEvent> persisted = new ArrayList<>(batch.size());
+        int runStart = 0;
+        for (int i = 1; i <= batch.size(); i++) {
+            if (i == batch.size() || batch.get(i).getClass() != batch.get(runStart).getClass()) {
+                persisted.addAll(flushRun(batch.subList(runStart, i)));
+                runStart = i;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        flushes.incrementAndGet();
+        totalFlushNanos.addAndGet(elapsed);
+        lastFlushNanos = elapsed;
+        lastBatchSize = batch.size();
+        if (elapsed > maxFlushNanos) {
+            maxFlushNanos = elapsed;
+        }
+        if (!persisted.isEmpty()) {
+            try {
+                eventPublisher.publishEvent(new AttendancePersistedEvent(persisted));
+            } catch (RuntimeException e) {
+                log.error("A listener failed on {} persisted attendance events", persisted.size(), e);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<? extends AttendanceEvent> flushRun(List<? extends AttendanceEvent> run) {
+        try {
+            List<? extends AttendanceEvent> written = run.get(0) instanceof CheckInEvent
+                    ? batchWriter.insertBatch((List<CheckInEvent>) run)
+                    : batchWriter.checkOutBatch((List<CheckOutEvent>) run);
+            flushedRows.addAndGet(written.size());
+            unmatchedRows.addAndGet(run.size() - written.size());
+            return written;
+        } catch (DataAccessException e) {
+            failedRows.addAndGet(run.size());
+            log.error("Failed to flush {} attendance events", run.size(), e);
+            return List.of();
+        }
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        flusher = new Thread(this::runFlushLoop, "check-in-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,450 @@
+package com.fitnesscenter.service;
+
+import com.fitnesscenter.config.ClassBookingProperties;
+import com.fitnesscenter.dto.BookingResponse;
+import com.fitnesscenter.dto.ClassAvailabilityResponse;
+import com.fitnesscenter.exception.ConflictException;
+import com.fitnesscenter.model.CheckIn;
+import com.fitnesscenter.model.ClassBooking.BookingStatus;
+import com.fitnesscenter.model.FitnessClass;
+import com.fitnesscenter.repository.ClassBookingRepository;
+import com.fitnesscenter.repository.ClassBookingRepository.BookingRow;
+import com.fitnesscenter.repository.ClassBookingRepository.ClassRow;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Seats are handed out from an in-memory counter per class with a CAS loop, so a rush on one
+// class never queues on a row lock. Every state change goes through a single flusher thread that
+// writes batches in one transaction; callers wait for that commit (group commit) unless
+// fitness.booking.await-persistence is off. The database is the recovery point: a class is loaded
+// from its booking rows the first time it is touched after a restart.
+@Service
+public class ClassBookingService implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(ClassBookingService.class);
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final ClassBookingRepository bookingRepository;
+    private final AccessDecisionService accessDecisionService;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<BookingWrite> queue;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final boolean awaitPersistence;
+
+    private final ConcurrentHashMap<Long, ClassSeats> classes = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public ClassBookingService(ClassBookingRepository bookingRepository, AccessDecisionService accessDecisionService,
+                               PlatformTransactionManager transactionManager, ClassBookingProperties properties) {
+        this.bookingRepository = bookingRepository;
+        this.accessDecisionService = accessDecisionService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.batchSize = properties.getBatchSize();
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(properties.getLingerMillis());
+        this.awaitPersistence = properties.isAwaitPersistence();
+    }
+
+    public CompletableFuture<BookingResponse> book(Long classId, String memberId) {
+        ClassSeats seats = seats(classId);
+        if (!seats.isBookable(LocalDateTime.now())) {
+            throw new ConflictException("Class " + classId + " is not open for booking");
+        }
+        checkEligible(memberId);
+        Reservation reservation = new Reservation(UUID.randomUUID().toString(), memberId, LocalDateTime.now());
+        Reservation existing = seats.reservations.putIfAbsent(memberId, reservation);
+        if (existing != null) {
+            // Retries and double clicks get the reservation the member already holds
+            return acknowledge(seats, existing);
+        }
+        seats.place(reservation);
+        if (!queue.offer(new BookingWrite(seats, reservation, reservation.row(seats.classId), true, reservation.persisted))) {
+            release(seats, reservation);
+            reservation.persisted.completeExceptionally(new RejectedExecutionException("Booking queue is full"));
+            return reservation.persisted.thenApply(v -> response(seats, reservation));
+        }
+        // A seat freed while this booking was joining the waitlist goes to the head of the line
+        promoteWaitlisted(seats);
+        return acknowledge(seats, reservation);
+    }
+
+    public CompletableFuture<Void> cancel(Long classId, String memberId) {
+        ClassSeats seats = seats(classId);
+        Reservation reservation = seats.reservations.get(memberId);
+        if (reservation == null || !release(seats, reservation)) {
+            throw new NoSuchElementException("No booking for member " + memberId + " in class " + classId);
+        }
+        CompletableFuture<Void> written = writeStatus(seats, reservation, BookingStatus.CANCELLED);
+        return awaitPersistence ? written : CompletableFuture.completedFuture(null);
+    }
+
+    public ClassAvailabilityResponse getAvailability(Long classId) {
+        ClassSeats seats = seats(classId);
+        int confirmed = seats.confirmed.get();
+        return new ClassAvailabilityResponse(classId, seats.capacity, confirmed,
+                Math.max(0, seats.capacity - confirmed), seats.waitlist.size(), seats.isBookable(LocalDateTime.now()));
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public int getQueueCapacity() {
+        return queue.size() + queue.remainingCapacity();
+    }
+
+    // Capacity, status and start time may change after the class was loaded; bookings stay as they are.
+    public void refreshClass(Long classId) {
+        ClassSeats seats = classes.get(classId);
+        if (seats == null) {
+            return;
+        }
+        bookingRepository.findClass(classId).ifPresentOrElse(row -> {
+            seats.update(row);
+            promoteWaitlisted(seats);
+        }, () -> classes.remove(classId));
+    }
+
+    public void evictClass(Long classId) {
+        classes.remove(classId);
+    }
+
+    @Scheduled(cron = "0 15 * * * *")
+    public void pruneFinishedClasses() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(1);
+        classes.values().removeIf(seats -> seats.startTime.isBefore(cutoff));
+    }
+
+    private ClassSeats seats(Long classId) {
+        ClassSeats seats = classes.get(classId);
+        return seats != null ? seats : classes.computeIfAbsent(classId, this::load);
+    }
+
+    // Rebuilds the counters from committed rows. Only acknowledged bookings are guaranteed to be
+    // there; a promotion that was lost with the process is redone here for any seat left free.
+    private ClassSeats load(Long classId) {
+        ClassRow row = bookingRepository.findClass(classId)
+                .orElseThrow(() -> new NoSuchElementException("Class not found: " + classId));
+        ClassSeats seats = new ClassSeats(row);
+        for (BookingRow booking : bookingRepository.findActiveBookings(classId)) {
+            seats.restore(Reservation.restored(booking));
+        }
+        promoteWaitlisted(seats);
+        return seats;
+    }
+
+    private void checkEligible(String memberId) {
+        AccessDecision decision = accessDecisionService.decide(memberId, CheckIn.Facility.GYM);
+        switch (decision) {
+            case UNKNOWN_MEMBER -> throw new NoSuchElementException("Member not found: " + memberId);
+            case MEMBER_NOT_ACTIVE, NO_PLAN, PLAN_NOT_ACTIVE ->
+                    throw new ConflictException("Member " + memberId + " cannot book classes: " + decision);
+            default -> { }
+        }
+    }
+
+    // Returns false when the reservation was already cancelled or rolled back.
+    private boolean release(ClassSeats seats, Reservation reservation) {
+        boolean seatFreed;
+        synchronized (reservation) {
+            if (reservation.status == BookingStatus.CANCELLED) {
+                return false;
+            }
+            seatFreed = reservation.status == BookingStatus.CONFIRMED;
+            if (!seatFreed) {
+                seats.waitlist.remove(reservation);
+            }
+            reservation.status = BookingStatus.CANCELLED;
+        }
+        seats.reservations.remove(reservation.memberId, reservation);
+        if (seatFreed) {
+            seats.confirmed.decrementAndGet();
+            promoteWaitlisted(seats);
+        }
+        return true;
+    }
+
+    private void promoteWaitlisted(ClassSeats seats) {
+        while (!seats.waitlist.isEmpty() && seats.tryTakeSeat()) {
+            Reservation next = seats.waitlist.pollFirst();
+            if (next == null || !next.promote()) {
+                // Someone else drained or cancelled the head first; give the seat back and look again
+                seats.confirmed.decrementAndGet();
+                continue;
+            }
+            writeStatus(seats, next, BookingStatus.CONFIRMED);
+        }
+    }
+
+    // Status changes are queued only once the booking row itself is committed so they can never
+    // overtake it; if that write failed the reservation is already gone and so is the change.
+    private CompletableFuture<Void> writeStatus(ClassSeats seats, Reservation reservation, BookingStatus status) {
+        BookingRow row = new BookingRow(seats.classId, reservation.memberId, reservation.reservationId, status, null, null);
+        return reservation.persisted.thenCompose(v -> {
+            CompletableFuture<Void> written = new CompletableFuture<>();
+            if (!queue.offer(new BookingWrite(seats, reservation, row, false, written))) {
+                log.warn("Booking queue full, status {} for reservation {} not written",
+                        status, reservation.reservationId);
+                written.completeExceptionally(new RejectedExecutionException("Booking queue is full"));
+            }
+            return written;
+        });
+    }
+
+    private CompletableFuture<BookingResponse> acknowledge(ClassSeats seats, Reservation reservation) {
+        CompletableFuture<Void> acknowledged = awaitPersistence
+                ? reservation.persisted
+                : CompletableFuture.completedFuture(null);
+        return acknowledged.thenApply(v -> response(seats, reservation));
+    }
+
+    private BookingResponse response(ClassSeats seats, Reservation reservation) {
+        synchronized (reservation) {
+            return new BookingResponse(reservation.reservationId, seats.classId, reservation.memberId,
+                    reservation.status,
+                    reservation.status == BookingStatus.WAITLISTED ? reservation.waitlistPosition : null,
+                    Math.max(0, seats.capacity - seats.confirmed.get()),
+                    reservation.bookedAt);
+        }
+    }
+
+    private void runFlushLoop() {
+        List<BookingWrite> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                BookingWrite first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    BookingWrite next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                queue.drainTo(batch);
+                flush(batch);
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<BookingWrite> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        boolean[] written;
+        try {
+            written = transactionTemplate.execute(status -> write(batch));
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                fail(batch.get(0), e);
+                return;
+            }
+            // Find the offending rows by writing one at a time so the rest of the batch still lands
+            log.warn("Booking batch of {} failed, retrying row by row", batch.size(), e);
+            batch.forEach(write -> flush(List.of(write)));
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            BookingWrite write = batch.get(i);
+            if (written[i]) {
+                write.done().complete(null);
+            } else {
+                fail(write, new NoSuchElementException("Member not found: " + write.row().memberId()));
+            }
+        }
+    }
+
+    // New bookings are written before status changes; the latter only ever target committed rows.
+    private boolean[] write(List<BookingWrite> batch) {
+        List<BookingRow> bookings = new ArrayList<>();
+        List<BookingRow> statusChanges = new ArrayList<>();
+        for (BookingWrite write : batch) {
+            (write.booking() ? bookings : statusChanges).add(write.row());
+        }
+        boolean[] bookingsWritten = bookings.isEmpty() ? new boolean[0] : bookingRepository.upsertBatch(bookings);
+        if (!statusChanges.isEmpty()) {
+            bookingRepository.updateStatusBatch(statusChanges);
+        }
+        boolean[] written = new boolean[batch.size()];
+        int booking = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            written[i] = !batch.get(i).booking() || bookingsWritten[booking++];
+        }
+        return written;
+    }
+
+    private void fail(BookingWrite write, Throwable cause) {
+        if (write.booking()) {
+            release(write.seats(), write.reservation());
+        } else {
+            log.error("Failed to write status {} for reservation {}",
+                    write.row().status(), write.row().reservationId(), cause);
+        }
+        write.done().completeExceptionally(cause);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        flusher = new Thread(this::runFlushLoop, "class-booking-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private record BookingWrite(ClassSeats seats, Reservation reservation, BookingRow row, boolean booking,
+                                CompletableFuture<Void> done) {}
+
+    private static final class ClassSeats {
+        final Long classId;
+        final AtomicInteger confirmed = new AtomicInteger();
+        final AtomicInteger lastWaitlistPosition = new AtomicInteger();
+        final ConcurrentHashMap<String, Reservation> reservations = new ConcurrentHashMap<>();
+        final ConcurrentLinkedDeque<Reservation> waitlist = new ConcurrentLinkedDeque<>();
+        volatile int capacity;
+        volatile FitnessClass.ClassStatus status;
+        volatile LocalDateTime startTime;
+
+        ClassSeats(ClassRow row) {
+            this.classId = row.id();
+            update(row);
+        }
+
+        void update(ClassRow row) {
+            capacity = row.capacity();
+            status = row.status();
+            startTime = row.startTime();
+        }
+
+        boolean isBookable(LocalDateTime now) {
+            return status == FitnessClass.ClassStatus.SCHEDULED && startTime.isAfter(now);
+        }
+
+        // The only way a seat is taken, so confirmed can never pass capacity
+        boolean tryTakeSeat() {
+            for (;;) {
+                int taken = confirmed.get();
+                if (taken >= capacity) {
+                    return false;
+                }
+                if (confirmed.compareAndSet(taken, taken + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        // New bookings do not jump an existing waitlist
+        void place(Reservation reservation) {
+            synchronized (reservation) {
+                if (reservation.status == BookingStatus.CANCELLED) {
+                    // Cancelled before it was placed
+                    return;
+                }
+                if (waitlist.isEmpty() && tryTakeSeat()) {
+                    reservation.status = BookingStatus.CONFIRMED;
+                } else {
+                    reservation.status = BookingStatus.WAITLISTED;
+                    reservation.waitlistPosition = lastWaitlistPosition.incrementAndGet();
+                    waitlist.addLast(reservation);
+                }
+            }
+        }
+
+        // Restored rows keep their stored status even if capacity has since been lowered.
+        void restore(Reservation reservation) {
+            reservations.put(reservation.memberId, reservation);
+            if (reservation.status == BookingStatus.CONFIRMED) {
+                confirmed.incrementAndGet();
+            } else {
+                waitlist.addLast(reservation);
+                lastWaitlistPosition.accumulateAndGet(reservation.waitlistPosition, Math::max);
+            }
+        }
+    }
+
+    private static final class Reservation {
+        final String reservationId;
+        final String memberId;
+        final LocalDateTime bookedAt;
+        final CompletableFuture<Void> persisted = new CompletableFuture<>();
+        // Guarded by this
+        BookingStatus status;
+        int waitlistPosition;
+
+        Reservation(String reservationId, String memberId, LocalDateTime bookedAt) {
+            this.reservationId = reservationId;
+            this.memberId = memberId;
+            this.bookedAt = bookedAt;
+        }
+
+        static Reservation restored(BookingRow row) {
+            Reservation reservation = new Reservation(row.reservationId(), row.memberId(), row.bookedAt());
+            reservation.status = row.status();
+            reservation.waitlistPosition = row.waitlistPosition() != null ? row.waitlistPosition() : 0;
+            reservation.persisted.complete(null);
+            return reservation;
+        }
+
+        synchronized boolean promote() {
+            if (status != BookingStatus.WAITLISTED) {
+                return false;
+            }
+            status = BookingStatus.CONFIRMED;
+            return true;
+        }
+
+        synchronized BookingRow row(Long classId) {
+            return new BookingRow(classId, memberId, reservationId, status,
+                    status == BookingStatus.WAITLISTED ? waitlistPosition : null, bookedAt);
+        }
+    }
+}
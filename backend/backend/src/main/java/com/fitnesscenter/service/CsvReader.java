@@ -0,0 +1,137 @@
+package com.fitnesscenter.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+// Minimal RFC 4180 reader: quoted fields may contain commas, doubled quotes and line breaks.
+// Reads one record per call so an upload is never held in memory.
+class CsvReader {
+    // A quoted field is allowed to span lines, so a stray quote is only noticed at the end of the
+    // input or once the field grows past this many characters
+    static final int MAX_QUOTED_FIELD_LENGTH = 64 * 1024;
+
+    private final Reader reader;
+    private final StringBuilder field = new StringBuilder();
+    private int pending = -2;
+    // Raw input read after the first line break inside the current quoted field, replayed as the
+    // next records if the quote turns out to be unterminated
+    private StringBuilder replay;
+    private CharSequence replaying = "";
+    private int replayPosition;
+
+    CsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    // Returns null at end of input; blank lines are skipped. A record with an unterminated or
+    // overlong quoted field throws MalformedCsvException, and the next call resumes at the line
+    // after the one where that record started.
+    List<String> readRecord() throws IOException {
+        List<String> record = new ArrayList<>();
+        field.setLength(0);
+        replay = null;
+        boolean quoted = false;
+        boolean fieldStarted = false;
+        int c;
+        while ((c = next()) != -1) {
+            if (quoted) {
+                if (replay != null) {
+                    replay.append((char) c);
+                }
+                if (c == '"') {
+                    int following = next();
+                    if (following == '"') {
+                        field.append('"');
+                        if (replay != null) {
+                            replay.append('"');
+                        }
+                    } else if (following == ',' || following == '\n' || following == '\r' || following == -1) {
+                        quoted = false;
+                        replay = null;
+                        pending = following;
+                    } else {
+                        // The quote that opened this field was most likely a stray one
+                        if (replay != null) {
+                            replay.append((char) following);
+                        }
+                        throw malformed("Unexpected character after closing quote");
+                    }
+                } else {
+                    field.append((char) c);
+                    if (replay == null && (c == '\n' || c == '\r')) {
+                        replay = new StringBuilder();
+                    }
+                    if (field.length() > MAX_QUOTED_FIELD_LENGTH) {
+                        throw malformed("Quoted field longer than " + MAX_QUOTED_FIELD_LENGTH + " characters");
+                    }
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+                fieldStarted = true;
+            } else if (c == ',') {
+                record.add(field.toString());
+                field.setLength(0);
+                fieldStarted = true;
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r') {
+                    int following = next();
+                    if (following != '\n') {
+                        pending = following;
+                    }
+                }
+                if (!fieldStarted && field.length() == 0 && record.isEmpty()) {
+                    continue;
+                }
+                record.add(field.toString());
+                return record;
+            } else {
+                field.append((char) c);
+                fieldStarted = true;
+            }
+        }
+        if (quoted) {
+            throw malformed("Unterminated quoted field");
+        }
+        if (fieldStarted || field.length() > 0 || !record.isEmpty()) {
+            record.add(field.toString());
+            return record;
+        }
+        return null;
+    }
+
+    // Puts back what the broken quote swallowed after its first line break. Without one, the
+    // broken record never left its line, so the rest of that line is dropped instead.
+    private MalformedCsvException malformed(String message) throws IOException {
+        if (replay != null) {
+            replaying = replay.append(replaying, replayPosition, replaying.length());
+            replayPosition = 0;
+            replay = null;
+        } else {
+            int c;
+            while ((c = next()) != -1 && c != '\n' && c != '\r') {
+                // skip
+            }
+        }
+        return new MalformedCsvException(message);
+    }
+
+    private int next() throws IOException {
+        if (pending != -2) {
+            int c = pending;
+            pending = -2;
+            return c;
+        }
+        if (replayPosition < replaying.length()) {
+            return replaying.charAt(replayPosition++);
+        }
+        return reader.read();
+    }
+
+    static class MalformedCsvException extends IOException {
+        MalformedCsvException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.fitnesscenter.service;
+
+import com.fitnesscenter.dto.EntitlementBalanceResponse;
+import com.fitnesscenter.dto.EntitlementConsumptionResponse;
+import com.fitnesscenter.event.EntitlementsChangedEvent;
+import com.fitnesscenter.exception.ConflictException;
+import com.fitnesscenter.model.EntitlementBalance.EntitlementType;
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.repository.EntitlementLedgerRepository;
+import com.fitnesscenter.repository.EntitlementLedgerRepository.BalanceRow;
+import com.fitnesscenter.repository.EntitlementLedgerRepository.ConsumptionRow;
+import com.fitnesscenter.repository.EntitlementLedgerRepository.MemberEntitlements;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Personal training sessions and guest passes included in a member's plan. A use is one short
+// transaction: a guarded increment of the period's balance row plus the consumption row under the
+// client's idempotency key. Nothing is read and written back, so the app and the front desk
+// consuming at the same moment can never both take the last unit.
+@Service
+public class EntitlementLedgerService {
+    private static final Logger log = LoggerFactory.getLogger(EntitlementLedgerService.class);
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final EntitlementLedgerRepository ledgerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public EntitlementLedgerService(EntitlementLedgerRepository ledgerRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    ApplicationEventPublisher eventPublisher) {
+        this.ledgerRepository = ledgerRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+    }
+
+    public List<EntitlementBalanceResponse> getBalances(String memberId) {
+        MemberEntitlements member = findMember(memberId);
+        EntitlementPeriod period = EntitlementPeriod.containing(member.joinDate(), member.durationMonths(),
+                LocalDate.now());
+        List<EntitlementBalanceResponse> balances = new ArrayList<>();
+        if (period == null) {
+            return balances;
+        }
+        for (EntitlementType type : EntitlementType.values()) {
+            int quota = Objects.requireNonNullElse(member.quota(type), 0);
+            int used = ledgerRepository.findBalance(member.id(), type, period.start()).map(BalanceRow::used).orElse(0);
+            balances.add(new EntitlementBalanceResponse(type, period.start(), period.end(), quota, used,
+                    Math.max(0, quota - used)));
+        }
+        return balances;
+    }
+
+    // A retry with the same idempotency key returns the original outcome, even if the quota has
+    // run out or the membership has lapsed since.
+    public EntitlementConsumptionResponse consume(String memberId, String idempotencyKey, EntitlementType type,
+                                                  int quantity, String reference) {
+        if (idempotencyKey == null || idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency key must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+        if (quantity < 1) {
+            throw new IllegalArgumentException("Quantity must be at least 1");
+        }
+        Optional<ConsumptionRow> existing = ledgerRepository.findConsumption(idempotencyKey);
+        if (existing.isPresent()) {
+            return replay(existing.get(), memberId, type, quantity);
+        }
+        MemberEntitlements member = findMember(memberId);
+        LocalDate today = LocalDate.now();
+        if (member.status() != Member.MemberStatus.ACTIVE
+                || (member.expiryDate() != null && today.isAfter(member.expiryDate()))) {
+            throw new ConflictException("Membership of " + memberId + " is not active");
+        }
+        EntitlementPeriod period = EntitlementPeriod.containing(member.joinDate(), member.durationMonths(), today);
+        Integer quota = member.quota(type);
+        if (period == null || quota == null || quota <= 0) {
+            throw new ConflictException("Plan of " + memberId + " includes no " + type);
+        }
+
+        ConsumptionRow consumed;
+        try {
+            consumed = transactionTemplate.execute(status -> {
+                ledgerRepository.ensureBalance(member.id(), type, period, quota);
+                if (!ledgerRepository.consume(member.id(), type, period.start(), quantity)) {
+                    throw new ConflictException("No " + type + " left for " + memberId + " until "
+                            + period.end().plusDays(1));
+                }
+                BalanceRow balance = ledgerRepository.findBalance(member.id(), type, period.start()).orElseThrow();
+                ConsumptionRow row = new ConsumptionRow(idempotencyKey, member.memberId(), member.id(), type,
+                        period.start(), period.end(), quantity, balance.quota() - balance.used(), reference,
+                        LocalDateTime.now(), null);
+                ledgerRepository.insertConsumption(row);
+                return row;
+            });
+        } catch (DuplicateKeyException | ConflictException e) {
+            // A concurrent request with the same key may have committed first; the loser saw either
+            // the key conflict or the balance that request had already taken.
+            Optional<ConsumptionRow> winner = ledgerRepository.findConsumption(idempotencyKey);
+            if (winner.isPresent()) {
+                return replay(winner.get(), memberId, type, quantity);
+            }
+            throw e;
+        }
+        eventPublisher.publishEvent(new EntitlementsChangedEvent(member.id(), type));
+        return EntitlementConsumptionResponse.from(consumed, false);
+    }
+
+    // Gives a use back, e.g. for a cancelled session; releasing twice is a no-op. Only the member
+    // who consumed can release, so a key seen elsewhere cannot restore someone else's balance.
+    public EntitlementConsumptionResponse release(String memberId, String idempotencyKey) {
+        ConsumptionRow row = ledgerRepository.findConsumption(memberId, idempotencyKey)
+                .orElseThrow(() -> new NoSuchElementException("Consumption not found: " + idempotencyKey));
+        if (row.releasedAt() != null) {
+            return EntitlementConsumptionResponse.from(row, true);
+        }
+        boolean released = transactionTemplate.execute(status -> {
+            if (!ledgerRepository.markReleased(row.memberKey(), idempotencyKey, LocalDateTime.now())) {
+                return false;
+            }
+            if (!ledgerRepository.restore(row.memberKey(), row.type(), row.periodStart(), row.quantity())) {
+                log.warn("Balance of {} {} for period {} is below the released quantity {}",
+                        row.memberId(), row.type(), row.periodStart(), row.quantity());
+            }
+            return true;
+        });
+        if (released) {
+            eventPublisher.publishEvent(new EntitlementsChangedEvent(row.memberKey(), row.type()));
+        }
+        ConsumptionRow current = ledgerRepository.findConsumption(memberId, idempotencyKey).orElseThrow();
+        return EntitlementConsumptionResponse.from(current, !released);
+    }
+
+    private MemberEntitlements findMember(String memberId) {
+        return ledgerRepository.findMember(memberId)
+                .orElseThrow(() -> new NoSuchElementException("Member not found: " + memberId));
+    }
+
+    private static EntitlementConsumptionResponse replay(ConsumptionRow row, String memberId, EntitlementType type,
+                                                         int quantity) {
+        if (!row.memberId().equals(memberId) || row.type() != type || row.quantity() != quantity) {
+            throw new ConflictException("Idempotency key " + row.idempotencyKey()
+                    + " was already used for a different request");
+        }
+        return EntitlementConsumptionResponse.from(row, true);
+    }
+}
@@ -0,0 +1,29 @@
+package com.fitnesscenter.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+// Entitlements reset every durationMonths counted from the join date, so a renewal that extends
+// the expiry date simply continues the sequence of periods.
+public record EntitlementPeriod(LocalDate start, LocalDate end) {
+
+    public boolean contains(LocalDate date) {
+        return !date.isBefore(start) && !date.isAfter(end);
+    }
+
+    // Null when the member has no join date or the plan no duration
+    public static EntitlementPeriod containing(LocalDate joinDate, Integer durationMonths, LocalDate date) {
+        if (joinDate == null || durationMonths == null || durationMonths <= 0 || date.isBefore(joinDate)) {
+            return null;
+        }
+        // Offsets are always taken from the join date so month-end join dates do not drift
+        long index = ChronoUnit.MONTHS.between(joinDate, date) / durationMonths;
+        LocalDate start = joinDate.plusMonths(index * durationMonths);
+        LocalDate next = joinDate.plusMonths((index + 1) * durationMonths);
+        if (!next.isAfter(date)) {
+            start = next;
+            next = joinDate.plusMonths((index + 2) * durationMonths);
+        }
+        return new EntitlementPeriod(start, next.minusDays(1));
+    }
+}
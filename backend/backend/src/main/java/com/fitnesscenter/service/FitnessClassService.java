@@ -0,0 +1,53 @@
+package com.fitnesscenter.service;
+
+import com.fitnesscenter.dto.FitnessClassRequest;
+import com.fitnesscenter.dto.FitnessClassResponse;
+import com.fitnesscenter.model.FitnessClass;
+import com.fitnesscenter.repository.FitnessClassRepository;
+import com.fitnesscenter.repository.TrainerRepository;
+import java.util.NoSuchElementException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class FitnessClassService {
+    private final FitnessClassRepository fitnessClassRepository;
+    private final TrainerRepository trainerRepository;
+
+    public FitnessClassService(FitnessClassRepository fitnessClassRepository, TrainerRepository trainerRepository) {
+        this.fitnessClassRepository = fitnessClassRepository;
+        this.trainerRepository = trainerRepository;
+    }
+
+    @Transactional
+    public FitnessClassResponse createClass(FitnessClassRequest request) {
+        FitnessClass fitnessClass = new FitnessClass(request.className(), null, request.startTime(),
+                request.durationMinutes(), request.capacity());
+        if (request.trainerId() != null) {
+            fitnessClass.setTrainer(trainerRepository.findByTrainerId(request.trainerId())
+                    .orElseThrow(() -> new NoSuchElementException("Trainer not found: " + request.trainerId())));
+        }
+        fitnessClass.setDescription(request.description());
+        fitnessClass.setRoom(request.room());
+        return FitnessClassResponse.from(fitnessClassRepository.save(fitnessClass));
+    }
+
+    @Transactional
+    public FitnessClassResponse updateCapacity(Long classId, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1");
+        }
+        FitnessClass fitnessClass = fitnessClassRepository.findById(classId)
+                .orElseThrow(() -> new NoSuchElementException("Class not found: " + classId));
+        fitnessClass.setCapacity(capacity);
+        return FitnessClassResponse.from(fitnessClass);
+    }
+
+    @Transactional
+    public FitnessClassResponse cancelClass(Long classId) {
+        FitnessClass fitnessClass = fitnessClassRepository.findById(classId)
+                .orElseThrow(() -> new NoSuchElementException("Class not found: " + classId));
+        fitnessClass.setStatus(FitnessClass.ClassStatus.CANCELLED);
+        return FitnessClassResponse.from(fitnessClass);
+    }
+}
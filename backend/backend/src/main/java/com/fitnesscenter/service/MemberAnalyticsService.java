@@ -0,0 +1,248 @@
+package com.fitnesscenter.service;
+
+import com.fitnesscenter.dto.CohortDistributionResponse;
+import com.fitnesscenter.event.MemberStatusChangedEvent;
+import com.fitnesscenter.event.MembersImportedEvent;
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.model.MembershipPlan;
+import com.fitnesscenter.repository.MemberAnalyticsRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+// Member distributions computed by scanning a columnar snapshot in parallel chunks. Saved and
+// removed members are queued by id and patched into the snapshot before the next query, copying
+// only the columns that change; only a large backlog or a plan change triggers a full reload.
+@Service
+public class MemberAnalyticsService {
+    private static final Logger log = LoggerFactory.getLogger(MemberAnalyticsService.class);
+    private static final int SCAN_CHUNK_SIZE = 16_384;
+    // Above this share of the snapshot, one streaming reload is cheaper than lookups by id
+    private static final double FULL_RELOAD_RATIO = 0.25;
+    private static final String UNKNOWN_LABEL = "UNKNOWN";
+    private static final double[] BMI_LIMITS = {18.5, 25, 30};
+    private static final List<String> BMI_LABELS = List.of("UNDERWEIGHT", "NORMAL", "OVERWEIGHT", "OBESE", UNKNOWN_LABEL);
+    private static final int[] AGE_LIMITS = {18, 25, 35, 45, 55, 65};
+    private static final List<String> AGE_LABELS =
+            List.of("UNDER_18", "18-24", "25-34", "35-44", "45-54", "55-64", "65+", UNKNOWN_LABEL);
+
+    public enum Dimension {
+        BMI, AGE, GENDER, PLAN_TYPE
+    }
+
+    public enum Slice {
+        NONE, STATUS, CITY
+    }
+
+    private final MemberAnalyticsRepository analyticsRepository;
+    private final Set<Long> changed = ConcurrentHashMap.newKeySet();
+    private final Set<Long> removed = ConcurrentHashMap.newKeySet();
+    private volatile MemberCohortSnapshot snapshot;
+    private volatile boolean reloadRequested;
+
+    public MemberAnalyticsService(MemberAnalyticsRepository analyticsRepository) {
+        this.analyticsRepository = analyticsRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reload() {
+        long start = System.nanoTime();
+        reloadRequested = false;
+        changed.clear();
+        removed.clear();
+        MemberCohortSnapshot.Builder builder = MemberCohortSnapshot.builder(snapshot != null ? snapshot.size : 1_024);
+        analyticsRepository.streamAll(builder::put);
+        snapshot = builder.build();
+        log.info("Member cohort snapshot loaded with {} members in {} ms",
+                snapshot.members(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public void onMemberSaved(Long id) {
+        changed.add(id);
+    }
+
+    public void onMemberRemoved(Long id) {
+        removed.add(id);
+    }
+
+    // Plan types are denormalized onto every member slot
+    public void onPlanSaved() {
+        reloadRequested = true;
+    }
+
+    @EventListener
+    public void onMemberStatusChanged(MemberStatusChangedEvent event) {
+        changed.addAll(event.memberIds());
+    }
+
+    @EventListener
+    public void onMembersImported(MembersImportedEvent event) {
+        event.members().forEach(member -> changed.add(member.getId()));
+    }
+
+    public CohortDistributionResponse distribution(Dimension dimension, Member.MemberStatus status, String city,
+                                                   Slice sliceBy) {
+        MemberCohortSnapshot current = current();
+        List<String> buckets = bucketLabels(dimension);
+        List<String> sliceLabels = sliceLabels(sliceBy, current);
+        int statusFilter = status != null ? status.ordinal() : Integer.MIN_VALUE;
+        int cityFilter = city != null ? current.cityCode(city) : Integer.MIN_VALUE;
+        int currentYear = LocalDate.now().getYear();
+        int width = buckets.size();
+
+        long[] counts;
+        if (city != null && cityFilter == MemberCohortSnapshot.UNKNOWN) {
+            counts = new long[sliceLabels.size() * width];
+        } else {
+            int chunks = (current.size + SCAN_CHUNK_SIZE - 1) / SCAN_CHUNK_SIZE;
+            counts = IntStream.range(0, chunks).parallel().collect(
+                    () -> new long[sliceLabels.size() * width],
+                    (partial, chunk) -> scan(current, chunk * SCAN_CHUNK_SIZE,
+                            Math.min(current.size, (chunk + 1) * SCAN_CHUNK_SIZE),
+                            dimension, sliceBy, statusFilter, cityFilter, currentYear, width, partial),
+                    MemberAnalyticsService::addInto);
+        }
+
+        Map<String, long[]> slices = new LinkedHashMap<>();
+        long members = 0;
+        for (int slice = 0; slice < sliceLabels.size(); slice++) {
+            long[] row = Arrays.copyOfRange(counts, slice * width, (slice + 1) * width);
+            long total = Arrays.stream(row).sum();
+            // Cities with no matching members would only add noise
+            if (total > 0 || sliceBy != Slice.CITY) {
+                slices.put(sliceLabels.get(slice), row);
+            }
+            members += total;
+        }
+        return new CohortDistributionResponse(dimension.name(), sliceBy.name(), members, buckets, slices);
+    }
+
+    private MemberCohortSnapshot current() {
+        if (snapshot == null || reloadRequested || !changed.isEmpty() || !removed.isEmpty()) {
+            refresh();
+        }
+        return snapshot;
+    }
+
+    private synchronized void refresh() {
+        if (snapshot == null || reloadRequested
+                || changed.size() + removed.size() > snapshot.members() * FULL_RELOAD_RATIO) {
+            reload();
+            return;
+        }
+        if (changed.isEmpty() && removed.isEmpty()) {
+            return;
+        }
+        List<Long> saved = new ArrayList<>(changed);
+        List<Long> deleted = new ArrayList<>(removed);
+        changed.removeAll(saved);
+        removed.removeAll(deleted);
+        // The builder patches the snapshot's columns only where they change; if the lookup fails
+        // part way, the snapshot can no longer be trusted, so the next query reloads it
+        try {
+            MemberCohortSnapshot.Builder builder = snapshot.toBuilder();
+            analyticsRepository.findByIds(saved, builder::put);
+            deleted.forEach(builder::remove);
+            snapshot = builder.build();
+        } catch (RuntimeException e) {
+            reloadRequested = true;
+            throw e;
+        }
+    }
+
+    private static void scan(MemberCohortSnapshot snapshot, int from, int to, Dimension dimension, Slice sliceBy,
+                             int statusFilter, int cityFilter, int currentYear, int width, long[] counts) {
+        byte[] statuses = snapshot.statuses;
+        int[] cities = snapshot.cities;
+        int unknownBucket = width - 1;
+        for (int i = from; i < to; i++) {
+            byte status = statuses[i];
+            if (status == MemberCohortSnapshot.REMOVED
+                    || (statusFilter != Integer.MIN_VALUE && status != statusFilter)
+                    || (cityFilter != Integer.MIN_VALUE && cities[i] != cityFilter)) {
+                continue;
+            }
+            int bucket = switch (dimension) {
+                case BMI -> bmiBucket(snapshot.heights[i], snapshot.weights[i]);
+                case AGE -> snapshot.birthYears[i] == 0 ? -1 : band(currentYear - snapshot.birthYears[i], AGE_LIMITS);
+                case GENDER -> snapshot.genders[i];
+                case PLAN_TYPE -> snapshot.planTypes[i];
+            };
+            int slice = switch (sliceBy) {
+                case NONE -> 0;
+                case STATUS -> status >= 0 ? status : Member.MemberStatus.values().length;
+                case CITY -> cities[i] >= 0 ? cities[i] : snapshot.cityNames.size();
+            };
+            counts[slice * width + (bucket >= 0 ? bucket : unknownBucket)]++;
+        }
+    }
+
+    // Same formula as Member.getBMI(); -1 when height or weight is missing
+    private static int bmiBucket(double height, double weight) {
+        if (Double.isNaN(height) || Double.isNaN(weight) || height <= 0) {
+            return -1;
+        }
+        double heightInMeters = height / 100.0;
+        double bmi = weight / (heightInMeters * heightInMeters);
+        int bucket = 0;
+        while (bucket < BMI_LIMITS.length && bmi >= BMI_LIMITS[bucket]) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    private static int band(int age, int[] limits) {
+        int band = 0;
+        while (band < limits.length && age >= limits[band]) {
+            band++;
+        }
+        return band;
+    }
+
+    private static List<String> bucketLabels(Dimension dimension) {
+        return switch (dimension) {
+            case BMI -> BMI_LABELS;
+            case AGE -> AGE_LABELS;
+            case GENDER -> withUnknown(Member.Gender.values());
+            case PLAN_TYPE -> withUnknown(MembershipPlan.PlanType.values());
+        };
+    }
+
+    private static List<String> sliceLabels(Slice sliceBy, MemberCohortSnapshot snapshot) {
+        return switch (sliceBy) {
+            case NONE -> List.of("ALL");
+            case STATUS -> withUnknown(Member.MemberStatus.values());
+            case CITY -> {
+                List<String> labels = new ArrayList<>(snapshot.cityNames);
+                labels.add(UNKNOWN_LABEL);
+                yield labels;
+            }
+        };
+    }
+
+    private static List<String> withUnknown(Enum<?>[] values) {
+        List<String> labels = new ArrayList<>(values.length + 1);
+        for (Enum<?> value : values) {
+            labels.add(value.name());
+        }
+        labels.add(UNKNOWN_LABEL);
+        return labels;
+    }
+
+    private static void addInto(long[] target, long[] source) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] += source[i];
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.fitnesscenter.service;
+
+import com.fitnesscenter.repository.MemberAnalyticsRepository.CohortRow;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Column-per-attribute copy of the members table, one slot per member. Enums are stored as
+// ordinals and cities as dictionary codes, so a full scan touches a few flat primitive arrays.
+// Instances are never modified once built; changes go through a Builder.
+final class MemberCohortSnapshot {
+    static final byte UNKNOWN = -1;
+    // Status of a slot whose member was deleted; such slots are skipped by every scan
+    static final byte REMOVED = -2;
+
+    final int size;
+    final double[] heights;
+    final double[] weights;
+    final int[] birthYears;
+    final byte[] genders;
+    final byte[] statuses;
+    final byte[] planTypes;
+    final int[] cities;
+    final List<String> cityNames;
+    final int removed;
+    private final Map<Long, Integer> slots;
+    private final Map<String, Integer> cityCodes;
+
+    private MemberCohortSnapshot(Builder builder) {
+        this.size = builder.size;
+        this.heights = builder.heights;
+        this.weights = builder.weights;
+        this.birthYears = builder.birthYears;
+        this.genders = builder.genders;
+        this.statuses = builder.statuses;
+        this.planTypes = builder.planTypes;
+        this.cities = builder.cities;
+        this.cityNames = List.copyOf(builder.cityNames);
+        this.cityCodes = builder.cityCodes;
+        this.slots = builder.slots;
+        this.removed = builder.removed;
+    }
+
+    static Builder builder(int expectedSize) {
+        return new Builder(Math.max(expectedSize, 16));
+    }
+
+    Builder toBuilder() {
+        return new Builder(this);
+    }
+
+    int members() {
+        return size - removed;
+    }
+
+    // UNKNOWN for a city that no member lives in
+    int cityCode(String city) {
+        Integer code = cityCodes.get(normalize(city));
+        return code != null ? code : UNKNOWN;
+    }
+
+    private static String normalize(String city) {
+        return city.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // A builder derived from a snapshot shares its arrays and maps and copies each one only on the
+    // first write that changes it, so patching a few members copies just the columns they touch.
+    // Slots past the snapshot's size are never read through it, so appends need no copy either.
+    static final class Builder {
+        private static final int HEIGHTS = 1;
+        private static final int WEIGHTS = 1 << 1;
+        private static final int BIRTH_YEARS = 1 << 2;
+        private static final int GENDERS = 1 << 3;
+        private static final int STATUSES = 1 << 4;
+        private static final int PLAN_TYPES = 1 << 5;
+        private static final int CITIES = 1 << 6;
+        private static final int CITY_DICTIONARY = 1 << 7;
+
+        private int size;
+        private double[] heights;
+        private double[] weights;
+        private int[] birthYears;
+        private byte[] genders;
+        private byte[] statuses;
+        private byte[] planTypes;
+        private int[] cities;
+        private List<String> cityNames;
+        private Map<String, Integer> cityCodes;
+        private final Map<Long, Integer> slots;
+        private int removed;
+        // Columns still backed by the snapshot this builder was derived from
+        private int shared;
+
+        private Builder(int capacity) {
+            heights = new double[capacity];
+            weights = new double[capacity];
+            birthYears = new int[capacity];
+            genders = new byte[capacity];
+            statuses = new byte[capacity];
+            planTypes = new byte[capacity];
+            cities = new int[capacity];
+            cityNames = new ArrayList<>();
+            cityCodes = new HashMap<>();
+            slots = new HashMap<>(capacity * 2);
+        }
+
+        // Readers only look slots up through a builder, and at most one builder is derived from
+        // each snapshot, so the slot map is handed over rather than copied.
+        private Builder(MemberCohortSnapshot snapshot) {
+            size = snapshot.size;
+            heights = snapshot.heights;
+            weights = snapshot.weights;
+            birthYears = snapshot.birthYears;
+            genders = snapshot.genders;
+            statuses = snapshot.statuses;
+            planTypes = snapshot.planTypes;
+            cities = snapshot.cities;
+            cityNames = snapshot.cityNames;
+            cityCodes = snapshot.cityCodes;
+            slots = snapshot.slots;
+            removed = snapshot.removed;
+            shared = HEIGHTS | WEIGHTS | BIRTH_YEARS | GENDERS | STATUSES | PLAN_TYPES | CITIES | CITY_DICTIONARY;
+        }
+
+        Builder put(CohortRow row) {
+            Integer existing = slots.get(row.id());
+            int slot;
+            if (existing != null) {
+                slot = existing;
+                if (statuses[slot] == REMOVED) {
+                    removed--;
+                }
+            } else {
+                if (size == statuses.length) {
+                    grow();
+                }
+                slot = size++;
+                slots.put(row.id(), slot);
+            }
+            boolean appended = existing == null;
+            double height = row.height();
+            if (Double.compare(heights[slot], height) != 0) {
+                if (!appended && copy(HEIGHTS)) {
+                    heights = heights.clone();
+                }
+                heights[slot] = height;
+            }
+            double weight = row.weight();
+            if (Double.compare(weights[slot], weight) != 0) {
+                if (!appended && copy(WEIGHTS)) {
+                    weights = weights.clone();
+                }
+                weights[slot] = weight;
+            }
+            int birthYear = row.birthYear();
+            if (birthYears[slot] != birthYear) {
+                if (!appended && copy(BIRTH_YEARS)) {
+                    birthYears = birthYears.clone();
+                }
+                birthYears[slot] = birthYear;
+            }
+            byte gender = row.gender() != null ? (byte) row.gender().ordinal() : UNKNOWN;
+            if (genders[slot] != gender) {
+                if (!appended && copy(GENDERS)) {
+                    genders = genders.clone();
+                }
+                genders[slot] = gender;
+            }
+            setStatus(slot, row.status() != null ? (byte) row.status().ordinal() : UNKNOWN, appended);
+            byte planType = row.planType() != null ? (byte) row.planType().ordinal() : UNKNOWN;
+            if (planTypes[slot] != planType) {
+                if (!appended && copy(PLAN_TYPES)) {
+                    planTypes = planTypes.clone();
+                }
+                planTypes[slot] = planType;
+            }
+            int city = cityCode(row.city());
+            if (cities[slot] != city) {
+                if (!appended && copy(CITIES)) {
+                    cities = cities.clone();
+                }
+                cities[slot] = city;
+            }
+            return this;
+        }
+
+        Builder remove(long id) {
+            Integer slot = slots.get(id);
+            if (slot != null && statuses[slot] != REMOVED) {
+                setStatus(slot, REMOVED, false);
+                removed++;
+            }
+            return this;
+        }
+
+        MemberCohortSnapshot build() {
+            return new MemberCohortSnapshot(this);
+        }
+
+        private void setStatus(int slot, byte status, boolean appended) {
+            if (statuses[slot] != status) {
+                if (!appended && copy(STATUSES)) {
+                    statuses = statuses.clone();
+                }
+                statuses[slot] = status;
+            }
+        }
+
+        // True the first time a shared column is written, when the caller must take its own copy
+        private boolean copy(int column) {
+            if ((shared & column) == 0) {
+                return false;
+            }
+            shared &= ~column;
+            return true;
+        }
+
+        private int cityCode(String city) {
+            if (city == null || city.isBlank()) {
+                return UNKNOWN;
+            }
+            String key = normalize(city);
+            Integer code = cityCodes.get(key);
+            if (code != null) {
+                return code;
+            }
+            if (copy(CITY_DICTIONARY)) {
+                cityNames = new ArrayList<>(cityNames);
+                cityCodes = new HashMap<>(cityCodes);
+            }
+            cityNames.add(city.trim());
+            cityCodes.put(key, cityNames.size() - 1);
+            return cityNames.size() - 1;
+        }
+
+        // Fresh arrays, so nothing is shared with the snapshot afterwards
+        private void grow() {
+            int capacity = statuses.length * 2;
+            heights = Arrays.copyOf(heights, capacity);
+            weights = Arrays.copyOf(weights, capacity);
+            birthYears = Arrays.copyOf(birthYears, capacity);
+            genders = Arrays.copyOf(genders, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+            planTypes = Arrays.copyOf(planTypes, capacity);
+            cities = Arrays.copyOf(cities, capacity);
+            shared &= CITY_DICTIONARY;
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package com.fitnesscenter.service;
+
+import com.fitnesscenter.dto.DashboardConsistencyReport;
+import com.fitnesscenter.dto.MemberDashboardResponse;
+import com.fitnesscenter.event.AttendanceEvent;
+import com.fitnesscenter.event.AttendancePersistedEvent;
+import com.fitnesscenter.event.CheckInEvent;
+import com.fitnesscenter.event.EntitlementsChangedEvent;
+import com.fitnesscenter.event.MemberStatusChangedEvent;
+import com.fitnesscenter.event.MembersImportedEvent;
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.repository.MemberDashboardRepository;
+import com.fitnesscenter.repository.MemberDashboardRepository.AttendanceRow;
+import com.fitnesscenter.repository.MemberDashboardRepository.MemberRow;
+import com.fitnesscenter.service.MemberDashboardStore.Dashboard;
+import com.fitnesscenter.service.MemberDashboardStore.PlanInfo;
+import com.fitnesscenter.service.MemberDashboardStore.UpcomingSession;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+// Read side of the member home screen. Check-ins and bulk status changes are applied to the
+// store directly from their events; saves of members, payments and sessions queue the member
+// for a refresh, and queued members are re-read in batches on one background thread.
+@Service
+public class MemberDashboardService {
+    private static final Logger log = LoggerFactory.getLogger(MemberDashboardService.class);
+    private static final int UPCOMING_SESSIONS = 5;
+    private static final int REFRESH_BATCH_SIZE = 500;
+    private static final int MAX_REPORTED_MEMBERS = 20;
+
+    private final MemberDashboardStore store;
+    private final MemberDashboardRepository dashboardRepository;
+    private final Set<Long> pendingRefresh = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    // Members queued while a rebuild reads the tables, refreshed again once it has been applied
+    private volatile Set<Long> touchedDuringRebuild;
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "member-dashboard-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public MemberDashboardService(MemberDashboardStore store, MemberDashboardRepository dashboardRepository) {
+        this.store = store;
+        this.dashboardRepository = dashboardRepository;
+    }
+
+    public MemberDashboardResponse getDashboard(String memberId) {
+        Dashboard dashboard = store.get(memberId);
+        if (dashboard == null) {
+            // Not built yet, or saved a moment ago and still queued
+            dashboard = dashboardRepository.findIdByMemberId(memberId)
+                    .map(id -> load(List.of(id)).get(id))
+                    .orElseThrow(() -> new NoSuchElementException("Member not found: " + memberId));
+            store.merge(dashboard);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<UpcomingSession> upcoming = dashboard.upcomingSessions();
+        if (!upcoming.isEmpty() && upcoming.get(0).scheduledAt().isBefore(now)) {
+            // A session has started since the last refresh; the next one may be missing from the list
+            requestRefresh(dashboard.id());
+            upcoming = upcoming.stream().filter(session -> !session.scheduledAt().isBefore(now)).toList();
+        }
+        return response(dashboard, store.plan(dashboard.planId()), now, upcoming);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public int rebuild() {
+        long start = System.nanoTime();
+        Set<Long> touched = ConcurrentHashMap.newKeySet();
+        touchedDuringRebuild = touched;
+        try {
+            store.replacePlans(dashboardRepository.findPlans());
+            Set<Long> before = store.memberIds().keySet();
+            Map<Long, Dashboard> fresh = load(null);
+            // Merged rather than replaced so swipes accepted while the tables were read are kept
+            fresh.values().forEach(store::merge);
+            before.stream().filter(id -> !fresh.containsKey(id)).forEach(store::remove);
+        } finally {
+            touchedDuringRebuild = null;
+        }
+        touched.forEach(this::requestRefresh);
+        log.info("Member dashboards rebuilt for {} members in {} ms",
+                store.size(), (System.nanoTime() - start) / 1_000_000);
+        return store.size();
+    }
+
+    // Recomputes every dashboard from the tables and compares it with the store. Members written
+    // while the check runs can show up as stale; repair replaces every entry that differs.
+    public DashboardConsistencyReport verify(boolean repair) {
+        long start = System.nanoTime();
+        Map<Long, String> stored = store.memberIds();
+        Map<Long, Dashboard> expected = load(null);
+        int missing = 0;
+        int stale = 0;
+        List<String> sample = new ArrayList<>();
+        for (Dashboard dashboard : expected.values()) {
+            Dashboard current = store.getById(dashboard.id());
+            if (current != null && current.equals(dashboard)) {
+                continue;
+            }
+            if (current == null) {
+                missing++;
+            } else {
+                stale++;
+            }
+            if (sample.size() < MAX_REPORTED_MEMBERS) {
+                sample.add(dashboard.memberId());
+            }
+            if (repair) {
+                store.put(dashboard);
+            }
+        }
+        List<Long> orphaned = stored.keySet().stream().filter(id -> !expected.containsKey(id)).toList();
+        for (Long id : orphaned) {
+            if (sample.size() < MAX_REPORTED_MEMBERS) {
+                sample.add(stored.get(id));
+            }
+            if (repair) {
+                store.remove(id);
+            }
+        }
+        return new DashboardConsistencyReport(expected.size(), missing, stale, orphaned.size(), sample, repair,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public void requestRefresh(Long memberId) {
+        if (memberId == null) {
+            return;
+        }
+        Set<Long> touched = touchedDuringRebuild;
+        if (touched != null) {
+            touched.add(memberId);
+        }
+        if (pendingRefresh.add(memberId) && draining.compareAndSet(false, true)) {
+            refreshExecutor.execute(this::drain);
+        }
+    }
+
+    public void onMemberRemoved(Long memberId) {
+        store.remove(memberId);
+    }
+
+    // A new duration moves the membership period of every member on the plan
+    public void onPlanSaved(PlanInfo plan) {
+        PlanInfo previous = store.plan(plan.id());
+        store.putPlan(plan);
+        if (previous != null && !Objects.equals(previous.durationMonths(), plan.durationMonths())) {
+            store.idsOnPlan(plan.id()).forEach(this::requestRefresh);
+        }
+    }
+
+    // Counts only check-ins whose row was written, so the dashboard agrees with check_ins
+    @EventListener
+    public void onAttendancePersisted(AttendancePersistedEvent event) {
+        for (AttendanceEvent attendance : event.events()) {
+            if (attendance instanceof CheckInEvent checkIn) {
+                store.recordCheckIn(checkIn.memberId(), checkIn.checkInTime());
+            }
+        }
+    }
+
+    @EventListener
+    public void onMemberStatusChanged(MemberStatusChangedEvent event) {
+        event.memberIds().forEach(id -> store.updateStatus(id, event.status()));
+    }
+
+    @EventListener
+    public void onEntitlementsChanged(EntitlementsChangedEvent event) {
+        requestRefresh(event.memberId());
+    }
+
+    // Imported members have no activity yet, so the detached entities are enough
+    @EventListener
+    public void onMembersImported(MembersImportedEvent event) {
+        for (Member member : event.members()) {
+            store.merge(new Dashboard(member.getId(), member.getMemberId(), member.getFullName(), member.getStatus(),
+                    member.getMembershipPlan() != null ? member.getMembershipPlan().getId() : null,
+                    member.getJoinDate(), member.getExpiryDate(), null, null, 0, 0, null, List.of()));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refreshExecutor.shutdown();
+    }
+
+    private void drain() {
+        try {
+            while (!pendingRefresh.isEmpty()) {
+                List<Long> batch = new ArrayList<>(REFRESH_BATCH_SIZE);
+                Iterator<Long> ids = pendingRefresh.iterator();
+                while (ids.hasNext() && batch.size() < REFRESH_BATCH_SIZE) {
+                    batch.add(ids.next());
+                    ids.remove();
+                }
+                try {
+                    Map<Long, Dashboard> loaded = load(batch);
+                    batch.forEach(id -> {
+                        Dashboard dashboard = loaded.get(id);
+                        if (dashboard != null) {
+                            store.merge(dashboard);
+                        } else {
+                            store.remove(id);
+                        }
+                    });
+                } catch (RuntimeException e) {
+                    log.error("Failed to refresh dashboards for {} members", batch.size(), e);
+                }
+            }
+        } finally {
+            draining.set(false);
+            // A request that arrived between the last check and the reset would otherwise wait for the next one
+            if (!pendingRefresh.isEmpty() && draining.compareAndSet(false, true)) {
+                refreshExecutor.execute(this::drain);
+            }
+        }
+    }
+
+    // ids null reads every member
+    private Map<Long, Dashboard> load(Collection<Long> ids) {
+        LocalDateTime now = LocalDateTime.now();
+        YearMonth month = YearMonth.from(now);
+        Map<Long, AttendanceRow> attendance = dashboardRepository.findAttendance(ids, month.atDay(1).atStartOfDay());
+        Map<Long, LocalDateTime> payments = dashboardRepository.findLastPayments(ids);
+        Map<Long, List<UpcomingSession>> upcoming = dashboardRepository.findUpcomingSessions(ids, now, UPCOMING_SESSIONS);
+        Map<Long, Integer> personalTraining = dashboardRepository.findPersonalTrainingUsed(ids, now.toLocalDate());
+
+        Map<Long, Dashboard> dashboards = new HashMap<>();
+        Consumer<MemberRow> assemble = row -> {
+            AttendanceRow visits = attendance.get(row.id());
+            dashboards.put(row.id(), new Dashboard(row.id(), row.memberId(), row.fullName(), row.status(),
+                    row.planId(), row.joinDate(), row.expiryDate(),
+                    visits != null ? visits.lastCheckInAt() : null,
+                    visits != null && visits.visitsSince() > 0 ? month : null,
+                    visits != null ? visits.visitsSince() : 0,
+                    personalTraining.getOrDefault(row.id(), 0),
+                    payments.get(row.id()),
+                    List.copyOf(upcoming.getOrDefault(row.id(), List.of()))));
+        };
+        if (ids == null) {
+            dashboardRepository.streamMembers(assemble);
+        } else {
+            dashboardRepository.findMembers(ids).forEach(assemble);
+        }
+        return dashboards;
+    }
+
+    private static MemberDashboardResponse response(Dashboard dashboard, PlanInfo plan, LocalDateTime now,
+                                                    List<UpcomingSession> upcoming) {
+        LocalDate today = now.toLocalDate();
+        LocalDate expiry = effectiveExpiry(dashboard.joinDate(), dashboard.expiryDate(), plan);
+        Integer included = plan != null ? plan.personalTrainingSessions() : null;
+        return new MemberDashboardResponse(
+                dashboard.memberId(),
+                dashboard.fullName(),
+                dashboard.status(),
+                dashboard.planId(),
+                plan != null ? plan.planName() : null,
+                plan != null ? plan.planType() : null,
+                expiry,
+                expiry != null ? ChronoUnit.DAYS.between(today, expiry) : null,
+                dashboard.lastCheckInAt(),
+                YearMonth.from(today).equals(dashboard.visitMonth()) ? dashboard.visitsInMonth() : 0,
+                included,
+                included != null ? Math.max(0, included - dashboard.personalTrainingUsed()) : null,
+                dashboard.lastPaymentAt(),
+                upcoming);
+    }
+
+    // Same rule as MembershipExpiryService: the stored expiry date, else joinDate plus the plan duration
+    private static LocalDate effectiveExpiry(LocalDate joinDate, LocalDate expiryDate, PlanInfo plan) {
+        if (expiryDate != null) {
+            return expiryDate;
+        }
+        if (joinDate == null || plan == null || plan.durationMonths() == null) {
+            return null;
+        }
+        return joinDate.plusMonths(plan.durationMonths()).minusDays(1);
+    }
+}
@@ -0,0 +1,153 @@
+package com.fitnesscenter.service;
+
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.model.MembershipPlan;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+// Home-screen state per member, keyed by member code. Entries are immutable and replaced whole,
+// so an app open is one hash lookup and never sees a half-applied update. Plan details are kept
+// once per plan and joined at read time, so a plan rename does not touch its members.
+@Component
+public class MemberDashboardStore {
+
+    public record PlanInfo(Long id, String planName, MembershipPlan.PlanType planType, Integer durationMonths,
+                           Integer personalTrainingSessions) {}
+
+    public record UpcomingSession(Long id, LocalDateTime scheduledAt, Integer durationMinutes, String sessionType,
+                                  String trainerName) {}
+
+    public record Dashboard(Long id, String memberId, String fullName, Member.MemberStatus status, Long planId,
+                            LocalDate joinDate, LocalDate expiryDate, LocalDateTime lastCheckInAt,
+                            YearMonth visitMonth, int visitsInMonth, int personalTrainingUsed,
+                            LocalDateTime lastPaymentAt, List<UpcomingSession> upcomingSessions) {
+
+        Dashboard withCheckIn(LocalDateTime checkInTime) {
+            YearMonth month = YearMonth.from(checkInTime);
+            LocalDateTime last = lastCheckInAt == null || checkInTime.isAfter(lastCheckInAt) ? checkInTime : lastCheckInAt;
+            if (visitMonth != null && month.isBefore(visitMonth)) {
+                return withAttendance(last, visitMonth, visitsInMonth);
+            }
+            return withAttendance(last, month, month.equals(visitMonth) ? visitsInMonth + 1 : 1);
+        }
+
+        // Check-ins are only ever added, so a database read that has not yet seen the latest
+        // accepted swipes must not lower the in-memory figures: the later time and the larger
+        // count for the newer month win.
+        Dashboard withAttendanceFrom(Dashboard current) {
+            LocalDateTime last = lastCheckInAt;
+            if (current.lastCheckInAt != null && (last == null || current.lastCheckInAt.isAfter(last))) {
+                last = current.lastCheckInAt;
+            }
+            YearMonth month = visitMonth;
+            int visits = visitsInMonth;
+            if (current.visitMonth != null) {
+                if (month == null || current.visitMonth.isAfter(month)) {
+                    month = current.visitMonth;
+                    visits = current.visitsInMonth;
+                } else if (current.visitMonth.equals(month)) {
+                    visits = Math.max(visits, current.visitsInMonth);
+                }
+            }
+            return withAttendance(last, month, visits);
+        }
+
+        Dashboard withStatus(Member.MemberStatus newStatus) {
+            return new Dashboard(id, memberId, fullName, newStatus, planId, joinDate, expiryDate, lastCheckInAt,
+                    visitMonth, visitsInMonth, personalTrainingUsed, lastPaymentAt, upcomingSessions);
+        }
+
+        private Dashboard withAttendance(LocalDateTime last, YearMonth month, int visits) {
+            return new Dashboard(id, memberId, fullName, status, planId, joinDate, expiryDate, last, month, visits,
+                    personalTrainingUsed, lastPaymentAt, upcomingSessions);
+        }
+    }
+
+    private final ConcurrentHashMap<String, Dashboard> byMemberId = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, String> memberIdsById = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, PlanInfo> plans = new ConcurrentHashMap<>();
+
+    public Dashboard get(String memberId) {
+        return byMemberId.get(memberId);
+    }
+
+    public Dashboard getById(Long id) {
+        String memberId = memberIdsById.get(id);
+        return memberId != null ? byMemberId.get(memberId) : null;
+    }
+
+    public PlanInfo plan(Long planId) {
+        return planId != null ? plans.get(planId) : null;
+    }
+
+    // Replaces the entry as read from the database
+    public void put(Dashboard dashboard) {
+        rekey(dashboard);
+        byMemberId.put(dashboard.memberId(), dashboard);
+    }
+
+    // Like put, but keeps attendance that the database read has not caught up with yet
+    public void merge(Dashboard dashboard) {
+        rekey(dashboard);
+        byMemberId.merge(dashboard.memberId(), dashboard, (current, fresh) -> fresh.withAttendanceFrom(current));
+    }
+
+    public void recordCheckIn(String memberId, LocalDateTime checkInTime) {
+        byMemberId.computeIfPresent(memberId, (key, dashboard) -> dashboard.withCheckIn(checkInTime));
+    }
+
+    public void updateStatus(Long id, Member.MemberStatus status) {
+        String memberId = memberIdsById.get(id);
+        if (memberId != null) {
+            byMemberId.computeIfPresent(memberId, (key, dashboard) -> dashboard.withStatus(status));
+        }
+    }
+
+    public void remove(Long id) {
+        String memberId = memberIdsById.remove(id);
+        if (memberId != null) {
+            byMemberId.remove(memberId);
+        }
+    }
+
+    public void putPlan(PlanInfo plan) {
+        plans.put(plan.id(), plan);
+    }
+
+    public void replacePlans(Collection<PlanInfo> all) {
+        all.forEach(this::putPlan);
+        plans.keySet().retainAll(all.stream().map(PlanInfo::id).toList());
+    }
+
+    public List<Long> idsOnPlan(Long planId) {
+        List<Long> ids = new ArrayList<>();
+        byMemberId.values().forEach(dashboard -> {
+            if (planId.equals(dashboard.planId())) {
+                ids.add(dashboard.id());
+            }
+        });
+        return ids;
+    }
+
+    public Map<Long, String> memberIds() {
+        return Map.copyOf(memberIdsById);
+    }
+
+    public int size() {
+        return byMemberId.size();
+    }
+
+    private void rekey(Dashboard dashboard) {
+        String previous = memberIdsById.put(dashboard.id(), dashboard.memberId());
+        if (previous != null && !previous.equals(dashboard.memberId())) {
+            byMemberId.remove(previous);
+        }
+    }
+}
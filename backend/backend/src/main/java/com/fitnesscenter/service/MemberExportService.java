@@ -0,0 +1,137 @@
+package com.fitnesscenter.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fitnesscenter.projection.LastPaymentView;
+import com.fitnesscenter.projection.MemberExportView;
+import com.fitnesscenter.repository.MemberRepository;
+import com.fitnesscenter.repository.MembershipPaymentRepository;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+// Walks members in id order one keyset page at a time. Rows are interface projections,
+// never entities, so nothing accumulates in a persistence context and memory stays flat.
+@Service
+public class MemberExportService {
+    public static final int DEFAULT_PAGE_SIZE = 1_000;
+    private static final String[] COLUMNS = {
+        "id", "memberId", "firstName", "lastName", "email", "phoneNumber", "city", "status", "joinDate",
+        "planName", "planType", "lastPaymentAmount", "lastPaymentDate", "lastPaymentStatus"
+    };
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    private final MemberRepository memberRepository;
+    private final MembershipPaymentRepository paymentRepository;
+    private final ObjectMapper objectMapper;
+
+    public MemberExportService(MemberRepository memberRepository, MembershipPaymentRepository paymentRepository,
+                               ObjectMapper objectMapper) {
+        this.memberRepository = memberRepository;
+        this.paymentRepository = paymentRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    public long export(Format format, int pageSize, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        JsonGenerator json = null;
+        if (format == Format.CSV) {
+            writer.write(String.join(",", COLUMNS));
+            writer.write('\n');
+        } else {
+            json = objectMapper.getFactory().createGenerator(writer);
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            json.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+            // Records are separated by the newline written after each one
+            json.setRootValueSeparator(null);
+        }
+
+        long rows = 0;
+        long afterId = 0;
+        while (true) {
+            List<MemberExportView> page = memberRepository.findExportPage(afterId, PageRequest.of(0, pageSize));
+            if (page.isEmpty()) {
+                break;
+            }
+            Map<Long, LastPaymentView> lastPayments = paymentRepository
+                    .findLastPayments(page.stream().map(MemberExportView::getId).toList())
+                    .stream()
+                    .collect(Collectors.toMap(LastPaymentView::getMemberId, Function.identity()));
+            for (MemberExportView member : page) {
+                Object[] values = values(member, lastPayments.get(member.getId()));
+                if (json != null) {
+                    writeJson(json, values);
+                    json.flush();
+                    writer.write('\n');
+                } else {
+                    writeCsv(writer, values);
+                }
+            }
+            rows += page.size();
+            afterId = page.get(page.size() - 1).getId();
+            writer.flush();
+        }
+        if (json != null) {
+            json.close();
+        }
+        writer.flush();
+        return rows;
+    }
+
+    private static Object[] values(MemberExportView member, LastPaymentView payment) {
+        return new Object[] {
+            member.getId(), member.getMemberId(), member.getFirstName(), member.getLastName(), member.getEmail(),
+            member.getPhoneNumber(), member.getCity(), member.getStatus(), member.getJoinDate(),
+            member.getPlanName(), member.getPlanType(),
+            payment != null ? payment.getAmount() : null,
+            payment != null ? payment.getPaymentDate() : null,
+            payment != null ? payment.getStatus() : null
+        };
+    }
+
+    private static void writeJson(JsonGenerator json, Object[] values) throws IOException {
+        json.writeStartObject();
+        for (int i = 0; i < COLUMNS.length; i++) {
+            Object value = values[i];
+            json.writeFieldName(COLUMNS[i]);
+            if (value == null) {
+                json.writeNull();
+            } else if (value instanceof Number) {
+                json.writeNumber(value.toString());
+            } else {
+                json.writeString(value.toString());
+            }
+        }
+        json.writeEndObject();
+    }
+
+    private static void writeCsv(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(escapeCsv(values[i].toString()));
+            }
+        }
+        writer.write('\n');
+    }
+
+    private static String escapeCsv(String value) {
+        boolean needsQuotes = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        return needsQuotes ? '"' + value.replace("\"", "\"\"") + '"' : value;
+    }
+}
@@ -0,0 +1,446 @@
+package com.fitnesscenter.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fitnesscenter.config.MemberImportProperties;
+import com.fitnesscenter.dto.MemberImportError;
+import com.fitnesscenter.dto.MemberImportResult;
+import com.fitnesscenter.event.MembersImportedEvent;
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.model.MembershipPlan;
+import com.fitnesscenter.repository.MemberIdAllocator;
+import com.fitnesscenter.repository.MemberImportRepository;
+import com.fitnesscenter.repository.MembershipPlanRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Streams an upload in chunks: rows are converted and validated in parallel on the calling
+// thread while a single writer thread inserts the previous chunk as one JDBC batch with ids
+// reserved from the member sequence. A bad row is reported and skipped, never fatal.
+@Service
+public class MemberImportService {
+    private static final Logger log = LoggerFactory.getLogger(MemberImportService.class);
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    private final MemberImportRepository importRepository;
+    private final MemberIdAllocator idAllocator;
+    private final MembershipPlanRepository planRepository;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AuditService auditService;
+    private final TransactionTemplate transactionTemplate;
+    private final MemberImportProperties properties;
+
+    public MemberImportService(MemberImportRepository importRepository, MemberIdAllocator idAllocator,
+                               MembershipPlanRepository planRepository, Validator validator,
+                               ObjectMapper objectMapper, ApplicationEventPublisher eventPublisher,
+                               AuditService auditService, PlatformTransactionManager transactionManager,
+                               MemberImportProperties properties) {
+        this.importRepository = importRepository;
+        this.idAllocator = idAllocator;
+        this.planRepository = planRepository;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.auditService = auditService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    public MemberImportResult importMembers(Format format, InputStream in) throws IOException {
+        long start = System.nanoTime();
+        Map<String, MembershipPlan> plans = loadPlans();
+        Errors errors = new Errors(properties.getMaxReportedErrors());
+        Set<String> seenMemberIds = new HashSet<>();
+        Set<String> seenEmails = new HashSet<>();
+        long totalRows = 0;
+        long imported = 0;
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+        // The writer thread records the audit entries, so it runs as the uploading user
+        String actor = AuditActor.current();
+        ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "member-import-writer"));
+        try (RowSource rows = format == Format.CSV ? new CsvRows(reader) : new JsonRows(objectMapper, reader)) {
+            Future<Integer> pendingWrite = null;
+            List<Row> chunk;
+            while (!(chunk = rows.next(properties.getBatchSize(), totalRows)).isEmpty()) {
+                totalRows += chunk.size();
+                chunk.parallelStream().forEach(row -> row.member = toMember(row, plans, errors));
+                List<Row> valid = chunk.stream().filter(row -> row.member != null).collect(Collectors.toList());
+                valid.removeIf(row -> isDuplicateInUpload(row, seenMemberIds, seenEmails, errors));
+                // At most one chunk is in flight, so parsing overlaps the insert without buffering the upload
+                imported += await(pendingWrite);
+                pendingWrite = valid.isEmpty() ? null
+                        : writer.submit(() -> AuditActor.callAs(actor, () -> write(valid, errors)));
+            }
+            imported += await(pendingWrite);
+        } finally {
+            writer.shutdownNow();
+        }
+
+        double elapsedMillis = (System.nanoTime() - start) / 1_000_000.0;
+        log.info("Imported {} of {} members in {} ms", imported, totalRows, Math.round(elapsedMillis));
+        return new MemberImportResult(totalRows, imported, totalRows - imported, errors.sorted(),
+                errors.truncated(), elapsedMillis);
+    }
+
+    private int write(List<Row> rows, Errors errors) {
+        Set<String> existingMemberIds = importRepository.findExistingMemberIds(
+                rows.stream().map(row -> row.member.getMemberId()).toList());
+        Set<String> existingEmails = importRepository.findExistingEmails(
+                rows.stream().map(row -> row.member.getEmail()).toList());
+        List<Member> members = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            Member member = row.member;
+            if (existingMemberIds.contains(member.getMemberId())) {
+                errors.add(row, "Member ID already exists");
+            } else if (existingEmails.contains(member.getEmail())) {
+                errors.add(row, "Email already exists");
+            } else {
+                members.add(member);
+            }
+        }
+        if (members.isEmpty()) {
+            return 0;
+        }
+        long[] ids = idAllocator.allocate(members.size());
+        for (int i = 0; i < members.size(); i++) {
+            members.get(i).setId(ids[i]);
+        }
+
+        List<Member> written;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                importRepository.insertBatch(members);
+                auditService.recordImported(members);
+            });
+            written = members;
+        } catch (DataAccessException e) {
+            // A concurrent writer took a member ID or email since the duplicate check; isolate the rows that clash
+            written = writeIndividually(rows, members, errors);
+        }
+        if (!written.isEmpty()) {
+            eventPublisher.publishEvent(new MembersImportedEvent(written));
+        }
+        return written.size();
+    }
+
+    private List<Member> writeIndividually(List<Row> rows, List<Member> members, Errors errors) {
+        Map<Member, Row> rowsByMember = new HashMap<>();
+        rows.forEach(row -> rowsByMember.put(row.member, row));
+        List<Member> written = new ArrayList<>(members.size());
+        for (Member member : members) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    importRepository.insert(member);
+                    auditService.recordImported(List.of(member));
+                });
+                written.add(member);
+            } catch (DataAccessException e) {
+                errors.add(rowsByMember.get(member), "Could not be saved: " + e.getMostSpecificCause().getMessage());
+            }
+        }
+        return written;
+    }
+
+    private Member toMember(Row row, Map<String, MembershipPlan> plans, Errors errors) {
+        if (row.parseError != null) {
+            errors.add(row, null, row.parseError);
+            return null;
+        }
+        Map<String, String> values = row.values;
+        Member member = new Member();
+        try {
+            member.setMemberId(values.get("memberId"));
+            member.setFirstName(values.get("firstName"));
+            member.setLastName(values.get("lastName"));
+            member.setEmail(values.get("email"));
+            member.setPhoneNumber(values.get("phoneNumber"));
+            member.setDateOfBirth(parseDate(values.get("dateOfBirth")));
+            member.setAddress(values.get("address"));
+            member.setCity(values.get("city"));
+            member.setState(values.get("state"));
+            member.setPostalCode(values.get("postalCode"));
+            member.setGender(parseEnum(Member.Gender.class, values.get("gender")));
+            member.setHeight(parseDouble(values.get("height")));
+            member.setWeight(parseDouble(values.get("weight")));
+            member.setFitnessGoals(values.get("fitnessGoals"));
+            member.setHealthConditions(values.get("healthConditions"));
+            member.setEmergencyContactName(values.get("emergencyContactName"));
+            member.setEmergencyContactPhone(values.get("emergencyContactPhone"));
+            LocalDate joinDate = parseDate(values.get("joinDate"));
+            member.setJoinDate(joinDate != null ? joinDate : LocalDate.now());
+            member.setExpiryDate(parseDate(values.get("expiryDate")));
+            Member.MemberStatus status = parseEnum(Member.MemberStatus.class, values.get("status"));
+            member.setStatus(status != null ? status : Member.MemberStatus.ACTIVE);
+        } catch (IllegalArgumentException e) {
+            errors.add(row, values.get("memberId"), e.getMessage());
+            return null;
+        }
+
+        String planName = values.get("planName");
+        if (planName != null) {
+            MembershipPlan plan = plans.get(planName.toLowerCase(Locale.ROOT));
+            if (plan == null) {
+                errors.add(row, member.getMemberId(), "Unknown membership plan: " + planName);
+                return null;
+            }
+            member.setMembershipPlan(plan);
+        }
+
+        Set<ConstraintViolation<Member>> violations = validator.validate(member);
+        if (!violations.isEmpty()) {
+            errors.add(row, member.getMemberId(), violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+            return null;
+        }
+        return member;
+    }
+
+    private static boolean isDuplicateInUpload(Row row, Set<String> seenMemberIds, Set<String> seenEmails, Errors errors) {
+        if (!seenMemberIds.add(row.member.getMemberId())) {
+            errors.add(row, "Duplicate member ID in upload");
+            return true;
+        }
+        if (!seenEmails.add(row.member.getEmail())) {
+            errors.add(row, "Duplicate email in upload");
+            return true;
+        }
+        return false;
+    }
+
+    // Plans are few and rarely change; a per-import snapshot keeps plan lookups off the database
+    private Map<String, MembershipPlan> loadPlans() {
+        Map<String, MembershipPlan> plans = new HashMap<>();
+        for (MembershipPlan plan : planRepository.findAll()) {
+            MembershipPlan reference = new MembershipPlan();
+            reference.setId(plan.getId());
+            reference.setPlanName(plan.getPlanName());
+            plans.put(plan.getPlanName().toLowerCase(Locale.ROOT), reference);
+        }
+        return plans;
+    }
+
+    private static int await(Future<Integer> write) throws IOException {
+        if (write == null) {
+            return 0;
+        }
+        try {
+            return write.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Import interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Import write failed", e.getCause());
+        }
+    }
+
+    private static LocalDate parseDate(String value) {
+        try {
+            return value != null ? LocalDate.parse(value) : null;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid date: " + value);
+        }
+    }
+
+    private static Double parseDouble(String value) {
+        try {
+            return value != null ? Double.valueOf(value) : null;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number: " + value);
+        }
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value) {
+        try {
+            return value != null ? Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT)) : null;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + type.getSimpleName().toLowerCase(Locale.ROOT) + ": " + value);
+        }
+    }
+
+    private static final class Row {
+        final long number;
+        final Map<String, String> values;
+        final String parseError;
+        Member member;
+
+        Row(long number, Map<String, String> values) {
+            this(number, values, null);
+        }
+
+        Row(long number, Map<String, String> values, String parseError) {
+            this.number = number;
+            this.values = values;
+            this.parseError = parseError;
+        }
+    }
+
+    private static final class Errors {
+        private final int limit;
+        private final List<MemberImportError> reported = new ArrayList<>();
+        private boolean truncated;
+
+        Errors(int limit) {
+            this.limit = limit;
+        }
+
+        void add(Row row, String message) {
+            add(row, row.member != null ? row.member.getMemberId() : row.values.get("memberId"), message);
+        }
+
+        synchronized void add(Row row, String memberId, String message) {
+            if (reported.size() < limit) {
+                reported.add(new MemberImportError(row.number, memberId, message));
+            } else {
+                truncated = true;
+            }
+        }
+
+        synchronized List<MemberImportError> sorted() {
+            reported.sort(Comparator.comparingLong(MemberImportError::row));
+            return List.copyOf(reported);
+        }
+
+        synchronized boolean truncated() {
+            return truncated;
+        }
+    }
+
+    private interface RowSource extends AutoCloseable {
+        // Rows are numbered from 1 in upload order, not counting the CSV header
+        List<Row> next(int max, long rowsSoFar) throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    private static final class CsvRows implements RowSource {
+        private final CsvReader csv;
+        private final String[] header;
+
+        CsvRows(Reader reader) throws IOException {
+            this.csv = new CsvReader(reader);
+            List<String> columns = csv.readRecord();
+            if (columns == null) {
+                throw new IllegalArgumentException("CSV upload is empty");
+            }
+            this.header = columns.stream().map(String::trim).toArray(String[]::new);
+        }
+
+        @Override
+        public List<Row> next(int max, long rowsSoFar) throws IOException {
+            List<Row> rows = new ArrayList<>(max);
+            while (rows.size() < max) {
+                List<String> record;
+                try {
+                    record = csv.readRecord();
+                } catch (CsvReader.MalformedCsvException e) {
+                    // The reader resumes at the line after the broken record, so later rows still import
+                    rows.add(new Row(rowsSoFar + rows.size() + 1, Map.of(), e.getMessage()));
+                    continue;
+                }
+                if (record == null) {
+                    break;
+                }
+                Map<String, String> values = new HashMap<>();
+                for (int i = 0; i < header.length && i < record.size(); i++) {
+                    String value = record.get(i).trim();
+                    if (!value.isEmpty()) {
+                        values.put(header[i], value);
+                    }
+                }
+                rows.add(new Row(rowsSoFar + rows.size() + 1, values));
+            }
+            return rows;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    // One JSON object per line, each parsed on its own so a malformed line costs only that row
+    private static final class JsonRows implements RowSource {
+        private final ObjectReader objectReader;
+        private final BufferedReader reader;
+
+        JsonRows(ObjectMapper objectMapper, BufferedReader reader) {
+            this.objectReader = objectMapper.readerFor(Map.class);
+            this.reader = reader;
+        }
+
+        @Override
+        public List<Row> next(int max, long rowsSoFar) throws IOException {
+            List<Row> rows = new ArrayList<>(max);
+            String line;
+            while (rows.size() < max && (line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                long number = rowsSoFar + rows.size() + 1;
+                Map<String, Object> object;
+                try {
+                    object = objectReader.readValue(line);
+                } catch (JsonProcessingException e) {
+                    rows.add(new Row(number, Map.of(), "Malformed JSON: " + e.getOriginalMessage()));
+                    continue;
+                }
+                if (object == null) {
+                    rows.add(new Row(number, Map.of(), "Malformed JSON: expected an object"));
+                    continue;
+                }
+                Map<String, String> values = new HashMap<>();
+                object.forEach((key, value) -> {
+                    if (value != null && !value.toString().isBlank()) {
+                        values.put(key, value.toString().trim());
+                    }
+                });
+                rows.add(new Row(number, values));
+            }
+            return rows;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
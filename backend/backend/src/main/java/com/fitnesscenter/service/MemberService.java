@@ -0,0 +1,57 @@
+package com.fitnesscenter.service;
+
+import com.fitnesscenter.config.QueryCountGuard;
+import com.fitnesscenter.dto.MemberDetailResponse;
+import com.fitnesscenter.metrics.FitnessMetrics;
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.projection.MemberListView;
+import com.fitnesscenter.repository.MemberRepository;
+import com.fitnesscenter.repository.ResourceVersionRepository;
+import com.fitnesscenter.repository.ResourceVersionRepository.Version;
+import java.util.NoSuchElementException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class MemberService {
+    static final int MEMBER_LIST_BUDGET = 2;
+    static final int MEMBER_DETAIL_BUDGET = 1;
+
+    private final MemberRepository memberRepository;
+    private final QueryCountGuard queryCountGuard;
+    private final FitnessMetrics metrics;
+    private final ResourceVersionRepository versionRepository;
+
+    public MemberService(MemberRepository memberRepository, QueryCountGuard queryCountGuard, FitnessMetrics metrics,
+                         ResourceVersionRepository versionRepository) {
+        this.memberRepository = memberRepository;
+        this.queryCountGuard = queryCountGuard;
+        this.metrics = metrics;
+        this.versionRepository = versionRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public Page<MemberListView> listMembers(Member.MemberStatus status, int page, int size) {
+        return queryCountGuard.withBudget("member-list", MEMBER_LIST_BUDGET,
+                () -> memberRepository.findListPage(status, PageRequest.of(page, size)));
+    }
+
+    @Transactional(readOnly = true)
+    public MemberDetailResponse getMember(String memberId) {
+        return metrics.timeMemberLookup(() -> queryCountGuard.withBudget("member-detail", MEMBER_DETAIL_BUDGET,
+                () -> memberRepository.findWithPlanByMemberId(memberId)
+                        .map(MemberDetailResponse::from)
+                        .orElseThrow(() -> new NoSuchElementException("Member not found: " + memberId))));
+    }
+
+    public Version getListVersion() {
+        return versionRepository.findMemberListVersion();
+    }
+
+    public Version getMemberVersion(String memberId) {
+        return versionRepository.findMemberVersion(memberId)
+                .orElseThrow(() -> new NoSuchElementException("Member not found: " + memberId));
+    }
+}
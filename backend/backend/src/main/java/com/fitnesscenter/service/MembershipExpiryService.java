@@ -0,0 +1,265 @@
+package com.fitnesscenter.service;
+
+import com.fitnesscenter.config.MembershipExpiryProperties;
+import com.fitnesscenter.event.MemberStatusChangedEvent;
+import com.fitnesscenter.event.MembersImportedEvent;
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.repository.MembershipExpiryRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Day-bucketed expiry schedule. Active members are placed in the bucket of their last paid
+// day once at startup and moved when they join, renew or change plan, so an expiry run only
+// touches the buckets that are due instead of scanning the members table.
+@Service
+public class MembershipExpiryService {
+    private static final Logger log = LoggerFactory.getLogger(MembershipExpiryService.class);
+
+    private final MembershipExpiryRepository expiryRepository;
+    private final AuditService auditService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MembershipExpiryProperties properties;
+    private final Map<Long, Integer> planDurations = new ConcurrentHashMap<>();
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+    // Rebuilds and expiry runs pause between batches, so they get their own thread instead of
+    // holding up the shared scheduler; one thread also keeps them from overlapping.
+    private final ExecutorService expiryExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "membership-expiry");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Schedule schedule = new Schedule();
+    private List<Runnable> pendingDuringRebuild;
+
+    public MembershipExpiryService(MembershipExpiryRepository expiryRepository, AuditService auditService,
+                                   PlatformTransactionManager transactionManager,
+                                   ApplicationEventPublisher eventPublisher, MembershipExpiryProperties properties) {
+        this.expiryRepository = expiryRepository;
+        this.auditService = auditService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        expiryExecutor.execute(() -> {
+            try {
+                rebuild();
+                expireDue();
+            } catch (RuntimeException e) {
+                log.error("Failed to build the membership expiry schedule", e);
+            }
+        });
+    }
+
+    public synchronized void onMemberSaved(Long id, Member.MemberStatus status, LocalDate joinDate,
+                                           LocalDate expiryDate, Long planId) {
+        // An entity save does not know about payments covering a later period; if it schedules the
+        // member too early, expireDue finds the cover and moves the member on.
+        Runnable change = status == Member.MemberStatus.ACTIVE
+                ? () -> schedule.put(id, joinDate, expiryDate, null, planId)
+                : () -> schedule.remove(id);
+        change.run();
+        if (pendingDuringRebuild != null) {
+            pendingDuringRebuild.add(change);
+        }
+    }
+
+    @EventListener
+    public void onMembersImported(MembersImportedEvent event) {
+        event.members().forEach(member -> onMemberSaved(member.getId(), member.getStatus(), member.getJoinDate(),
+                member.getExpiryDate(), member.getMembershipPlan() != null ? member.getMembershipPlan().getId() : null));
+    }
+
+    public synchronized void onMemberRemoved(Long id) {
+        schedule.remove(id);
+        if (pendingDuringRebuild != null) {
+            pendingDuringRebuild.add(() -> schedule.remove(id));
+        }
+    }
+
+    // Members relying on joinDate + duration move with the plan, so a duration change rebuilds.
+    // This runs after commit on the request thread, so the rebuild is handed to the expiry thread.
+    public void onPlanSaved(Long planId, Integer durationMonths) {
+        Integer previous = durationMonths != null ? planDurations.put(planId, durationMonths) : null;
+        if (previous != null && !previous.equals(durationMonths) && !rebuildPending.getAndSet(true)) {
+            expiryExecutor.execute(() -> {
+                rebuildPending.set(false);
+                try {
+                    rebuild();
+                    expireDue();
+                } catch (RuntimeException e) {
+                    log.error("Failed to rebuild the membership expiry schedule", e);
+                }
+            });
+        }
+    }
+
+    public synchronized Map<LocalDate, Integer> upcoming(int days) {
+        LocalDate today = LocalDate.now();
+        Map<LocalDate, Integer> counts = new TreeMap<>();
+        schedule.buckets.subMap(today.minusDays(1), true, today.plusDays(days), true)
+                .forEach((day, members) -> counts.put(day, members.size()));
+        return counts;
+    }
+
+    public CompletableFuture<Integer> requestExpiry() {
+        return CompletableFuture.supplyAsync(this::expireDue, expiryExecutor);
+    }
+
+    @Scheduled(cron = "0 0 * * * *")
+    public void scheduledExpiry() {
+        requestExpiry().exceptionally(e -> {
+            log.error("Membership expiry run failed", e);
+            return 0;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        expiryExecutor.shutdownNow();
+    }
+
+    // Builds a fresh schedule without holding the lock, so member saves are not held up by the
+    // scan; changes that arrive meanwhile are replayed on top before the swap. Runs on the
+    // expiry thread.
+    private void rebuild() {
+        synchronized (this) {
+            pendingDuringRebuild = new ArrayList<>();
+        }
+        Schedule fresh = new Schedule();
+        try {
+            planDurations.putAll(expiryRepository.findPlanDurations());
+            expiryRepository.streamActiveMembers(fresh::put);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pendingDuringRebuild = null;
+            }
+            throw e;
+        }
+        synchronized (this) {
+            schedule = fresh;
+            pendingDuringRebuild.forEach(Runnable::run);
+            pendingDuringRebuild = null;
+        }
+        log.info("Membership expiry schedule built for {} active members", fresh.scheduled.size());
+    }
+
+    // Expires members whose last paid day is before today, in small independent batches so
+    // no long transaction holds row locks on members. Runs on the expiry thread.
+    private int expireDue() {
+        LocalDate today = LocalDate.now();
+        List<Long> due = new ArrayList<>();
+        synchronized (this) {
+            NavigableMap<LocalDate, Set<Long>> elapsed = schedule.buckets.headMap(today, false);
+            elapsed.values().forEach(due::addAll);
+        }
+        int expiredCount = 0;
+        for (int start = 0; start < due.size(); start += properties.getBatchSize()) {
+            List<Long> batch = due.subList(start, Math.min(start + properties.getBatchSize(), due.size()));
+            // The audit entries commit with the status change they describe
+            List<Long> expired = transactionTemplate.execute(status -> {
+                List<Long> ids = expiryRepository.expire(batch, today);
+                auditService.recordStatusChange(ids, Member.MemberStatus.ACTIVE, Member.MemberStatus.EXPIRED);
+                return ids;
+            });
+            List<Long> kept = new ArrayList<>(batch);
+            kept.removeAll(new HashSet<>(expired));
+            // Renewed or paid up since they were scheduled: move them to the day they are now covered to
+            List<Runnable> moves = new ArrayList<>();
+            if (!kept.isEmpty()) {
+                expiryRepository.findActiveMembers(kept, (id, joinDate, expiryDate, paidThrough, planId) ->
+                        moves.add(() -> schedule.put(id, joinDate, expiryDate, paidThrough, planId)));
+            }
+            synchronized (this) {
+                expired.forEach(schedule::remove);
+                kept.forEach(schedule::remove);
+                moves.forEach(Runnable::run);
+            }
+            if (!expired.isEmpty()) {
+                eventPublisher.publishEvent(new MemberStatusChangedEvent(expired,
+                        Member.MemberStatus.ACTIVE, Member.MemberStatus.EXPIRED));
+                expiredCount += expired.size();
+            }
+            pause();
+        }
+        if (expiredCount > 0) {
+            log.info("Expired {} memberships", expiredCount);
+        }
+        return expiredCount;
+    }
+
+    private LocalDate effectiveExpiry(LocalDate joinDate, LocalDate expiryDate, Long planId) {
+        if (expiryDate != null) {
+            return expiryDate;
+        }
+        Integer duration = planId != null ? planDurations.get(planId) : null;
+        if (joinDate == null || duration == null) {
+            return null;
+        }
+        return joinDate.plusMonths(duration).minusDays(1);
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(properties.getPauseBetweenBatchesMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Members by the day after which they expire. The live schedule is guarded by the service
+    // lock; a schedule under construction belongs to the rebuilding thread.
+    private final class Schedule {
+        private final TreeMap<LocalDate, Set<Long>> buckets = new TreeMap<>();
+        private final Map<Long, LocalDate> scheduled = new HashMap<>();
+
+        void put(Long id, LocalDate joinDate, LocalDate expiryDate, LocalDate paidThrough, Long planId) {
+            remove(id);
+            LocalDate expiry = effectiveExpiry(joinDate, expiryDate, planId);
+            if (paidThrough != null && (expiry == null || paidThrough.isAfter(expiry))) {
+                expiry = paidThrough;
+            }
+            if (expiry != null) {
+                buckets.computeIfAbsent(expiry, day -> new LinkedHashSet<>()).add(id);
+                scheduled.put(id, expiry);
+            }
+        }
+
+        void remove(Long id) {
+            LocalDate previous = scheduled.remove(id);
+            if (previous != null) {
+                Set<Long> bucket = buckets.get(previous);
+                bucket.remove(id);
+                if (bucket.isEmpty()) {
+                    buckets.remove(previous);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.fitnesscenter.service;
+
+import com.fitnesscenter.config.QueryCountGuard;
+import com.fitnesscenter.dto.PlanResponse;
+import com.fitnesscenter.metrics.FitnessMetrics;
+import com.fitnesscenter.model.MembershipPlan;
+import com.fitnesscenter.projection.PlanCatalogueView;
+import com.fitnesscenter.repository.MembershipPlanRepository;
+import com.fitnesscenter.repository.ResourceVersionRepository;
+import com.fitnesscenter.repository.ResourceVersionRepository.Version;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class MembershipPlanService {
+    static final int CATALOGUE_BUDGET = 1;
+    static final int ACTIVE_PLANS_BUDGET = 1;
+
+    private final MembershipPlanRepository planRepository;
+    private final QueryCountGuard queryCountGuard;
+    private final FitnessMetrics metrics;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ResourceVersionRepository versionRepository;
+
+    public MembershipPlanService(MembershipPlanRepository planRepository, QueryCountGuard queryCountGuard,
+                                 FitnessMetrics metrics, EntityManagerFactory entityManagerFactory,
+                                 ResourceVersionRepository versionRepository) {
+        this.planRepository = planRepository;
+        this.queryCountGuard = queryCountGuard;
+        this.metrics = metrics;
+        this.entityManagerFactory = entityManagerFactory;
+        this.versionRepository = versionRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public List<PlanCatalogueView> getCatalogue() {
+        return metrics.timePlanRead(
+                () -> queryCountGuard.withBudget("plan-catalogue", CATALOGUE_BUDGET, planRepository::findCatalogue));
+    }
+
+    // Ids come from the query cache and plans from the entity cache, so a warm read runs no SQL
+    @Transactional(readOnly = true)
+    public List<PlanResponse> getActivePlans() {
+        return metrics.timePlanRead(() -> queryCountGuard.withBudget("active-plans", ACTIVE_PLANS_BUDGET,
+                () -> planRepository.findByStatusOrderByPriceAscIdAsc(MembershipPlan.PlanStatus.ACTIVE).stream()
+                        .map(PlanResponse::from)
+                        .toList()));
+    }
+
+    public Version getCatalogueVersion() {
+        return versionRepository.findPlanCatalogueVersion();
+    }
+
+    public Version getPlansVersion() {
+        return versionRepository.findPlansVersion();
+    }
+
+    // Hibernate keeps both regions current for changes made through JPA; this also covers
+    // plans changed behind its back, such as by SQL scripts
+    public void evictCache(Long planId) {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        if (planId != null) {
+            sessionFactory.getCache().evictEntityData(MembershipPlan.class, planId);
+        } else {
+            sessionFactory.getCache().evictEntityData(MembershipPlan.class);
+        }
+        evictActiveCatalogue();
+    }
+
+    public void evictActiveCatalogue() {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache()
+                .evictQueryRegion(MembershipPlan.ACTIVE_CATALOGUE_CACHE_REGION);
+    }
+}
@@ -0,0 +1,144 @@
+package com.fitnesscenter.service;
+
+import com.fitnesscenter.config.OccupancyProperties;
+import com.fitnesscenter.dto.OccupancySnapshot;
+import com.fitnesscenter.event.CheckInEvent;
+import com.fitnesscenter.event.CheckOutEvent;
+import com.fitnesscenter.model.CheckIn;
+import com.fitnesscenter.repository.OccupancyRepository;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+// Live occupancy per facility. Presence maps make check-in/check-out idempotent (a double
+// swipe is counted once) and the counters are LongAdders so bursts never contend on one cell.
+// Changes only mark the state dirty; a scheduled tick pushes at most one SSE update per interval.
+@Service
+public class OccupancyService {
+    private static final Logger log = LoggerFactory.getLogger(OccupancyService.class);
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private static final Duration SWEEP_INTERVAL = Duration.ofMinutes(1);
+
+    private final OccupancyRepository occupancyRepository;
+    private final TaskScheduler taskScheduler;
+    private final OccupancyProperties properties;
+    private final Map<CheckIn.Facility, ConcurrentHashMap<String, Long>> presence = new EnumMap<>(CheckIn.Facility.class);
+    private final Map<CheckIn.Facility, LongAdder> counters = new EnumMap<>(CheckIn.Facility.class);
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final AtomicLong version = new AtomicLong();
+
+    public OccupancyService(OccupancyRepository occupancyRepository, TaskScheduler taskScheduler,
+                            OccupancyProperties properties) {
+        this.occupancyRepository = occupancyRepository;
+        this.taskScheduler = taskScheduler;
+        this.properties = properties;
+        for (CheckIn.Facility facility : CheckIn.Facility.values()) {
+            presence.put(facility, new ConcurrentHashMap<>());
+            counters.put(facility, new LongAdder());
+        }
+    }
+
+    @PostConstruct
+    void scheduleTasks() {
+        taskScheduler.scheduleWithFixedDelay(this::publishChanges, properties.getCoalesceInterval());
+        taskScheduler.scheduleWithFixedDelay(this::expireStaleVisits, SWEEP_INTERVAL);
+    }
+
+    @EventListener
+    public void onCheckIn(CheckInEvent event) {
+        enter(event.memberId(), event.facility(), event.checkInTime());
+    }
+
+    @EventListener
+    public void onCheckOut(CheckOutEvent event) {
+        if (presence.get(event.facility()).remove(event.memberId()) != null) {
+            counters.get(event.facility()).decrement();
+            dirty.set(true);
+        }
+    }
+
+    public OccupancySnapshot getSnapshot() {
+        Map<CheckIn.Facility, Long> occupancy = new EnumMap<>(CheckIn.Facility.class);
+        counters.forEach((facility, counter) -> occupancy.put(facility, Math.max(0L, counter.sum())));
+        return new OccupancySnapshot(occupancy, version.get(), LocalDateTime.now());
+    }
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(properties.getStreamTimeout().toMillis());
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(e -> emitters.remove(emitter));
+        emitters.add(emitter);
+        send(emitter, getSnapshot());
+        return emitter;
+    }
+
+    void publishChanges() {
+        if (!dirty.getAndSet(false)) {
+            return;
+        }
+        version.incrementAndGet();
+        OccupancySnapshot snapshot = getSnapshot();
+        for (SseEmitter emitter : emitters) {
+            send(emitter, snapshot);
+        }
+    }
+
+    // Members who leave without swiping out are dropped after the maximum visit length. The
+    // conditional remove loses to a concurrent check-out or re-entry, so each visit is
+    // decremented once, by whichever side actually removed it.
+    void expireStaleVisits() {
+        long cutoff = toEpochMillis(LocalDateTime.now().minus(properties.getMaxVisitDuration()));
+        presence.forEach((facility, members) -> members.forEach((memberId, enteredAt) -> {
+            if (enteredAt < cutoff && members.remove(memberId, enteredAt)) {
+                counters.get(facility).decrement();
+                dirty.set(true);
+            }
+        }));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDateTime since = LocalDateTime.now().minus(properties.getMaxVisitDuration());
+        occupancyRepository.streamOpenVisits(since, this::enter);
+        log.info("Occupancy rebuilt from open check-ins: {}", getSnapshot().occupancy());
+    }
+
+    private void enter(String memberId, CheckIn.Facility facility, LocalDateTime checkInTime) {
+        if (presence.get(facility).putIfAbsent(memberId, toEpochMillis(checkInTime)) == null) {
+            counters.get(facility).increment();
+            dirty.set(true);
+        }
+    }
+
+    private void send(SseEmitter emitter, OccupancySnapshot snapshot) {
+        try {
+            emitter.send(SseEmitter.event().name("occupancy").id(Long.toString(snapshot.version())).data(snapshot));
+        } catch (IOException | IllegalStateException e) {
+            emitters.remove(emitter);
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZONE).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,63 @@
+package com.fitnesscenter.service;
+
+import com.fitnesscenter.dto.PaymentRequest;
+import com.fitnesscenter.dto.PaymentResponse;
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.model.MembershipPayment;
+import com.fitnesscenter.repository.MemberRepository;
+import com.fitnesscenter.repository.MembershipPaymentRepository;
+import java.time.LocalDate;
+import java.util.NoSuchElementException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class PaymentService {
+    private final MemberRepository memberRepository;
+    private final MembershipPaymentRepository paymentRepository;
+
+    public PaymentService(MemberRepository memberRepository, MembershipPaymentRepository paymentRepository) {
+        this.memberRepository = memberRepository;
+        this.paymentRepository = paymentRepository;
+    }
+
+    @Transactional
+    public PaymentResponse recordPayment(PaymentRequest request) {
+        Member member = memberRepository.findByMemberId(request.memberId())
+                .orElseThrow(() -> new NoSuchElementException("Member not found: " + request.memberId()));
+        MembershipPayment payment = new MembershipPayment(member, member.getMembershipPlan(), request.amount(),
+                request.paymentMethod());
+        payment.setSetupFee(request.setupFee());
+        payment.setStatus(request.status());
+        payment.setPeriodStart(request.periodStart());
+        payment.setPeriodEnd(request.periodEnd());
+        payment.setTransactionId(request.transactionId());
+        extendMembership(payment);
+        return PaymentResponse.from(paymentRepository.save(payment));
+    }
+
+    @Transactional
+    public PaymentResponse updateStatus(Long paymentId, MembershipPayment.PaymentStatus status) {
+        MembershipPayment payment = paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new NoSuchElementException("Payment not found: " + paymentId));
+        payment.setStatus(status);
+        extendMembership(payment);
+        return PaymentResponse.from(payment);
+    }
+
+    // A completed payment for a period keeps the member active through the end of that period,
+    // and brings back a membership that had lapsed before the payment cleared.
+    private static void extendMembership(MembershipPayment payment) {
+        LocalDate periodEnd = payment.getPeriodEnd();
+        if (payment.getStatus() != MembershipPayment.PaymentStatus.COMPLETED || periodEnd == null) {
+            return;
+        }
+        Member member = payment.getMember();
+        if (member.getExpiryDate() == null || periodEnd.isAfter(member.getExpiryDate())) {
+            member.setExpiryDate(periodEnd);
+        }
+        if (member.getStatus() == Member.MemberStatus.EXPIRED && !periodEnd.isBefore(LocalDate.now())) {
+            member.setStatus(Member.MemberStatus.ACTIVE);
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.fitnesscenter.service;
+
+import com.fitnesscenter.config.ProfileImageProperties;
+import com.fitnesscenter.dto.ProfileImageResponse;
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.model.Trainer;
+import com.fitnesscenter.repository.MemberRepository;
+import com.fitnesscenter.repository.ProfileImageStore;
+import com.fitnesscenter.repository.TrainerRepository;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import javax.imageio.IIOException;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Member and trainer photos. All decoding and resizing happens once, at upload; reads are a file
+// region for the original and a cached byte array for the thumbnail. The thumbnail URL of every
+// member with a photo is kept in memory so check-in responses can carry it without a query.
+@Service
+public class ProfileImageService {
+    private static final Logger log = LoggerFactory.getLogger(ProfileImageService.class);
+    public static final String URL_PREFIX = "/api/images/";
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+    // ImageIO format name to file extension; anything else is rejected
+    private static final Map<String, String> FORMATS = Map.of("jpeg", "jpg", "png", "png");
+    private static final float THUMBNAIL_QUALITY = 0.85f;
+
+    private final ProfileImageStore store;
+    private final MemberRepository memberRepository;
+    private final TrainerRepository trainerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ProfileImageProperties properties;
+    private final ThumbnailCache thumbnailCache;
+    private final Map<String, String> memberThumbnails = new ConcurrentHashMap<>();
+
+    public ProfileImageService(ProfileImageStore store, MemberRepository memberRepository,
+                               TrainerRepository trainerRepository, PlatformTransactionManager transactionManager,
+                               ProfileImageProperties properties) {
+        this.store = store;
+        this.memberRepository = memberRepository;
+        this.trainerRepository = trainerRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.thumbnailCache = new ThumbnailCache(properties.getThumbnailCacheBytes());
+    }
+
+    private record StoredImage(String hash, String extension, long sizeBytes) {
+        String url() {
+            return URL_PREFIX + hash + "." + extension;
+        }
+
+        String thumbnailUrl() {
+            return thumbnailUrlOf(hash);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long start = System.nanoTime();
+        memberRepository.findPhotosByUrlPrefix(URL_PREFIX + "%").forEach(photo -> {
+            String hash = hashOf(photo.getProfileImageUrl());
+            if (hash != null) {
+                memberThumbnails.put(photo.getMemberId(), thumbnailUrlOf(hash));
+            }
+        });
+        log.info("Loaded {} member photo URLs in {} ms", memberThumbnails.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public ProfileImageResponse uploadMemberPhoto(String memberId, InputStream body) throws IOException {
+        if (memberRepository.findByMemberId(memberId).isEmpty()) {
+            throw new NoSuchElementException("Member not found: " + memberId);
+        }
+        StoredImage image = store(body);
+        transactionTemplate.executeWithoutResult(status -> {
+            Member member = memberRepository.findByMemberId(memberId)
+                    .orElseThrow(() -> new NoSuchElementException("Member not found: " + memberId));
+            member.setProfileImageUrl(image.url());
+        });
+        memberThumbnails.put(memberId, image.thumbnailUrl());
+        return new ProfileImageResponse(image.url(), image.thumbnailUrl(), image.sizeBytes());
+    }
+
+    public ProfileImageResponse uploadTrainerPhoto(String trainerId, InputStream body) throws IOException {
+        if (trainerRepository.findByTrainerId(trainerId).isEmpty()) {
+            throw new NoSuchElementException("Trainer not found: " + trainerId);
+        }
+        StoredImage image = store(body);
+        transactionTemplate.executeWithoutResult(status -> {
+            Trainer trainer = trainerRepository.findByTrainerId(trainerId)
+                    .orElseThrow(() -> new NoSuchElementException("Trainer not found: " + trainerId));
+            trainer.setProfileImageUrl(image.url());
+        });
+        return new ProfileImageResponse(image.url(), image.thumbnailUrl(), image.sizeBytes());
+    }
+
+    // Null when the member has no photo in this store
+    public String memberThumbnailUrl(String memberId) {
+        return memberThumbnails.get(memberId);
+    }
+
+    public Path original(String hash, String extension) {
+        requireHash(hash);
+        Path path = store.original(hash, extension);
+        if (!Files.isRegularFile(path)) {
+            throw new NoSuchElementException("Image not found: " + hash);
+        }
+        return path;
+    }
+
+    public byte[] thumbnail(String hash) throws IOException {
+        requireHash(hash);
+        byte[] thumbnail = thumbnailCache.get(hash);
+        if (thumbnail == null) {
+            try {
+                thumbnail = Files.readAllBytes(store.thumbnail(hash));
+            } catch (NoSuchFileException e) {
+                throw new NoSuchElementException("Image not found: " + hash);
+            }
+            thumbnailCache.put(hash, thumbnail);
+        }
+        return thumbnail;
+    }
+
+    private StoredImage store(InputStream body) throws IOException {
+        byte[] bytes = body.readNBytes(properties.getMaxUploadBytes() + 1);
+        if (bytes.length == 0) {
+            throw new IllegalArgumentException("Image is empty");
+        }
+        if (bytes.length > properties.getMaxUploadBytes()) {
+            throw new IllegalArgumentException("Image is larger than " + properties.getMaxUploadBytes() + " bytes");
+        }
+        String hash = sha256(bytes);
+        String extension;
+        BufferedImage decoded;
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IllegalArgumentException("Image must be a JPEG or PNG");
+            }
+            ImageReader reader = readers.next();
+            try {
+                extension = FORMATS.get(reader.getFormatName().toLowerCase(Locale.ROOT));
+                if (extension == null) {
+                    throw new IllegalArgumentException("Image must be a JPEG or PNG");
+                }
+                reader.setInput(input, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > properties.getMaxPixels()) {
+                    throw new IllegalArgumentException("Image is larger than " + properties.getMaxPixels() + " pixels");
+                }
+                decoded = reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IIOException e) {
+            throw new IllegalArgumentException("Image could not be decoded", e);
+        }
+
+        Path thumbnailPath = store.thumbnail(hash);
+        if (!Files.exists(thumbnailPath)) {
+            byte[] thumbnail = encodeJpeg(thumbnail(decoded, properties.getThumbnailSize()));
+            store.write(thumbnailPath, thumbnail);
+            // Usually shown right after the upload
+            thumbnailCache.put(hash, thumbnail);
+        }
+        store.write(store.original(hash, extension), bytes);
+        return new StoredImage(hash, extension, bytes.length);
+    }
+
+    // Centre square, halved step by step and then scaled to the final edge; one large bicubic
+    // step from a camera photo would skip most source pixels and alias
+    private static BufferedImage thumbnail(BufferedImage source, int size) {
+        int side = Math.min(source.getWidth(), source.getHeight());
+        int edge = Math.min(size, side);
+        int x = (source.getWidth() - side) / 2;
+        int y = (source.getHeight() - side) / 2;
+        BufferedImage current = source;
+        while (side / 2 >= edge) {
+            current = draw(current, x, y, side, side / 2);
+            x = 0;
+            y = 0;
+            side /= 2;
+        }
+        return current != source && side == edge ? current : draw(current, x, y, side, edge);
+    }
+
+    // Copies the square at (x, y) with the given side into a new opaque image of edge pixels;
+    // transparent PNG areas turn white instead of black
+    private static BufferedImage draw(BufferedImage source, int x, int y, int side, int edge) {
+        BufferedImage target = new BufferedImage(edge, edge, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, edge, edge);
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, edge, edge, x, y, x + side, y + side, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 * 1024);
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(THUMBNAIL_QUALITY);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void requireHash(String hash) {
+        if (hash == null || !HASH.matcher(hash).matches()) {
+            throw new IllegalArgumentException("Invalid image id: " + hash);
+        }
+    }
+
+    private static String thumbnailUrlOf(String hash) {
+        return URL_PREFIX + hash + "/thumbnail";
+    }
+
+    // The hash in a URL written by this service; null for a photo stored somewhere else
+    private static String hashOf(String url) {
+        int end = URL_PREFIX.length() + 64;
+        if (url == null || url.length() <= end || !url.startsWith(URL_PREFIX)) {
+            return null;
+        }
+        String hash = url.substring(URL_PREFIX.length(), end);
+        return HASH.matcher(hash).matches() ? hash : null;
+    }
+}
@@ -0,0 +1,277 @@
+package com.fitnesscenter.service;
+
+import com.fitnesscenter.config.BillingRunProperties;
+import com.fitnesscenter.dto.BillingPartitionProgress;
+import com.fitnesscenter.dto.BillingRunStatus;
+import com.fitnesscenter.exception.ConflictException;
+import com.fitnesscenter.model.BillingRunPartition.PartitionStatus;
+import com.fitnesscenter.model.MembershipPayment;
+import com.fitnesscenter.repository.BillingRunRepository;
+import com.fitnesscenter.repository.BillingRunRepository.CandidateRow;
+import com.fitnesscenter.repository.BillingRunRepository.InvoiceHistory;
+import com.fitnesscenter.repository.BillingRunRepository.PartitionRow;
+import com.fitnesscenter.repository.BillingRunRepository.RenewalRow;
+import com.fitnesscenter.repository.RevenueRollupRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Monthly renewal billing. The member id space is split into fixed ranges once per billing
+// month; workers take ranges from a pool and bill them in chunks, each chunk one short
+// transaction holding its payments, the revenue rollup deltas and the range's checkpoint.
+// Members are only read, so front-desk writes never wait on the run. A member is billed at
+// most once per billing month, which makes reruns and resumed runs safe.
+@Service
+public class RenewalBillingService {
+    private static final Logger log = LoggerFactory.getLogger(RenewalBillingService.class);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final BillingRunRepository billingRepository;
+    private final RevenueRollupRepository rollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BillingRunProperties properties;
+    private YearMonth activePeriod;
+
+    public RenewalBillingService(BillingRunRepository billingRepository, RevenueRollupRepository rollupRepository,
+                                 PlatformTransactionManager transactionManager, BillingRunProperties properties) {
+        this.billingRepository = billingRepository;
+        this.rollupRepository = rollupRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    private record Chunk(long resumeAfter, boolean last) {}
+
+    @Scheduled(cron = "0 0 1 1 * *")
+    public void startMonthlyRun() {
+        try {
+            start(YearMonth.now());
+        } catch (ConflictException e) {
+            log.warn("Monthly billing run not started: {}", e.getMessage());
+        }
+    }
+
+    // A run cut short by a restart carries on from its checkpoints
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinished() {
+        List<YearMonth> unfinished = billingRepository.findUnfinishedPeriods();
+        if (!unfinished.isEmpty()) {
+            YearMonth latest = unfinished.get(unfinished.size() - 1);
+            log.info("Resuming billing run for {}", latest);
+            start(latest);
+        }
+    }
+
+    // Starts or resumes the run for the given month in the background and returns at once
+    public synchronized BillingRunStatus start(YearMonth period) {
+        if (activePeriod != null) {
+            throw new ConflictException("Billing run for " + activePeriod + " is still in progress");
+        }
+        if (period.isAfter(YearMonth.now().plusMonths(1))) {
+            throw new IllegalArgumentException("Billing period must not be more than one month ahead");
+        }
+        List<PartitionRow> partitions = billingRepository.findPartitions(period);
+        if (partitions.isEmpty()) {
+            createPartitions(period);
+        } else {
+            // Only one run is active in this process, so anything still marked running was interrupted
+            billingRepository.resetUnfinished(period);
+        }
+        List<PartitionRow> pending = billingRepository.findPartitions(period).stream()
+                .filter(partition -> partition.status() != PartitionStatus.COMPLETED)
+                .toList();
+        if (pending.isEmpty()) {
+            return status(period);
+        }
+
+        activePeriod = period;
+        long start = System.nanoTime();
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(properties.getWorkerThreads(), pending.size()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "billing-run-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        List<CompletableFuture<Void>> workers = new ArrayList<>();
+        for (PartitionRow partition : pending) {
+            workers.add(CompletableFuture.runAsync(() -> runPartition(period, partition), executor));
+        }
+        CompletableFuture.allOf(workers.toArray(CompletableFuture[]::new)).whenComplete((result, error) -> {
+            executor.shutdown();
+            synchronized (this) {
+                activePeriod = null;
+            }
+            BillingRunStatus status = status(period);
+            log.info("Billing run for {} finished in {} s: {} billed, {} skipped, {} of {} partitions complete",
+                    period, (System.nanoTime() - start) / 1_000_000_000, status.billed(), status.skipped(),
+                    status.completedPartitions(), status.partitions());
+        });
+        return status(period);
+    }
+
+    public BillingRunStatus status(YearMonth period) {
+        List<PartitionRow> partitions = billingRepository.findPartitions(period);
+        if (partitions.isEmpty()) {
+            throw new NoSuchElementException("No billing run for " + period);
+        }
+        long billed = 0;
+        long skipped = 0;
+        BigDecimal amount = BigDecimal.ZERO;
+        int completed = 0;
+        int failed = 0;
+        for (PartitionRow partition : partitions) {
+            billed += partition.billed();
+            skipped += partition.skipped();
+            amount = amount.add(partition.amountTotal());
+            completed += partition.status() == PartitionStatus.COMPLETED ? 1 : 0;
+            failed += partition.status() == PartitionStatus.FAILED ? 1 : 0;
+        }
+        boolean running;
+        synchronized (this) {
+            running = period.equals(activePeriod);
+        }
+        return new BillingRunStatus(period, running, partitions.size(), completed, failed, billed, skipped, amount,
+                partitions.stream().map(BillingPartitionProgress::from).toList());
+    }
+
+    // Equal id spans. Members created after this point joined during the billing month, so their
+    // first period runs past it and they are not due yet.
+    private void createPartitions(YearMonth period) {
+        long[] range = billingRepository.findMemberIdRange().orElse(null);
+        List<long[]> ranges = new ArrayList<>();
+        if (range != null) {
+            long span = range[1] - range[0] + 1;
+            int count = (int) Math.max(1, Math.min(properties.getPartitions(), span));
+            for (int i = 0; i < count; i++) {
+                ranges.add(new long[] {range[0] + span * i / count, range[0] + span * (i + 1) / count - 1});
+            }
+        }
+        billingRepository.insertPartitions(period, ranges);
+    }
+
+    private void runPartition(YearMonth period, PartitionRow partition) {
+        if (!billingRepository.claim(period, partition.index())) {
+            return;
+        }
+        long resumeAfter = partition.resumeAfter();
+        try {
+            Chunk chunk;
+            do {
+                long after = resumeAfter;
+                chunk = transactionTemplate.execute(status -> billChunk(period, partition, after));
+                resumeAfter = chunk.resumeAfter();
+                pause();
+            } while (!chunk.last());
+            billingRepository.complete(period, partition.index());
+        } catch (RuntimeException e) {
+            log.error("Billing run for {} failed in partition {} after member {}",
+                    period, partition.index(), resumeAfter, e);
+            String message = Objects.requireNonNullElse(e.getMessage(), e.getClass().getName());
+            billingRepository.fail(period, partition.index(),
+                    message.substring(0, Math.min(message.length(), MAX_ERROR_LENGTH)));
+        }
+    }
+
+    private Chunk billChunk(YearMonth period, PartitionRow partition, long after) {
+        List<CandidateRow> candidates = billingRepository.findCandidates(after, partition.lastMemberId(),
+                properties.getChunkSize());
+        boolean last = candidates.size() < properties.getChunkSize();
+        long resumeAfter = last ? partition.lastMemberId() : candidates.get(candidates.size() - 1).id();
+        Map<Long, InvoiceHistory> history = candidates.isEmpty() ? Map.of()
+                : billingRepository.findInvoiceHistory(candidates.stream().map(CandidateRow::id).toList(), period);
+
+        List<RenewalRow> renewals = new ArrayList<>();
+        for (CandidateRow candidate : candidates) {
+            RenewalRow renewal = renewal(candidate, history.get(candidate.id()), period);
+            if (renewal != null) {
+                renewals.add(renewal);
+            }
+        }
+        BigDecimal amount = BigDecimal.ZERO;
+        if (!renewals.isEmpty()) {
+            billingRepository.insertRenewals(period, renewals);
+            amount = applyToRollup(period, renewals);
+        }
+        billingRepository.advance(period, partition.index(), resumeAfter, renewals.size(),
+                candidates.size() - renewals.size(), amount);
+        return new Chunk(resumeAfter, last);
+    }
+
+    // The next period after whatever is paid or invoiced, if it starts by the end of the billing
+    // month. The period a member joined for is invoiced at sign-up together with the setup fee, so
+    // a renewal never carries it.
+    private static RenewalRow renewal(CandidateRow member, InvoiceHistory history, YearMonth period) {
+        if (history != null && history.billedInPeriod()) {
+            return null;
+        }
+        if (member.planId() == null || member.price() == null || member.durationMonths() == null
+                || member.durationMonths() < 1) {
+            return null;
+        }
+        LocalDate paidThrough = effectiveExpiry(member.joinDate(), member.expiryDate(), member.durationMonths());
+        if (history != null && history.invoicedThrough() != null
+                && (paidThrough == null || history.invoicedThrough().isAfter(paidThrough))) {
+            paidThrough = history.invoicedThrough();
+        }
+        if (paidThrough == null || paidThrough.isAfter(period.atEndOfMonth().minusDays(1))) {
+            return null;
+        }
+        LocalDate periodStart = paidThrough.plusDays(1);
+        return new RenewalRow(member.id(), member.planId(), member.price(), periodStart,
+                periodStart.plusMonths(member.durationMonths()).minusDays(1));
+    }
+
+    // One delta per plan and chunk instead of one per payment
+    private BigDecimal applyToRollup(YearMonth period, List<RenewalRow> renewals) {
+        Map<Long, BigDecimal[]> totals = new HashMap<>();
+        for (RenewalRow renewal : renewals) {
+            BigDecimal[] plan = totals.computeIfAbsent(renewal.planId(),
+                    id -> new BigDecimal[] {BigDecimal.ZERO, BigDecimal.ZERO});
+            plan[0] = plan[0].add(BigDecimal.ONE);
+            plan[1] = plan[1].add(renewal.amount());
+        }
+        BigDecimal amount = BigDecimal.ZERO;
+        for (Map.Entry<Long, BigDecimal[]> plan : totals.entrySet()) {
+            BigDecimal[] total = plan.getValue();
+            rollupRepository.applyDelta(plan.getKey(), period, MembershipPayment.PaymentStatus.PENDING,
+                    total[0].longValue(), total[1], BigDecimal.ZERO);
+            amount = amount.add(total[1]);
+        }
+        return amount;
+    }
+
+    // Same rule as MembershipExpiryService: the stored expiry date, else joinDate plus the plan duration
+    private static LocalDate effectiveExpiry(LocalDate joinDate, LocalDate expiryDate, int durationMonths) {
+        if (expiryDate != null) {
+            return expiryDate;
+        }
+        return joinDate != null ? joinDate.plusMonths(durationMonths).minusDays(1) : null;
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(properties.getPauseBetweenChunksMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.fitnesscenter.service;
+
+import com.fitnesscenter.config.RevenueRollupProperties;
+import com.fitnesscenter.dto.RevenueRebuildResult;
+import com.fitnesscenter.dto.RevenueRollupRow;
+import com.fitnesscenter.repository.RevenueRollupRepository;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class RevenueRollupService {
+    private static final int MAX_REBUILD_MONTHS = 120;
+
+    private final RevenueRollupRepository rollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RevenueRollupProperties properties;
+
+    public RevenueRollupService(RevenueRollupRepository rollupRepository, PlatformTransactionManager transactionManager,
+                                RevenueRollupProperties properties) {
+        this.rollupRepository = rollupRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    public List<RevenueRollupRow> findRollups(YearMonth from, YearMonth to) {
+        return rollupRepository.findRange(from, to);
+    }
+
+    // Recomputes each month from membership_payments in its own transaction, months in parallel.
+    public RevenueRebuildResult rebuild(YearMonth from, YearMonth to) {
+        if (to.isBefore(from) || from.plusMonths(MAX_REBUILD_MONTHS).isBefore(to)) {
+            throw new IllegalArgumentException("Rebuild range must be 1 to " + MAX_REBUILD_MONTHS + " months");
+        }
+        long start = System.nanoTime();
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        Map<YearMonth, Integer> buckets = new TreeMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(properties.getRebuildParallelism(), months.size()));
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (YearMonth month : months) {
+                futures.add(CompletableFuture.supplyAsync(
+                        () -> transactionTemplate.execute(status -> rollupRepository.replaceMonth(month)), executor)
+                        .thenAccept(count -> {
+                            synchronized (buckets) {
+                                buckets.put(month, count);
+                            }
+                        }));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdown();
+        }
+        return new RevenueRebuildResult(from, to, buckets, (System.nanoTime() - start) / 1_000_000);
+    }
+}
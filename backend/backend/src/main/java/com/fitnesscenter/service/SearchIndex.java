@@ -0,0 +1,337 @@
+package com.fitnesscenter.service;
+
+import com.fitnesscenter.exception.ConflictException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import org.springframework.stereotype.Component;
+
+// Prefix index over member and trainer contact fields. Terms live in a sorted map so a
+// keystroke is a range scan; posting lists are sorted int arrays replaced copy-on-write,
+// which keeps readers lock-free. Phone numbers are indexed by every suffix so a prefix
+// lookup also finds digits typed from the middle of the number.
+@Component
+public class SearchIndex {
+    private static final int MIN_PHONE_SUFFIX = 3;
+    private static final int MAX_CANDIDATES = 20_000;
+    private static final int REBUILD_BATCH_SIZE = 4_096;
+
+    public enum DocumentType {
+        MEMBER, TRAINER
+    }
+
+    public record SearchDocument(DocumentType type, Long id, String code, String fullName, String email,
+                                 String phoneNumber, String status) {}
+
+    public record Hit(SearchDocument document, int score) {}
+
+    public interface DocumentSource {
+        void forEach(Consumer<SearchDocument> sink);
+    }
+
+    private record IndexedDocument(SearchDocument document, String[] tokens, int nameTokens) {}
+
+    private static final class Segment {
+        private final ConcurrentSkipListMap<String, int[]> postings = new ConcurrentSkipListMap<>();
+        private final Map<String, Integer> docIds = new ConcurrentHashMap<>();
+        private volatile IndexedDocument[] docs = new IndexedDocument[1024];
+        private int nextDocId;
+    }
+
+    private volatile Segment segment = new Segment();
+    private List<Runnable> pendingDuringRebuild;
+
+    public List<Hit> search(String query, DocumentType type, int limit) {
+        String[] queryTokens = tokenize(query).toArray(String[]::new);
+        if (queryTokens.length == 0 || limit <= 0) {
+            return List.of();
+        }
+        Segment current = segment;
+        IndexedDocument[] docs = current.docs;
+        String driver = Arrays.stream(queryTokens).max(Comparator.comparingInt(String::length)).orElseThrow();
+        // Documents of the wrong type are skipped while collecting, so a common prefix among members
+        // does not use up the candidate budget of a trainer search
+        BitSet candidates = new BitSet();
+        int collected = 0;
+        Iterator<int[]> postings = current.postings.subMap(driver, true, driver + Character.MAX_VALUE, false)
+                .values().iterator();
+        while (collected < MAX_CANDIDATES && postings.hasNext()) {
+            int[] ids = postings.next();
+            for (int i = 0; i < ids.length && collected < MAX_CANDIDATES; i++) {
+                int id = ids[i];
+                IndexedDocument doc = id < docs.length ? docs[id] : null;
+                if (doc != null && (type == null || doc.document().type() == type) && !candidates.get(id)) {
+                    candidates.set(id);
+                    collected++;
+                }
+            }
+        }
+        Comparator<Hit> order = Comparator.comparingInt(Hit::score)
+                .thenComparing(hit -> hit.document().fullName().length(), Comparator.reverseOrder());
+        PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, order);
+        String normalizedQuery = query.trim().toLowerCase(Locale.ROOT);
+        for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1)) {
+            IndexedDocument doc = docs[id];
+            int score = score(doc, queryTokens, normalizedQuery);
+            if (score > 0) {
+                top.offer(new Hit(doc.document(), score));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+        }
+        List<Hit> hits = new ArrayList<>(top);
+        hits.sort(order.reversed());
+        return hits;
+    }
+
+    public void put(SearchDocument document) {
+        putAll(List.of(document));
+    }
+
+    // Each posting list touched by the batch is copied once rather than once per document
+    public synchronized void putAll(Collection<SearchDocument> documents) {
+        apply(segment, documents);
+        if (pendingDuringRebuild != null) {
+            List<SearchDocument> replay = List.copyOf(documents);
+            pendingDuringRebuild.add(() -> apply(segment, replay));
+        }
+    }
+
+    public synchronized void remove(DocumentType type, Long id) {
+        delete(segment, key(type, id));
+        if (pendingDuringRebuild != null) {
+            pendingDuringRebuild.add(() -> delete(segment, key(type, id)));
+        }
+    }
+
+    public synchronized void updateStatus(DocumentType type, Long id, String status) {
+        Integer docId = segment.docIds.get(key(type, id));
+        if (docId != null) {
+            SearchDocument current = segment.docs[docId].document();
+            put(new SearchDocument(current.type(), current.id(), current.code(), current.fullName(),
+                    current.email(), current.phoneNumber(), status));
+        }
+    }
+
+    public int size() {
+        return segment.docIds.size();
+    }
+
+    // Builds a fresh segment from the source and swaps it in; updates that arrive while the
+    // source is being read are replayed on top before the swap.
+    public void rebuild(DocumentSource source) {
+        synchronized (this) {
+            if (pendingDuringRebuild != null) {
+                throw new ConflictException("A rebuild is already running");
+            }
+            pendingDuringRebuild = new ArrayList<>();
+        }
+        Segment fresh = new Segment();
+        try {
+            List<SearchDocument> batch = new ArrayList<>(REBUILD_BATCH_SIZE);
+            source.forEach(document -> {
+                batch.add(document);
+                if (batch.size() == REBUILD_BATCH_SIZE) {
+                    apply(fresh, batch);
+                    batch.clear();
+                }
+            });
+            apply(fresh, batch);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pendingDuringRebuild = null;
+            }
+            throw e;
+        }
+        synchronized (this) {
+            Segment previous = segment;
+            segment = fresh;
+            pendingDuringRebuild.forEach(Runnable::run);
+            pendingDuringRebuild = null;
+            previous.postings.clear();
+        }
+    }
+
+    private static void apply(Segment target, Collection<SearchDocument> documents) {
+        // The last version of a document in the batch wins
+        Map<String, SearchDocument> latest = new LinkedHashMap<>();
+        documents.forEach(document -> latest.put(key(document.type(), document.id()), document));
+
+        Map<String, IntList> added = new HashMap<>();
+        IndexedDocument[] docs = target.docs;
+        for (Map.Entry<String, SearchDocument> entry : latest.entrySet()) {
+            SearchDocument document = entry.getValue();
+            List<String> nameTokens = tokenize(document.fullName());
+            Set<String> tokens = new LinkedHashSet<>(nameTokens);
+            addCodeTokens(tokens, document.code());
+            addEmailTokens(tokens, document.email());
+            addPhoneTokens(tokens, document.phoneNumber());
+            IndexedDocument indexed = new IndexedDocument(document, tokens.toArray(String[]::new), nameTokens.size());
+
+            // An updated document keeps its slot so doc ids stay dense
+            Integer existing = target.docIds.get(entry.getKey());
+            int docId = existing != null ? existing : target.nextDocId++;
+            if (existing != null) {
+                unlink(target, docs[docId], docId);
+            } else if (docId >= docs.length) {
+                docs = Arrays.copyOf(docs, Math.max(docs.length * 2, docId + 1));
+            }
+            docs[docId] = indexed;
+            target.docIds.put(entry.getKey(), docId);
+            for (String token : indexed.tokens()) {
+                added.computeIfAbsent(token, term -> new IntList()).add(docId);
+            }
+        }
+        target.docs = docs;
+        added.forEach((token, ids) -> {
+            int[] sorted = ids.toSortedArray();
+            target.postings.compute(token, (term, current) -> merge(current, sorted));
+        });
+    }
+
+    private static void delete(Segment target, String key) {
+        Integer docId = target.docIds.remove(key);
+        if (docId == null) {
+            return;
+        }
+        IndexedDocument[] docs = target.docs;
+        unlink(target, docs[docId], docId);
+        docs[docId] = null;
+        target.docs = docs;
+    }
+
+    private static void unlink(Segment target, IndexedDocument indexed, int docId) {
+        for (String token : indexed.tokens()) {
+            target.postings.computeIfPresent(token, (term, ids) -> without(ids, docId));
+        }
+    }
+
+    private static int score(IndexedDocument doc, String[] queryTokens, String normalizedQuery) {
+        SearchDocument document = doc.document();
+        if (document.code() != null && document.code().equalsIgnoreCase(normalizedQuery)) {
+            return 1_000;
+        }
+        int score = 0;
+        for (String queryToken : queryTokens) {
+            int best = 0;
+            String[] tokens = doc.tokens();
+            for (int i = 0; i < tokens.length; i++) {
+                int match = tokens[i].equals(queryToken) ? 20 : tokens[i].startsWith(queryToken) ? 10 : 0;
+                if (match > 0 && i < doc.nameTokens()) {
+                    match += 5;
+                }
+                best = Math.max(best, match);
+            }
+            if (best == 0) {
+                return 0;
+            }
+            score += best;
+        }
+        return "ACTIVE".equals(document.status()) ? score + 1 : score;
+    }
+
+    private static void addCodeTokens(Set<String> tokens, String code) {
+        if (code != null && !code.isBlank()) {
+            tokens.add(code.trim().toLowerCase(Locale.ROOT));
+            tokens.addAll(tokenize(code));
+        }
+    }
+
+    private static void addEmailTokens(Set<String> tokens, String email) {
+        if (email != null && !email.isBlank()) {
+            tokens.add(email.trim().toLowerCase(Locale.ROOT));
+            tokens.addAll(tokenize(email));
+        }
+    }
+
+    private static void addPhoneTokens(Set<String> tokens, String phoneNumber) {
+        if (phoneNumber == null) {
+            return;
+        }
+        String digits = phoneNumber.replaceAll("\\D", "");
+        for (int start = 0; start <= digits.length() - MIN_PHONE_SUFFIX; start++) {
+            tokens.add(digits.substring(start));
+        }
+    }
+
+    static List<String> tokenize(String value) {
+        List<String> tokens = new ArrayList<>();
+        if (value == null) {
+            return tokens;
+        }
+        for (String token : value.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static String key(DocumentType type, Long id) {
+        return type.name().charAt(0) + ":" + id;
+    }
+
+    private static int[] merge(int[] ids, int[] additions) {
+        if (ids == null) {
+            return additions;
+        }
+        int[] next = new int[ids.length + additions.length];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < ids.length || j < additions.length) {
+            int value = j == additions.length || (i < ids.length && ids[i] <= additions[j]) ? ids[i++] : additions[j++];
+            if (n == 0 || next[n - 1] != value) {
+                next[n++] = value;
+            }
+        }
+        return n == next.length ? next : Arrays.copyOf(next, n);
+    }
+
+    private static int[] without(int[] ids, int docId) {
+        int position = Arrays.binarySearch(ids, docId);
+        if (position < 0) {
+            return ids;
+        }
+        if (ids.length == 1) {
+            return null;
+        }
+        int[] next = new int[ids.length - 1];
+        System.arraycopy(ids, 0, next, 0, position);
+        System.arraycopy(ids, position + 1, next, position, ids.length - position - 1);
+        return next;
+    }
+
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toSortedArray() {
+            int[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.fitnesscenter.service;
+
+import com.fitnesscenter.event.MemberStatusChangedEvent;
+import com.fitnesscenter.event.MembersImportedEvent;
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.model.Trainer;
+import com.fitnesscenter.repository.SearchSnapshotRepository;
+import com.fitnesscenter.service.SearchIndex.DocumentType;
+import com.fitnesscenter.service.SearchIndex.Hit;
+import com.fitnesscenter.service.SearchIndex.SearchDocument;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+@Service
+public class SearchService {
+    private static final Logger log = LoggerFactory.getLogger(SearchService.class);
+    private static final int MAX_LIMIT = 50;
+
+    private final SearchIndex searchIndex;
+    private final SearchSnapshotRepository snapshotRepository;
+
+    public SearchService(SearchIndex searchIndex, SearchSnapshotRepository snapshotRepository) {
+        this.searchIndex = searchIndex;
+        this.snapshotRepository = snapshotRepository;
+    }
+
+    public List<Hit> search(String query, DocumentType type, int limit) {
+        return searchIndex.search(query, type, Math.min(limit, MAX_LIMIT));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public int rebuild() {
+        long start = System.nanoTime();
+        searchIndex.rebuild(snapshotRepository::streamAll);
+        log.info("Search index rebuilt with {} documents in {} ms",
+                searchIndex.size(), (System.nanoTime() - start) / 1_000_000);
+        return searchIndex.size();
+    }
+
+    @EventListener
+    public void onMemberStatusChanged(MemberStatusChangedEvent event) {
+        event.memberIds().forEach(id -> searchIndex.updateStatus(DocumentType.MEMBER, id, event.status().name()));
+    }
+
+    @EventListener
+    public void onMembersImported(MembersImportedEvent event) {
+        searchIndex.putAll(event.members().stream().map(SearchService::document).toList());
+    }
+
+    public static SearchDocument document(Member member) {
+        return new SearchDocument(DocumentType.MEMBER, member.getId(), member.getMemberId(), member.getFullName(),
+                member.getEmail(), member.getPhoneNumber(), member.getStatus() != null ? member.getStatus().name() : null);
+    }
+
+    public static SearchDocument document(Trainer trainer) {
+        return new SearchDocument(DocumentType.TRAINER, trainer.getId(), trainer.getTrainerId(), trainer.getFullName(),
+                trainer.getEmail(), trainer.getPhoneNumber(), trainer.getStatus() != null ? trainer.getStatus().name() : null);
+    }
+}
@@ -0,0 +1,474 @@
+package com.fitnesscenter.service;
+
+import com.fitnesscenter.config.SyntheticDataProperties;
+import com.fitnesscenter.model.CheckIn;
+import com.fitnesscenter.model.FitnessClass;
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.model.MembershipPlan;
+import com.fitnesscenter.model.Trainer;
+import com.fitnesscenter.model.TrainerAvailability;
+import com.fitnesscenter.repository.MemberIdAllocator;
+import com.fitnesscenter.repository.MemberImportRepository;
+import com.fitnesscenter.repository.MembershipPlanRepository;
+import com.fitnesscenter.repository.SyntheticDataRepository;
+import com.fitnesscenter.repository.SyntheticDataRepository.CheckInRow;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Fills an empty database with a production-sized dataset: one plan per plan type, trainers with
+// weekly availability, upcoming classes, members and their check-in history with morning and
+// evening peaks. Everything derives from the configured seed, so a scale setting always produces
+// the same data. Runs before ApplicationReadyEvent, so the in-memory views warm up from it.
+//
+//   mvn spring-boot:run -Dspring-boot.run.profiles=synthetic-data
+@Component
+@Profile("synthetic-data")
+public class SyntheticDataGenerator implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+    private static final long PROGRESS_EVERY = 10_000_000;
+
+    public static final List<String> FIRST_NAMES = List.of("James", "Mary", "Robert", "Patricia", "John", "Jennifer",
+            "Michael", "Linda", "David", "Elizabeth", "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica",
+            "Thomas", "Sarah", "Carlos", "Karen", "Daniel", "Lisa", "Matthew", "Nancy", "Anthony", "Sandra", "Mark",
+            "Ashley", "Paul", "Emily", "Steven", "Donna", "Andrew", "Michelle", "Kenji", "Amina", "Priya", "Mateo",
+            "Sofia", "Lucas");
+    public static final List<String> LAST_NAMES = List.of("Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia",
+            "Miller", "Davis", "Rodriguez", "Martinez", "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson",
+            "Thomas", "Taylor", "Moore", "Jackson", "Martin", "Lee", "Perez", "Thompson", "White", "Harris", "Sanchez",
+            "Clark", "Ramirez", "Lewis", "Robinson", "Walker", "Young", "Allen", "King", "Wright", "Scott", "Torres",
+            "Nguyen", "Hill", "Flores", "Green", "Adams", "Nelson", "Baker", "Hall", "Rivera", "Campbell", "Mitchell",
+            "Carter", "Roberts", "Tanaka", "Okafor", "Patel", "Kowalski", "Novak", "Schmidt", "Rossi", "Silva");
+    public static final List<String> SPECIALIZATIONS = List.of("Strength training", "Weight loss", "Yoga", "Pilates",
+            "Cardio conditioning", "Injury rehabilitation", "Swimming", "Functional fitness", "Boxing",
+            "Sports nutrition", "Senior fitness", "Marathon running");
+    private static final List<String> CERTIFICATIONS = List.of("NASM Certified Personal Trainer", "ACE Personal Trainer",
+            "ACSM Exercise Physiologist", "NSCA Strength and Conditioning Specialist", "RYT 200 Yoga Teacher",
+            "Stott Pilates Instructor", "Red Cross Water Safety Instructor");
+    private static final List<String> GOALS = List.of("lose weight", "build muscle strength", "improve flexibility",
+            "train for a marathon", "recover from a knee injury", "improve cardio endurance", "learn to swim",
+            "reduce back pain", "stay active after retirement", "prepare for a boxing match", "tone up", "eat better");
+    private static final List<String> HEALTH_CONDITIONS = List.of("asthma", "high blood pressure", "lower back pain",
+            "knee injury", "type 2 diabetes", "shoulder injury");
+    private static final List<String[]> CITIES = List.of(new String[] {"Springfield", "IL"},
+            new String[] {"Riverside", "CA"}, new String[] {"Franklin", "TN"}, new String[] {"Greenville", "SC"},
+            new String[] {"Madison", "WI"}, new String[] {"Salem", "OR"}, new String[] {"Georgetown", "TX"},
+            new String[] {"Arlington", "VA"});
+    private static final List<String> STREETS = List.of("Main Street", "Oak Avenue", "Maple Drive", "Cedar Lane",
+            "Park Road", "Lakeview Boulevard", "Hillcrest Way", "Elm Street");
+    private static final List<String> CLASS_NAMES = List.of("Morning Yoga", "Spin Express", "HIIT Circuit",
+            "Pilates Core", "Aqua Aerobics", "Boxing Basics", "Zumba", "Strength Fundamentals", "Senior Stretch",
+            "Evening Bootcamp");
+    private static final List<String> ROOMS = List.of("Studio A", "Studio B", "Cycle Room", "Pool", "Main Floor");
+    // Share of members per plan type, in PlanType order: basic, premium, VIP, student, senior, family
+    private static final int[] PLAN_TYPE_WEIGHTS = {35, 20, 5, 15, 10, 15};
+
+    private final SyntheticDataRepository syntheticRepository;
+    private final MemberImportRepository memberRepository;
+    private final MemberIdAllocator idAllocator;
+    private final MembershipPlanRepository planRepository;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final SyntheticDataProperties properties;
+
+    public SyntheticDataGenerator(SyntheticDataRepository syntheticRepository, MemberImportRepository memberRepository,
+                                  MemberIdAllocator idAllocator, MembershipPlanRepository planRepository,
+                                  Validator validator, PlatformTransactionManager transactionManager,
+                                  SyntheticDataProperties properties) {
+        this.syntheticRepository = syntheticRepository;
+        this.memberRepository = memberRepository;
+        this.idAllocator = idAllocator;
+        this.planRepository = planRepository;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    // Member IDs are M0000001 up to the configured member count; the load driver relies on this
+    public static String memberId(long n) {
+        return String.format("M%07d", n);
+    }
+
+    // What the check-in phase needs per member, in arrays indexed by member number - 1
+    private record MemberActivity(long[] ids, int[] firstDay, int[] lastDay, float[] frequency, boolean[] pool,
+                                  double weightedDays) {}
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (syntheticRepository.hasMembersOrTrainers()) {
+            log.info("Database already has members or trainers, skipping synthetic data generation");
+            return;
+        }
+        long start = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(properties.getSeed());
+        LocalDate today = LocalDate.now();
+        List<MembershipPlan> plans = createPlans();
+        List<Long> trainerIds = createTrainers(random.split(), today);
+        long[] classIds = createClasses(random.split(), trainerIds, today);
+        MemberActivity activity = createMembers(random.split(), plans, today);
+        long checkIns = createCheckIns(activity, random.nextLong(), today);
+        log.info("Generated {} plans, {} trainers, classes {}..{}, {} members and {} check-ins in {} s",
+                plans.size(), trainerIds.size(), classIds[0], classIds[1], activity.ids().length, checkIns,
+                (System.nanoTime() - start) / 1_000_000_000);
+    }
+
+    // One active plan per type plus a discontinued one that a few members are still on
+    private List<MembershipPlan> createPlans() {
+        List<MembershipPlan> plans = List.of(
+                plan("Basic Monthly", MembershipPlan.PlanType.BASIC, 1, "39.99", true, false, false, 0, 0),
+                plan("Premium Annual", MembershipPlan.PlanType.PREMIUM, 12, "599.00", true, true, true, 4, 2),
+                plan("VIP All Access", MembershipPlan.PlanType.VIP, 12, "1499.00", true, true, true, 24, 12),
+                plan("Student Semester", MembershipPlan.PlanType.STUDENT, 6, "149.00", true, false, true, 0, 0),
+                plan("Senior Wellness", MembershipPlan.PlanType.SENIOR, 12, "299.00", true, true, true, 2, 0),
+                plan("Family Annual", MembershipPlan.PlanType.FAMILY, 12, "1199.00", true, true, true, 4, 8),
+                plan("Classic Quarterly", MembershipPlan.PlanType.BASIC, 3, "99.00", true, false, false, 0, 0));
+        plans.get(plans.size() - 1).setStatus(MembershipPlan.PlanStatus.DISCONTINUED);
+        plans.forEach(this::validate);
+        return planRepository.saveAll(plans);
+    }
+
+    private List<Long> createTrainers(SplittableRandom random, LocalDate today) {
+        List<Trainer> trainers = new ArrayList<>(properties.getTrainers());
+        for (int n = 1; n <= properties.getTrainers(); n++) {
+            String firstName = pick(random, FIRST_NAMES);
+            String lastName = pick(random, LAST_NAMES);
+            String[] city = pick(random, CITIES);
+            String specialization = pick(random, SPECIALIZATIONS);
+            int years = random.nextInt(31);
+            Trainer trainer = new Trainer();
+            trainer.setTrainerId(String.format("T%05d", n));
+            trainer.setFirstName(firstName);
+            trainer.setLastName(lastName);
+            trainer.setEmail(email(firstName, lastName, "t" + n));
+            trainer.setPhoneNumber(phone(2, n));
+            trainer.setDateOfBirth(today.minusYears(22 + years + random.nextInt(10)).minusDays(random.nextInt(365)));
+            trainer.setAddress((1 + random.nextInt(9_999)) + " " + pick(random, STREETS));
+            trainer.setCity(city[0]);
+            trainer.setState(city[1]);
+            trainer.setPostalCode(String.format("%05d", random.nextInt(100_000)));
+            trainer.setGender(pick(random, Trainer.Gender.values()));
+            trainer.setCertification(pick(random, CERTIFICATIONS));
+            trainer.setYearsExperience(years);
+            trainer.setSpecialization(specialization);
+            trainer.setBio(years + " years helping clients with " + specialization.toLowerCase()
+                    + ". Also coaches members who want to " + pick(random, GOALS) + ".");
+            trainer.setHourlyRate(25 + random.nextInt(126) + 0.5 * random.nextInt(2));
+            trainer.setHireDate(today.minusDays(random.nextInt(Math.max(1, Math.min(years, 15)) * 365 + 1)));
+            trainer.setStatus(random.nextInt(20) == 0 ? Trainer.TrainerStatus.ON_LEAVE : Trainer.TrainerStatus.ACTIVE);
+            validate(trainer);
+            trainers.add(trainer);
+        }
+        for (List<Trainer> batch : batches(trainers)) {
+            transactionTemplate.executeWithoutResult(status -> syntheticRepository.insertTrainers(batch));
+        }
+        List<Long> ids = syntheticRepository.findTrainerIds();
+
+        // Early or late shift on weekdays, and every third trainer also works Saturday mornings
+        List<TrainerAvailability> windows = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Trainer trainer = new Trainer();
+            trainer.setId(ids.get(i));
+            LocalTime shiftStart = random.nextBoolean() ? LocalTime.of(6, 0) : LocalTime.of(12, 0);
+            for (DayOfWeek day = DayOfWeek.MONDAY; day != DayOfWeek.SATURDAY; day = day.plus(1)) {
+                windows.add(new TrainerAvailability(trainer, day, shiftStart, shiftStart.plusHours(8)));
+            }
+            if (i % 3 == 0) {
+                windows.add(new TrainerAvailability(trainer, DayOfWeek.SATURDAY, LocalTime.of(8, 0), LocalTime.of(13, 0)));
+            }
+        }
+        windows.forEach(this::validate);
+        for (List<TrainerAvailability> batch : batches(windows)) {
+            transactionTemplate.executeWithoutResult(status -> syntheticRepository.insertAvailability(batch));
+        }
+        return ids;
+    }
+
+    // Spread over the next fourteen days between 06:00 and 21:00
+    private long[] createClasses(SplittableRandom random, List<Long> trainerIds, LocalDate today) {
+        List<FitnessClass> classes = new ArrayList<>(properties.getFitnessClasses());
+        for (int n = 0; n < properties.getFitnessClasses(); n++) {
+            Trainer trainer = new Trainer();
+            trainer.setId(trainerIds.get(random.nextInt(trainerIds.size())));
+            FitnessClass fitnessClass = new FitnessClass();
+            String name = pick(random, CLASS_NAMES);
+            fitnessClass.setClassName(name);
+            fitnessClass.setDescription(name + " for all levels");
+            fitnessClass.setTrainer(trainer);
+            fitnessClass.setStartTime(today.plusDays(1 + random.nextInt(14)).atTime(6 + random.nextInt(16), 0));
+            fitnessClass.setDurationMinutes(random.nextBoolean() ? 45 : 60);
+            fitnessClass.setCapacity(10 + random.nextInt(21));
+            fitnessClass.setRoom(name.startsWith("Aqua") ? "Pool" : pick(random, ROOMS));
+            fitnessClass.setStatus(FitnessClass.ClassStatus.SCHEDULED);
+            validate(fitnessClass);
+            classes.add(fitnessClass);
+        }
+        for (List<FitnessClass> batch : batches(classes)) {
+            transactionTemplate.executeWithoutResult(status -> syntheticRepository.insertClasses(batch));
+        }
+        return syntheticRepository.findClassIdRange();
+    }
+
+    private MemberActivity createMembers(SplittableRandom random, List<MembershipPlan> plans, LocalDate today) {
+        int count = properties.getMembers();
+        long[] ids = new long[count];
+        int[] firstDay = new int[count];
+        int[] lastDay = new int[count];
+        float[] frequency = new float[count];
+        boolean[] pool = new boolean[count];
+        double weightedDays = 0;
+        int yesterday = (int) today.minusDays(1).toEpochDay();
+
+        List<Member> batch = new ArrayList<>(properties.getBatchSize());
+        for (int n = 1; n <= count; n++) {
+            Member member = member(random, n, plans, today);
+            batch.add(member);
+            int index = n - 1;
+            MembershipPlan plan = member.getMembershipPlan();
+            firstDay[index] = (int) member.getJoinDate().toEpochDay();
+            // Expired members stopped coming when their membership ran out
+            lastDay[index] = member.getStatus() == Member.MemberStatus.EXPIRED
+                    ? (int) Math.min(member.getExpiryDate().toEpochDay(), yesterday)
+                    : yesterday;
+            // Exponential visit rates: most members come now and then, a few almost daily
+            frequency[index] = (float) -Math.log(1 - random.nextDouble());
+            pool[index] = Boolean.TRUE.equals(plan.getPoolAccess());
+            weightedDays += frequency[index] * Math.max(0, lastDay[index] - firstDay[index] + 1);
+            if (batch.size() == properties.getBatchSize() || n == count) {
+                batch.parallelStream().forEach(this::validate);
+                long[] allocated = idAllocator.allocate(batch.size());
+                for (int i = 0; i < batch.size(); i++) {
+                    batch.get(i).setId(allocated[i]);
+                    ids[n - batch.size() + i] = allocated[i];
+                }
+                List<Member> members = List.copyOf(batch);
+                transactionTemplate.executeWithoutResult(status -> memberRepository.insertBatch(members));
+                batch.clear();
+            }
+        }
+        return new MemberActivity(ids, firstDay, lastDay, frequency, pool, weightedDays);
+    }
+
+    private Member member(SplittableRandom random, int n, List<MembershipPlan> plans, LocalDate today) {
+        String firstName = pick(random, FIRST_NAMES);
+        String lastName = pick(random, LAST_NAMES);
+        String[] city = pick(random, CITIES);
+        Member member = new Member();
+        member.setMemberId(memberId(n));
+        member.setFirstName(firstName);
+        member.setLastName(lastName);
+        member.setEmail(email(firstName, lastName, "m" + n));
+        member.setPhoneNumber(phone(1, n));
+        member.setDateOfBirth(today.minusYears(16 + random.nextInt(65)).minusDays(random.nextInt(365)));
+        member.setAddress((1 + random.nextInt(9_999)) + " " + pick(random, STREETS));
+        member.setCity(city[0]);
+        member.setState(city[1]);
+        member.setPostalCode(String.format("%05d", random.nextInt(100_000)));
+        member.setGender(pick(random, Member.Gender.values()));
+        member.setHeight(150.0 + random.nextInt(50));
+        member.setWeight(45.0 + random.nextInt(76));
+        member.setFitnessGoals("I want to " + pick(random, GOALS)
+                + (random.nextBoolean() ? " and " + pick(random, GOALS) : ""));
+        if (random.nextInt(8) == 0) {
+            member.setHealthConditions(pick(random, HEALTH_CONDITIONS));
+        }
+        member.setEmergencyContactName(pick(random, FIRST_NAMES) + " " + lastName);
+        member.setEmergencyContactPhone(phone(3, n));
+
+        MembershipPlan plan = random.nextInt(50) == 0 ? plans.get(plans.size() - 1) : plans.get(weighted(random));
+        member.setMembershipPlan(plan);
+        LocalDate joinDate = today.minusDays(1 + random.nextInt(properties.getHistoryDays()));
+        member.setJoinDate(joinDate);
+        int roll = random.nextInt(100);
+        Member.MemberStatus status = roll < 85 ? Member.MemberStatus.ACTIVE
+                : roll < 93 ? Member.MemberStatus.EXPIRED
+                : roll < 96 ? Member.MemberStatus.INACTIVE
+                : roll < 98 ? Member.MemberStatus.SUSPENDED
+                : Member.MemberStatus.CANCELLED;
+        // Renewed period by period; an expired member's last period ended before today
+        LocalDate expiry = joinDate.plusMonths(plan.getDurationMonths()).minusDays(1);
+        int periods = 1;
+        while (expiry.isBefore(today)) {
+            periods++;
+            expiry = joinDate.plusMonths((long) plan.getDurationMonths() * periods).minusDays(1);
+        }
+        if (status == Member.MemberStatus.EXPIRED) {
+            if (periods == 1) {
+                status = Member.MemberStatus.ACTIVE;
+            } else {
+                expiry = joinDate.plusMonths((long) plan.getDurationMonths() * (periods - 1)).minusDays(1);
+            }
+        }
+        member.setExpiryDate(expiry);
+        member.setStatus(status);
+        return member;
+    }
+
+    // Members are split into one contiguous range per writer thread. Each member's visits come from
+    // a stream of its own, derived from the seed and the member's index, so the thread count
+    // changes only the order rows are written in, not the rows.
+    private long createCheckIns(MemberActivity activity, long seed, LocalDate today) {
+        int count = activity.ids().length;
+        int threads = Math.max(1, properties.getWriterThreads());
+        double visitsPerWeightedDay = activity.weightedDays() > 0 ? properties.getCheckIns() / activity.weightedDays() : 0;
+        AtomicLong written = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(threads,
+                runnable -> new Thread(runnable, "synthetic-check-in-writer"));
+        try {
+            List<CompletableFuture<Void>> writers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int from = (int) ((long) count * t / threads);
+                int to = (int) ((long) count * (t + 1) / threads);
+                writers.add(CompletableFuture.runAsync(
+                        () -> writeCheckIns(activity, from, to, visitsPerWeightedDay, seed, written), executor));
+            }
+            CompletableFuture.allOf(writers.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdown();
+        }
+        return written.get();
+    }
+
+    private void writeCheckIns(MemberActivity activity, int from, int to, double visitsPerWeightedDay,
+                               long seed, AtomicLong written) {
+        // Check-in constraints are non-null checks that hold by construction; at this volume the
+        // rows skip the validator
+        List<CheckInRow> batch = new ArrayList<>(properties.getBatchSize());
+        for (int i = from; i < to; i++) {
+            int days = activity.lastDay()[i] - activity.firstDay()[i] + 1;
+            if (days <= 0) {
+                continue;
+            }
+            // Adjacent seeds only pick the parent; split() mixes them into unrelated streams
+            SplittableRandom random = new SplittableRandom(seed + i).split();
+            double expected = visitsPerWeightedDay * activity.frequency()[i] * days;
+            long visits = (long) expected + (random.nextDouble() < expected - (long) expected ? 1 : 0);
+            for (long v = 0; v < visits; v++) {
+                LocalDateTime checkIn = LocalDate.ofEpochDay(activity.firstDay()[i] + random.nextInt(days))
+                        .atStartOfDay()
+                        .plusMinutes(minuteOfDay(random));
+                boolean pool = activity.pool()[i] && random.nextInt(4) == 0;
+                batch.add(new CheckInRow(activity.ids()[i],
+                        pool ? CheckIn.Facility.POOL : CheckIn.Facility.GYM,
+                        checkIn,
+                        checkIn.plusMinutes(Math.max(20, Math.round(70 + 25 * random.nextGaussian()))),
+                        pool ? "pool-gate-" + (1 + random.nextInt(2)) : "turnstile-" + (1 + random.nextInt(8))));
+                if (batch.size() == properties.getBatchSize()) {
+                    flushCheckIns(batch, written);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            flushCheckIns(batch, written);
+        }
+    }
+
+    private void flushCheckIns(List<CheckInRow> batch, AtomicLong written) {
+        transactionTemplate.executeWithoutResult(status -> syntheticRepository.insertCheckIns(batch));
+        long total = written.addAndGet(batch.size());
+        if (total / PROGRESS_EVERY != (total - batch.size()) / PROGRESS_EVERY) {
+            log.info("Generated {} check-ins", total);
+        }
+        batch.clear();
+    }
+
+    // Peaks around 07:00 and 18:30 with a quieter midday, all between 05:00 and 22:30
+    private static int minuteOfDay(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        double minute;
+        if (roll < 40) {
+            minute = 7 * 60 + 60 * random.nextGaussian();
+        } else if (roll < 85) {
+            minute = 18 * 60 + 30 + 75 * random.nextGaussian();
+        } else {
+            minute = 11 * 60 + random.nextInt(4 * 60);
+        }
+        return (int) Math.max(5 * 60, Math.min(22 * 60 + 30, minute));
+    }
+
+    private static MembershipPlan plan(String name, MembershipPlan.PlanType type, int months, String price,
+                                       boolean gym, boolean pool, boolean classes, int personalTraining,
+                                       int guestPasses) {
+        MembershipPlan plan = new MembershipPlan();
+        plan.setPlanName(name);
+        plan.setDescription(name + " membership");
+        plan.setPlanType(type);
+        plan.setDurationMonths(months);
+        plan.setPrice(new BigDecimal(price));
+        plan.setSetupFee(new BigDecimal("25.00"));
+        plan.setGymAccess(gym);
+        plan.setPoolAccess(pool);
+        plan.setGroupClassesIncluded(classes);
+        plan.setPersonalTrainingSessions(personalTraining);
+        plan.setGuestPasses(guestPasses);
+        plan.setNutritionConsultation(type == MembershipPlan.PlanType.VIP);
+        plan.setLockerIncluded(type != MembershipPlan.PlanType.BASIC && type != MembershipPlan.PlanType.STUDENT);
+        plan.setTowelService(type == MembershipPlan.PlanType.VIP);
+        plan.setStatus(MembershipPlan.PlanStatus.ACTIVE);
+        return plan;
+    }
+
+    private static int weighted(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        for (int i = 0; i < PLAN_TYPE_WEIGHTS.length; i++) {
+            roll -= PLAN_TYPE_WEIGHTS[i];
+            if (roll < 0) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    private static String email(String firstName, String lastName, String suffix) {
+        return (firstName + "." + lastName + "." + suffix + "@example.com").toLowerCase();
+    }
+
+    // Unique per kind and number, and within the entity pattern of 10 to 15 digits
+    private static String phone(int kind, long n) {
+        return String.format("+1%d%010d", kind, n);
+    }
+
+    private static <T> T pick(SplittableRandom random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static <T> T pick(SplittableRandom random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private <T> List<List<T>> batches(List<T> rows) {
+        List<List<T>> batches = new ArrayList<>();
+        for (int start = 0; start < rows.size(); start += properties.getBatchSize()) {
+            batches.add(rows.subList(start, Math.min(start + properties.getBatchSize(), rows.size())));
+        }
+        return batches;
+    }
+
+    private void validate(Object entity) {
+        Set<ConstraintViolation<Object>> violations = validator.validate(entity);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<Object> violation = violations.iterator().next();
+            throw new IllegalStateException("Generated " + entity.getClass().getSimpleName() + " is invalid: "
+                    + violation.getPropertyPath() + " " + violation.getMessage());
+        }
+    }
+}
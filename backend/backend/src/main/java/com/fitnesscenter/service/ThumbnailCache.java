@@ -0,0 +1,33 @@
+package com.fitnesscenter.service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+// Least recently used thumbnails up to a byte budget. Entries are a few kilobytes, so one lock
+// around an access-ordered map is cheaper than the file read it saves.
+final class ThumbnailCache {
+    private final long maxBytes;
+    private final LinkedHashMap<String, byte[]> entries = new LinkedHashMap<>(1024, 0.75f, true);
+    private long bytes;
+
+    ThumbnailCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    synchronized byte[] get(String hash) {
+        return entries.get(hash);
+    }
+
+    synchronized void put(String hash, byte[] thumbnail) {
+        if (thumbnail.length > maxBytes) {
+            return;
+        }
+        byte[] previous = entries.put(hash, thumbnail);
+        bytes += thumbnail.length - (previous != null ? previous.length : 0);
+        Iterator<byte[]> eldest = entries.values().iterator();
+        while (bytes > maxBytes) {
+            bytes -= eldest.next().length;
+            eldest.remove();
+        }
+    }
+}
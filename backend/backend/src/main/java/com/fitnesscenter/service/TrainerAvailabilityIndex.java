@@ -0,0 +1,192 @@
+package com.fitnesscenter.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+// Slot-major bitsets: every trainer gets a dense bit position, and each 15-minute slot of the
+// week (and of each booked date) holds a BitSet over all trainers. A query is then an AND of the
+// slots it spans with the active and specialization sets, minus an OR of the booked slots.
+@Component
+public class TrainerAvailabilityIndex {
+    public static final int SLOT_MINUTES = 15;
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+
+    public record TrainerEntry(Long id, String trainerId, String fullName, String specialization) {}
+
+    public record Window(DayOfWeek dayOfWeek, LocalTime startTime, LocalTime endTime) {}
+
+    public record Booking(LocalDateTime start, LocalDateTime end) {}
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> positions = new HashMap<>();
+    private final List<TrainerEntry> entries = new ArrayList<>();
+    private final BitSet active = new BitSet();
+    private final BitSet[] weekly = newSlots(7 * SLOTS_PER_DAY);
+    private final Map<String, BitSet> bySpecialization = new HashMap<>();
+    private final Map<LocalDate, BitSet[]> booked = new HashMap<>();
+
+    public List<TrainerEntry> findAvailable(LocalDate date, LocalTime start, LocalTime end, String specialization) {
+        int from = slotFloor(start);
+        int to = end.equals(LocalTime.MIDNIGHT) ? SLOTS_PER_DAY : slotCeil(end);
+        int dayOffset = (date.getDayOfWeek().getValue() - 1) * SLOTS_PER_DAY;
+        lock.readLock().lock();
+        try {
+            BitSet result = (BitSet) active.clone();
+            // Split like the trainers' own specializations; a trainer must cover every term asked for
+            for (String term : terms(specialization)) {
+                BitSet matching = bySpecialization.get(term);
+                if (matching == null) {
+                    return List.of();
+                }
+                result.and(matching);
+            }
+            for (int slot = from; slot < to && !result.isEmpty(); slot++) {
+                result.and(weekly[dayOffset + slot]);
+            }
+            BitSet[] bookedSlots = booked.get(date);
+            if (bookedSlots != null) {
+                for (int slot = from; slot < to && !result.isEmpty(); slot++) {
+                    result.andNot(bookedSlots[slot]);
+                }
+            }
+            List<TrainerEntry> available = new ArrayList<>(result.cardinality());
+            for (int position = result.nextSetBit(0); position >= 0; position = result.nextSetBit(position + 1)) {
+                available.add(entries.get(position));
+            }
+            return available;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Replaces everything known about one trainer; bookings before the given date are ignored.
+    public void putTrainer(TrainerEntry entry, boolean isActive, List<Window> windows, List<Booking> bookings, LocalDate from) {
+        lock.writeLock().lock();
+        try {
+            int position = positions.computeIfAbsent(entry.id(), id -> {
+                entries.add(null);
+                return entries.size() - 1;
+            });
+            entries.set(position, entry);
+            active.set(position, isActive);
+            bySpecialization.values().forEach(bits -> bits.clear(position));
+            for (String term : terms(entry.specialization())) {
+                bySpecialization.computeIfAbsent(term, key -> new BitSet()).set(position);
+            }
+            for (BitSet slot : weekly) {
+                slot.clear(position);
+            }
+            for (Window window : windows) {
+                int dayOffset = (window.dayOfWeek().getValue() - 1) * SLOTS_PER_DAY;
+                int to = window.endTime().equals(LocalTime.MIDNIGHT) ? SLOTS_PER_DAY : slotFloor(window.endTime());
+                for (int slot = slotCeil(window.startTime()); slot < to; slot++) {
+                    weekly[dayOffset + slot].set(position);
+                }
+            }
+            for (BitSet[] day : booked.values()) {
+                for (BitSet slot : day) {
+                    slot.clear(position);
+                }
+            }
+            for (Booking booking : bookings) {
+                markBooked(position, booking, from);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeTrainer(Long id) {
+        lock.writeLock().lock();
+        try {
+            Integer position = positions.get(id);
+            if (position != null) {
+                active.clear(position);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void pruneBefore(LocalDate date) {
+        lock.writeLock().lock();
+        try {
+            booked.keySet().removeIf(day -> day.isBefore(date));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return active.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Bookings may span midnight, so each day they touch is marked separately.
+    private void markBooked(int position, Booking booking, LocalDate from) {
+        LocalDateTime cursor = booking.start();
+        while (cursor.isBefore(booking.end())) {
+            LocalDate day = cursor.toLocalDate();
+            LocalDateTime dayEnd = day.plusDays(1).atStartOfDay();
+            LocalDateTime segmentEnd = booking.end().isBefore(dayEnd) ? booking.end() : dayEnd;
+            if (!day.isBefore(from)) {
+                BitSet[] slots = booked.computeIfAbsent(day, key -> newSlots(SLOTS_PER_DAY));
+                int to = segmentEnd.equals(dayEnd) ? SLOTS_PER_DAY : slotCeil(segmentEnd.toLocalTime());
+                for (int slot = slotFloor(cursor.toLocalTime()); slot < to; slot++) {
+                    slots[slot].set(position);
+                }
+            }
+            cursor = segmentEnd;
+        }
+    }
+
+    static List<String> terms(String specialization) {
+        List<String> terms = new ArrayList<>();
+        if (specialization == null) {
+            return terms;
+        }
+        for (String part : specialization.split("[,;/&]")) {
+            String term = normalize(part);
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+
+    private static int slotFloor(LocalTime time) {
+        return time.toSecondOfDay() / (SLOT_MINUTES * 60);
+    }
+
+    private static int slotCeil(LocalTime time) {
+        int seconds = SLOT_MINUTES * 60;
+        return (time.toSecondOfDay() + seconds - 1) / seconds;
+    }
+
+    private static BitSet[] newSlots(int count) {
+        BitSet[] slots = new BitSet[count];
+        for (int i = 0; i < count; i++) {
+            slots[i] = new BitSet();
+        }
+        return slots;
+    }
+}
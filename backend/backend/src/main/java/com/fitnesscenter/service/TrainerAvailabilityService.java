@@ -0,0 +1,86 @@
+package com.fitnesscenter.service;
+
+import com.fitnesscenter.repository.TrainerAvailabilitySnapshotRepository;
+import com.fitnesscenter.repository.TrainerAvailabilitySnapshotRepository.TrainerSnapshot;
+import com.fitnesscenter.service.TrainerAvailabilityIndex.TrainerEntry;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+public class TrainerAvailabilityService {
+    private static final Logger log = LoggerFactory.getLogger(TrainerAvailabilityService.class);
+
+    private final TrainerAvailabilityIndex index;
+    private final TrainerAvailabilitySnapshotRepository snapshotRepository;
+    // Refreshes are coalesced per trainer and applied off the request thread
+    private final Set<Long> pendingRefresh = ConcurrentHashMap.newKeySet();
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "trainer-availability-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public TrainerAvailabilityService(TrainerAvailabilityIndex index,
+                                      TrainerAvailabilitySnapshotRepository snapshotRepository) {
+        this.index = index;
+        this.snapshotRepository = snapshotRepository;
+    }
+
+    public List<TrainerEntry> findAvailable(LocalDate date, LocalTime start, LocalTime end, String specialization) {
+        return index.findAvailable(date, start, end, specialization);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDate today = LocalDate.now();
+        List<TrainerSnapshot> snapshots = snapshotRepository.findAll(today.atStartOfDay());
+        snapshots.forEach(snapshot -> apply(snapshot, today));
+        log.info("Trainer availability index built for {} active trainers", index.size());
+    }
+
+    public void refreshTrainer(Long trainerId) {
+        if (trainerId == null || !pendingRefresh.add(trainerId)) {
+            return;
+        }
+        refreshExecutor.execute(() -> {
+            pendingRefresh.remove(trainerId);
+            try {
+                LocalDate today = LocalDate.now();
+                List<TrainerSnapshot> snapshots = snapshotRepository.findByTrainer(trainerId, today.atStartOfDay());
+                if (snapshots.isEmpty()) {
+                    index.removeTrainer(trainerId);
+                } else {
+                    apply(snapshots.get(0), today);
+                }
+            } catch (RuntimeException e) {
+                log.error("Failed to refresh availability for trainer {}", trainerId, e);
+            }
+        });
+    }
+
+    @Scheduled(cron = "0 5 0 * * *")
+    public void pruneElapsedDays() {
+        index.pruneBefore(LocalDate.now());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refreshExecutor.shutdown();
+    }
+
+    private void apply(TrainerSnapshot snapshot, LocalDate from) {
+        index.putTrainer(snapshot.entry(), snapshot.active(), snapshot.windows(), snapshot.bookings(), from);
+    }
+}
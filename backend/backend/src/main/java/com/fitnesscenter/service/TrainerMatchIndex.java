@@ -0,0 +1,214 @@
+package com.fitnesscenter.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.LongPredicate;
+import org.springframework.stereotype.Component;
+
+// Inverted index from profile terms to weighted trainer postings. A member's goals are scored by
+// walking only the postings of their own terms, so a lookup costs the matching trainers rather
+// than every trainer. Trainers number in the hundreds, so a change rebuilds the postings into a
+// fresh immutable snapshot and readers never lock.
+@Component
+public class TrainerMatchIndex {
+    private static final float SPECIALIZATION_WEIGHT = 3f;
+    private static final float CERTIFICATION_WEIGHT = 2f;
+    private static final float BIO_WEIGHT = 1f;
+    // Health conditions steer towards trainers who mention them but should not outrank the goals
+    private static final float HEALTH_QUERY_WEIGHT = 0.5f;
+    private static final int MAX_EXPERIENCE_YEARS = 20;
+    private static final float EXPERIENCE_BOOST_PER_YEAR = 0.01f;
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "get", "have", "i", "in", "into", "is",
+            "it", "me", "more", "my", "of", "on", "or", "the", "to", "want", "with", "would");
+
+    public record TrainerProfile(Long id, String trainerId, String fullName, String specialization,
+                                 String certification, String bio, Integer yearsExperience, Double hourlyRate,
+                                 boolean active) {}
+
+    public record Match(TrainerProfile trainer, double score) {}
+
+    private record Posting(int[] positions, float[] weights) {}
+
+    private record Snapshot(TrainerProfile[] trainers, BitSet active, Map<String, Posting> postings) {}
+
+    private final Map<Long, TrainerProfile> profiles = new LinkedHashMap<>();
+    private volatile Snapshot snapshot = new Snapshot(new TrainerProfile[0], new BitSet(), Map.of());
+
+    // Top matches among active trainers; allowed, when given, further restricts by trainer id.
+    public List<Match> match(String goals, String healthConditions, int limit, LongPredicate allowed,
+                             Double maxHourlyRate) {
+        Map<String, Float> query = new HashMap<>();
+        addTerms(query, goals, 1f);
+        addTerms(query, healthConditions, HEALTH_QUERY_WEIGHT);
+        if (query.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Snapshot current = snapshot;
+        float[] scores = new float[current.trainers().length];
+        BitSet touched = new BitSet(scores.length);
+        query.forEach((term, queryWeight) -> {
+            Posting posting = current.postings().get(term);
+            if (posting != null) {
+                int[] positions = posting.positions();
+                float[] weights = posting.weights();
+                for (int i = 0; i < positions.length; i++) {
+                    scores[positions[i]] += queryWeight * weights[i];
+                    touched.set(positions[i]);
+                }
+            }
+        });
+        touched.and(current.active());
+
+        Comparator<Match> order = Comparator.comparingDouble(Match::score)
+                .thenComparing(match -> match.trainer().id(), Comparator.reverseOrder());
+        PriorityQueue<Match> top = new PriorityQueue<>(limit + 1, order);
+        for (int position = touched.nextSetBit(0); position >= 0; position = touched.nextSetBit(position + 1)) {
+            TrainerProfile trainer = current.trainers()[position];
+            if ((allowed != null && !allowed.test(trainer.id()))
+                    || (maxHourlyRate != null && (trainer.hourlyRate() == null || trainer.hourlyRate() > maxHourlyRate))) {
+                continue;
+            }
+            top.offer(new Match(trainer, scores[position] * experienceBoost(trainer.yearsExperience())));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<Match> matches = new ArrayList<>(top);
+        matches.sort(order.reversed());
+        return matches;
+    }
+
+    public synchronized void putAll(List<TrainerProfile> trainers) {
+        trainers.forEach(trainer -> profiles.put(trainer.id(), trainer));
+        snapshot = build(profiles.values());
+    }
+
+    public synchronized void replaceAll(List<TrainerProfile> trainers) {
+        profiles.clear();
+        putAll(trainers);
+    }
+
+    public synchronized void remove(Long id) {
+        if (profiles.remove(id) != null) {
+            snapshot = build(profiles.values());
+        }
+    }
+
+    public int size() {
+        return snapshot.active().cardinality();
+    }
+
+    public int terms() {
+        return snapshot.postings().size();
+    }
+
+    // Field-weighted, log-damped term frequencies scaled by idf and normalized per trainer, so a
+    // long bio does not outweigh a specialization that names the goal directly.
+    private static Snapshot build(Iterable<TrainerProfile> source) {
+        List<TrainerProfile> trainers = new ArrayList<>();
+        source.forEach(trainers::add);
+        BitSet active = new BitSet(trainers.size());
+        List<Map<String, Float>> vectors = new ArrayList<>(trainers.size());
+        Map<String, Integer> documentFrequency = new HashMap<>();
+        for (int position = 0; position < trainers.size(); position++) {
+            TrainerProfile trainer = trainers.get(position);
+            active.set(position, trainer.active());
+            Map<String, Float> vector = new HashMap<>();
+            addField(vector, trainer.specialization(), SPECIALIZATION_WEIGHT);
+            addField(vector, trainer.certification(), CERTIFICATION_WEIGHT);
+            addField(vector, trainer.bio(), BIO_WEIGHT);
+            vector.keySet().forEach(term -> documentFrequency.merge(term, 1, Integer::sum));
+            vectors.add(vector);
+        }
+
+        Map<String, IntFloatList> building = new HashMap<>();
+        for (int position = 0; position < vectors.size(); position++) {
+            Map<String, Float> vector = vectors.get(position);
+            double norm = 0;
+            for (Map.Entry<String, Float> entry : vector.entrySet()) {
+                float weight = (float) (entry.getValue() * idf(trainers.size(), documentFrequency.get(entry.getKey())));
+                entry.setValue(weight);
+                norm += weight * weight;
+            }
+            float scale = norm > 0 ? (float) (1 / Math.sqrt(norm)) : 0f;
+            int trainerPosition = position;
+            vector.forEach((term, weight) -> building.computeIfAbsent(term, key -> new IntFloatList())
+                    .add(trainerPosition, weight * scale));
+        }
+        Map<String, Posting> postings = new HashMap<>(building.size() * 2);
+        building.forEach((term, list) -> postings.put(term, list.toPosting()));
+        return new Snapshot(trainers.toArray(TrainerProfile[]::new), active, postings);
+    }
+
+    private static void addField(Map<String, Float> vector, String text, float fieldWeight) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String term : terms(text)) {
+            counts.merge(term, 1, Integer::sum);
+        }
+        counts.forEach((term, count) -> vector.merge(term, fieldWeight * (1 + (float) Math.log(count)), Float::sum));
+    }
+
+    private static void addTerms(Map<String, Float> query, String text, float weight) {
+        for (String term : terms(text)) {
+            query.merge(term, weight, Math::max);
+        }
+    }
+
+    static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        for (String token : SearchIndex.tokenize(text)) {
+            if (token.length() > 1 && !STOP_WORDS.contains(token)) {
+                terms.add(stem(token));
+            }
+        }
+        return terms;
+    }
+
+    // Plural folding only: "injuries" and "injury", "seniors" and "senior" meet on one term
+    private static String stem(String token) {
+        if (token.length() > 4 && token.endsWith("ies")) {
+            return token.substring(0, token.length() - 3) + "y";
+        }
+        if (token.length() > 3 && token.endsWith("s") && !token.endsWith("ss") && !token.endsWith("us")) {
+            return token.substring(0, token.length() - 1);
+        }
+        return token;
+    }
+
+    private static double idf(int trainers, int documentFrequency) {
+        return Math.log(1 + (double) trainers / documentFrequency);
+    }
+
+    private static float experienceBoost(Integer yearsExperience) {
+        int years = yearsExperience != null ? Math.min(Math.max(yearsExperience, 0), MAX_EXPERIENCE_YEARS) : 0;
+        return 1 + years * EXPERIENCE_BOOST_PER_YEAR;
+    }
+
+    private static final class IntFloatList {
+        private int[] positions = new int[4];
+        private float[] weights = new float[4];
+        private int size;
+
+        void add(int position, float weight) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            positions[size] = position;
+            weights[size++] = weight;
+        }
+
+        Posting toPosting() {
+            return new Posting(Arrays.copyOf(positions, size), Arrays.copyOf(weights, size));
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.fitnesscenter.service;
+
+import com.fitnesscenter.config.TrainerRecommendationProperties;
+import com.fitnesscenter.dto.RecommendationRunResult;
+import com.fitnesscenter.dto.TrainerRecommendationResponse;
+import com.fitnesscenter.exception.ConflictException;
+import com.fitnesscenter.repository.TrainerRecommendationRepository;
+import com.fitnesscenter.repository.TrainerRecommendationRepository.MemberProfile;
+import com.fitnesscenter.repository.TrainerRecommendationRepository.StoredRecommendation;
+import com.fitnesscenter.service.TrainerAvailabilityIndex.TrainerEntry;
+import com.fitnesscenter.service.TrainerMatchIndex.Match;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongPredicate;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class TrainerRecommendationService {
+    private static final Logger log = LoggerFactory.getLogger(TrainerRecommendationService.class);
+    private static final int MAX_LIMIT = 20;
+
+    private final TrainerMatchIndex matchIndex;
+    private final TrainerRecommendationRepository recommendationRepository;
+    private final TrainerAvailabilityService availabilityService;
+    private final TransactionTemplate transactionTemplate;
+    private final TrainerRecommendationProperties properties;
+    private final AtomicBoolean precomputing = new AtomicBoolean();
+    // The nightly run takes a long time, so the cron trigger hands it over instead of holding up
+    // the shared scheduler thread
+    private final ExecutorService nightlyExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "trainer-recommendation-nightly");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public TrainerRecommendationService(TrainerMatchIndex matchIndex,
+                                        TrainerRecommendationRepository recommendationRepository,
+                                        TrainerAvailabilityService availabilityService,
+                                        PlatformTransactionManager transactionManager,
+                                        TrainerRecommendationProperties properties) {
+        this.matchIndex = matchIndex;
+        this.recommendationRepository = recommendationRepository;
+        this.availabilityService = availabilityService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    public record AvailabilityFilter(LocalDate date, LocalTime start, LocalTime end) {}
+
+    // For sign-up, before the member exists
+    public List<TrainerRecommendationResponse> recommend(String fitnessGoals, String healthConditions, int limit,
+                                                         AvailabilityFilter availability, Double maxHourlyRate) {
+        return matchIndex.match(fitnessGoals, healthConditions, Math.min(limit, MAX_LIMIT),
+                        allowed(availability), maxHourlyRate).stream()
+                .map(TrainerRecommendationResponse::from)
+                .toList();
+    }
+
+    // Served from the nightly run when no filter applies; members who joined since then, or filtered
+    // requests, are matched live.
+    public List<TrainerRecommendationResponse> recommendForMember(String memberId, int limit,
+                                                                  AvailabilityFilter availability,
+                                                                  Double maxHourlyRate) {
+        MemberProfile member = recommendationRepository.findMember(memberId)
+                .orElseThrow(() -> new NoSuchElementException("Member not found: " + memberId));
+        int capped = Math.min(limit, MAX_LIMIT);
+        if (availability == null && maxHourlyRate == null && capped <= properties.getPrecomputedPerMember()) {
+            List<TrainerRecommendationResponse> stored = recommendationRepository.findForMember(member.id(), capped);
+            if (!stored.isEmpty()) {
+                return stored;
+            }
+        }
+        return recommend(member.fitnessGoals(), member.healthConditions(), capped, availability, maxHourlyRate);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.nanoTime();
+        matchIndex.replaceAll(recommendationRepository.findTrainers());
+        log.info("Trainer match index built for {} active trainers and {} terms in {} ms",
+                matchIndex.size(), matchIndex.terms(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public void refreshTrainer(Long trainerId) {
+        recommendationRepository.findTrainer(trainerId).ifPresentOrElse(
+                trainer -> matchIndex.putAll(List.of(trainer)),
+                () -> matchIndex.remove(trainerId));
+    }
+
+    @Scheduled(cron = "0 30 2 * * *")
+    public void scheduledPrecompute() {
+        nightlyExecutor.execute(() -> {
+            try {
+                precomputeAll();
+            } catch (RuntimeException e) {
+                log.error("Nightly trainer recommendation run failed", e);
+            }
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        nightlyExecutor.shutdownNow();
+    }
+
+    // Streams active members in chunks that are matched and written by a small pool; at most two
+    // chunks per worker are held in memory, so the reader waits when the writers fall behind.
+    public RecommendationRunResult precomputeAll() {
+        if (!precomputing.compareAndSet(false, true)) {
+            throw new ConflictException("A recommendation run is already in progress");
+        }
+        long start = System.nanoTime();
+        // Millisecond precision so the stale-row cut-off compares exactly against stored timestamps
+        LocalDateTime runStartedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        AtomicLong members = new AtomicLong();
+        AtomicLong recommendations = new AtomicLong();
+        int parallelism = Math.max(1, properties.getParallelism());
+        Semaphore inFlight = new Semaphore(parallelism * 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "trainer-recommendation-run-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        try {
+            List<MemberProfile> chunk = new ArrayList<>(properties.getBatchSize());
+            recommendationRepository.streamActiveMembers(member -> {
+                chunk.add(member);
+                if (chunk.size() == properties.getBatchSize()) {
+                    futures.add(submit(List.copyOf(chunk), runStartedAt, inFlight, executor, members, recommendations));
+                    chunk.clear();
+                }
+            });
+            if (!chunk.isEmpty()) {
+                futures.add(submit(List.copyOf(chunk), runStartedAt, inFlight, executor, members, recommendations));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+            int stale = transactionTemplate.execute(status -> recommendationRepository.deleteComputedBefore(runStartedAt));
+            RecommendationRunResult result = new RecommendationRunResult(members.get(), recommendations.get(), stale,
+                    (System.nanoTime() - start) / 1_000_000);
+            log.info("Precomputed {} trainer recommendations for {} members in {} ms",
+                    result.recommendations(), result.members(), result.elapsedMillis());
+            return result;
+        } finally {
+            executor.shutdown();
+            precomputing.set(false);
+        }
+    }
+
+    private CompletableFuture<Void> submit(List<MemberProfile> chunk, LocalDateTime computedAt, Semaphore inFlight,
+                                           ExecutorService executor, AtomicLong members, AtomicLong recommendations) {
+        inFlight.acquireUninterruptibly();
+        return CompletableFuture.runAsync(() -> {
+            try {
+                List<StoredRecommendation> rows = new ArrayList<>(chunk.size() * properties.getPrecomputedPerMember());
+                for (MemberProfile member : chunk) {
+                    List<Match> matches = matchIndex.match(member.fitnessGoals(), member.healthConditions(),
+                            properties.getPrecomputedPerMember(), null, null);
+                    for (int rank = 0; rank < matches.size(); rank++) {
+                        Match match = matches.get(rank);
+                        rows.add(new StoredRecommendation(member.id(), rank + 1, match.trainer().id(), match.score()));
+                    }
+                }
+                List<Long> memberIds = chunk.stream().map(MemberProfile::id).toList();
+                transactionTemplate.executeWithoutResult(
+                        status -> recommendationRepository.replaceForMembers(memberIds, rows, computedAt));
+                members.addAndGet(chunk.size());
+                recommendations.addAndGet(rows.size());
+            } finally {
+                inFlight.release();
+            }
+        }, executor);
+    }
+
+    private LongPredicate allowed(AvailabilityFilter availability) {
+        if (availability == null) {
+            return null;
+        }
+        Set<Long> available = availabilityService.findAvailable(availability.date(), availability.start(),
+                        availability.end(), null).stream()
+                .map(TrainerEntry::id)
+                .collect(Collectors.toSet());
+        return available::contains;
+    }
+}
@@ -0,0 +1,53 @@
+package com.fitnesscenter.service;
+
+import com.fitnesscenter.config.QueryCountGuard;
+import com.fitnesscenter.dto.AvailabilityWindowRequest;
+import com.fitnesscenter.model.Trainer;
+import com.fitnesscenter.model.TrainerAvailability;
+import com.fitnesscenter.projection.TrainerRosterView;
+import com.fitnesscenter.repository.ResourceVersionRepository;
+import com.fitnesscenter.repository.ResourceVersionRepository.Version;
+import com.fitnesscenter.repository.TrainerRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class TrainerService {
+    static final int ROSTER_BUDGET = 1;
+
+    private final TrainerRepository trainerRepository;
+    private final QueryCountGuard queryCountGuard;
+    private final ResourceVersionRepository versionRepository;
+
+    public TrainerService(TrainerRepository trainerRepository, QueryCountGuard queryCountGuard,
+                          ResourceVersionRepository versionRepository) {
+        this.trainerRepository = trainerRepository;
+        this.queryCountGuard = queryCountGuard;
+        this.versionRepository = versionRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public List<TrainerRosterView> getRoster(Trainer.TrainerStatus status) {
+        return queryCountGuard.withBudget("trainer-roster", ROSTER_BUDGET,
+                () -> trainerRepository.findRoster(status, LocalDateTime.now()));
+    }
+
+    public Version getRosterVersion() {
+        return versionRepository.findTrainerRosterVersion(LocalDateTime.now());
+    }
+
+    // Orphan removal deletes the old windows; the entity listener refreshes the index after commit.
+    @Transactional
+    public void replaceAvailability(Long trainerId, List<AvailabilityWindowRequest> windows) {
+        Trainer trainer = trainerRepository.findById(trainerId)
+                .orElseThrow(() -> new NoSuchElementException("Trainer not found: " + trainerId));
+        trainer.getAvailability().clear();
+        for (AvailabilityWindowRequest window : windows) {
+            trainer.getAvailability().add(
+                    new TrainerAvailability(trainer, window.dayOfWeek(), window.startTime(), window.endTime()));
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.fitnesscenter;
+
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.model.MembershipPlan;
+import com.fitnesscenter.model.Trainer;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Valid, unsaved entities for integration tests. Test classes share one application context and
+// database, so every member and trainer gets its own ID, email and phone number.
+public final class TestData {
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private TestData() {}
+
+    public static MembershipPlan plan(int durationMonths, String price) {
+        MembershipPlan plan = new MembershipPlan("Test plan " + SEQUENCE.incrementAndGet(), "Plan for tests",
+                durationMonths, new BigDecimal(price), MembershipPlan.PlanType.BASIC);
+        plan.setSetupFee(new BigDecimal("25.00"));
+        return plan;
+    }
+
+    public static Member member(MembershipPlan plan, LocalDate joinDate) {
+        long n = SEQUENCE.incrementAndGet();
+        Member member = new Member(String.format("T%07d", n), "Test", "Member", "test.member." + n + "@example.com",
+                String.format("+19%010d", n), LocalDate.of(1990, 1, 1), "1 Main Street", Member.Gender.OTHER);
+        member.setMembershipPlan(plan);
+        member.setJoinDate(joinDate);
+        member.setExpiryDate(joinDate.plusMonths(plan.getDurationMonths()).minusDays(1));
+        member.setStatus(Member.MemberStatus.ACTIVE);
+        return member;
+    }
+
+    public static Trainer trainer(String specialization) {
+        long n = SEQUENCE.incrementAndGet();
+        Trainer trainer = new Trainer(String.format("TT%05d", n), "Test", "Trainer", "test.trainer." + n + "@example.com",
+                String.format("+18%010d", n), LocalDate.of(1985, 1, 1), "2 Main Street", "ACE Personal Trainer", 5,
+                specialization, 60.0, Trainer.Gender.OTHER);
+        trainer.setHireDate(LocalDate.now().minusYears(2));
+        return trainer;
+    }
+}
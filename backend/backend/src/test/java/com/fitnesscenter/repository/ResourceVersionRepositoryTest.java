@@ -0,0 +1,34 @@
+package com.fitnesscenter.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fitnesscenter.TestData;
+import com.fitnesscenter.model.MembershipPlan;
+import com.fitnesscenter.repository.ResourceVersionRepository.Version;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+// Fingerprints read MAX(id) and MAX(updated_at), which a delete of an older row leaves alone
+@SpringBootTest
+class ResourceVersionRepositoryTest {
+    @Autowired
+    private ResourceVersionRepository versionRepository;
+    @Autowired
+    private MembershipPlanRepository planRepository;
+
+    @Test
+    void deletingAnOlderRowChangesTheVersion() {
+        MembershipPlan older = planRepository.save(TestData.plan(1, "19.99"));
+        planRepository.save(TestData.plan(1, "29.99"));
+        Version before = versionRepository.findPlansVersion();
+        Version catalogueBefore = versionRepository.findPlanCatalogueVersion();
+
+        planRepository.delete(older);
+
+        assertThat(versionRepository.findPlansVersion().etag()).isNotEqualTo(before.etag());
+        assertThat(versionRepository.findPlansVersion().lastModifiedMillis())
+                .isGreaterThanOrEqualTo(before.lastModifiedMillis());
+        assertThat(versionRepository.findPlanCatalogueVersion().etag()).isNotEqualTo(catalogueBefore.etag());
+    }
+}
@@ -0,0 +1,74 @@
+package com.fitnesscenter.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fitnesscenter.TestData;
+import com.fitnesscenter.dto.CheckInRequest;
+import com.fitnesscenter.dto.CheckOutRequest;
+import com.fitnesscenter.model.CheckIn;
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.model.MembershipPlan;
+import com.fitnesscenter.repository.CheckInSegmentStore;
+import com.fitnesscenter.repository.MemberRepository;
+import com.fitnesscenter.repository.MembershipPlanRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+// The segment store is filled from the flusher once rows are written, so swipes that change no
+// row in check_ins never reach it
+@SpringBootTest
+class AttendanceHistoryServiceTest {
+    @Autowired
+    private CheckInIngestionService ingestionService;
+    @Autowired
+    private CheckInSegmentStore store;
+    @Autowired
+    private MembershipPlanRepository planRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    void storeHoldsOnlyPersistedSwipes() throws Exception {
+        MembershipPlan plan = planRepository.save(TestData.plan(1, "29.99"));
+        Member member = memberRepository.save(TestData.member(plan, LocalDate.now()));
+        Member sentinel = memberRepository.save(TestData.member(plan, LocalDate.now()));
+        LocalDateTime checkInTime = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).minusMinutes(30);
+
+        submit(new CheckInRequest(member.getMemberId(), CheckIn.Facility.GYM, checkInTime, "test"));
+        submit(new CheckOutRequest(member.getMemberId(), CheckIn.Facility.GYM, checkInTime.plusMinutes(20), "test"));
+        // No open visit left to close, and no such member
+        submit(new CheckOutRequest(member.getMemberId(), CheckIn.Facility.GYM, checkInTime.plusMinutes(25), "test"));
+        submit(new CheckInRequest("UNKNOWN-" + member.getMemberId(), CheckIn.Facility.GYM, checkInTime, "test"));
+        // Batches are flushed in order, so once this one is stored the swipes above have been handled
+        submit(new CheckInRequest(sentinel.getMemberId(), CheckIn.Facility.GYM, checkInTime, "test"));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (records(sentinel.getMemberId())[0] == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(records(sentinel.getMemberId())).containsExactly(1, 0);
+        assertThat(records(member.getMemberId())).containsExactly(1, 1);
+        assertThat(records("UNKNOWN-" + member.getMemberId())).containsExactly(0, 0);
+    }
+
+    // Check-ins and check-outs stored for the member
+    private int[] records(String memberId) {
+        int[] kinds = new int[2];
+        store.scanMember(memberId, null, null,
+                (memberKey, epochSecond, facility, kind) -> kinds[kind == CheckInSegmentStore.CHECK_IN ? 0 : 1]++);
+        return kinds;
+    }
+
+    private void submit(CheckInRequest request) {
+        assertThat(ingestionService.submit(request)).isTrue();
+    }
+
+    private void submit(CheckOutRequest request) {
+        assertThat(ingestionService.submit(request)).isTrue();
+    }
+}
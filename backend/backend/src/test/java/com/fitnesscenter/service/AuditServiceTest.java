@@ -0,0 +1,90 @@
+package com.fitnesscenter.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fitnesscenter.TestData;
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.model.MembershipPlan;
+import com.fitnesscenter.repository.MemberRepository;
+import com.fitnesscenter.repository.MembershipPlanRepository;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Audit entries go through the outbox table on the transaction of the change they describe
+@SpringBootTest
+class AuditServiceTest {
+    @Autowired
+    private MembershipPlanRepository planRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void committedChangesReachTheAuditLog() throws Exception {
+        MembershipPlan plan = planRepository.save(TestData.plan(1, "29.99"));
+        Member member = memberRepository.save(TestData.member(plan, LocalDate.now()));
+        transactionTemplate.executeWithoutResult(status -> {
+            Member managed = memberRepository.findById(member.getId()).orElseThrow();
+            managed.setCity("Springfield");
+        });
+
+        awaitLogged(member, 2);
+        assertThat(jdbcTemplate.queryForList("SELECT action FROM audit_log WHERE entity_type = 'MEMBER' "
+                + "AND entity_id = ? ORDER BY id", String.class, member.getId())).containsExactly("CREATE", "UPDATE");
+        assertThat(outboxRows(member)).isZero();
+    }
+
+    @Test
+    void rolledBackChangesLeaveNoEntry() throws Exception {
+        MembershipPlan plan = planRepository.save(TestData.plan(1, "29.99"));
+        Member member = memberRepository.save(TestData.member(plan, LocalDate.now()));
+        awaitLogged(member, 1);
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            Member managed = memberRepository.findById(member.getId()).orElseThrow();
+            managed.setCity("Shelbyville");
+            memberRepository.flush();
+            assertThat(outboxRows(member)).isEqualTo(1);
+            throw new IllegalStateException("rolled back");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // Anything the rolled-back update left behind would be moved on by the time the outbox drains
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (outboxRows() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(outboxRows()).isZero();
+        assertThat(loggedRows(member)).isEqualTo(1);
+    }
+
+    private void awaitLogged(Member member, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (loggedRows(member) < expected && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(loggedRows(member)).isEqualTo(expected);
+    }
+
+    private int loggedRows(Member member) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM audit_log WHERE entity_type = 'MEMBER' "
+                + "AND entity_id = ?", Integer.class, member.getId());
+    }
+
+    private int outboxRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM audit_outbox", Integer.class);
+    }
+
+    private int outboxRows(Member member) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM audit_outbox WHERE entity_type = 'MEMBER' "
+                + "AND entity_id = ?", Integer.class, member.getId());
+    }
+}
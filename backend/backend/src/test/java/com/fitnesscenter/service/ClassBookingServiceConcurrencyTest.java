@@ -0,0 +1,147 @@
+package com.fitnesscenter.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fitnesscenter.TestData;
+import com.fitnesscenter.dto.BookingResponse;
+import com.fitnesscenter.model.ClassBooking.BookingStatus;
+import com.fitnesscenter.model.FitnessClass;
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.model.MembershipPlan;
+import com.fitnesscenter.repository.FitnessClassRepository;
+import com.fitnesscenter.repository.MemberRepository;
+import com.fitnesscenter.repository.MembershipPlanRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// Many members rush one class at the same moment, through the real seat counters and writer
+@SpringBootTest
+class ClassBookingServiceConcurrencyTest {
+    private static final int CAPACITY = 10;
+    private static final int MEMBERS = 60;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private ClassBookingService bookingService;
+    @Autowired
+    private MembershipPlanRepository planRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private FitnessClassRepository classRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ExecutorService executor;
+    private Long classId;
+    private List<String> memberIds;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(THREADS);
+        MembershipPlan plan = planRepository.save(TestData.plan(1, "39.99"));
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            members.add(TestData.member(plan, LocalDate.now().minusDays(5)));
+        }
+        memberIds = memberRepository.saveAll(members).stream().map(Member::getMemberId).toList();
+        FitnessClass fitnessClass = new FitnessClass("Spin Express", null, LocalDateTime.now().plusDays(1), 45, CAPACITY);
+        classId = classRepository.save(fitnessClass).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void rushNeverOverbooksAndEveryMemberHoldsOneBooking() throws Exception {
+        // Every member books twice at once, as a double click would
+        List<Callable<BookingResponse>> bookings = new ArrayList<>();
+        for (String memberId : memberIds) {
+            bookings.add(() -> bookingService.book(classId, memberId).get(10, TimeUnit.SECONDS));
+            bookings.add(() -> bookingService.book(classId, memberId).get(10, TimeUnit.SECONDS));
+        }
+        List<BookingResponse> responses = runTogether(bookings);
+
+        Map<String, List<BookingResponse>> byMember = responses.stream()
+                .collect(Collectors.groupingBy(BookingResponse::memberId));
+        assertThat(byMember).hasSize(MEMBERS);
+        byMember.values().forEach(pair ->
+                assertThat(pair).extracting(BookingResponse::reservationId).containsOnly(pair.get(0).reservationId()));
+        assertThat(byMember.values().stream().filter(pair -> pair.get(0).status() == BookingStatus.CONFIRMED))
+                .hasSize(CAPACITY);
+
+        assertThat(bookingService.getAvailability(classId).confirmed()).isEqualTo(CAPACITY);
+        assertThat(bookingService.getAvailability(classId).waitlisted()).isEqualTo(MEMBERS - CAPACITY);
+        assertThat(countRows(BookingStatus.CONFIRMED)).isEqualTo(CAPACITY);
+        assertThat(countRows(BookingStatus.WAITLISTED)).isEqualTo(MEMBERS - CAPACITY);
+    }
+
+    @Test
+    void cancellationsDuringARushPromoteWithoutOverbooking() throws Exception {
+        List<String> first = memberIds.subList(0, CAPACITY);
+        for (String memberId : first) {
+            bookingService.book(classId, memberId).get(10, TimeUnit.SECONDS);
+        }
+        // Half of the confirmed members cancel while everyone else piles in
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (String memberId : first.subList(0, CAPACITY / 2)) {
+            tasks.add(() -> bookingService.cancel(classId, memberId).get(10, TimeUnit.SECONDS));
+        }
+        for (String memberId : memberIds.subList(CAPACITY, MEMBERS)) {
+            tasks.add(() -> bookingService.book(classId, memberId).get(10, TimeUnit.SECONDS));
+        }
+        runTogether(tasks);
+
+        assertThat(bookingService.getAvailability(classId).confirmed()).isEqualTo(CAPACITY);
+        assertThat(bookingService.getAvailability(classId).waitlisted()).isEqualTo(MEMBERS - CAPACITY - CAPACITY / 2);
+        // Promotions are written behind the acknowledgement; wait for the writer to catch up
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (countRows(BookingStatus.CONFIRMED) != CAPACITY && System.nanoTime() < deadline) {
+            assertThat(countRows(BookingStatus.CONFIRMED)).isLessThanOrEqualTo(CAPACITY);
+            Thread.sleep(20);
+        }
+        assertThat(countRows(BookingStatus.CONFIRMED)).isEqualTo(CAPACITY);
+        assertThat(countRows(BookingStatus.CANCELLED)).isEqualTo(CAPACITY / 2);
+    }
+
+    private <T> List<T> runTogether(List<? extends Callable<T>> tasks) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>();
+        for (Callable<T> task : tasks) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return task.call();
+            }));
+        }
+        start.countDown();
+        List<T> results = new ArrayList<>();
+        for (Future<T> future : futures) {
+            results.add(future.get(30, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+
+    private int countRows(BookingStatus status) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM class_bookings WHERE fitness_class_id = ? AND status = ?",
+                Integer.class, classId, status.name());
+    }
+}
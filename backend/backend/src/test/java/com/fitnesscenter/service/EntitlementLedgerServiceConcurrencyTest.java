@@ -0,0 +1,158 @@
+package com.fitnesscenter.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fitnesscenter.TestData;
+import com.fitnesscenter.dto.EntitlementConsumptionResponse;
+import com.fitnesscenter.exception.ConflictException;
+import com.fitnesscenter.model.EntitlementBalance.EntitlementType;
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.model.MembershipPlan;
+import com.fitnesscenter.repository.MemberRepository;
+import com.fitnesscenter.repository.MembershipPlanRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// The app and the front desk spend the same member's sessions at once, and clients retry with
+// the same idempotency key; the balance row must never go past the plan's quota
+@SpringBootTest
+class EntitlementLedgerServiceConcurrencyTest {
+    private static final int QUOTA = 5;
+    private static final int ATTEMPTS = 40;
+    private static final int THREADS = 16;
+
+    @Autowired
+    private EntitlementLedgerService ledgerService;
+    @Autowired
+    private MembershipPlanRepository planRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ExecutorService executor;
+    private Member member;
+    private Member otherMember;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(THREADS);
+        MembershipPlan plan = TestData.plan(1, "59.99");
+        plan.setPersonalTrainingSessions(QUOTA);
+        plan = planRepository.save(plan);
+        member = memberRepository.save(TestData.member(plan, LocalDate.now().minusDays(3)));
+        otherMember = memberRepository.save(TestData.member(plan, LocalDate.now().minusDays(3)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void parallelConsumersNeverGoPastTheQuota() throws Exception {
+        List<Callable<EntitlementConsumptionResponse>> consumers = new ArrayList<>();
+        for (int i = 0; i < ATTEMPTS; i++) {
+            String key = UUID.randomUUID().toString();
+            consumers.add(() -> ledgerService.consume(member.getMemberId(), key, EntitlementType.PERSONAL_TRAINING,
+                    1, "session"));
+        }
+        List<Future<EntitlementConsumptionResponse>> futures = startTogether(consumers);
+
+        int consumed = 0;
+        int rejected = 0;
+        for (Future<EntitlementConsumptionResponse> future : futures) {
+            try {
+                future.get(30, TimeUnit.SECONDS);
+                consumed++;
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(ConflictException.class);
+                rejected++;
+            }
+        }
+        assertThat(consumed).isEqualTo(QUOTA);
+        assertThat(rejected).isEqualTo(ATTEMPTS - QUOTA);
+        assertThat(used(member)).isLessThanOrEqualTo(QUOTA).isEqualTo(consumed);
+        assertThat(consumptions(member)).isEqualTo(consumed);
+    }
+
+    @Test
+    void replayedKeyIsConsumedOnce() throws Exception {
+        String key = UUID.randomUUID().toString();
+        List<Callable<EntitlementConsumptionResponse>> retries = new ArrayList<>();
+        for (int i = 0; i < ATTEMPTS; i++) {
+            retries.add(() -> ledgerService.consume(member.getMemberId(), key, EntitlementType.PERSONAL_TRAINING,
+                    1, "session"));
+        }
+        List<EntitlementConsumptionResponse> responses = new ArrayList<>();
+        for (Future<EntitlementConsumptionResponse> future : startTogether(retries)) {
+            responses.add(future.get(30, TimeUnit.SECONDS));
+        }
+
+        assertThat(responses).filteredOn(response -> !response.replayed()).hasSize(1);
+        assertThat(responses).extracting(EntitlementConsumptionResponse::remainingAfter).containsOnly(QUOTA - 1);
+        assertThat(used(member)).isEqualTo(1);
+        assertThat(consumptions(member)).isEqualTo(1);
+
+        EntitlementConsumptionResponse replay = ledgerService.consume(member.getMemberId(), key,
+                EntitlementType.PERSONAL_TRAINING, 1, "session");
+        assertThat(replay.replayed()).isTrue();
+        assertThat(used(member)).isEqualTo(1);
+    }
+
+    @Test
+    void onlyTheConsumingMemberCanRelease() {
+        String key = UUID.randomUUID().toString();
+        ledgerService.consume(member.getMemberId(), key, EntitlementType.PERSONAL_TRAINING, 1, "session");
+
+        assertThatThrownBy(() -> ledgerService.release(otherMember.getMemberId(), key))
+                .isInstanceOf(NoSuchElementException.class);
+        assertThat(used(member)).isEqualTo(1);
+
+        assertThat(ledgerService.release(member.getMemberId(), key).releasedAt()).isNotNull();
+        assertThat(ledgerService.release(member.getMemberId(), key).replayed()).isTrue();
+        assertThat(used(member)).isZero();
+    }
+
+    private <T> List<Future<T>> startTogether(List<Callable<T>> tasks) {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>();
+        for (Callable<T> task : tasks) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return task.call();
+            }));
+        }
+        start.countDown();
+        return futures;
+    }
+
+    private int used(Member owner) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(used), 0) FROM entitlement_balances WHERE member_id = ? AND entitlement_type = ?",
+                Integer.class, owner.getId(), EntitlementType.PERSONAL_TRAINING.name());
+    }
+
+    private int consumptions(Member owner) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM entitlement_consumptions WHERE member_id = ? AND released_at IS NULL",
+                Integer.class, owner.getId());
+    }
+}
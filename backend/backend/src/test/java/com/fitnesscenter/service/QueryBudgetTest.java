@@ -0,0 +1,124 @@
+package com.fitnesscenter.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fitnesscenter.TestData;
+import com.fitnesscenter.model.FitnessClass;
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.model.MembershipPlan;
+import com.fitnesscenter.model.Trainer;
+import com.fitnesscenter.model.WorkoutSession;
+import com.fitnesscenter.repository.MembershipPlanRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Counts the statements each guarded read path prepares, through Hibernate's own statistics rather
+// than the guard, so a mapping change that brings back an N+1 fails the build
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryBudgetTest {
+    private static final int MEMBERS = 30;
+    private static final int TRAINERS = 6;
+
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private MembershipPlanService planService;
+    @Autowired
+    private TrainerService trainerService;
+    @Autowired
+    private MembershipPlanRepository planRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+    private String memberId;
+
+    @BeforeAll
+    void createFixture() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<MembershipPlan> plans = planRepository.saveAll(List.of(
+                TestData.plan(1, "39.99"), TestData.plan(3, "99.99"), TestData.plan(12, "349.99")));
+        transactionTemplate.executeWithoutResult(status -> {
+            EntityManager entityManager = entityManagerFactory.createEntityManager();
+            entityManager.joinTransaction();
+            List<Member> members = new ArrayList<>();
+            for (int i = 0; i < MEMBERS; i++) {
+                Member member = TestData.member(plans.get(i % plans.size()), LocalDate.now().minusDays(i));
+                entityManager.persist(member);
+                members.add(member);
+            }
+            for (int i = 0; i < TRAINERS; i++) {
+                Trainer trainer = TestData.trainer("Strength Training");
+                entityManager.persist(trainer);
+                for (int j = 0; j < 3; j++) {
+                    entityManager.persist(new WorkoutSession(members.get((i * 3 + j) % MEMBERS), trainer,
+                            LocalDateTime.now().plusDays(j + 1).withHour(9 + i), 60));
+                    entityManager.persist(new FitnessClass("Circuit " + i + "-" + j, trainer,
+                            LocalDateTime.now().plusDays(j + 1).withHour(18), 45, 20));
+                }
+            }
+            memberId = members.get(0).getMemberId();
+        });
+    }
+
+    @Test
+    void memberListStaysWithinBudgetWhateverThePageSize() {
+        long small = statements(() -> memberService.listMembers(null, 0, 5));
+        // Both pages are full, so each also runs its count query
+        long large = statements(() -> memberService.listMembers(null, 0, MEMBERS / 2));
+        long filtered = statements(() -> memberService.listMembers(Member.MemberStatus.ACTIVE, 0, MEMBERS));
+
+        assertThat(small).isBetween(1L, (long) MemberService.MEMBER_LIST_BUDGET);
+        assertThat(large).isEqualTo(small);
+        assertThat(filtered).isLessThanOrEqualTo(MemberService.MEMBER_LIST_BUDGET);
+    }
+
+    @Test
+    void memberDetailLoadsMemberAndPlanInOneStatement() {
+        assertThat(statements(() -> memberService.getMember(memberId)))
+                .isLessThanOrEqualTo(MemberService.MEMBER_DETAIL_BUDGET);
+    }
+
+    @Test
+    void planCatalogueCountsMembersInOneStatement() {
+        assertThat(statements(() -> planService.getCatalogue()))
+                .isLessThanOrEqualTo(MembershipPlanService.CATALOGUE_BUDGET);
+    }
+
+    @Test
+    void activePlansAreServedFromTheCacheOnceWarm() {
+        planService.evictCache(null);
+        assertThat(statements(() -> planService.getActivePlans()))
+                .isLessThanOrEqualTo(MembershipPlanService.ACTIVE_PLANS_BUDGET);
+        assertThat(statements(() -> planService.getActivePlans())).isZero();
+    }
+
+    @Test
+    void trainerRosterCountsSessionsAndClassesInOneStatement() {
+        assertThat(statements(() -> trainerService.getRoster(null)))
+                .isLessThanOrEqualTo(TrainerService.ROSTER_BUDGET);
+        assertThat(statements(() -> trainerService.getRoster(Trainer.TrainerStatus.ACTIVE)))
+                .isLessThanOrEqualTo(TrainerService.ROSTER_BUDGET);
+    }
+
+    private long statements(Runnable readPath) {
+        long before = statistics.getPrepareStatementCount();
+        readPath.run();
+        return statistics.getPrepareStatementCount() - before;
+    }
+}
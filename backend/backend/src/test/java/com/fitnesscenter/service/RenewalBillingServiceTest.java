@@ -0,0 +1,99 @@
+package com.fitnesscenter.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fitnesscenter.TestData;
+import com.fitnesscenter.model.Member;
+import com.fitnesscenter.model.MembershipPayment.PaymentStatus;
+import com.fitnesscenter.model.MembershipPlan;
+import com.fitnesscenter.repository.MemberRepository;
+import com.fitnesscenter.repository.MembershipPlanRepository;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// A monthly run bills members whose paid period has ended; the renewal has to keep them active
+// through the expiry job, first while pending and then once the payment completes. A run covers
+// the members that exist when it starts, so the fixture bills this month once for every test.
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RenewalBillingServiceTest {
+    @Autowired
+    private RenewalBillingService billingService;
+    @Autowired
+    private PaymentService paymentService;
+    @Autowired
+    private MembershipExpiryService expiryService;
+    @Autowired
+    private MembershipPlanRepository planRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Member newMember;
+    private Member lateMember;
+    private Member longStanding;
+
+    @BeforeAll
+    void billThisMonth() throws Exception {
+        MembershipPlan plan = planRepository.save(TestData.plan(1, "49.99"));
+        // Joined a month ago, so the period that just ended was the first one
+        newMember = memberRepository.save(TestData.member(plan, LocalDate.now().minusMonths(1)));
+        // Joined three months ago and never billed since, so the first renewal falls into this run
+        lateMember = memberRepository.save(TestData.member(plan, LocalDate.now().minusMonths(3)));
+        Member member = TestData.member(plan, LocalDate.now().minusYears(2));
+        member.setExpiryDate(LocalDate.now().minusDays(1));
+        longStanding = memberRepository.save(member);
+
+        billingService.start(YearMonth.now());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (billingService.status(YearMonth.now()).running() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(billingService.status(YearMonth.now()).running()).isFalse();
+    }
+
+    // The period a member joined for is invoiced at sign-up with the setup fee; renewals never repeat it
+    @Test
+    void renewalsCarryNoSetupFee() {
+        for (Member member : new Member[] {newMember, lateMember, longStanding}) {
+            Map<String, Object> renewal = renewal(member);
+            assertThat(renewal.get("status")).isEqualTo(PaymentStatus.PENDING.name());
+            assertThat(renewal.get("setup_fee")).isNull();
+        }
+    }
+
+    @Test
+    void billedMembersStayActive() throws Exception {
+        // A pending renewal covers the member while the payment clears
+        expiryService.requestExpiry().get(30, TimeUnit.SECONDS);
+        assertThat(status(newMember)).isEqualTo(Member.MemberStatus.ACTIVE);
+        assertThat(status(longStanding)).isEqualTo(Member.MemberStatus.ACTIVE);
+
+        Map<String, Object> newRenewal = renewal(newMember);
+        paymentService.updateStatus(((Number) newRenewal.get("id")).longValue(), PaymentStatus.COMPLETED);
+        LocalDate periodEnd = ((Date) newRenewal.get("period_end")).toLocalDate();
+        assertThat(memberRepository.findById(newMember.getId()).orElseThrow().getExpiryDate()).isEqualTo(periodEnd);
+
+        expiryService.requestExpiry().get(30, TimeUnit.SECONDS);
+        assertThat(status(newMember)).isEqualTo(Member.MemberStatus.ACTIVE);
+    }
+
+    private Map<String, Object> renewal(Member member) {
+        return jdbcTemplate.queryForMap("SELECT id, status, setup_fee, period_end FROM membership_payments "
+                + "WHERE member_id = ? AND billing_period = ?", member.getId(), YearMonth.now().toString());
+    }
+
+    private Member.MemberStatus status(Member member) {
+        return memberRepository.findById(member.getId()).orElseThrow().getStatus();
+    }
+}